@@ -23,6 +23,10 @@ export default function App() {
   const [error, setError] = useState<string | null>(null);
   const messagesEndRef = useRef<HTMLDivElement>(null);
   const [isOnline, setIsOnline] = useState(navigator.onLine);
+  // 진행 중인 툴 안내 문구 (예: "숙소 검색 중…")
+  const [toolStatus, setToolStatus] = useState<string | null>(null);
+  // WebSocket 연결 (연결하지 못하면 /api/chat으로 보냄)
+  const socketRef = useRef<WebSocket | null>(null);
 
   // Load session from localStorage on mount
   useEffect(() => {
@@ -75,6 +79,69 @@ export default function App() {
     };
   }, []);
 
+  // 연결을 닫으면 서버가 진행 중인 턴도 중단
+  useEffect(() => {
+    return () => socketRef.current?.close();
+  }, []);
+
+  const handleSocketEvent = (event: ChatSocketEvent) => {
+    switch (event.type) {
+      case 'session':
+        if (event.sessionId) {
+          setSessionId(event.sessionId);
+        }
+        break;
+      case 'tool':
+        setToolStatus(event.status === 'started' ? event.label ?? null : null);
+        break;
+      case 'answer':
+        setMessages(prev => [...prev, {
+          id: Date.now().toString(),
+          type: 'bot',
+          content: event.message || '죄송합니다. 요청을 처리하지 못했어요.',
+          timestamp: new Date()
+        }]);
+        finishTurn();
+        break;
+      case 'cancelled':
+        finishTurn();
+        break;
+      case 'error':
+        setError(event.message || '메시지를 처리하지 못했습니다.');
+        finishTurn();
+        break;
+    }
+  };
+
+  const finishTurn = () => {
+    setIsTyping(false);
+    setToolStatus(null);
+  };
+
+  const connect = async (): Promise<WebSocket | null> => {
+    const current = socketRef.current;
+    if (current && current.readyState === WebSocket.OPEN) {
+      return current;
+    }
+    try {
+      const socket = await openChatSocket(sessionId, handleSocketEvent, () => {
+        if (socketRef.current === socket) {
+          socketRef.current = null;
+          finishTurn();
+        }
+      });
+      socketRef.current = socket;
+      return socket;
+    } catch (err) {
+      console.warn('WebSocket 연결에 실패해 HTTP로 전송합니다:', err);
+      return null;
+    }
+  };
+
+  const cancelTurn = () => {
+    socketRef.current?.send(JSON.stringify({ type: 'cancel' }));
+  };
+
   const sendMessage = async (content: string) => {
     if (!content.trim()) return;
 
@@ -94,8 +161,14 @@ export default function App() {
     setError(null);
     setIsTyping(true);
 
+    const socket = await connect();
+    if (socket) {
+      socket.send(JSON.stringify({ type: 'message', message: content }));
+      return;
+    }
+
     try {
-      // Real API call
+      // WebSocket을 쓸 수 없으면 HTTP로 한 번에 받음
       const response = await apiCall(content, sessionId);
       
       const botMessage: Message = {
@@ -125,6 +198,10 @@ export default function App() {
   };
 
   const startNewSession = () => {
+    // 새 세션은 다음 메시지를 보낼 때 새 연결로 시작
+    socketRef.current?.close();
+    socketRef.current = null;
+    finishTurn();
     setMessages([{
       id: 'welcome',
       type: 'bot',
@@ -186,7 +263,12 @@ export default function App() {
           />
         ))}
 
-        {isTyping && <TypingIndicator />}
+        {isTyping && (
+          <TypingIndicator
+            status={toolStatus}
+            onCancel={socketRef.current ? cancelTurn : undefined}
+          />
+        )}
         
         <div ref={messagesEndRef} />
       </div>
@@ -196,6 +278,34 @@ export default function App() {
   );
 }
 
+interface ChatSocketEvent {
+  type: 'session' | 'tool' | 'answer' | 'cancelled' | 'error';
+  sessionId?: string;
+  message?: string;
+  success?: boolean;
+  tool?: string;
+  status?: 'started' | 'done';
+  label?: string;
+}
+
+// /ws/chat 연결 (기존 sessionId가 있으면 이어서 대화)
+function openChatSocket(
+  sessionId: string,
+  onEvent: (event: ChatSocketEvent) => void,
+  onClose: () => void
+): Promise<WebSocket> {
+  const protocol = window.location.protocol === 'https:' ? 'wss' : 'ws';
+  const query = sessionId ? `?sessionId=${encodeURIComponent(sessionId)}` : '';
+  const socket = new WebSocket(`${protocol}://${window.location.host}/ws/chat${query}`);
+
+  return new Promise((resolve, reject) => {
+    socket.onopen = () => resolve(socket);
+    socket.onerror = (err) => reject(err);
+    socket.onmessage = (message) => onEvent(JSON.parse(message.data));
+    socket.onclose = onClose;
+  });
+}
+
 // Real API call function
 async function apiCall(message: string, sessionId: string): Promise<any> {
   try {
@@ -1,12 +1,26 @@
-export function TypingIndicator() {
+interface TypingIndicatorProps {
+  status?: string | null;
+  onCancel?: () => void;
+}
+
+export function TypingIndicator({ status, onCancel }: TypingIndicatorProps) {
   return (
     <div className="flex justify-start max-w-3xl mx-auto">
-      <div className="bg-white border border-gray-200 rounded-2xl px-6 py-4 shadow-sm">
+      <div className="bg-white border border-gray-200 rounded-2xl px-6 py-4 shadow-sm flex items-center gap-4">
         <div className="flex gap-1.5">
           <div className="size-2.5 bg-gray-400 rounded-full animate-bounce" style={{ animationDelay: '0ms' }} />
           <div className="size-2.5 bg-gray-400 rounded-full animate-bounce" style={{ animationDelay: '150ms' }} />
           <div className="size-2.5 bg-gray-400 rounded-full animate-bounce" style={{ animationDelay: '300ms' }} />
         </div>
+        {status && <span className="text-sm text-gray-500">{status}</span>}
+        {onCancel && (
+          <button
+            onClick={onCancel}
+            className="text-sm text-gray-500 hover:text-gray-800 underline"
+          >
+            취소
+          </button>
+        )}
       </div>
     </div>
   );
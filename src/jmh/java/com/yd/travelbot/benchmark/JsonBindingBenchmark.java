@@ -0,0 +1,123 @@
+package com.yd.travelbot.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.yd.travelbot.domain.accommodation.domain.entity.Accommodation;
+import com.yd.travelbot.domain.place.domain.entity.Place;
+import com.yd.travelbot.global.external.amadeus.AmadeusHotelOffer;
+import com.yd.travelbot.global.external.amadeus.AmadeusResponseReader;
+import com.yd.travelbot.global.external.geoapify.GeoapifyFeature;
+import com.yd.travelbot.global.external.geoapify.GeoapifyFeatureReader;
+import com.yd.travelbot.global.util.JsonUtil;
+
+/**
+ * JsonNode 트리 순회 파서(이전 구현) vs 스트리밍 + ObjectReader 타입 바인딩(현재 구현)
+ *
+ * 두 경로 모두 응답 샘플(src/jmh/resources/payloads) 바이트에서 시작해 도메인 엔티티 목록까지 만듭니다.
+ * 이전 구현은 response.body().string()과 같이 본문 전체를 String으로 만든 뒤 트리를 구성합니다.
+ * 현재 구현은 전체 원소를 읽도록 limit을 충분히 크게 주어 조기 종료 효과는 제외했습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonBindingBenchmark {
+
+    private static final LocalDate CHECK_IN = LocalDate.of(2026, 11, 1);
+    private static final LocalDate CHECK_OUT = LocalDate.of(2026, 11, 3);
+
+    private static final int ALL = Integer.MAX_VALUE;
+
+    private byte[] geoapifyPayload;
+    private byte[] amadeusPayload;
+
+    @Setup
+    public void setUp() {
+        geoapifyPayload = Payloads.bytes(Payloads.GEOAPIFY_PLACES_SEOUL);
+        amadeusPayload = Payloads.bytes(Payloads.AMADEUS_HOTEL_OFFERS);
+    }
+
+    @Benchmark
+    public List<Place> geoapifyTreeWalk() {
+        JsonNode root = JsonUtil.fromJson(new String(geoapifyPayload, StandardCharsets.UTF_8), JsonNode.class);
+        return LegacyTreeParsers.parseGeoapifyResponse(root, "서울", "관광지");
+    }
+
+    @Benchmark
+    public List<Place> geoapifyTypedStreaming() throws IOException {
+        List<GeoapifyFeature> features = GeoapifyFeatureReader.read(new ByteArrayInputStream(geoapifyPayload), ALL,
+                feature -> feature.name() != null && !feature.name().isEmpty() && !feature.name().equals("관광지"));
+        List<Place> places = new ArrayList<>(features.size());
+        for (GeoapifyFeature feature : features) {
+            places.add(Place.builder()
+                    .id(feature.placeId() != null ? feature.placeId() : "unknown")
+                    .name(feature.name())
+                    .address(feature.address())
+                    .city("서울")
+                    .country(feature.countryCode() != null ? feature.countryCode() : "")
+                    .category("관광지")
+                    .description("Geoapify를 통해 검색된 관광지")
+                    .rating(feature.rating() != null ? feature.rating() : 4.0)
+                    .entranceFee(new BigDecimal("10000"))
+                    .currency("KRW")
+                    .latitude(feature.latitude())
+                    .longitude(feature.longitude())
+                    .build());
+        }
+        return places;
+    }
+
+    @Benchmark
+    public List<Accommodation> amadeusTreeWalk() {
+        JsonNode root = JsonUtil.fromJson(new String(amadeusPayload, StandardCharsets.UTF_8), JsonNode.class);
+        return LegacyTreeParsers.parseAmadeusHotelOffers(root, CHECK_IN, CHECK_OUT, 2);
+    }
+
+    @Benchmark
+    public List<Accommodation> amadeusTypedStreaming() throws IOException {
+        List<AmadeusHotelOffer> offers = AmadeusResponseReader.readHotelOffers(
+                new ByteArrayInputStream(amadeusPayload), ALL).data();
+        List<Accommodation> accommodations = new ArrayList<>(offers.size());
+        for (AmadeusHotelOffer offer : offers) {
+            if (!offer.available() || !offer.hasOffer()) {
+                continue;
+            }
+            BigDecimal totalPrice = BigDecimal.ZERO;
+            if (offer.priceTotal() != null) {
+                totalPrice = BigDecimal.valueOf(offer.priceTotal());
+            } else if (offer.priceBase() != null) {
+                totalPrice = BigDecimal.valueOf(offer.priceBase());
+            }
+            accommodations.add(Accommodation.builder()
+                    .id(offer.hotelId() != null ? offer.hotelId() : "unknown")
+                    .name(offer.name() != null ? offer.name() : "호텔")
+                    .address(offer.address())
+                    .city(offer.cityCode() != null ? offer.cityCode() : "")
+                    .country(offer.countryCode() != null ? offer.countryCode() : "")
+                    .price(totalPrice)
+                    .currency(offer.priceCurrency() != null ? offer.priceCurrency() : "KRW")
+                    .rating(offer.rating())
+                    .description("Amadeus를 통해 검색된 호텔")
+                    .checkIn(CHECK_IN)
+                    .checkOut(CHECK_OUT)
+                    .guests(2)
+                    .build());
+        }
+        return accommodations;
+    }
+}
@@ -0,0 +1,129 @@
+package com.yd.travelbot.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.yd.travelbot.domain.accommodation.domain.entity.Accommodation;
+import com.yd.travelbot.domain.place.domain.entity.Place;
+
+/**
+ * 스트리밍/타입 바인딩 도입 전의 JsonNode 트리 순회 파서 (벤치마크 기준선)
+ *
+ * GeoapifyPlaceRepository.parseGeoapifyResponse, AmadeusAccommodationRepository.parseAmadeusHotelOffers의
+ * 이전 구현을 로그만 제거하고 그대로 옮겼습니다.
+ */
+final class LegacyTreeParsers {
+
+    private LegacyTreeParsers() {
+    }
+
+    static List<Place> parseGeoapifyResponse(JsonNode jsonNode, String city, String category) {
+        List<Place> places = new ArrayList<>();
+        if (jsonNode.has("features") && jsonNode.get("features").isArray()) {
+            JsonNode features = jsonNode.get("features");
+            for (JsonNode feature : features) {
+                if (!feature.has("properties")) {
+                    continue;
+                }
+
+                JsonNode properties = feature.get("properties");
+                JsonNode geometry = feature.has("geometry") ? feature.get("geometry") : null;
+
+                String name = properties.has("name") && !properties.get("name").isNull()
+                    ? properties.get("name").asText()
+                    : "관광지";
+
+                if (name.isEmpty() || name.equals("관광지")) {
+                    continue;
+                }
+
+                places.add(Place.builder()
+                        .id(properties.has("place_id") ? properties.get("place_id").asText() : "unknown")
+                        .name(name)
+                        .address(properties.has("formatted") && !properties.get("formatted").isNull()
+                            ? properties.get("formatted").asText()
+                            : (properties.has("address_line2") && !properties.get("address_line2").isNull()
+                                ? properties.get("address_line2").asText()
+                                : ""))
+                        .city(city != null ? city : "")
+                        .country(properties.has("country_code") ? properties.get("country_code").asText() : "")
+                        .category(category != null ? category : "관광지")
+                        .description("Geoapify를 통해 검색된 관광지")
+                        .rating(properties.has("rating") && !properties.get("rating").isNull()
+                            ? properties.get("rating").asDouble()
+                            : 4.0)
+                        .entranceFee(new BigDecimal("10000"))
+                        .currency("KRW")
+                        .latitude(geometry != null && geometry.has("coordinates") && geometry.get("coordinates").isArray() ?
+                                 geometry.get("coordinates").get(1).asDouble() : null)
+                        .longitude(geometry != null && geometry.has("coordinates") && geometry.get("coordinates").isArray() ?
+                                  geometry.get("coordinates").get(0).asDouble() : null)
+                        .build());
+            }
+        }
+        return places;
+    }
+
+    static List<Accommodation> parseAmadeusHotelOffers(JsonNode jsonNode, LocalDate checkIn, LocalDate checkOut, Integer guests) {
+        List<Accommodation> accommodations = new ArrayList<>();
+        if (jsonNode.has("data")) {
+            for (JsonNode hotelOffer : jsonNode.get("data")) {
+                JsonNode hotel = hotelOffer.has("hotel") ? hotelOffer.get("hotel") : null;
+                JsonNode offers = hotelOffer.has("offers") ? hotelOffer.get("offers") : null;
+
+                boolean available = hotelOffer.has("available") && hotelOffer.get("available").asBoolean();
+
+                if (hotel != null && offers != null && offers.isArray() && offers.size() > 0 && available) {
+                    JsonNode firstOffer = offers.get(0);
+                    JsonNode price = firstOffer.has("price") ? firstOffer.get("price") : null;
+
+                    String hotelId = hotel.has("hotelId") ? hotel.get("hotelId").asText() : "unknown";
+                    String hotelName = hotel.has("name") ? hotel.get("name").asText() : "호텔";
+
+                    BigDecimal totalPrice = BigDecimal.ZERO;
+                    String currency = "KRW";
+                    if (price != null) {
+                        if (price.has("total")) {
+                            totalPrice = BigDecimal.valueOf(price.get("total").asDouble());
+                        } else if (price.has("base")) {
+                            totalPrice = BigDecimal.valueOf(price.get("base").asDouble());
+                        }
+                        if (price.has("currency")) {
+                            currency = price.get("currency").asText();
+                        }
+                    }
+
+                    String address = "";
+                    if (hotel.has("address")) {
+                        JsonNode addressNode = hotel.get("address");
+                        if (addressNode.has("lines") && addressNode.get("lines").isArray() && addressNode.get("lines").size() > 0) {
+                            address = addressNode.get("lines").get(0).asText();
+                        } else if (addressNode.has("cityName")) {
+                            address = addressNode.get("cityName").asText();
+                        }
+                    }
+
+                    accommodations.add(Accommodation.builder()
+                            .id(hotelId)
+                            .name(hotelName)
+                            .address(address)
+                            .city(hotel.has("cityCode") ? hotel.get("cityCode").asText() : "")
+                            .country(hotel.has("address") && hotel.get("address").has("countryCode") ?
+                                    hotel.get("address").get("countryCode").asText() : "")
+                            .price(totalPrice)
+                            .currency(currency)
+                            .rating(hotel.has("rating") ? hotel.get("rating").asDouble() : null)
+                            .description("Amadeus를 통해 검색된 호텔")
+                            .checkIn(checkIn)
+                            .checkOut(checkOut)
+                            .guests(guests)
+                            .build());
+                }
+            }
+        }
+        return accommodations;
+    }
+}
@@ -0,0 +1,47 @@
+package com.yd.travelbot.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * src/jmh/resources/payloads의 응답 샘플 로더
+ *
+ * 각 파일은 실제 API 응답과 같은 스키마와 부가 필드(datasource, policies 등)를 갖춘 샘플입니다.
+ * 실제 호출 결과로 교체해도 벤치마크 코드는 그대로 동작합니다.
+ */
+public final class Payloads {
+
+    public static final String GEOAPIFY_PLACES_SEOUL = "geoapify-places-seoul-tourism.json";
+    public static final String GEOAPIFY_PLACES_TOKYO_CATERING = "geoapify-places-tokyo-catering.json";
+    public static final String AMADEUS_HOTELS_BY_CITY = "amadeus-hotels-by-city-par.json";
+    public static final String AMADEUS_HOTEL_OFFERS = "amadeus-hotel-offers-par.json";
+    public static final String KOREA_EXIM_AP01 = "koreaexim-ap01.json";
+    public static final String CHAT_MESSAGES = "chat-messages.txt";
+
+    private Payloads() {
+    }
+
+    public static byte[] bytes(String name) {
+        try (InputStream in = Payloads.class.getClassLoader().getResourceAsStream("payloads/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("벤치마크 페이로드를 찾을 수 없습니다: " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 빈 줄과 # 주석을 제외한 줄 목록
+     */
+    public static List<String> lines(String name) {
+        return new String(bytes(name), StandardCharsets.UTF_8).lines()
+                .map(String::strip)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .toList();
+    }
+}
@@ -0,0 +1,73 @@
+package com.yd.travelbot.domain.accommodation.infra;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.yd.travelbot.benchmark.Payloads;
+import com.yd.travelbot.domain.accommodation.domain.entity.Accommodation;
+import com.yd.travelbot.global.external.amadeus.AmadeusPage;
+import com.yd.travelbot.global.external.amadeus.AmadeusResponseReader;
+import com.yd.travelbot.global.config.LastKnownGoodConfig;
+import com.yd.travelbot.global.config.LookupCacheConfig;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Amadeus 호텔 목록(by-city) 디코딩과 AmadeusAccommodationRepository.parseAmadeusHotelOffers
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AmadeusParseBenchmark {
+
+    private static final LocalDate CHECK_IN = LocalDate.of(2026, 11, 1);
+    private static final LocalDate CHECK_OUT = LocalDate.of(2026, 11, 3);
+
+    private final AmadeusAccommodationRepository repository = new AmadeusAccommodationRepository(null, null, null, null,
+            null, new LookupCacheConfig(), new LastKnownGoodConfig(), new TravelMetrics(new SimpleMeterRegistry()));
+    private byte[] hotelsByCity;
+    private byte[] hotelOffers;
+
+    @Setup
+    public void setUp() {
+        hotelsByCity = Payloads.bytes(Payloads.AMADEUS_HOTELS_BY_CITY);
+        hotelOffers = Payloads.bytes(Payloads.AMADEUS_HOTEL_OFFERS);
+    }
+
+    /**
+     * 운영 경로: 앞쪽 HOTEL_ID_LIMIT개만 읽고 중단
+     */
+    @Benchmark
+    public AmadeusPage<String> readHotelIds() throws IOException {
+        return AmadeusResponseReader.readHotelIds(new ByteArrayInputStream(hotelsByCity),
+                AmadeusAccommodationRepository.HOTEL_ID_LIMIT);
+    }
+
+    /**
+     * 비교용: 목록 전체 읽기
+     */
+    @Benchmark
+    public AmadeusPage<String> readAllHotelIds() throws IOException {
+        return AmadeusResponseReader.readHotelIds(new ByteArrayInputStream(hotelsByCity), Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public List<Accommodation> parseAmadeusHotelOffers() throws IOException {
+        return repository.parseAmadeusHotelOffers(
+                AmadeusResponseReader.readHotelOffers(new ByteArrayInputStream(hotelOffers),
+                        AmadeusAccommodationRepository.HOTEL_OFFER_LIMIT).data(),
+                CHECK_IN, CHECK_OUT, 2);
+    }
+}
@@ -0,0 +1,137 @@
+package com.yd.travelbot.domain.chatbot.domain.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.yd.travelbot.benchmark.Payloads;
+import com.yd.travelbot.domain.accommodation.application.dto.AccommodationResponse;
+import com.yd.travelbot.domain.accommodation.domain.entity.Accommodation;
+import com.yd.travelbot.domain.food.application.dto.FoodResponse;
+import com.yd.travelbot.domain.food.domain.entity.Food;
+import com.yd.travelbot.domain.place.application.dto.PlaceResponse;
+import com.yd.travelbot.domain.place.domain.entity.Place;
+import com.yd.travelbot.global.config.ChatMemoryConfig;
+import com.yd.travelbot.global.config.LlmTokenConfig;
+import com.yd.travelbot.global.external.amadeus.AmadeusHotelOffer;
+import com.yd.travelbot.global.external.amadeus.AmadeusResponseReader;
+import com.yd.travelbot.global.external.geoapify.GeoapifyFeature;
+import com.yd.travelbot.global.external.geoapify.GeoapifyFeatureReader;
+import com.yd.travelbot.global.llm.TokenUsageTracker;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ChatService의 결과 포맷팅 경로 (escapeJson + String.format 프롬프트 구성)
+ *
+ * LLM은 프롬프트 길이만 기록하고 즉시 응답하는 스텁으로 대체해 프롬프트 구성 비용만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatServiceFormatBenchmark {
+
+    private PromptCapturingModel model;
+    private ChatService chatService;
+    private List<AccommodationResponse> accommodations;
+    private List<FoodResponse> foods;
+    private List<PlaceResponse> places;
+    private List<String> fields;
+
+    @Setup
+    public void setUp() throws IOException {
+        model = new PromptCapturingModel();
+        TravelMetrics metrics = new TravelMetrics(new SimpleMeterRegistry());
+        chatService = new ChatService(model, null, metrics, new TokenUsageTracker(metrics, new LlmTokenConfig()),
+                new InMemoryChatMemoryStore(), new ChatMemoryConfig());
+
+        List<GeoapifyFeature> sights = GeoapifyFeatureReader.read(
+                new ByteArrayInputStream(Payloads.bytes(Payloads.GEOAPIFY_PLACES_SEOUL)), Integer.MAX_VALUE, f -> true);
+        List<GeoapifyFeature> restaurants = GeoapifyFeatureReader.read(
+                new ByteArrayInputStream(Payloads.bytes(Payloads.GEOAPIFY_PLACES_TOKYO_CATERING)), Integer.MAX_VALUE,
+                f -> f.name() != null);
+        List<AmadeusHotelOffer> offers = AmadeusResponseReader.readHotelOffers(
+                new ByteArrayInputStream(Payloads.bytes(Payloads.AMADEUS_HOTEL_OFFERS)), Integer.MAX_VALUE).data();
+
+        places = new ArrayList<>();
+        fields = new ArrayList<>();
+        for (GeoapifyFeature f : sights) {
+            places.add(PlaceResponse.from(Place.builder()
+                    .id(f.placeId()).name(f.name()).address(f.address()).city("서울").category("관광지")
+                    .rating(f.rating() != null ? f.rating() : 4.0).build()));
+            fields.add(f.name());
+            fields.add(f.address());
+        }
+        foods = new ArrayList<>();
+        for (GeoapifyFeature f : restaurants) {
+            foods.add(FoodResponse.from(Food.builder()
+                    .id(f.placeId()).name(f.name()).address(f.address()).city("도쿄").cuisine("일식")
+                    .priceRange(new BigDecimal("30000")).rating(f.rating() != null ? f.rating() : 4.0)
+                    .description("Geoapify를 통해 검색된 음식점").build()));
+        }
+        accommodations = new ArrayList<>();
+        for (AmadeusHotelOffer o : offers) {
+            accommodations.add(AccommodationResponse.from(Accommodation.builder()
+                    .id(o.hotelId()).name(o.name()).address(o.address()).city(o.cityCode()).country(o.countryCode())
+                    .price(o.priceTotal() != null ? BigDecimal.valueOf(o.priceTotal()) : BigDecimal.ZERO)
+                    .currency(o.priceCurrency()).rating(o.rating())
+                    .checkIn(LocalDate.of(2026, 11, 1)).checkOut(LocalDate.of(2026, 11, 3)).guests(2).build()));
+        }
+    }
+
+    @Benchmark
+    public void escapeJson(Blackhole bh) {
+        for (String field : fields) {
+            bh.consume(chatService.escapeJson(field));
+        }
+    }
+
+    @Benchmark
+    public int formatAccommodationResults() {
+        chatService.formatAccommodationResults("파리 숙소 추천해줘", accommodations);
+        return model.lastPromptLength;
+    }
+
+    @Benchmark
+    public int formatFoodResults() {
+        chatService.formatFoodResults("도쿄 맛집 알려줘", foods);
+        return model.lastPromptLength;
+    }
+
+    @Benchmark
+    public int formatPlaceResults() {
+        chatService.formatPlaceResults("서울 관광지 추천해줘", places);
+        return model.lastPromptLength;
+    }
+
+    private static final class PromptCapturingModel implements ChatLanguageModel {
+        private int lastPromptLength;
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages) {
+            ChatMessage last = messages.get(messages.size() - 1);
+            lastPromptLength = last instanceof UserMessage user ? user.singleText().length() : 0;
+            return Response.from(AiMessage.from("ok"));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.yd.travelbot.domain.chatbot.domain.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.yd.travelbot.benchmark.Payloads;
+
+/**
+ * MessageParser 추출기와 IntentAnalyzer.analyze
+ *
+ * 한 번의 호출(op)에서 chat-messages.txt의 모든 메시지를 처리합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MessageParserBenchmark {
+
+    private final MessageParser parser = new MessageParser();
+    private final IntentAnalyzer intentAnalyzer = new IntentAnalyzer();
+    private List<String> messages;
+
+    @Setup
+    public void setUp() {
+        messages = Payloads.lines(Payloads.CHAT_MESSAGES);
+    }
+
+    @Benchmark
+    public void scan(Blackhole bh) {
+        for (String message : messages) {
+            bh.consume(parser.scan(message));
+        }
+    }
+
+    @Benchmark
+    public void extractCity(Blackhole bh) {
+        for (String message : messages) {
+            bh.consume(parser.extractCity(message));
+        }
+    }
+
+    @Benchmark
+    public void extractDates(Blackhole bh) {
+        for (String message : messages) {
+            bh.consume(parser.extractDates(message));
+        }
+    }
+
+    @Benchmark
+    public void extractNumber(Blackhole bh) {
+        for (String message : messages) {
+            bh.consume(parser.extractNumber(message));
+        }
+    }
+
+    @Benchmark
+    public void extractAmount(Blackhole bh) {
+        for (String message : messages) {
+            bh.consume(parser.extractAmount(message));
+        }
+    }
+
+    @Benchmark
+    public void extractCurrency(Blackhole bh) {
+        for (String message : messages) {
+            bh.consume(parser.extractCurrency(message, "from"));
+            bh.consume(parser.extractCurrency(message, "to"));
+        }
+    }
+
+    /**
+     * 의도 하나를 처리할 때 실제로 호출되는 추출기 묶음 (도시 + 음식 + 관광지 분류)
+     */
+    @Benchmark
+    public void extractSlots(Blackhole bh) {
+        for (String message : messages) {
+            bh.consume(parser.extractCity(message));
+            bh.consume(parser.extractCuisine(message));
+            bh.consume(parser.extractCategory(message));
+        }
+    }
+
+    @Benchmark
+    public void analyzeIntent(Blackhole bh) {
+        for (String message : messages) {
+            bh.consume(intentAnalyzer.analyze(message));
+        }
+    }
+}
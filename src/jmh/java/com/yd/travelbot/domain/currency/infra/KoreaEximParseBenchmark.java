@@ -0,0 +1,68 @@
+package com.yd.travelbot.domain.currency.infra;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.yd.travelbot.benchmark.Payloads;
+import com.yd.travelbot.domain.currency.domain.entity.Currency;
+import com.yd.travelbot.global.config.ExchangeRatesConfig;
+import com.yd.travelbot.global.config.LastKnownGoodConfig;
+import com.yd.travelbot.global.config.LookupCacheConfig;
+import com.yd.travelbot.global.external.koreaexim.KoreaEximRateReader;
+import com.yd.travelbot.global.external.koreaexim.KoreaEximRates;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 한국수출입은행 AP01 응답 디코딩 + ExchangeRatesApiRepository.parseKoreaEximResponse
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KoreaEximParseBenchmark {
+
+    /**
+     * USD는 배열 끝쪽, JPY는 단위(100)가 붙은 통화, EUR→USD는 두 통화를 모두 찾아야 하는 경우
+     */
+    @Param({"USD:KRW", "KRW:JPY", "EUR:USD"})
+    public String pair;
+
+    private final ExchangeRatesApiRepository repository = new ExchangeRatesApiRepository(new ExchangeRatesConfig(), null,
+            new LookupCacheConfig(), new LastKnownGoodConfig(), new TravelMetrics(new SimpleMeterRegistry()));
+    private byte[] payload;
+    private String from;
+    private String to;
+    private Set<String> codes;
+
+    @Setup
+    public void setUp() {
+        payload = Payloads.bytes(Payloads.KOREA_EXIM_AP01);
+        String[] parts = pair.split(":");
+        from = parts[0];
+        to = parts[1];
+        codes = repository.requestedCodes(from, to);
+    }
+
+    @Benchmark
+    public KoreaEximRates decode() throws IOException {
+        return KoreaEximRateReader.read(new ByteArrayInputStream(payload), codes);
+    }
+
+    @Benchmark
+    public Currency decodeAndParse() throws IOException {
+        KoreaEximRates rates = KoreaEximRateReader.read(new ByteArrayInputStream(payload), codes);
+        return repository.parseKoreaEximResponse(rates, from, to);
+    }
+}
@@ -0,0 +1,46 @@
+package com.yd.travelbot.domain.food.infra;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.yd.travelbot.benchmark.Payloads;
+import com.yd.travelbot.domain.food.domain.entity.Food;
+import com.yd.travelbot.global.config.LastKnownGoodConfig;
+import com.yd.travelbot.global.config.LookupCacheConfig;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+
+/**
+ * GeoapifyFoodRepository.parseGeoapifyResponse (Places API 음식점 응답, 이름 없는 POI 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeoapifyFoodParseBenchmark {
+
+    private final GeoapifyFoodRepository repository = new GeoapifyFoodRepository(null, null, new OkHttpClient(),
+            new LookupCacheConfig(), new LastKnownGoodConfig(), new TravelMetrics(new SimpleMeterRegistry()));
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        payload = Payloads.bytes(Payloads.GEOAPIFY_PLACES_TOKYO_CATERING);
+    }
+
+    @Benchmark
+    public List<Food> parseGeoapifyResponse() throws IOException {
+        return repository.parseGeoapifyResponse(new ByteArrayInputStream(payload), "도쿄", "일식");
+    }
+}
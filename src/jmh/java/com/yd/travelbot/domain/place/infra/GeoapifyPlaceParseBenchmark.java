@@ -0,0 +1,45 @@
+package com.yd.travelbot.domain.place.infra;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.yd.travelbot.benchmark.Payloads;
+import com.yd.travelbot.domain.place.domain.entity.Place;
+import com.yd.travelbot.global.config.LastKnownGoodConfig;
+import com.yd.travelbot.global.config.LookupCacheConfig;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * GeoapifyPlaceRepository.parseGeoapifyResponse (Places API 관광지 응답)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeoapifyPlaceParseBenchmark {
+
+    private final GeoapifyPlaceRepository repository = new GeoapifyPlaceRepository(null, null, null,
+            new LookupCacheConfig(), new LastKnownGoodConfig(), new TravelMetrics(new SimpleMeterRegistry()));
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        payload = Payloads.bytes(Payloads.GEOAPIFY_PLACES_SEOUL);
+    }
+
+    @Benchmark
+    public List<Place> parseGeoapifyResponse() throws IOException {
+        return repository.parseGeoapifyResponse(new ByteArrayInputStream(payload), "서울", "관광지");
+    }
+}
@@ -0,0 +1,146 @@
+package com.yd.travelbot.global.logging;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.yd.travelbot.benchmark.Payloads;
+import com.yd.travelbot.global.config.PayloadLoggingConfig;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+
+/**
+ * 검색 요청 하나가 로그에 쓰는 비용: 이전 구현 vs 샘플링 + 비동기 출력(현재 구현)
+ *
+ * - legacySync: 도시 좌표 INFO + API 키가 든 요청 URL INFO + 응답 본문 앞 500자 INFO를 동기 appender로 출력
+ * - sampledSync / sampledAsync: 좌표는 DEBUG(꺼짐), 요청/응답은 PayloadLoggingInterceptor가 1%만 골라 출력
+ * - legacyAsync: 이전 구현의 세 줄을 비동기 appender(큐가 차면 대기)로 출력
+ * 출력은 버리는 스트림이지만 패턴 변환과 UTF-8 인코딩은 그대로 거칩니다. (실제 콘솔 쓰기 비용은 제외)
+ * 여러 요청 스레드가 같은 appender를 나눠 쓰는 상황을 보기 위해 4개 스레드로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class LoggingOverheadBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5level --- [%15.15thread] %-40.40logger{39} : %msg%n";
+
+    private LoggerContext context;
+    private Logger syncLogger;
+    private Logger asyncLogger;
+    private PayloadLoggingInterceptor syncInterceptor;
+    private PayloadLoggingInterceptor asyncInterceptor;
+    private Request request;
+    private String body;
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+        context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+
+        OutputStreamAppender<ILoggingEvent> console = discardingAppender("CONSOLE");
+        syncLogger = logger("sync", console);
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setName("ASYNC_CONSOLE");
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(0);
+        async.setNeverBlock(false);
+        async.addAppender(discardingAppender("ASYNC_TARGET"));
+        async.start();
+        asyncLogger = logger("async", async);
+
+        PayloadLoggingConfig config = new PayloadLoggingConfig();
+        Map<String, String> baseUrls = Map.of("geoapify", "https://api.geoapify.com");
+        syncInterceptor = new PayloadLoggingInterceptor(config, baseUrls, syncLogger);
+        asyncInterceptor = new PayloadLoggingInterceptor(config, baseUrls, asyncLogger);
+
+        request = new Request.Builder().url(HttpUrl.get("https://api.geoapify.com/v2/places"
+                + "?categories=tourism.attraction&filter=circle:126.978000,37.566500,10000&limit=20"
+                + "&apiKey=0123456789abcdef0123456789abcdef")).build();
+        body = new String(Payloads.bytes(Payloads.GEOAPIFY_PLACES_SEOUL), StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void legacySync() {
+        legacy(syncLogger);
+    }
+
+    @Benchmark
+    public void legacyAsync() {
+        legacy(asyncLogger);
+    }
+
+    @Benchmark
+    public void sampledSync() {
+        sampled(syncLogger, syncInterceptor);
+    }
+
+    @Benchmark
+    public void sampledAsync() {
+        sampled(asyncLogger, asyncInterceptor);
+    }
+
+    private void legacy(Logger log) {
+        log.info("도시 {}의 좌표: ({}, {})", "서울", 37.5665, 126.978);
+        log.info("Geoapify Places API 요청 URL: {}", request.url());
+        log.info("Geoapify Places API 응답 (처음 500자): {}", body.substring(0, Math.min(500, body.length())));
+    }
+
+    private void sampled(Logger log, PayloadLoggingInterceptor interceptor) {
+        log.debug("도시 {}의 좌표: ({}, {})", "서울", 37.5665, 126.978);
+        if (interceptor.sampled()) {
+            interceptor.log(request, "200", 120_000_000L, body);
+        }
+    }
+
+    private Logger logger(String name, Appender<ILoggingEvent> appender) {
+        Logger logger = context.getLogger(name);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+
+    private OutputStreamAppender<ILoggingEvent> discardingAppender(String name) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.setCharset(StandardCharsets.UTF_8);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setName(name);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+}
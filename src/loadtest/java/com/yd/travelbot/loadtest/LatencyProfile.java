@@ -0,0 +1,73 @@
+package com.yd.travelbot.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로그정규 분포 지연 시간 (중앙값과 p99로 지정)
+ *
+ * 외부 API 응답 시간은 대부분 중앙값 근처에 몰리고 꼬리가 길게 늘어지므로 로그정규 분포로 흉내 냅니다.
+ * sigma = ln(p99 / median) / z(0.99) 로 두면 표본의 99번째 백분위수가 지정한 p99에 맞춰집니다.
+ */
+public record LatencyProfile(Duration median, Duration p99) {
+
+    private static final double Z_99 = 2.326;
+
+    public static final LatencyProfile NONE = new LatencyProfile(Duration.ZERO, Duration.ZERO);
+
+    public LatencyProfile {
+        if (p99.compareTo(median) < 0) {
+            throw new IllegalArgumentException("p99는 중앙값보다 작을 수 없습니다: " + median + " / " + p99);
+        }
+    }
+
+    /**
+     * "80ms/400ms" (중앙값/p99) 또는 "0" 형식을 해석합니다.
+     */
+    public static LatencyProfile parse(String spec) {
+        String trimmed = spec.trim();
+        if (trimmed.isEmpty() || "0".equals(trimmed)) {
+            return NONE;
+        }
+        String[] parts = trimmed.split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("지연 시간 형식은 '<중앙값>ms/<p99>ms' 입니다: " + spec);
+        }
+        return new LatencyProfile(parseMillis(parts[0]), parseMillis(parts[1]));
+    }
+
+    public long sampleMillis() {
+        long medianMs = median.toMillis();
+        if (medianMs <= 0) {
+            return 0L;
+        }
+        double sigma = Math.log((double) p99.toMillis() / medianMs) / Z_99;
+        double gaussian = ThreadLocalRandom.current().nextGaussian();
+        return Math.round(medianMs * Math.exp(sigma * gaussian));
+    }
+
+    public void sleep() {
+        long millis = sampleMillis();
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return median.toMillis() + "ms/" + p99.toMillis() + "ms";
+    }
+
+    private static Duration parseMillis(String value) {
+        String trimmed = value.trim();
+        if (trimmed.endsWith("ms")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 2);
+        }
+        return Duration.ofMillis(Long.parseLong(trimmed.trim()));
+    }
+}
@@ -0,0 +1,145 @@
+package com.yd.travelbot.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.yd.travelbot.global.util.JsonUtil;
+
+/**
+ * /api/chat 동시 부하 발생기
+ *
+ * 가상 사용자마다 스레드 하나가 응답을 받자마자 다음 요청을 보내는 closed-loop 방식입니다.
+ * 가상 사용자는 세션 ID를 유지하며 몇 턴 대화한 뒤 새 세션으로 바꿔, 대화 메모리가 쌓이는 실제 사용 패턴을 흉내 냅니다.
+ * 워밍업 구간에 시작한 요청은 결과에서 제외합니다.
+ */
+final class LoadDriver {
+
+    private static final int TURNS_PER_SESSION = 5;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final URI chatUri;
+    private final LoadTestOptions options;
+    private final List<String> messages;
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder transportErrors = new LongAdder();
+    private final AtomicLong measuredTickets = new AtomicLong();
+
+    LoadDriver(URI chatUri, LoadTestOptions options, List<String> messages) {
+        if (messages.isEmpty()) {
+            throw new IllegalArgumentException("부하 테스트 메시지가 비어 있습니다.");
+        }
+        this.chatUri = chatUri;
+        this.options = options;
+        this.messages = messages;
+    }
+
+    LoadReport run() throws InterruptedException {
+        long start = System.nanoTime();
+        long measureStart = start + options.warmup().toNanos();
+        long deadline = options.requests() > 0 ? Long.MAX_VALUE : measureStart + options.duration().toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+        List<Future<List<Long>>> results = new ArrayList<>();
+        for (int user = 0; user < options.concurrency(); user++) {
+            int userId = user;
+            results.add(workers.submit(() -> runUser(userId, measureStart, deadline)));
+        }
+        workers.shutdown();
+
+        List<Long> latencies = new ArrayList<>();
+        for (Future<List<Long>> result : results) {
+            try {
+                latencies.addAll(result.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("가상 사용자 실행 실패", e.getCause());
+            }
+        }
+        long measureEnd = System.nanoTime();
+
+        return new LoadReport(options.concurrency(),
+                Duration.ofNanos(measureEnd - Math.min(measureStart, measureEnd)),
+                latencies.stream().mapToLong(Long::longValue).toArray(),
+                succeeded.sum(), failed.sum(), transportErrors.sum());
+    }
+
+    private List<Long> runUser(int userId, long measureStart, long deadline) {
+        List<Long> latencies = new ArrayList<>();
+        int turn = 0;
+        int session = 0;
+        int messageIndex = userId;
+        while (System.nanoTime() < deadline) {
+            long begin = System.nanoTime();
+            boolean measured = begin >= measureStart;
+            if (measured && options.requests() > 0 && measuredTickets.incrementAndGet() > options.requests()) {
+                break;
+            }
+            if (turn++ % TURNS_PER_SESSION == 0) {
+                session++;
+            }
+            String sessionId = "loadtest-" + userId + "-" + session;
+            String message = messages.get(messageIndex++ % messages.size());
+
+            Outcome outcome = send(message, sessionId);
+            long elapsed = System.nanoTime() - begin;
+            if (!measured) {
+                continue;
+            }
+            latencies.add(elapsed);
+            switch (outcome) {
+                case SUCCEEDED -> succeeded.increment();
+                case FAILED -> failed.increment();
+                case TRANSPORT_ERROR -> transportErrors.increment();
+            }
+        }
+        return latencies;
+    }
+
+    private Outcome send(String message, String sessionId) {
+        Map<String, String> body = new LinkedHashMap<>();
+        body.put("message", message);
+        body.put("sessionId", sessionId);
+        HttpRequest request = HttpRequest.newBuilder(chatUri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(JsonUtil.toJson(body)))
+                .build();
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return Outcome.TRANSPORT_ERROR;
+            }
+            JsonNode node = JsonUtil.fromJson(response.body(), JsonNode.class);
+            return node.path("success").asBoolean(false) ? Outcome.SUCCEEDED : Outcome.FAILED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Outcome.TRANSPORT_ERROR;
+        } catch (Exception e) {
+            return Outcome.TRANSPORT_ERROR;
+        }
+    }
+
+    private enum Outcome {
+        SUCCEEDED,
+        FAILED,
+        TRANSPORT_ERROR
+    }
+}
@@ -0,0 +1,55 @@
+package com.yd.travelbot.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 측정 구간의 처리량과 지연 시간 백분위수
+ *
+ * @param latenciesNanos 측정 구간에 시작한 요청들의 응답 시간 (정렬 전)
+ * @param succeeded      success=true 응답 수
+ * @param failed         success=false 응답 수 (챗봇이 오류 안내를 돌려준 경우)
+ * @param transportErrors 연결 실패, 타임아웃, 200이 아닌 상태 코드
+ */
+record LoadReport(int concurrency, Duration elapsed, long[] latenciesNanos,
+                  long succeeded, long failed, long transportErrors) {
+
+    long total() {
+        return succeeded + failed + transportErrors;
+    }
+
+    double throughput() {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds > 0 ? total() / seconds : 0.0;
+    }
+
+    String format() {
+        long[] sorted = latenciesNanos.clone();
+        Arrays.sort(sorted);
+        StringBuilder out = new StringBuilder();
+        out.append("== /api/chat 부하 테스트 결과 ==\n");
+        out.append(String.format("동시 사용자 %d명, 측정 시간 %.1fs%n", concurrency, elapsed.toMillis() / 1000.0));
+        out.append(String.format("요청 %,d건 (성공 %,d / 실패 응답 %,d / 전송 오류 %,d)%n",
+                total(), succeeded, failed, transportErrors));
+        out.append(String.format("처리량 %.1f req/s%n", throughput()));
+        out.append(String.format("지연 p50 %s / p95 %s / p99 %s / max %s%n",
+                millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.95)),
+                millis(percentile(sorted, 0.99)), millis(sorted.length > 0 ? sorted[sorted.length - 1] : 0L)));
+        return out.toString();
+    }
+
+    /**
+     * nearest-rank 방식 백분위수 (정렬된 배열 기준)
+     */
+    static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1fms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,110 @@
+package com.yd.travelbot.loadtest;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.yd.travelbot.TravelbotApplication;
+import com.yd.travelbot.global.llm.ChatModelFactory;
+import com.yd.travelbot.global.llm.TokenUsageTracker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 오프라인 부하 테스트 진입점 (./gradlew loadTest -x buildFrontend -x npmInstall)
+ *
+ * 1. 외부 API 스텁(MockWebServer)을 띄웁니다.
+ * 2. 스텁 주소와 스크립트 모델로 애플리케이션을 임의 포트에 기동합니다.
+ *    모델 생성기만 교체하므로 LLM 게이트웨이/헤지 래핑은 운영과 같게 적용됩니다.
+ * 3. /api/chat에 동시 부하를 건 뒤 처리량과 지연 시간 백분위수를 출력합니다.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        ScriptedChatModel model = new ScriptedChatModel(options.llmLatency(), options.llmErrorRate());
+
+        try (UpstreamStubs stubs = UpstreamStubs.start(options.upstreamLatency(), options.upstreamErrorRate());
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(TravelbotApplication.class)
+                     .initializers(ctx -> ctx.getBeanFactory()
+                             .registerSingleton("scriptedChatModelFactory", (ChatModelFactory) (name, temperature) -> model))
+                     .run(applicationArgs(stubs.applicationProperties()))) {
+
+            String port = context.getEnvironment().getProperty("local.server.port");
+            URI chatUri = URI.create("http://localhost:" + port + "/api/chat");
+            List<String> messages = RecordedPayloads.lines(RecordedPayloads.CHAT_MESSAGES);
+
+            System.out.printf("부하 테스트 시작: %s, 동시 사용자 %d명, 워밍업 %ds, %s%n",
+                    chatUri, options.concurrency(), options.warmup().toSeconds(),
+                    options.requests() > 0 ? "요청 " + options.requests() + "건" : "측정 " + options.duration().toSeconds() + "s");
+            LoadReport report = new LoadDriver(chatUri, options, messages).run();
+
+            System.out.println();
+            System.out.print(report.format());
+            stubs.summaries().forEach(System.out::println);
+            System.out.println(model.summary());
+            printServerTimers(context.getBean(MeterRegistry.class));
+            printTokenUsage(context.getBean(TokenUsageTracker.class));
+        }
+    }
+
+    /**
+     * 호출 지점별 토큰 누계 (스크립트 모델은 문자 수로 어림한 값)
+     */
+    private static void printTokenUsage(TokenUsageTracker tracker) {
+        System.out.println();
+        System.out.println("== 토큰 사용량 (호출 지점별, 워밍업 포함) ==");
+        tracker.callSites().values().forEach(usage -> System.out.printf("%-16s %,8d건  입력 %,12d  출력 %,10d  호출당 입력 %,8.0f%n",
+                usage.id(), usage.calls(), usage.inputTokens(), usage.outputTokens(),
+                (double) usage.inputTokens() / Math.max(1, usage.calls())));
+    }
+
+    /**
+     * 서버 쪽 travelbot.* 타이머 (워밍업 포함 누적) - 시간이 어느 계층에서 쓰였는지 확인용
+     */
+    private static void printServerTimers(MeterRegistry registry) {
+        System.out.println();
+        System.out.println("== 서버 지표 (travelbot.*, 워밍업 포함) ==");
+        registry.getMeters().stream()
+                .filter(meter -> meter instanceof Timer && meter.getId().getName().startsWith("travelbot."))
+                .map(Timer.class::cast)
+                .sorted(Comparator.comparing((Timer timer) -> timer.getId().getName())
+                        .thenComparing(timer -> timer.getId().getTags().toString()))
+                .forEach(timer -> System.out.printf("%-28s %-85s %,8d건  평균 %8.1fms  최대 %8.1fms%n",
+                        timer.getId().getName(),
+                        timer.getId().getTags().stream()
+                                .map(tag -> tag.getKey() + "=" + tag.getValue())
+                                .collect(Collectors.joining(",")),
+                        timer.count(),
+                        timer.mean(TimeUnit.MILLISECONDS),
+                        timer.max(TimeUnit.MILLISECONDS)));
+    }
+
+    /**
+     * 명령행 인자로 넘겨 application.yml / secret-application.yml보다 우선하도록 합니다.
+     */
+    private static String[] applicationArgs(Map<String, Object> upstreamProperties) {
+        List<String> args = new ArrayList<>();
+        upstreamProperties.forEach((key, value) -> args.add("--" + key + "=" + value));
+        args.add("--server.port=0");
+        args.add("--health-check.enabled=false");
+        args.add("--warmup.enabled=false");
+        args.add("--chat-memory.store=memory");
+        args.add("--langchain.gemini.api-key=loadtest");
+        // 요청마다 남는 INFO/DEBUG 로그가 측정값을 왜곡하지 않도록 경고 이상만 출력
+        args.add("--logging.level.com.yd.travelbot=WARN");
+        args.add("--logging.level.com.yd.travelbot.domain.currency=WARN");
+        return args.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,42 @@
+package com.yd.travelbot.loadtest;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정 (-Dloadtest.<이름>=값 으로 변경)
+ *
+ * @param concurrency        동시에 요청을 보내는 가상 사용자 수
+ * @param warmup             측정에서 제외하는 워밍업 시간
+ * @param duration           측정 시간 (requests가 0일 때)
+ * @param requests           측정할 총 요청 수 (0이면 duration 기준)
+ * @param upstreamLatency    외부 API 스텁 지연 시간 (중앙값/p99)
+ * @param upstreamErrorRate  외부 API 스텁 503 비율
+ * @param llmLatency         스크립트 모델 지연 시간 (중앙값/p99)
+ * @param llmErrorRate       스크립트 모델 503 비율
+ */
+record LoadTestOptions(
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        int requests,
+        LatencyProfile upstreamLatency,
+        double upstreamErrorRate,
+        LatencyProfile llmLatency,
+        double llmErrorRate) {
+
+    static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                Integer.parseInt(property("concurrency", "16")),
+                Duration.ofSeconds(Long.parseLong(property("warmup-seconds", "5"))),
+                Duration.ofSeconds(Long.parseLong(property("duration-seconds", "30"))),
+                Integer.parseInt(property("requests", "0")),
+                LatencyProfile.parse(property("upstream-latency", "80ms/600ms")),
+                Double.parseDouble(property("upstream-error-rate", "0.01")),
+                LatencyProfile.parse(property("llm-latency", "400ms/2000ms")),
+                Double.parseDouble(property("llm-error-rate", "0.0")));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
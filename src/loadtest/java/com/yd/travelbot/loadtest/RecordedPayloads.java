@@ -0,0 +1,58 @@
+package com.yd.travelbot.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스텁 서버가 재생할 응답 샘플 로더 (classpath의 payloads/ 디렉터리)
+ *
+ * 벤치마크와 같은 샘플(src/jmh/resources/payloads)에 부하 테스트 전용 샘플(src/loadtest/resources/payloads)을 더해 씁니다.
+ * 모두 실제 API 응답과 같은 스키마를 갖춘 샘플이므로 실제 호출 결과로 교체해도 그대로 동작합니다.
+ */
+final class RecordedPayloads {
+
+    static final String GEOAPIFY_GEOCODE_CITY = "geoapify-geocode-city.json";
+    static final String GEOAPIFY_PLACES_SEOUL = "geoapify-places-seoul-tourism.json";
+    static final String GEOAPIFY_PLACES_TOKYO_CATERING = "geoapify-places-tokyo-catering.json";
+    static final String AMADEUS_TOKEN = "amadeus-token.json";
+    static final String AMADEUS_CITIES = "amadeus-cities.json";
+    static final String AMADEUS_HOTELS_BY_CITY = "amadeus-hotels-by-city-par.json";
+    static final String AMADEUS_HOTEL_OFFERS = "amadeus-hotel-offers-par.json";
+    static final String KOREA_EXIM_AP01 = "koreaexim-ap01.json";
+    static final String CHAT_MESSAGES = "chat-messages.txt";
+
+    private static final Map<String, byte[]> CACHE = new ConcurrentHashMap<>();
+
+    private RecordedPayloads() {
+    }
+
+    static byte[] bytes(String name) {
+        return CACHE.computeIfAbsent(name, RecordedPayloads::load);
+    }
+
+    /**
+     * 빈 줄과 # 주석을 제외한 줄 목록
+     */
+    static List<String> lines(String name) {
+        return new String(bytes(name), StandardCharsets.UTF_8).lines()
+                .map(String::strip)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .toList();
+    }
+
+    private static byte[] load(String name) {
+        try (InputStream in = RecordedPayloads.class.getClassLoader().getResourceAsStream("payloads/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("응답 샘플을 찾을 수 없습니다: " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
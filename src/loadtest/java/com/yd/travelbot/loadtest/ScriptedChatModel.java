@@ -0,0 +1,213 @@
+package com.yd.travelbot.loadtest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.yd.travelbot.domain.chatbot.domain.service.IntentAnalyzer;
+import com.yd.travelbot.domain.chatbot.domain.service.MessageParser;
+import com.yd.travelbot.global.util.JsonUtil;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+
+/**
+ * Gemini 대신 쓰는 스크립트 모델
+ *
+ * 실제 모델처럼 사용자 메시지를 보고 툴 호출을 내보낸 뒤, 툴 결과가 돌아오면 요약 답변을 돌려줍니다.
+ * - 툴 목록이 있고 마지막 메시지가 사용자 메시지: 의도 키워드로 툴을 고르고 MessageParser로 인자를 채워 호출
+ * - 마지막 메시지가 툴 실행 결과: 결과 앞부분을 담은 답변
+ * - 도시명 정규화/의도 분류 프롬프트: 각 프롬프트가 요구하는 형식의 응답
+ * 모든 호출에 지연 시간 분포를 적용하고, 지정한 비율만큼 Gemini 과부하(503)와 같은 메시지의 예외를 던집니다.
+ */
+final class ScriptedChatModel implements ChatLanguageModel {
+
+    private static final String CITY_NORMALIZER_PROMPT = "You are a city name normalizer";
+    private static final String INTENT_CLASSIFIER_PROMPT = "You are an intent and entity classifier";
+    private static final int SUMMARY_LENGTH = 300;
+
+    private static final Map<IntentAnalyzer.Intent, String> TOOLS = Map.of(
+            IntentAnalyzer.Intent.ACCOMMODATION, "searchAccommodation",
+            IntentAnalyzer.Intent.FOOD, "searchFood",
+            IntentAnalyzer.Intent.PLACE, "searchPlace",
+            IntentAnalyzer.Intent.CURRENCY, "convertCurrency");
+
+    private final LatencyProfile latency;
+    private final double errorRate;
+    private final MessageParser parser = new MessageParser();
+    private final IntentAnalyzer intentAnalyzer = new IntentAnalyzer();
+    private final AtomicLong toolCallIds = new AtomicLong();
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder toolCalls = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+
+    ScriptedChatModel(LatencyProfile latency, double errorRate) {
+        this.latency = latency;
+        this.errorRate = errorRate;
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        return generate(messages, List.of());
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        return generate(messages, List.of(toolSpecification));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        calls.increment();
+        latency.sleep();
+        if (errorRate > 0.0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            injectedErrors.increment();
+            throw new IllegalStateException("503 UNAVAILABLE: The model is overloaded (injected by load test)");
+        }
+
+        AiMessage reply = reply(messages, toolSpecifications);
+        return Response.from(reply, estimateUsage(messages, reply));
+    }
+
+    private AiMessage reply(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        ChatMessage last = messages.get(messages.size() - 1);
+        if (last instanceof ToolExecutionResultMessage result) {
+            return AiMessage.from(summarize(result));
+        }
+        String userText = last instanceof UserMessage user && user.hasSingleText() ? user.singleText() : "";
+        String system = systemPrompt(messages);
+
+        if (system.startsWith(CITY_NORMALIZER_PROMPT)) {
+            // 입력을 그대로 돌려주면 CityResolver는 전처리 결과로 Geoapify를 호출
+            return AiMessage.from(userText.substring(userText.lastIndexOf(':') + 1).trim());
+        }
+        if (system.startsWith(INTENT_CLASSIFIER_PROMPT)) {
+            return AiMessage.from(classify(userText));
+        }
+        if (!toolSpecifications.isEmpty()) {
+            ToolSpecification tool = pickTool(userText, toolSpecifications);
+            if (tool != null) {
+                toolCalls.increment();
+                return AiMessage.from(ToolExecutionRequest.builder()
+                        .id("loadtest-" + toolCallIds.incrementAndGet())
+                        .name(tool.name())
+                        .arguments(arguments(userText, tool))
+                        .build());
+            }
+        }
+        return AiMessage.from("안녕하세요! 숙소, 맛집, 관광지, 환율 중 무엇을 도와드릴까요?");
+    }
+
+    /**
+     * 실제 모델처럼 토큰 사용량을 채워 토큰 집계 경로도 부하를 받도록 함 (문자 4개 ≒ 토큰 1개로 어림)
+     */
+    private static TokenUsage estimateUsage(List<ChatMessage> messages, AiMessage reply) {
+        int inputChars = 0;
+        for (ChatMessage message : messages) {
+            inputChars += message.toString().length();
+        }
+        int outputChars = reply.text() != null ? reply.text().length() : reply.toString().length();
+        return new TokenUsage(Math.max(1, inputChars / 4), Math.max(1, outputChars / 4));
+    }
+
+    String summary() {
+        return String.format("%-10s 호출 %,d건, 툴 호출 %,d건, 주입 오류 %,d건 (지연 %s, 오류율 %.1f%%)",
+                "LLM", calls.sum(), toolCalls.sum(), injectedErrors.sum(), latency, errorRate * 100);
+    }
+
+    private ToolSpecification pickTool(String userText, List<ToolSpecification> toolSpecifications) {
+        String name = TOOLS.get(intentAnalyzer.analyze(userText));
+        if (name == null && isCurrencyConversion(userText)) {
+            // "100만원을 달러로" 처럼 의도 키워드 없이 금액과 통화만 있는 문장도 실제 모델은 환율 툴을 호출
+            name = TOOLS.get(IntentAnalyzer.Intent.CURRENCY);
+        }
+        if (name == null) {
+            return null;
+        }
+        for (ToolSpecification tool : toolSpecifications) {
+            if (tool.name().equals(name)) {
+                return tool;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 툴 명세의 파라미터 이름에 맞춰 메시지에서 뽑은 값(없으면 기본값)으로 인자 JSON을 만듭니다.
+     */
+    private String arguments(String userText, ToolSpecification tool) {
+        Map<String, Object> arguments = new LinkedHashMap<>();
+        if (tool.parameters() == null) {
+            return "{}";
+        }
+        // 샘플 메시지의 날짜가 이미 지났으면 숙소 검색이 날짜 검증에서 끝나므로 앞으로의 날짜로 대체
+        List<LocalDate> dates = parser.extractDates(userText).stream()
+                .filter(date -> !date.isBefore(LocalDate.now()))
+                .toList();
+        for (String parameter : tool.parameters().properties().keySet()) {
+            Object value = switch (parameter) {
+                case "city" -> orDefault(parser.extractCity(userText), "서울");
+                case "checkIn" -> (dates.isEmpty() ? LocalDate.now().plusDays(30) : dates.get(0)).toString();
+                case "checkOut" -> (dates.size() < 2 ? LocalDate.now().plusDays(32) : dates.get(1)).toString();
+                case "guests" -> orDefault(parser.extractNumber(userText), 2);
+                case "cuisine" -> parser.extractCuisine(userText);
+                case "category" -> parser.extractCategory(userText);
+                case "amount" -> orDefault(parser.extractAmount(userText), BigDecimal.valueOf(100));
+                case "fromCurrency" -> orDefault(parser.extractCurrency(userText, "from"), "KRW");
+                case "toCurrency" -> orDefault(parser.extractCurrency(userText, "to"), "USD");
+                default -> null;
+            };
+            if (value != null) {
+                arguments.put(parameter, value);
+            }
+        }
+        return JsonUtil.toJson(arguments);
+    }
+
+    private boolean isCurrencyConversion(String userText) {
+        String from = parser.extractCurrency(userText, "from");
+        String to = parser.extractCurrency(userText, "to");
+        return parser.extractAmount(userText) != null && from != null && to != null && !from.equals(to);
+    }
+
+    private String classify(String userText) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("intent", intentAnalyzer.analyze(userText).name());
+        result.put("confidence", 0.9);
+        result.put("city", orDefault(parser.extractCity(userText), ""));
+        return JsonUtil.toJson(result);
+    }
+
+    private static String summarize(ToolExecutionResultMessage result) {
+        String text = result.text() != null ? result.text() : "";
+        String head = text.length() > SUMMARY_LENGTH ? text.substring(0, SUMMARY_LENGTH) + "..." : text;
+        return "요청하신 " + result.toolName() + " 결과를 정리했어요.\n\n" + head;
+    }
+
+    private static String systemPrompt(List<ChatMessage> messages) {
+        for (ChatMessage message : messages) {
+            if (message instanceof SystemMessage system) {
+                return system.text();
+            }
+        }
+        return "";
+    }
+
+    private static <T> T orDefault(T value, T defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+}
@@ -0,0 +1,143 @@
+package com.yd.travelbot.loadtest;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 벤치마크 진입점 (./gradlew startupBenchmark -x buildFrontend -x npmInstall)
+ *
+ * 풀어 둔 실행 jar를 별도 JVM으로 띄우고, 프로세스 시작부터 startup.path가 처음 200을 돌려줄 때까지의 시간
+ * (time-to-first-served-request)을 잽니다. 기본 설정과 fast-startup(지연 초기화 + CDS [+ AOT])을 번갈아 띄워
+ * 같은 조건에서 비교하며, 각 실행의 로그는 build/startup-benchmark 에 남깁니다.
+ *
+ * -Dstartup.runs=5              모드별 실행 횟수
+ * -Dstartup.path=/actuator/health  첫 요청 경로
+ * -Dstartup.timeout-seconds=90  한 번의 기동을 기다리는 최대 시간
+ */
+public final class StartupBenchmarkMain {
+
+    private static final long POLL_INTERVAL_MS = 10;
+
+    private StartupBenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path jar = Path.of(System.getProperty("startup.jar"));
+        Path archive = Path.of(System.getProperty("startup.archive"));
+        boolean aot = Boolean.parseBoolean(System.getProperty("startup.aot", "false"));
+        int runs = Integer.parseInt(System.getProperty("startup.runs", "5"));
+        String path = System.getProperty("startup.path", "/actuator/health");
+        long timeoutMs = TimeUnit.SECONDS.toMillis(Long.parseLong(System.getProperty("startup.timeout-seconds", "90")));
+        Path logDir = Path.of("build", "startup-benchmark");
+        Files.createDirectories(logDir);
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("default", List.of());
+        List<String> fast = new ArrayList<>();
+        if (Files.exists(archive)) {
+            fast.add("-XX:SharedArchiveFile=" + archive);
+        }
+        if (aot) {
+            fast.add("-Dspring.aot.enabled=true");
+        }
+        fast.add("-Dspring.profiles.active=fast-startup");
+        modes.put(aot ? "fast-startup+aot" : "fast-startup", fast);
+
+        System.out.printf("기동 벤치마크: %s, 모드별 %d회, 첫 요청 %s%n", jar.getFileName(), runs, path);
+        Map<String, List<Long>> results = new LinkedHashMap<>();
+        modes.keySet().forEach(mode -> results.put(mode, new ArrayList<>()));
+        // 디스크 캐시 등의 순서 효과를 줄이도록 모드를 번갈아 실행
+        for (int run = 1; run <= runs; run++) {
+            for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+                Path log = logDir.resolve(mode.getKey() + "-" + run + ".log");
+                long elapsed = launch(jar, mode.getValue(), path, timeoutMs, log);
+                results.get(mode.getKey()).add(elapsed);
+                System.out.printf("  %-18s #%d  %,6dms%n", mode.getKey(), run, elapsed);
+            }
+        }
+
+        System.out.println();
+        System.out.println("== time-to-first-served-request ==");
+        results.forEach((mode, samples) -> {
+            List<Long> sorted = samples.stream().sorted().toList();
+            System.out.printf("%-18s 최소 %,6dms  중앙값 %,6dms  최대 %,6dms%n",
+                    mode, sorted.get(0), sorted.get(sorted.size() / 2), sorted.get(sorted.size() - 1));
+        });
+    }
+
+    private static long launch(Path jar, List<String> jvmArgs, String path, long timeoutMs, Path log)
+            throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar.getFileName().toString());
+        command.add("--server.port=" + port);
+        // 외부 호출 없이 기동만 재므로 Gemini 키는 형식만 채우고 외부 API 점검과 warm-up은 끔
+        command.add("--langchain.gemini.api-key=startup-benchmark");
+        command.add("--health-check.enabled=false");
+        command.add("--warmup.enabled=false");
+
+        URI uri = URI.create("http://localhost:" + port + path);
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(jar.toAbsolutePath().getParent().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("애플리케이션이 기동 중 종료됨 (로그: " + log + ")");
+                }
+                if (served(uri)) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }
+                Thread.sleep(POLL_INTERVAL_MS);
+            }
+            throw new IllegalStateException("기동 시간 초과 " + timeoutMs + "ms (로그: " + log + ")");
+        } finally {
+            stop(process);
+        }
+    }
+
+    private static boolean served(URI uri) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection();
+            connection.setConnectTimeout(200);
+            connection.setReadTimeout(5000);
+            try {
+                return connection.getResponseCode() == 200;
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException e) {
+            // 아직 포트가 열리지 않음
+            return false;
+        }
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(10, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.yd.travelbot.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+/**
+ * 외부 API 하나를 흉내 내는 로컬 스텁 서버
+ *
+ * 경로별로 등록한 응답 샘플을 재생하며, 모든 응답에 지연 시간 분포를 적용하고 지정한 비율만큼 503을 돌려줍니다.
+ */
+final class UpstreamStub extends Dispatcher implements AutoCloseable {
+
+    private static final String INJECTED_ERROR = "{\"errors\":[{\"status\":503,\"title\":\"SERVICE UNAVAILABLE\",\"detail\":\"injected by load test\"}]}";
+
+    private final String name;
+    private final LatencyProfile latency;
+    private final double errorRate;
+    private final List<Route> routes = new ArrayList<>();
+    private final MockWebServer server = new MockWebServer();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private final LongAdder unmatched = new LongAdder();
+
+    UpstreamStub(String name, LatencyProfile latency, double errorRate) {
+        if (errorRate < 0.0 || errorRate > 1.0) {
+            throw new IllegalArgumentException("오류 비율은 0.0 ~ 1.0 사이여야 합니다: " + errorRate);
+        }
+        this.name = name;
+        this.latency = latency;
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * method + 경로 접두사가 일치하는 요청에 selector가 고른 응답 샘플을 돌려줍니다.
+     */
+    UpstreamStub route(String method, String pathPrefix, Function<RecordedRequest, String> selector) {
+        routes.add(new Route(method, pathPrefix, selector));
+        return this;
+    }
+
+    UpstreamStub route(String method, String pathPrefix, String payload) {
+        return route(method, pathPrefix, request -> payload);
+    }
+
+    UpstreamStub start() throws IOException {
+        server.setDispatcher(this);
+        server.start();
+        return this;
+    }
+
+    /**
+     * 스텁 서버 기본 주소 (끝의 / 제외)
+     */
+    String baseUrl() {
+        String url = server.url("/").toString();
+        return url.substring(0, url.length() - 1);
+    }
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) {
+        requests.increment();
+        // MockWebServer는 받은 요청을 모두 큐에 쌓아 두므로, 장시간 부하에서 메모리가 늘지 않도록 바로 비움
+        try {
+            server.takeRequest(0, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Route route = find(request);
+        if (route == null) {
+            unmatched.increment();
+            return new MockResponse().setResponseCode(404);
+        }
+
+        long delayMs = latency.sampleMillis();
+        MockResponse response;
+        if (errorRate > 0.0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            injectedErrors.increment();
+            response = json(503, INJECTED_ERROR.getBytes(StandardCharsets.UTF_8));
+        } else {
+            response = json(200, RecordedPayloads.bytes(route.selector().apply(request)));
+        }
+        return response.setHeadersDelay(delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    String summary() {
+        return String.format("%-10s 요청 %,d건, 주입 오류 %,d건, 미등록 경로 %,d건 (지연 %s, 오류율 %.1f%%)",
+                name, requests.sum(), injectedErrors.sum(), unmatched.sum(), latency, errorRate * 100);
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    private Route find(RecordedRequest request) {
+        String path = request.getRequestUrl() != null ? request.getRequestUrl().encodedPath() : request.getPath();
+        for (Route route : routes) {
+            if (route.method().equals(request.getMethod()) && path != null && path.startsWith(route.pathPrefix())) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static MockResponse json(int status, byte[] body) {
+        return new MockResponse()
+                .setResponseCode(status)
+                .setHeader("Content-Type", "application/json; charset=utf-8")
+                .setBody(new Buffer().write(body));
+    }
+
+    private record Route(String method, String pathPrefix, Function<RecordedRequest, String> selector) {
+    }
+}
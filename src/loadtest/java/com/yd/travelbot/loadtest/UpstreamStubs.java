@@ -0,0 +1,82 @@
+package com.yd.travelbot.loadtest;
+
+import static com.yd.travelbot.loadtest.RecordedPayloads.AMADEUS_CITIES;
+import static com.yd.travelbot.loadtest.RecordedPayloads.AMADEUS_HOTELS_BY_CITY;
+import static com.yd.travelbot.loadtest.RecordedPayloads.AMADEUS_HOTEL_OFFERS;
+import static com.yd.travelbot.loadtest.RecordedPayloads.AMADEUS_TOKEN;
+import static com.yd.travelbot.loadtest.RecordedPayloads.GEOAPIFY_GEOCODE_CITY;
+import static com.yd.travelbot.loadtest.RecordedPayloads.GEOAPIFY_PLACES_SEOUL;
+import static com.yd.travelbot.loadtest.RecordedPayloads.GEOAPIFY_PLACES_TOKYO_CATERING;
+import static com.yd.travelbot.loadtest.RecordedPayloads.KOREA_EXIM_AP01;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Amadeus / Geoapify / 한국수출입은행 API 스텁 묶음
+ *
+ * 각 API를 별도 포트의 MockWebServer로 띄우고, 애플리케이션이 그 주소를 보도록 base-url 속성을 제공합니다.
+ */
+final class UpstreamStubs implements AutoCloseable {
+
+    private final UpstreamStub amadeus;
+    private final UpstreamStub geoapify;
+    private final UpstreamStub koreaExim;
+
+    private UpstreamStubs(UpstreamStub amadeus, UpstreamStub geoapify, UpstreamStub koreaExim) {
+        this.amadeus = amadeus;
+        this.geoapify = geoapify;
+        this.koreaExim = koreaExim;
+    }
+
+    static UpstreamStubs start(LatencyProfile latency, double errorRate) throws IOException {
+        UpstreamStub amadeus = new UpstreamStub("Amadeus", latency, errorRate)
+                .route("POST", "/v1/security/oauth2/token", AMADEUS_TOKEN)
+                .route("GET", "/v1/reference-data/locations/cities", AMADEUS_CITIES)
+                .route("GET", "/v1/reference-data/locations/hotels/by-city", AMADEUS_HOTELS_BY_CITY)
+                .route("GET", "/v3/shopping/hotel-offers", AMADEUS_HOTEL_OFFERS)
+                .start();
+        UpstreamStub geoapify = new UpstreamStub("Geoapify", latency, errorRate)
+                .route("GET", "/v1/geocode/search", GEOAPIFY_GEOCODE_CITY)
+                // 음식점 검색(catering 카테고리)과 관광지 검색을 구분해 재생
+                .route("GET", "/v2/places", request -> {
+                    String categories = request.getRequestUrl() != null
+                            ? request.getRequestUrl().queryParameter("categories") : null;
+                    return categories != null && categories.contains("catering")
+                            ? GEOAPIFY_PLACES_TOKYO_CATERING : GEOAPIFY_PLACES_SEOUL;
+                })
+                .start();
+        UpstreamStub koreaExim = new UpstreamStub("KoreaExim", latency, errorRate)
+                .route("GET", "/site/program/financial/exchangeJSON", KOREA_EXIM_AP01)
+                .start();
+        return new UpstreamStubs(amadeus, geoapify, koreaExim);
+    }
+
+    /**
+     * 애플리케이션이 스텁을 호출하도록 덮어쓸 속성
+     */
+    Map<String, Object> applicationProperties() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("amadeus.base-url", amadeus.baseUrl());
+        properties.put("amadeus.api-key", "loadtest");
+        properties.put("amadeus.api-secret", "loadtest");
+        properties.put("geoapify.base-url", geoapify.baseUrl());
+        properties.put("geoapify.api-key", "loadtest");
+        properties.put("exchange-rates.base-url", koreaExim.baseUrl());
+        properties.put("exchange-rates.api-key", "loadtest");
+        return properties;
+    }
+
+    List<String> summaries() {
+        return List.of(amadeus.summary(), geoapify.summary(), koreaExim.summary());
+    }
+
+    @Override
+    public void close() throws IOException {
+        amadeus.close();
+        geoapify.close();
+        koreaExim.close();
+    }
+}
@@ -1,5 +1,6 @@
 package com.yd.travelbot.domain.accommodation.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.yd.travelbot.domain.accommodation.domain.entity.Accommodation;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Getter
@@ -27,6 +29,11 @@ public class AccommodationResponse {
     private LocalDate checkIn;
     private LocalDate checkOut;
     private Integer guests;
+    private Double latitude;
+    private Double longitude;
+    // 외부 API 장애로 마지막 정상 조회 결과를 대신 돌려줄 때 그 결과를 받은 시각
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Instant staleAsOf;
 
     public static AccommodationResponse from(Accommodation accommodation) {
         return AccommodationResponse.builder()
@@ -43,6 +50,9 @@ public class AccommodationResponse {
                 .checkIn(accommodation.getCheckIn())
                 .checkOut(accommodation.getCheckOut())
                 .guests(accommodation.getGuests())
+                .latitude(accommodation.getLatitude())
+                .longitude(accommodation.getLongitude())
+                .staleAsOf(accommodation.getStaleAsOf())
                 .build();
     }
 }
@@ -5,11 +5,16 @@ import com.yd.travelbot.domain.accommodation.application.dto.AccommodationSearch
 import com.yd.travelbot.domain.accommodation.domain.entity.Accommodation;
 import com.yd.travelbot.domain.accommodation.domain.repository.AccommodationRepository;
 import com.yd.travelbot.domain.accommodation.domain.service.AccommodationDomainService;
+import com.yd.travelbot.global.deadline.Cancellation;
+import com.yd.travelbot.global.ranking.SearchRanking;
+import com.yd.travelbot.global.resolver.CityLocation;
+import com.yd.travelbot.global.resolver.GeoapifyCityResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -17,8 +22,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SearchAccommodationUseCase {
 
+    // 숙소는 분류가 없으므로 카테고리 일치 점수 없이 거리/평점/가격만 사용
+    private static final SearchRanking.Fields<Accommodation> RANKING_FIELDS = new SearchRanking.Fields<>(
+            Accommodation::getLatitude, Accommodation::getLongitude, Accommodation::getRating,
+            Accommodation::getPrice, null, null);
+
     private final AccommodationRepository accommodationRepository;
     private final AccommodationDomainService domainService;
+    private final SearchRanking searchRanking;
+    private final GeoapifyCityResolver cityResolver;
 
     public List<AccommodationResponse> execute(AccommodationSearchRequest request) {
         if (!domainService.isValidDateRange(request.getCheckIn(), request.getCheckOut())) {
@@ -32,6 +44,29 @@ public class SearchAccommodationUseCase {
                 request.getGuests() != null ? request.getGuests() : 1
         );
 
+        return toResponses(accommodations, request);
+    }
+
+    /**
+     * 외부 API 응답을 기다리는 동안 스레드를 잡아 두지 않는 버전 (시간 제한은 호출한 쪽에서 적용)
+     * 반환한 future를 취소하면 진행 중인 외부 호출도 취소합니다. (Cancellation)
+     * 날짜 범위가 유효하지 않으면 future를 만들기 전에 바로 예외를 던집니다.
+     */
+    public CompletableFuture<List<AccommodationResponse>> executeAsync(AccommodationSearchRequest request) {
+        if (!domainService.isValidDateRange(request.getCheckIn(), request.getCheckOut())) {
+            throw new IllegalArgumentException("유효하지 않은 날짜 범위입니다.");
+        }
+
+        return Cancellation.cancellable(() -> accommodationRepository.searchAsync(
+                request.getCity(),
+                request.getCheckIn(),
+                request.getCheckOut(),
+                request.getGuests() != null ? request.getGuests() : 1
+        ).thenApply(found -> toResponses(found, request)));
+    }
+
+    private List<AccommodationResponse> toResponses(List<Accommodation> accommodations,
+                                                    AccommodationSearchRequest request) {
         if (request.getMinPrice() != null || request.getMaxPrice() != null) {
             accommodations = domainService.filterByPriceRange(
                     accommodations,
@@ -44,6 +79,11 @@ public class SearchAccommodationUseCase {
             accommodations = domainService.filterByRating(accommodations, request.getMinRating());
         }
 
+        // 저장소가 이미 해석해 둔 도시 좌표를 거리 기준으로 사용 (없으면 후보 좌표의 중앙값)
+        CityLocation location = cityResolver.findLocation(request.getCity(), null);
+        accommodations = searchRanking.top(accommodations, RANKING_FIELDS,
+                location != null ? location.latitude() : null, location != null ? location.longitude() : null, null);
+
         return accommodations.stream()
                 .map(AccommodationResponse::from)
                 .collect(Collectors.toList());
@@ -28,5 +28,7 @@ public class Accommodation extends BaseEntity {
     private LocalDate checkIn;
     private LocalDate checkOut;
     private Integer guests;
+    private Double latitude;
+    private Double longitude;
 }
 
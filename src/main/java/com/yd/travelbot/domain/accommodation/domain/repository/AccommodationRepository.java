@@ -4,9 +4,18 @@ import com.yd.travelbot.domain.accommodation.domain.entity.Accommodation;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * 숙소 검색 (비동기 버전이 기본이며, 동기 버전은 결과를 기다려 반환)
+ * Amadeus가 실패하면 Geoapify 검색 결과로, 둘 다 실패하거나 늦으면 같은 조건의 마지막 정상 결과(staleAsOf에 받은 시각)로,
+ * 그것도 없으면 빈 목록으로 완료됩니다.
+ */
 public interface AccommodationRepository {
-    List<Accommodation> search(String city, LocalDate checkIn, LocalDate checkOut, Integer guests);
+    CompletableFuture<List<Accommodation>> searchAsync(String city, LocalDate checkIn, LocalDate checkOut, Integer guests);
     Accommodation findById(String id);
-}
 
+    default List<Accommodation> search(String city, LocalDate checkIn, LocalDate checkOut, Integer guests) {
+        return searchAsync(city, checkIn, checkOut, guests).join();
+    }
+}
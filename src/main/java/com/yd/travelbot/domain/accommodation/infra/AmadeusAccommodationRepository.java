@@ -1,100 +1,263 @@
 package com.yd.travelbot.domain.accommodation.infra;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.yd.travelbot.domain.accommodation.domain.entity.Accommodation;
 import com.yd.travelbot.domain.accommodation.domain.repository.AccommodationRepository;
+import com.yd.travelbot.global.cache.LastKnownGood;
+import com.yd.travelbot.global.cache.SingleFlight;
+import com.yd.travelbot.global.cache.TtlCache;
 import com.yd.travelbot.global.config.AmadeusConfig;
 import com.yd.travelbot.global.config.GeoapifyConfig;
+import com.yd.travelbot.global.config.LastKnownGoodConfig;
+import com.yd.travelbot.global.config.LookupCacheConfig;
+import com.yd.travelbot.global.external.AsyncCalls;
+import com.yd.travelbot.global.external.amadeus.AmadeusError;
+import com.yd.travelbot.global.external.amadeus.AmadeusHotelOffer;
+import com.yd.travelbot.global.external.amadeus.AmadeusPage;
+import com.yd.travelbot.global.external.amadeus.AmadeusResponseReader;
+import com.yd.travelbot.global.external.geoapify.GeoapifyFeature;
+import com.yd.travelbot.global.external.geoapify.GeoapifyFeatureReader;
+import com.yd.travelbot.global.logging.LogRedactor;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+import com.yd.travelbot.global.resolver.CityLocation;
 import com.yd.travelbot.global.resolver.GeoapifyCityResolver;
-import com.yd.travelbot.global.util.JsonUtil;
-import lombok.RequiredArgsConstructor;
+import com.yd.travelbot.global.resolver.SessionLocationContext;
+import com.yd.travelbot.global.warmup.Warmable;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.*;
 import org.springframework.stereotype.Repository;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Repository
-@RequiredArgsConstructor
-public class AmadeusAccommodationRepository implements AccommodationRepository {
+public class AmadeusAccommodationRepository implements AccommodationRepository, Warmable {
 
     private final AmadeusConfig amadeusConfig;
     private final GeoapifyConfig geoapifyConfig;
     private final GeoapifyCityResolver cityResolver;
-    private final OkHttpClient httpClient = new OkHttpClient();
-    private static final String AMADEUS_API_BASE_V1 = "https://test.api.amadeus.com/v1";
-    private static final String AMADEUS_API_BASE_V3 = "https://test.api.amadeus.com/v3";
-    private static final String GEOAPIFY_API_BASE = "https://api.geoapify.com/v2/places";
+    private final SessionLocationContext sessionLocations;
+    private final OkHttpClient httpClient;
+    // 토큰/도시 코드/도시별 호텔 ID만 보관 (가격과 재고가 담긴 오퍼는 매번 조회)
+    private final TtlCache<String, String> tokenCache;
+    private final TtlCache<String, String> cityCodeCache;
+    private final TtlCache<String, List<String>> hotelIdCache;
+    private final SingleFlight<String, List<Accommodation>> offerSearches;
+    // 검색 조건별 마지막 정상 결과 (두 API가 모두 실패하거나 늦을 때 대신 반환)
+    private final LastKnownGood<List<Accommodation>> lastKnownGood;
+    // 토큰 유효 시간은 1799초이므로 만료 전에 새로 발급
+    static final Duration TOKEN_TTL = Duration.ofMinutes(25);
+    private static final String TOKEN_KEY = "client-credentials";
+    // by-city 호텔 목록은 수백 건이 올 수 있으므로 오퍼 검색 재시도에 충분한 만큼만 읽음
+    static final int HOTEL_ID_LIMIT = 50;
+    static final int HOTEL_OFFER_LIMIT = 5;
+    private static final int MAX_OFFER_ATTEMPTS = 3;
+    // Geoapify 대체 검색은 후보를 넉넉히 받아 SearchRanking으로 상위 ranking.top-k개만 모델에 전달
+    private static final int GEOAPIFY_LIMIT = 30;
+
+    public AmadeusAccommodationRepository(AmadeusConfig amadeusConfig, GeoapifyConfig geoapifyConfig,
+                                          GeoapifyCityResolver cityResolver, SessionLocationContext sessionLocations,
+                                          OkHttpClient httpClient, LookupCacheConfig lookupCacheConfig,
+                                          LastKnownGoodConfig lastKnownGoodConfig, TravelMetrics travelMetrics) {
+        this.amadeusConfig = amadeusConfig;
+        this.geoapifyConfig = geoapifyConfig;
+        this.cityResolver = cityResolver;
+        this.sessionLocations = sessionLocations;
+        this.httpClient = httpClient;
+        this.tokenCache = new TtlCache<>("amadeus-token", TOKEN_TTL, 1, travelMetrics);
+        this.cityCodeCache = new TtlCache<>("amadeus-city", lookupCacheConfig.getCityTtl(),
+                lookupCacheConfig.getMaxEntries(), travelMetrics);
+        this.hotelIdCache = new TtlCache<>("hotel-list", lookupCacheConfig.getHotelListTtl(),
+                lookupCacheConfig.getMaxEntries(), travelMetrics);
+        this.offerSearches = new SingleFlight<>("hotel-offers", travelMetrics);
+        this.lastKnownGood = new LastKnownGood<>("accommodation", new TypeReference<>() {}, lastKnownGoodConfig,
+                travelMetrics);
+    }
 
     @Override
-    public List<Accommodation> search(String city, LocalDate checkIn, LocalDate checkOut, Integer guests) {
+    public CompletableFuture<List<Accommodation>> searchAsync(String city, LocalDate checkIn, LocalDate checkOut,
+                                                              Integer guests) {
+        // 오퍼는 보관하지 않지만, 같은 조건의 검색이 진행 중이면(일괄 처리의 같은 질문 등) 그 결과를 함께 사용
+        // 두 API가 모두 실패하거나 늦으면 같은 조건의 마지막 정상 결과를 받은 시각과 함께 반환
+        String key = (city != null ? city.trim() : "") + "|" + checkIn + "|" + checkOut + "|" + guests;
+        return offerSearches.runAsync(key, () -> lastKnownGood.fetch(key,
+                        () -> searchWithFallback(city, checkIn, checkOut, guests).thenApply(List::copyOf))
+                .thenApply(AmadeusAccommodationRepository::served)
+                .exceptionally(e -> {
+                    log.error("숙소 검색 실패: {}", AsyncCalls.unwrap(e).getMessage());
+                    return List.of();
+                }));
+    }
+
+    private static List<Accommodation> served(LastKnownGood.Served<List<Accommodation>> served) {
+        if (served.value() == null) {
+            return List.of();
+        }
+        if (served.isStale()) {
+            served.value().forEach(accommodation -> accommodation.setStaleAsOf(served.staleAsOf()));
+        }
+        return served.value();
+    }
+
+    private CompletableFuture<List<Accommodation>> searchWithFallback(String city, LocalDate checkIn,
+                                                                      LocalDate checkOut, Integer guests) {
         // 1차: Amadeus Hotel Search API 시도
-        try {
-            List<Accommodation> accommodations = searchFromAmadeus(city, checkIn, checkOut, guests);
-            if (!accommodations.isEmpty()) {
-                // 5개 미만이면 Geoapify로 보충
-                if (accommodations.size() < 5) {
-                    log.warn("Amadeus 결과가 적음 ({}개), Geoapify로 보충 시도", accommodations.size());
-                    try {
-                        List<Accommodation> more = searchFromGeoapify(city, checkIn, checkOut, guests);
-                        // 중복 제거 후 합치기
-                        java.util.Set<String> seen = new java.util.HashSet<>();
-                        List<Accommodation> merged = new java.util.ArrayList<>();
-                        for (Accommodation a : accommodations) {
-                            if (seen.add(a.getId())) merged.add(a);
-                        }
-                        for (Accommodation a : more) {
-                            if (seen.add(a.getId())) merged.add(a);
-                        }
-                        // 최소 5개 보장
-                        if (merged.size() < 5) {
-                            merged.addAll(getDefaultAccommodations(city, checkIn, checkOut, guests)
-                                    .subList(0, Math.min(5 - merged.size(), 5)));
-                        }
-                        return merged;
-                    } catch (Exception ge) {
-                        log.warn("Geoapify 보충 중 오류: {}", ge.getMessage());
-                        // 기본 데이터로 최소 5개 보장
-                        if (accommodations.size() < 5) {
-                            accommodations.addAll(getDefaultAccommodations(city, checkIn, checkOut, guests)
-                                    .subList(0, Math.min(5 - accommodations.size(), 5)));
-                        }
-                        return accommodations;
+        return AsyncCalls.defer(() -> searchFromAmadeus(city, checkIn, checkOut, guests)).handle((accommodations, error) -> {
+            if (error != null) {
+                log.warn("Amadeus API 호출 실패: {}, Geoapify로 대체 시도", AsyncCalls.unwrap(error).getMessage());
+                return AsyncCalls.defer(() -> searchFromGeoapify(city, checkIn, checkOut, guests));
+            }
+            if (accommodations.isEmpty()) {
+                return AsyncCalls.defer(() -> searchFromGeoapify(city, checkIn, checkOut, guests));
+            }
+            if (accommodations.size() >= 5) {
+                return CompletableFuture.completedFuture(accommodations);
+            }
+            // 5개 미만이면 Geoapify로 보충
+            log.warn("Amadeus 결과가 적음 ({}개), Geoapify로 보충 시도", accommodations.size());
+            return AsyncCalls.defer(() -> searchFromGeoapify(city, checkIn, checkOut, guests)).handle((more, ge) -> {
+                if (ge != null) {
+                    log.warn("Geoapify 보충 중 오류: {}", AsyncCalls.unwrap(ge).getMessage());
+                    return accommodations;
+                }
+                // 중복 제거 후 합치기
+                java.util.Set<String> seen = new java.util.HashSet<>();
+                List<Accommodation> merged = new java.util.ArrayList<>();
+                for (Accommodation a : accommodations) {
+                    if (seen.add(a.getId())) merged.add(a);
+                }
+                for (Accommodation a : more) {
+                    if (seen.add(a.getId())) merged.add(a);
+                }
+                return merged;
+            });
+        }).thenCompose(next -> next);
+    }
+
+    private CompletableFuture<List<Accommodation>> searchFromAmadeus(String city, LocalDate checkIn,
+                                                                     LocalDate checkOut, Integer guests) {
+        return getAccessToken().thenCompose(accessToken -> getHotelIds(city, accessToken)
+                // 호텔 검색 (최대 5개) - v3 API 사용, INVALID PROPERTY CODE 발생 시 해당 hotelId 제거 후 재시도
+                .thenCompose(hotelIds -> searchOffers(new ArrayList<>(hotelIds), 1, accessToken,
+                        checkIn, checkOut, guests)));
+    }
+
+    /**
+     * 후보 hotelId 앞쪽 5개로 오퍼를 검색합니다. 잘못된 hotelId가 섞여 있으면 제거하고 최대 3번까지 다시 검색합니다.
+     */
+    private CompletableFuture<List<Accommodation>> searchOffers(List<String> candidateIds, int attempt,
+                                                                String accessToken, LocalDate checkIn,
+                                                                LocalDate checkOut, Integer guests) {
+        if (candidateIds.isEmpty() || attempt > MAX_OFFER_ATTEMPTS) {
+            return CompletableFuture.failedFuture(new IOException("유효한 호텔 ID로 검색할 수 없습니다"));
+        }
+        String checkInStr = checkIn.format(DateTimeFormatter.ISO_DATE);
+        String checkOutStr = checkOut.format(DateTimeFormatter.ISO_DATE);
+        String hotelIdsParam = String.join(",", candidateIds.subList(0, Math.min(candidateIds.size(), 5)));
+        String searchUrl = String.format("%s/shopping/hotel-offers?hotelIds=%s&checkInDate=%s&checkOutDate=%s&adults=%d",
+                amadeusConfig.v3Url(), hotelIdsParam, checkInStr, checkOutStr, guests);
+
+        Request searchRequest = new Request.Builder()
+                .url(searchUrl)
+                .addHeader("Authorization", "Bearer " + accessToken)
+                .get()
+                .build();
+
+        return AsyncCalls.call(httpClient, searchRequest,
+                        response -> readOffers(response, candidateIds, checkIn, checkOut, guests))
+                .thenCompose(accommodations -> accommodations != null
+                        ? CompletableFuture.completedFuture(accommodations)
+                        : searchOffers(candidateIds, attempt + 1, accessToken, checkIn, checkOut, guests));
+    }
+
+    /**
+     * 오퍼 검색 응답을 읽습니다. 잘못된 hotelId를 후보에서 제거해 다시 검색해야 하면 null을 반환합니다.
+     */
+    private List<Accommodation> readOffers(Response response, List<String> candidateIds, LocalDate checkIn,
+                                           LocalDate checkOut, Integer guests) throws IOException {
+        if (!response.isSuccessful()) {
+            // 오류 본문은 작으므로 문자열로 읽어 로그와 INVALID PROPERTY CODE 판별에 사용
+            String body = response.body() != null ? response.body().string() : "";
+            log.error("Amadeus Hotel Search API 호출 실패 (status: {}): {}", response.code(), LogRedactor.snippet(body));
+            // 400 INVALID PROPERTY CODE 처리: 오류 본문에서 잘못된 hotelIds 추출 후 제거하고 재시도
+            if (response.code() == 400 && body.contains("INVALID PROPERTY CODE")) {
+                try {
+                    AmadeusError error = AmadeusResponseReader.readError(
+                            new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+                    if (error != null && removeInvalidHotelIds(candidateIds, error)) {
+                        // 다음 시도로 재검색
+                        return null;
                     }
+                } catch (Exception parseEx) {
+                    log.warn("Amadeus 오류 파싱 실패: {}", parseEx.getMessage());
                 }
-                return accommodations;
             }
-        } catch (Exception e) {
-            log.warn("Amadeus API 호출 실패: {}, Geoapify로 대체 시도", e.getMessage());
+            throw new IOException("호텔 검색 실패: " + response.code());
         }
 
-        // 2차: Geoapify로 fallback
-        try {
-            return searchFromGeoapify(city, checkIn, checkOut, guests);
-        } catch (Exception e) {
-            log.error("Geoapify API 호출 실패: {}", e.getMessage());
-            return getDefaultAccommodations(city, checkIn, checkOut, guests);
+        AmadeusPage<AmadeusHotelOffer> page = AmadeusResponseReader.readHotelOffers(
+                response.body().byteStream(), HOTEL_OFFER_LIMIT);
+        if (page.hasError()) {
+            AmadeusError error = page.error();
+            log.error("Amadeus API 에러 (code: {}): {}", error.code(), error.detail());
+            // INVALID PROPERTY CODE인 경우 제거 후 재시도
+            if (("1257".equals(error.code()) || error.detail().contains("INVALID PROPERTY CODE"))
+                    && removeInvalidHotelIds(candidateIds, error)) {
+                return null; // 재시도
+            }
+            throw new IOException("Amadeus API 에러: " + error.detail());
         }
+
+        // 성공적으로 결과 파싱
+        return parseAmadeusHotelOffers(page.data(), checkIn, checkOut, guests);
     }
 
-    private List<Accommodation> searchFromAmadeus(String city, LocalDate checkIn, LocalDate checkOut, Integer guests) throws IOException {
-        String accessToken = getAccessToken();
-        
+    @Override
+    public String intent() {
+        return "accommodation";
+    }
+
+    /**
+     * 토큰, 도시 코드, 도시별 호텔 ID 목록을 미리 채움 (날짜/인원에 따라 달라지는 오퍼는 조회하지 않음)
+     */
+    @Override
+    public void warmUp(String city) {
+        getAccessToken().thenCompose(accessToken -> getHotelIds(city, accessToken)).join();
+    }
+
+    /**
+     * 도시 코드를 찾아 도시별 호텔 ID 목록을 가져옵니다. (도시 코드나 호텔 ID를 찾지 못하면 IOException으로 실패)
+     */
+    private CompletableFuture<List<String>> getHotelIds(String city, String accessToken) {
         // 먼저 도시 코드를 찾기
-        String cityCode = getCityCode(city, accessToken);
-        if (cityCode == null) {
-            throw new IOException("도시 코드를 찾을 수 없습니다: " + city);
-        }
+        return getCityCode(city, accessToken).thenCompose(cityCode -> {
+            if (cityCode == null) {
+                return CompletableFuture.failedFuture(new IOException("도시 코드를 찾을 수 없습니다: " + city));
+            }
+            // 호텔 ID 목록 가져오기 (도시 코드별로 보관)
+            return hotelIdCache.getAsync(cityCode, () -> fetchHotelIds(cityCode, accessToken))
+                    .thenCompose(hotelIds -> hotelIds != null
+                            ? CompletableFuture.completedFuture(hotelIds)
+                            : CompletableFuture.failedFuture(new IOException("호텔 ID를 찾을 수 없습니다: " + cityCode)));
+        });
+    }
 
-        // 호텔 ID 목록 가져오기
+    /**
+     * 도시의 호텔 ID 목록 (호출이 실패하거나 결과가 없으면 null)
+     */
+    private CompletableFuture<List<String>> fetchHotelIds(String cityCode, String accessToken) {
         String hotelIdsUrl = String.format("%s/reference-data/locations/hotels/by-city?cityCode=%s",
-                AMADEUS_API_BASE_V1, cityCode);
+                amadeusConfig.v1Url(), cityCode);
         
         Request hotelIdsRequest = new Request.Builder()
                 .url(hotelIdsUrl)
@@ -102,129 +265,57 @@ public class AmadeusAccommodationRepository implements AccommodationRepository {
                 .get()
                 .build();
 
-        List<String> hotelIds = new ArrayList<>();
-        try (Response response = httpClient.newCall(hotelIdsRequest).execute()) {
-            if (response.isSuccessful()) {
-                String responseBody = response.body().string();
-                JsonNode jsonNode = JsonUtil.fromJson(responseBody, JsonNode.class);
-                
-                // Amadeus API 에러 응답 체크
-                if (jsonNode.has("errors")) {
-                    JsonNode errors = jsonNode.get("errors");
-                    if (errors.isArray() && errors.size() > 0) {
-                        JsonNode firstError = errors.get(0);
-                        String errorCode = firstError.has("code") ? firstError.get("code").asText() : "UNKNOWN";
-                        String errorDetail = firstError.has("detail") ? firstError.get("detail").asText() : "Unknown error";
-                        log.warn("Amadeus Hotel List API 에러 (code: {}): {}", errorCode, errorDetail);
-                        throw new IOException("호텔 목록 조회 실패: " + errorDetail);
-                    }
-                }
-                
-                // Amadeus.md 문서에 따른 응답 구조: { "data": [...], "meta": {...} }
-                if (jsonNode.has("data") && jsonNode.get("data").isArray()) {
-                    for (JsonNode hotel : jsonNode.get("data")) {
-                        if (hotel.has("hotelId")) {
-                            hotelIds.add(hotel.get("hotelId").asText());
-                        }
-                    }
-                }
-            } else {
+        return AsyncCalls.call(httpClient, hotelIdsRequest, response -> {
+            if (!response.isSuccessful()) {
                 String errorBody = response.body() != null ? response.body().string() : "";
-                log.warn("Amadeus Hotel List API 호출 실패 (status: {}): {}", response.code(), errorBody);
+                log.warn("Amadeus Hotel List API 호출 실패 (status: {}): {}", response.code(), LogRedactor.snippet(errorBody));
+                return null;
             }
-        }
-
-        if (hotelIds.isEmpty()) {
-            throw new IOException("호텔 ID를 찾을 수 없습니다");
-        }
-
-        // 호텔 검색 (최대 5개) - v3 API 사용, INVALID PROPERTY CODE 발생 시 해당 hotelId 제거 후 재시도
-        String checkInStr = checkIn.format(DateTimeFormatter.ISO_DATE);
-        String checkOutStr = checkOut.format(DateTimeFormatter.ISO_DATE);
-
-        java.util.List<String> candidateIds = new java.util.ArrayList<>(hotelIds);
-        int attempts = 0;
-        while (!candidateIds.isEmpty() && attempts < 3) {
-            attempts++;
-            String hotelIdsParam = String.join(",", candidateIds.subList(0, Math.min(candidateIds.size(), 5)));
-            String searchUrl = String.format("%s/shopping/hotel-offers?hotelIds=%s&checkInDate=%s&checkOutDate=%s&adults=%d",
-                    AMADEUS_API_BASE_V3, hotelIdsParam, checkInStr, checkOutStr, guests);
-
-            Request searchRequest = new Request.Builder()
-                    .url(searchUrl)
-                    .addHeader("Authorization", "Bearer " + accessToken)
-                    .get()
-                    .build();
-
-            try (Response response = httpClient.newCall(searchRequest).execute()) {
-                String body = response.body() != null ? response.body().string() : "";
-                if (!response.isSuccessful()) {
-                    log.error("Amadeus Hotel Search API 호출 실패 (status: {}): {}", response.code(), body);
-                    // 400 INVALID PROPERTY CODE 처리: 오류 본문에서 잘못된 hotelIds 추출 후 제거하고 재시도
-                    if (response.code() == 400 && body.contains("INVALID PROPERTY CODE")) {
-                        try {
-                            JsonNode err = JsonUtil.fromJson(body, JsonNode.class);
-                            if (err.has("errors") && err.get("errors").isArray() && err.get("errors").size() > 0) {
-                                JsonNode first = err.get("errors").get(0);
-                                String param = first.has("source") && first.get("source").has("parameter")
-                                        ? first.get("source").get("parameter").asText()
-                                        : "";
-                                if (param.startsWith("hotelIds=")) {
-                                    String invalidList = param.substring("hotelIds=".length());
-                                    for (String invalid : invalidList.split(",")) {
-                                        candidateIds.removeIf(id -> id.equalsIgnoreCase(invalid.trim()));
-                                    }
-                                    // 다음 루프로 재시도
-                                    continue;
-                                }
-                            }
-                        } catch (Exception parseEx) {
-                            log.warn("Amadeus 오류 파싱 실패: {}", parseEx.getMessage());
-                        }
-                    }
-                    throw new IOException("호텔 검색 실패: " + response.code());
-                }
+            // Amadeus.md 문서에 따른 응답 구조: { "data": [...], "meta": {...} }
+            AmadeusPage<String> page = AmadeusResponseReader.readHotelIds(response.body().byteStream(), HOTEL_ID_LIMIT);
 
-                JsonNode jsonNode = JsonUtil.fromJson(body, JsonNode.class);
-                if (jsonNode.has("errors") && jsonNode.get("errors").isArray() && jsonNode.get("errors").size() > 0) {
-                    JsonNode firstError = jsonNode.get("errors").get(0);
-                    String errorCode = firstError.has("code") ? firstError.get("code").asText() : "UNKNOWN";
-                    String errorDetail = firstError.has("detail") ? firstError.get("detail").asText() : "Unknown error";
-                    log.error("Amadeus API 에러 (code: {}): {}", errorCode, errorDetail);
-                    // INVALID PROPERTY CODE인 경우 제거 후 재시도
-                    if ("1257".equals(errorCode) || errorDetail.contains("INVALID PROPERTY CODE")) {
-                        String param = firstError.has("source") && firstError.get("source").has("parameter")
-                                ? firstError.get("source").get("parameter").asText()
-                                : "";
-                        if (param.startsWith("hotelIds=")) {
-                            String invalidList = param.substring("hotelIds=".length());
-                            for (String invalid : invalidList.split(",")) {
-                                candidateIds.removeIf(id -> id.equalsIgnoreCase(invalid.trim()));
-                            }
-                            continue; // 재시도
-                        }
-                    }
-                    throw new IOException("Amadeus API 에러: " + errorDetail);
+            // Amadeus API 에러 응답 체크
+            if (page.hasError()) {
+                AmadeusError error = page.error();
+                log.warn("Amadeus Hotel List API 에러 (code: {}): {}", error.code(), error.detail());
+                return null;
+            }
+            List<String> hotelIds = new ArrayList<>();
+            for (String hotelId : page.data()) {
+                if (hotelId != null) {
+                    hotelIds.add(hotelId);
                 }
-
-                // 성공적으로 결과 파싱
-                return parseAmadeusHotelOffers(jsonNode, checkIn, checkOut, guests);
             }
-        }
-
-        throw new IOException("유효한 호텔 ID로 검색할 수 없습니다");
+            return hotelIds.isEmpty() ? null : List.copyOf(hotelIds);
+        }).exceptionally(e -> {
+            log.warn("호텔 목록 조회 중 오류 발생: {}", AsyncCalls.unwrap(e).getMessage());
+            return null;
+        });
     }
 
-    private String getCityCode(String city, String accessToken) throws IOException {
+    private CompletableFuture<String> getCityCode(String city, String accessToken) {
         // 한국 도시명을 IATA 코드로 매핑
         String cityCode = mapKoreanCityToIataCode(city);
         if (cityCode != null) {
-            return cityCode;
+            return CompletableFuture.completedFuture(cityCode);
         }
-        
+        // 이번 세션에서 이미 찾은 코드는 바로 쓰고, 해석해 둔 표준 영문명이 있으면 그 이름으로 검색
+        CityLocation known = sessionLocations.find(city);
+        if (known != null && known.iataCode() != null) {
+            return CompletableFuture.completedFuture(known.iataCode());
+        }
+        String keyword = known != null && known.name() != null ? known.name() : city;
+        return cityCodeCache.getAsync(city.trim(), () -> searchCityCode(keyword, accessToken))
+                .thenApply(code -> {
+                    sessionLocations.rememberIataCode(city, code);
+                    return code;
+                });
+    }
+
+    private CompletableFuture<String> searchCityCode(String city, String accessToken) {
         // 도시 검색
         String searchUrl = String.format("%s/reference-data/locations/cities?keyword=%s&max=1",
-                AMADEUS_API_BASE_V1, city);
+                amadeusConfig.v1Url(), city);
         
         Request request = new Request.Builder()
                 .url(searchUrl)
@@ -232,160 +323,139 @@ public class AmadeusAccommodationRepository implements AccommodationRepository {
                 .get()
                 .build();
 
-        try (Response response = httpClient.newCall(request).execute()) {
+        return AsyncCalls.call(httpClient, request, response -> {
             if (!response.isSuccessful()) {
                 log.warn("Amadeus Cities API 호출 실패 (status: {}): {}", response.code(), 
                         response.body() != null ? response.body().string() : "");
                 return null;
             }
-            String responseBody = response.body().string();
-            JsonNode jsonNode = JsonUtil.fromJson(responseBody, JsonNode.class);
-            
+            // Amadeus.md 문서에 따른 응답 구조: { "data": [...], "meta": {...} }
+            AmadeusPage<String> page = AmadeusResponseReader.readCityCodes(response.body().byteStream(), 1);
+
             // Amadeus API 에러 응답 체크
-            if (jsonNode.has("errors")) {
-                JsonNode errors = jsonNode.get("errors");
-                if (errors.isArray() && errors.size() > 0) {
-                    JsonNode firstError = errors.get(0);
-                    String errorCode = firstError.has("code") ? firstError.get("code").asText() : "UNKNOWN";
-                    log.warn("Amadeus Cities API 에러 (code: {}): {}", errorCode, 
-                            firstError.has("detail") ? firstError.get("detail").asText() : "Unknown error");
-                }
+            if (page.hasError()) {
+                log.warn("Amadeus Cities API 에러 (code: {}): {}", page.error().code(), page.error().detail());
                 return null;
             }
-            
-            // Amadeus.md 문서에 따른 응답 구조: { "data": [...], "meta": {...} }
-            if (jsonNode.has("data") && jsonNode.get("data").isArray() && jsonNode.get("data").size() > 0) {
-                JsonNode firstCity = jsonNode.get("data").get(0);
-                if (firstCity.has("iataCode")) {
-                    return firstCity.get("iataCode").asText();
-                }
+            if (!page.data().isEmpty() && page.data().get(0) != null) {
+                return page.data().get(0);
             }
-        } catch (Exception e) {
-            log.warn("도시 코드 검색 중 오류 발생: {}", e.getMessage());
+            return null;
+        }).exceptionally(e -> {
+            log.warn("도시 코드 검색 중 오류 발생: {}", AsyncCalls.unwrap(e).getMessage());
+            return null;
+        });
+    }
+
+    /**
+     * 오류의 source.parameter에 있는 잘못된 hotelId를 후보에서 제거합니다. 제거할 목록이 없으면 false를 반환합니다.
+     */
+    private boolean removeInvalidHotelIds(List<String> candidateIds, AmadeusError error) {
+        String[] invalidIds = error.invalidHotelIds();
+        if (invalidIds == null) {
+            return false;
         }
-        return null;
+        for (String invalid : invalidIds) {
+            candidateIds.removeIf(id -> id.equalsIgnoreCase(invalid.trim()));
+        }
+        return true;
     }
 
-    private List<Accommodation> parseAmadeusHotelOffers(JsonNode jsonNode, LocalDate checkIn, LocalDate checkOut, Integer guests) {
+    // src/jmh 벤치마크가 같은 패키지에서 호출하므로 package-private
+    List<Accommodation> parseAmadeusHotelOffers(List<AmadeusHotelOffer> hotelOffers, LocalDate checkIn, LocalDate checkOut, Integer guests) {
         List<Accommodation> accommodations = new ArrayList<>();
-        if (jsonNode.has("data")) {
-            for (JsonNode hotelOffer : jsonNode.get("data")) {
-                // Amadeus.md 문서에 따른 응답 구조 파싱
-                // { "type": "hotel-offers", "hotel": {...}, "available": true, "offers": [...] }
-                JsonNode hotel = hotelOffer.has("hotel") ? hotelOffer.get("hotel") : null;
-                JsonNode offers = hotelOffer.has("offers") ? hotelOffer.get("offers") : null;
-
-                // available 체크 (Amadeus.md 문서 참조)
-                boolean available = hotelOffer.has("available") && hotelOffer.get("available").asBoolean();
-
-                if (hotel != null && offers != null && offers.isArray() && offers.size() > 0 && available) {
-                    // 첫 번째 오퍼 사용 (가장 저렴한 옵션)
-                    JsonNode firstOffer = offers.get(0);
-                    JsonNode price = firstOffer.has("price") ? firstOffer.get("price") : null;
-
-                    String hotelId = hotel.has("hotelId") ? hotel.get("hotelId").asText() : "unknown";
-                    String hotelName = hotel.has("name") ? hotel.get("name").asText() : "호텔";
-                    
-                    BigDecimal totalPrice = BigDecimal.ZERO;
-                    String currency = "KRW";
-                    if (price != null) {
-                        // Amadeus.md: price 객체는 { "currency": "USD", "base": "200.00", "total": "250.00" } 구조
-                        if (price.has("total")) {
-                            totalPrice = BigDecimal.valueOf(price.get("total").asDouble());
-                        } else if (price.has("base")) {
-                            // total이 없으면 base 사용
-                            totalPrice = BigDecimal.valueOf(price.get("base").asDouble());
-                        }
-                        if (price.has("currency")) {
-                            currency = price.get("currency").asText();
-                        }
-                    }
-
-                    // 주소 파싱 (Amadeus.md 문서 구조에 맞게)
-                    String address = "";
-                    if (hotel.has("address")) {
-                        JsonNode addressNode = hotel.get("address");
-                        if (addressNode.has("lines") && addressNode.get("lines").isArray() && addressNode.get("lines").size() > 0) {
-                            address = addressNode.get("lines").get(0).asText();
-                        } else if (addressNode.has("cityName")) {
-                            address = addressNode.get("cityName").asText();
-                        }
-                    }
+        for (AmadeusHotelOffer offer : hotelOffers) {
+            // Amadeus.md 문서에 따른 응답 구조
+            // { "type": "hotel-offers", "hotel": {...}, "available": true, "offers": [...] }
+            if (!offer.available() || !offer.hasOffer()) {
+                continue;
+            }
 
-                    accommodations.add(Accommodation.builder()
-                            .id(hotelId)
-                            .name(hotelName)
-                            .address(address)
-                            .city(hotel.has("cityCode") ? hotel.get("cityCode").asText() : "")
-                            .country(hotel.has("address") && hotel.get("address").has("countryCode") ? 
-                                    hotel.get("address").get("countryCode").asText() : "")
-                            .price(totalPrice)
-                            .currency(currency)
-                            .rating(hotel.has("rating") ? hotel.get("rating").asDouble() : null)
-                            .description("Amadeus를 통해 검색된 호텔")
-                            .checkIn(checkIn)
-                            .checkOut(checkOut)
-                            .guests(guests)
-                            .build());
-                }
+            // Amadeus.md: price 객체는 { "currency": "USD", "base": "200.00", "total": "250.00" } 구조
+            // total이 없으면 base 사용
+            BigDecimal totalPrice = BigDecimal.ZERO;
+            if (offer.priceTotal() != null) {
+                totalPrice = BigDecimal.valueOf(offer.priceTotal());
+            } else if (offer.priceBase() != null) {
+                totalPrice = BigDecimal.valueOf(offer.priceBase());
             }
+
+            accommodations.add(Accommodation.builder()
+                    .id(offer.hotelId() != null ? offer.hotelId() : "unknown")
+                    .name(offer.name() != null ? offer.name() : "호텔")
+                    .address(offer.address())
+                    .city(offer.cityCode() != null ? offer.cityCode() : "")
+                    .country(offer.countryCode() != null ? offer.countryCode() : "")
+                    .price(totalPrice)
+                    .currency(offer.priceCurrency() != null ? offer.priceCurrency() : "KRW")
+                    .rating(offer.rating())
+                    .description("Amadeus를 통해 검색된 호텔")
+                    .checkIn(checkIn)
+                    .checkOut(checkOut)
+                    .guests(guests)
+                    .latitude(offer.latitude())
+                    .longitude(offer.longitude())
+                    .build());
         }
         return accommodations;
     }
 
-    private List<Accommodation> searchFromGeoapify(String city, LocalDate checkIn, LocalDate checkOut, Integer guests) throws IOException {
-        // 1단계: CityResolver로 도시 좌표 얻기
-        Double[] cityCoordinates = cityResolver.resolveCoordinates(city, null);
-        if (cityCoordinates == null) {
-            log.warn("도시 좌표를 찾을 수 없음: {}", city);
-            throw new IOException("도시 좌표를 찾을 수 없습니다: " + city);
-        }
-        
+    /**
+     * Amadeus 응답 콜백(OkHttp 디스패처 스레드)에서 시작하므로 도시 해석도 기다리지 않고 future로 이어 붙입니다.
+     */
+    private CompletableFuture<List<Accommodation>> searchFromGeoapify(String city, LocalDate checkIn,
+                                                                      LocalDate checkOut, Integer guests) {
+        // 1단계: CityResolver로 도시 좌표 얻기 (정규화/지오코딩은 기다리지 않고 이어 붙임)
+        return cityResolver.resolveCoordinatesAsync(city, null).thenCompose(cityCoordinates -> {
+            if (cityCoordinates == null) {
+                log.warn("도시 좌표를 찾을 수 없음: {}", city);
+                return CompletableFuture.failedFuture(new IOException("도시 좌표를 찾을 수 없습니다: " + city));
+            }
+            return searchFromGeoapify(city, cityCoordinates, checkIn, checkOut, guests);
+        });
+    }
+
+    private CompletableFuture<List<Accommodation>> searchFromGeoapify(String city, Double[] cityCoordinates,
+                                                                      LocalDate checkIn, LocalDate checkOut,
+                                                                      Integer guests) {
         double lon = cityCoordinates[0];
         double lat = cityCoordinates[1];
-        log.info("도시 {}의 좌표: ({}, {})", city, lat, lon);
+        log.debug("도시 {}의 좌표: ({}, {})", city, lat, lon);
         
         // 2단계: Places API로 숙소 검색 (도시 중심 10km 반경)
-        okhttp3.HttpUrl.Builder urlBuilder = okhttp3.HttpUrl.parse(GEOAPIFY_API_BASE).newBuilder()
+        okhttp3.HttpUrl.Builder urlBuilder = okhttp3.HttpUrl.parse(geoapifyConfig.placesUrl()).newBuilder()
                 .addQueryParameter("categories", "accommodation.hotel")
                 .addQueryParameter("filter", String.format("circle:%f,%f,10000", lon, lat))
-                .addQueryParameter("limit", "10")
+                .addQueryParameter("limit", String.valueOf(GEOAPIFY_LIMIT))
                 .addQueryParameter("apiKey", geoapifyConfig.getApiKey());
         
         String url = urlBuilder.build().toString();
-        log.info("Geoapify Places API 요청 URL: {}", url);
 
         Request request = new Request.Builder()
                 .url(url)
                 .get()
                 .build();
 
-        try (Response response = httpClient.newCall(request).execute()) {
+        return AsyncCalls.call(httpClient, request, response -> {
             if (!response.isSuccessful()) {
                 String errorBody = response.body() != null ? response.body().string() : "";
-                log.error("Geoapify Places API 호출 실패 (status: {}): {}", response.code(), errorBody);
+                log.error("Geoapify Places API 호출 실패 (status: {}): {}", response.code(), LogRedactor.snippet(errorBody));
                 throw new IOException("Geoapify API 호출 실패: " + response.code());
             }
 
-            String responseBody = response.body().string();
-            JsonNode jsonNode = JsonUtil.fromJson(responseBody, JsonNode.class);
-            return parseGeoapifyResponse(jsonNode, city, checkIn, checkOut, guests);
-        }
+            return parseGeoapifyResponse(response.body().byteStream(), city, checkIn, checkOut, guests);
+        });
     }
 
-    private List<Accommodation> parseGeoapifyResponse(JsonNode jsonNode, String city, LocalDate checkIn, LocalDate checkOut, Integer guests) {
+    private List<Accommodation> parseGeoapifyResponse(InputStream body, String city, LocalDate checkIn, LocalDate checkOut, Integer guests) throws IOException {
         List<Accommodation> accommodations = new ArrayList<>();
-        if (jsonNode.has("features")) {
-            for (JsonNode feature : jsonNode.get("features")) {
-                JsonNode properties = feature.get("properties");
-                JsonNode geometry = feature.get("geometry");
-
+        for (GeoapifyFeature feature : GeoapifyFeatureReader.read(body, GEOAPIFY_LIMIT, f -> true)) {
                 accommodations.add(Accommodation.builder()
-                        .id(properties.has("place_id") ? properties.get("place_id").asText() : "unknown")
-                        .name(properties.has("name") ? properties.get("name").asText() : city + " 호텔")
-                        .address(properties.has("formatted") ? properties.get("formatted").asText() : "")
+                        .id(feature.placeId() != null ? feature.placeId() : "unknown")
+                        .name(feature.name() != null ? feature.name() : city + " 호텔")
+                        .address(feature.formatted() != null ? feature.formatted() : "")
                         .city(city)
-                        .country(properties.has("country_code") ? properties.get("country_code").asText().toUpperCase() : "")
+                        .country(feature.countryCode() != null ? feature.countryCode().toUpperCase() : "")
                         .price(new BigDecimal("150000"))
                         .currency("KRW")
                         .rating(4.0)
@@ -393,24 +463,9 @@ public class AmadeusAccommodationRepository implements AccommodationRepository {
                         .checkIn(checkIn)
                         .checkOut(checkOut)
                         .guests(guests)
+                        .latitude(feature.latitude())
+                        .longitude(feature.longitude())
                         .build());
-            }
-        }
-        // Geoapify 결과가 5개 미만이면 기본 데이터로 보충
-        if (accommodations.size() < 5) {
-            log.warn("Geoapify 숙소 응답이 적음 ({}개), 기본 데이터로 보충", accommodations.size());
-            List<Accommodation> defaults = getDefaultAccommodations(city, checkIn, checkOut, guests);
-            // 중복 제거 후 합치기
-            java.util.Set<String> seen = new java.util.HashSet<>();
-            List<Accommodation> merged = new java.util.ArrayList<>();
-            for (Accommodation a : accommodations) {
-                if (seen.add(a.getId())) merged.add(a);
-            }
-            for (Accommodation a : defaults) {
-                if (merged.size() >= 5) break;
-                if (seen.add(a.getId())) merged.add(a);
-            }
-            return merged;
         }
         return accommodations;
     }
@@ -439,59 +494,42 @@ public class AmadeusAccommodationRepository implements AccommodationRepository {
         };
     }
 
-    private String getAccessToken() throws IOException {
+    private CompletableFuture<String> getAccessToken() {
+        return tokenCache.getAsync(TOKEN_KEY, this::requestAccessToken)
+                .thenCompose(accessToken -> accessToken != null
+                        ? CompletableFuture.completedFuture(accessToken)
+                        : CompletableFuture.failedFuture(new IOException("Amadeus 토큰 발급 실패")));
+    }
+
+    /**
+     * OAuth2 client credentials 토큰 발급 (실패하면 null)
+     */
+    private CompletableFuture<String> requestAccessToken() {
         String credentials = Credentials.basic(amadeusConfig.getApiKey(), amadeusConfig.getApiSecret());
         RequestBody body = RequestBody.create("grant_type=client_credentials", MediaType.get("application/x-www-form-urlencoded"));
         
         Request request = new Request.Builder()
-                .url(AMADEUS_API_BASE_V1 + "/security/oauth2/token")
+                .url(amadeusConfig.v1Url() + "/security/oauth2/token")
                 .addHeader("Authorization", credentials)
                 .post(body)
                 .build();
 
-        try (Response response = httpClient.newCall(request).execute()) {
+        return AsyncCalls.call(httpClient, request, response -> {
             if (!response.isSuccessful()) {
                 String errorBody = response.body() != null ? response.body().string() : "";
-                log.error("Amadeus OAuth2 토큰 발급 실패 (status: {}): {}", response.code(), errorBody);
-                throw new IOException("Amadeus 토큰 발급 실패: " + response.code());
+                log.error("Amadeus OAuth2 토큰 발급 실패 (status: {}): {}", response.code(), LogRedactor.snippet(errorBody));
+                return null;
             }
-            String responseBody = response.body().string();
-            JsonNode jsonNode = JsonUtil.fromJson(responseBody, JsonNode.class);
-            
             // Amadeus.md 문서에 따른 OAuth2 응답 구조: { "type": "amadeusOAuth2Token", "username": "...", "application_name": "...", "client_id": "...", "token_type": "Bearer", "access_token": "...", "expires_in": 1799, "state": "approved", "scope": "" }
-            if (jsonNode.has("access_token")) {
-            return jsonNode.get("access_token").asText();
-            } else {
-                log.error("Amadeus OAuth2 응답에 access_token이 없습니다: {}", responseBody);
-                throw new IOException("Amadeus 토큰 응답에 access_token이 없습니다");
+            String accessToken = AmadeusResponseReader.readAccessToken(response.body().byteStream());
+            if (accessToken == null) {
+                log.error("Amadeus OAuth2 응답에 access_token이 없습니다");
             }
-        }
-    }
-
-    private List<Accommodation> getDefaultAccommodations(String city, LocalDate checkIn, LocalDate checkOut, Integer guests) {
-        List<Accommodation> accommodations = new ArrayList<>();
-        String[] hotelNames = {
-            "리조트", "호텔", "펜션", "게스트하우스", "콘도",
-            "모텔", "민박", "한옥 스테이", "호스텔", "비즈니스 호텔"
-        };
-        
-        for (int i = 0; i < 10; i++) {
-        accommodations.add(Accommodation.builder()
-                    .id("default-" + (i + 1))
-                    .name(city + " " + hotelNames[i % hotelNames.length])
-                .address(city + " 시내")
-                .city(city)
-                .country("KR")
-                    .price(new BigDecimal("100000").add(new BigDecimal(i * 10000)))
-                .currency("KRW")
-                    .rating(4.0 + (i % 5) * 0.1)
-                .description("기본 호텔 정보")
-                .checkIn(checkIn)
-                .checkOut(checkOut)
-                .guests(guests)
-                .build());
-        }
-        return accommodations;
+            return accessToken;
+        }).exceptionally(e -> {
+            log.error("Amadeus OAuth2 토큰 발급 실패: {}", AsyncCalls.unwrap(e).getMessage());
+            return null;
+        });
     }
 
     @Override
@@ -0,0 +1,28 @@
+package com.yd.travelbot.domain.chatbot.application.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatBatchRequest {
+    private List<Item> items;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        // 결과를 맞춰 보기 위한 호출 측 식별자 (선택)
+        private String id;
+        private String message;
+        // 같은 sessionId의 메시지는 입력 순서대로 이어지는 대화로 처리 (없으면 메시지마다 새 세션)
+        private String sessionId;
+    }
+}
@@ -0,0 +1,20 @@
+package com.yd.travelbot.domain.chatbot.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatBatchResult {
+    // 요청 items 안의 위치 (결과는 끝나는 순서대로 오므로 이 값으로 맞춤)
+    private int index;
+    private String id;
+    private boolean success;
+    private String message;
+    private String sessionId;
+    private long elapsedMs;
+}
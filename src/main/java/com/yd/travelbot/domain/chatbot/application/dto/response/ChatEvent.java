@@ -0,0 +1,39 @@
+package com.yd.travelbot.domain.chatbot.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * WebSocket 대화(/ws/chat)에서 서버가 보내는 이벤트
+ *
+ * - session: 연결에 묶인 sessionId (연결 직후 한 번)
+ * - tool: 툴 호출 시작(status=started, label) / 종료(status=done, success)
+ * - answer: 턴의 최종 답변 (message, success)
+ * - cancelled: 취소 요청을 받아 진행 중인 턴을 중단함
+ * - error: 요청을 처리할 수 없음 (message)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChatEvent {
+
+    public static final String SESSION = "session";
+    public static final String TOOL = "tool";
+    public static final String ANSWER = "answer";
+    public static final String CANCELLED = "cancelled";
+    public static final String ERROR = "error";
+
+    private String type;
+    private String sessionId;
+    private String message;
+    private Boolean success;
+    private String tool;
+    private String status;
+    private String label;
+}
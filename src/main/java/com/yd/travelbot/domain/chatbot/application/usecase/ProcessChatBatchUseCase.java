@@ -0,0 +1,230 @@
+package com.yd.travelbot.domain.chatbot.application.usecase;
+
+import com.yd.travelbot.domain.chatbot.application.dto.request.ChatBatchRequest;
+import com.yd.travelbot.domain.chatbot.application.dto.request.ChatRequest;
+import com.yd.travelbot.domain.chatbot.application.dto.response.ChatBatchResult;
+import com.yd.travelbot.domain.chatbot.application.dto.response.ChatResponse;
+import com.yd.travelbot.global.config.ChatBatchConfig;
+import com.yd.travelbot.global.config.SearchTimeoutConfig;
+import com.yd.travelbot.global.deadline.Deadline;
+import com.yd.travelbot.global.llm.LlmCallContext;
+import com.yd.travelbot.global.llm.LlmPriority;
+import io.opentelemetry.context.Scope;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 평가/회귀 테스트용 일괄 대화 처리
+ *
+ * - 모든 일괄 요청이 chat-batch.parallelism개의 작업 스레드를 나눠 쓰므로, 일괄 요청이 겹쳐도 동시 처리 수는 늘지 않습니다.
+ * - 같은 sessionId의 메시지는 한 작업에서 입력 순서대로 처리해 이어지는 대화가 되고,
+ *   sessionId가 없는 메시지는 각자 새 세션으로 처리합니다.
+ * - 같은 외부 조회는 조회 캐시와 SingleFlight로 공유되므로, 같은 도시를 묻는 메시지가 동시에 처리돼도 외부 호출은 한 번입니다.
+ * - 메시지마다 일반 대화와 같은 경로(ProcessChatMessageUseCase)를 거치며, 트레이스와 시간 예산(chat-turn)도 메시지마다 따로 둡니다.
+ * - 모델 호출은 LLM 게이트웨이를 BACKGROUND 우선순위로 통과하므로, 큰 일괄 요청이 돌아도 사용자 대화가 먼저 처리됩니다.
+ * - 작업이 중간에 끝나면(인터럽트, Error) 처리하지 못한 메시지도 실패 결과로 넘기고, 작업이 시작도 못 하고 끝나면
+ *   (종료 시 shutdownNow로 대기열에서 빠짐, 시작 전 취소) execute가 남은 메시지를 실패 결과로 채워 결과를 기다리는 쪽이 멈추지 않습니다.
+ */
+@Slf4j
+@Service
+public class ProcessChatBatchUseCase {
+
+    // 결과가 오지 않을 때 작업이 모두 끝났는지 확인하는 간격
+    private static final long RESULT_POLL_MILLIS = 200;
+
+    private final ProcessChatMessageUseCase processChatMessageUseCase;
+    private final int maxItems;
+    private final Duration turnBudget;
+    private final ExecutorService workers;
+
+    public ProcessChatBatchUseCase(ProcessChatMessageUseCase processChatMessageUseCase,
+                                   ChatBatchConfig chatBatchConfig, SearchTimeoutConfig searchTimeoutConfig) {
+        this.processChatMessageUseCase = processChatMessageUseCase;
+        this.turnBudget = searchTimeoutConfig.getChatTurn();
+        this.maxItems = chatBatchConfig.getMaxItems();
+        AtomicInteger counter = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(chatBatchConfig.getParallelism(), runnable -> {
+            Thread thread = new Thread(runnable, "chat-batch-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * 처리를 시작하기 전에 요청 전체를 검증합니다. (응답을 보내기 시작한 뒤에는 상태 코드를 바꿀 수 없으므로)
+     */
+    public void validate(ChatBatchRequest request) {
+        if (request == null || request.getItems() == null || request.getItems().isEmpty()) {
+            throw new IllegalArgumentException("처리할 메시지가 없습니다.");
+        }
+        if (request.getItems().size() > maxItems) {
+            throw new IllegalArgumentException(
+                    String.format("한 번에 처리할 수 있는 메시지는 최대 %d개입니다.", maxItems));
+        }
+        for (int i = 0; i < request.getItems().size(); i++) {
+            ChatBatchRequest.Item item = request.getItems().get(i);
+            if (item == null || item.getMessage() == null || item.getMessage().isBlank()) {
+                throw new IllegalArgumentException(String.format("%d번째 메시지가 비어 있습니다.", i));
+            }
+        }
+    }
+
+    /**
+     * 메시지를 처리하고, 결과를 끝나는 순서대로 호출한 스레드에서 하나씩 sink에 넘깁니다.
+     * sink가 예외를 던지면(연결 종료 등) 아직 처리하지 않은 메시지는 취소합니다.
+     */
+    public void execute(ChatBatchRequest request, Consumer<ChatBatchResult> sink) throws InterruptedException {
+        validate(request);
+        List<ChatBatchRequest.Item> items = request.getItems();
+        long start = System.nanoTime();
+
+        BlockingQueue<ChatBatchResult> results = new LinkedBlockingQueue<>();
+        List<Future<?>> tasks = new ArrayList<>();
+        Set<Integer> delivered = new HashSet<>();
+        int failed = 0;
+        try {
+            for (List<Integer> conversation : conversations(items)) {
+                tasks.add(workers.submit(() -> {
+                    int next = 0;
+                    try {
+                        for (; next < conversation.size(); next++) {
+                            if (Thread.currentThread().isInterrupted()) {
+                                return;
+                            }
+                            int index = conversation.get(next);
+                            results.add(process(index, items.get(index)));
+                        }
+                    } finally {
+                        // 처리하지 못한 메시지도 결과를 하나씩 넘겨 execute가 작업 종료를 알아채기 전에도 바로 끝나도록 함
+                        if (next < conversation.size()) {
+                            log.warn("일괄 대화 작업 중단: {}건 처리하지 못함", conversation.size() - next);
+                        }
+                        for (int i = next; i < conversation.size(); i++) {
+                            int index = conversation.get(i);
+                            results.add(skipped(index, items.get(index)));
+                        }
+                    }
+                }));
+            }
+
+            while (delivered.size() < items.size()) {
+                ChatBatchResult result = results.poll(RESULT_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (result == null && stalled(tasks)) {
+                    // 작업이 결과를 넘기지 못하고 끝났으면 남은 메시지를 실패 결과로 채움
+                    result = results.poll();
+                    if (result == null) {
+                        log.warn("일괄 대화 작업이 결과 없이 끝남: {}건 처리하지 못함", items.size() - delivered.size());
+                        for (int index = 0; index < items.size(); index++) {
+                            if (!delivered.contains(index)) {
+                                results.add(skipped(index, items.get(index)));
+                            }
+                        }
+                        continue;
+                    }
+                }
+                // 취소된 작업이 늦게 넘긴 결과는 이미 실패로 채운 메시지일 수 있어 한 번만 전달
+                if (result == null || !delivered.add(result.getIndex())) {
+                    continue;
+                }
+                if (!result.isSuccess()) {
+                    failed++;
+                }
+                sink.accept(result);
+            }
+        } finally {
+            tasks.forEach(task -> task.cancel(true));
+        }
+        log.info("일괄 대화 처리 완료: {}건 (실패 {}건), {}ms", items.size(), failed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * 더 기다려도 결과가 오지 않는 상태 (작업 스레드가 모두 종료됐거나, 모든 작업이 끝나거나 취소됨)
+     */
+    private boolean stalled(List<Future<?>> tasks) {
+        return workers.isTerminated() || tasks.stream().allMatch(Future::isDone);
+    }
+
+    /**
+     * 순서대로 처리할 메시지 묶음 (같은 세션은 한 묶음, 세션이 없으면 메시지마다 한 묶음)
+     */
+    static List<List<Integer>> conversations(List<ChatBatchRequest.Item> items) {
+        Map<String, List<Integer>> bySession = new LinkedHashMap<>();
+        List<List<Integer>> conversations = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            String sessionId = items.get(i).getSessionId();
+            if (sessionId == null || sessionId.isBlank()) {
+                conversations.add(List.of(i));
+                continue;
+            }
+            List<Integer> conversation = bySession.get(sessionId);
+            if (conversation == null) {
+                conversation = new ArrayList<>();
+                bySession.put(sessionId, conversation);
+                conversations.add(conversation);
+            }
+            conversation.add(i);
+        }
+        return conversations;
+    }
+
+    private ChatBatchResult process(int index, ChatBatchRequest.Item item) {
+        long start = System.nanoTime();
+        ChatResponse response;
+        try (Scope ignored = Deadline.start(turnBudget);
+             Scope background = LlmCallContext.priority(LlmPriority.BACKGROUND)) {
+            ChatRequest chatRequest = ChatRequest.builder()
+                    .message(item.getMessage())
+                    .build();
+            response = processChatMessageUseCase.execute(chatRequest, item.getSessionId());
+        } catch (RuntimeException e) {
+            log.error("일괄 대화 {}번째 메시지 처리 실패: {}", index, e.getMessage(), e);
+            response = ChatResponse.builder()
+                    .message("죄송합니다. 오류가 발생했습니다: " + e.getMessage())
+                    .success(false)
+                    .sessionId(item.getSessionId())
+                    .build();
+        }
+        return ChatBatchResult.builder()
+                .index(index)
+                .id(item.getId())
+                .success(response.isSuccess())
+                .message(response.getMessage())
+                .sessionId(response.getSessionId())
+                .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .build();
+    }
+
+    private static ChatBatchResult skipped(int index, ChatBatchRequest.Item item) {
+        return ChatBatchResult.builder()
+                .index(index)
+                .id(item.getId())
+                .success(false)
+                .message("죄송합니다. 메시지를 처리하지 못했습니다.")
+                .sessionId(item.getSessionId())
+                .elapsedMs(0)
+                .build();
+    }
+}
@@ -3,11 +3,17 @@ package com.yd.travelbot.domain.chatbot.application.usecase;
 import com.yd.travelbot.domain.chatbot.application.dto.request.ChatRequest;
 import com.yd.travelbot.domain.chatbot.application.dto.response.ChatResponse;
 import com.yd.travelbot.domain.chatbot.domain.service.ChatService;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+import com.yd.travelbot.global.tracing.TravelTracing;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Scope;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
 
 /**
  * LangChain4j Agents 파이프라인을 사용한 챗봇 메시지 처리
@@ -18,6 +24,7 @@ import java.util.UUID;
  * - searchFood: 음식점 검색  
  * - searchPlace: 관광지 검색
  * - convertCurrency: 환율 변환
+ * - planTrip: 여행 계획 묶음 (위 네 조회를 한 번에)
  * 
  * 하드코딩된 키워드 매칭이나 파싱 로직은 제거되었습니다.
  */
@@ -27,6 +34,7 @@ import java.util.UUID;
 public class ProcessChatMessageUseCase {
 
     private final ChatService chatService;
+    private final TravelMetrics travelMetrics;
 
     public ChatResponse execute(ChatRequest request) {
         return execute(request, null);
@@ -35,8 +43,30 @@ public class ProcessChatMessageUseCase {
     /**
      * 모든 요청을 LangChain4j TravelAssistant로 라우팅
      * TravelTools의 @Tool 메서드들이 자동으로 호출되어 API를 실행합니다.
+     * 처리 중인 스레드가 인터럽트되면(WebSocket 턴 취소) 남은 호출을 중단하고 CancellationException을 던집니다.
      */
     public ChatResponse execute(ChatRequest request, String sessionId) {
+        long start = System.nanoTime();
+        Span span = TravelTracing.startSpan("chat.turn");
+        ChatResponse chatResponse;
+        try (Scope ignored = span.makeCurrent()) {
+            chatResponse = handle(request, sessionId);
+            span.setAttribute("travelbot.session.id", chatResponse.getSessionId());
+            span.setAttribute("travelbot.outcome", chatResponse.isSuccess() ? TravelMetrics.SUCCESS : TravelMetrics.ERROR);
+            if (!chatResponse.isSuccess()) {
+                span.setStatus(StatusCode.ERROR);
+            }
+        } catch (CancellationException e) {
+            span.setAttribute("travelbot.outcome", "cancelled");
+            throw e;
+        } finally {
+            span.end();
+        }
+        travelMetrics.recordChatTurn(System.nanoTime() - start, chatResponse.isSuccess());
+        return chatResponse;
+    }
+
+    private ChatResponse handle(ChatRequest request, String sessionId) {
         try {
             String userInput = request.getMessage();
             
@@ -56,6 +86,8 @@ public class ProcessChatMessageUseCase {
                     .success(true)
                     .sessionId(sessionId)
                     .build();
+        } catch (CancellationException e) {
+            throw e;
         } catch (Exception e) {
             log.error("챗봇 메시지 처리 중 오류 발생: {}", e.getMessage(), e);
             return ChatResponse.builder()
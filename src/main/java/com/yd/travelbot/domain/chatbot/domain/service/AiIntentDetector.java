@@ -1,13 +1,22 @@
 package com.yd.travelbot.domain.chatbot.domain.service;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
 import com.fasterxml.jackson.databind.JsonNode;
+import com.yd.travelbot.global.config.IntentClassifierConfig;
+import com.yd.travelbot.global.config.LangChain4jConfig;
+import com.yd.travelbot.global.llm.LlmCallContext;
 import com.yd.travelbot.global.util.JsonUtil;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.output.Response;
+import io.opentelemetry.context.Scope;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -15,9 +24,66 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class AiIntentDetector {
 
+    @Qualifier(LangChain4jConfig.LIGHT_CHAT_MODEL)
     private final ChatLanguageModel chatLanguageModel;
+    private final LocalIntentClassifier localIntentClassifier;
+    private final MessageParser messageParser;
+    private final IntentClassifierConfig classifierConfig;
 
+    /**
+     * 로컬 분류기로 먼저 분류하고, 신뢰도가 임계값 미만일 때만 LLM을 호출합니다.
+     */
     public Result detect(String userInput) {
+        if (classifierConfig.isEnabled()) {
+            LocalIntentClassifier.Prediction prediction = localIntentClassifier.classify(userInput);
+            if (prediction.confidence() >= classifierConfig.getConfidenceThreshold()) {
+                return detectLocally(userInput, prediction);
+            }
+            log.debug("로컬 의도 분류 신뢰도 낮음 ({} {}), LLM으로 재분류", prediction.intent(), prediction.confidence());
+        }
+        return detectWithLlm(userInput);
+    }
+
+    private Result detectLocally(String userInput, LocalIntentClassifier.Prediction prediction) {
+        Result r = new Result();
+        r.intent = prediction.intent();
+        r.confidence = prediction.confidence();
+        r.city = orEmpty(messageParser.extractCity(userInput));
+        r.country = "";
+        r.checkIn = "";
+        r.checkOut = "";
+        r.cuisine = "";
+        r.category = "";
+        r.fromCurrency = "";
+        r.toCurrency = "";
+        // 슬롯은 의도에 해당하는 것만 채움 (예: 인원 수 "2명"이 금액으로 잡히지 않도록)
+        switch (r.intent) {
+            case ACCOMMODATION -> {
+                List<LocalDate> dates = messageParser.extractDates(userInput);
+                if (!dates.isEmpty()) {
+                    r.checkIn = dates.get(0).toString();
+                }
+                if (dates.size() > 1) {
+                    r.checkOut = dates.get(1).toString();
+                }
+                Integer guests = messageParser.extractNumber(userInput);
+                r.guests = guests != null ? guests : 0;
+            }
+            case FOOD -> r.cuisine = orEmpty(messageParser.extractCuisine(userInput));
+            case PLACE -> r.category = orEmpty(messageParser.extractCategory(userInput));
+            case CURRENCY -> {
+                BigDecimal amount = messageParser.extractAmount(userInput);
+                r.amount = amount != null ? amount.doubleValue() : 0.0;
+                r.fromCurrency = orEmpty(messageParser.extractCurrency(userInput, "from"));
+                r.toCurrency = orEmpty(messageParser.extractCurrency(userInput, "to"));
+            }
+            default -> {
+            }
+        }
+        return r;
+    }
+
+    private Result detectWithLlm(String userInput) {
         String system = """
             You are an intent and entity classifier for a travel assistant.
             Respond ONLY in strict JSON. No extra text. DO NOT wrap in code fences. DO NOT use backticks.
@@ -38,7 +104,7 @@ public class AiIntentDetector {
             }
             """;
         String user = "Text: " + userInput + "\nReturn JSON only.";
-        try {
+        try (Scope ignored = LlmCallContext.callSite("intent")) {
             Response<dev.langchain4j.data.message.AiMessage> res =
                 chatLanguageModel.generate(SystemMessage.from(system), UserMessage.from(user));
             String raw = res.content().text();
@@ -85,6 +151,10 @@ public class AiIntentDetector {
         return s;
     }
 
+    private static String orEmpty(String value) {
+        return value != null ? value : "";
+    }
+
     private IntentAnalyzer.Intent mapIntent(String s) {
         try {
             return IntentAnalyzer.Intent.valueOf(s.toUpperCase());
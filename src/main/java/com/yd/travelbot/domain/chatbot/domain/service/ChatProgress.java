@@ -0,0 +1,78 @@
+package com.yd.travelbot.domain.chatbot.domain.service;
+
+import java.util.Map;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.Scope;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대화 턴 진행 상황(툴 호출 시작/종료)을 받을 리스너를 현재 Context에 묶어 두는 도우미
+ *
+ * 툴은 AiServices가 대화 턴을 처리하는 스레드에서 호출하므로, 턴을 시작할 때 묶어 두면 툴이 바로 알릴 수 있습니다.
+ * 리스너가 없으면(HTTP/일괄 대화) 아무 일도 하지 않고, 리스너 예외(연결 종료 등)는 툴 실행에 영향을 주지 않습니다.
+ *
+ * <pre>
+ * try (Scope ignored = ChatProgress.listen(listener)) {
+ *     processChatMessageUseCase.execute(...);
+ * }
+ * </pre>
+ */
+@Slf4j
+public final class ChatProgress {
+
+    private static final ContextKey<Listener> LISTENER = ContextKey.named("travelbot.chat.progress");
+
+    private static final Map<String, String> LABELS = Map.of(
+            "searchAccommodation", "숙소 검색 중…",
+            "searchFood", "음식점 검색 중…",
+            "searchPlace", "관광지 검색 중…",
+            "convertCurrency", "환율 조회 중…",
+            "planTrip", "여행 계획 조회 중…");
+
+    public interface Listener {
+
+        void toolStarted(String tool, String label);
+
+        void toolFinished(String tool, boolean success);
+    }
+
+    private ChatProgress() {
+    }
+
+    public static Scope listen(Listener listener) {
+        return Context.current().with(LISTENER, listener).makeCurrent();
+    }
+
+    public static void toolStarted(String tool) {
+        Listener listener = Context.current().get(LISTENER);
+        if (listener == null) {
+            return;
+        }
+        try {
+            listener.toolStarted(tool, label(tool));
+        } catch (RuntimeException e) {
+            log.debug("툴 진행 상황 전달 실패 ({}): {}", tool, e.getMessage());
+        }
+    }
+
+    public static void toolFinished(String tool, boolean success) {
+        Listener listener = Context.current().get(LISTENER);
+        if (listener == null) {
+            return;
+        }
+        try {
+            listener.toolFinished(tool, success);
+        } catch (RuntimeException e) {
+            log.debug("툴 진행 상황 전달 실패 ({}): {}", tool, e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자에게 보여줄 툴 진행 문구
+     */
+    static String label(String tool) {
+        return LABELS.getOrDefault(tool, "정보 조회 중…");
+    }
+}
@@ -3,6 +3,13 @@ package com.yd.travelbot.domain.chatbot.domain.service;
 import com.yd.travelbot.domain.accommodation.application.dto.AccommodationResponse;
 import com.yd.travelbot.domain.food.application.dto.FoodResponse;
 import com.yd.travelbot.domain.place.application.dto.PlaceResponse;
+import com.yd.travelbot.global.config.ChatMemoryConfig;
+import com.yd.travelbot.global.deadline.Deadline;
+import com.yd.travelbot.global.deadline.DeadlineExceededException;
+import com.yd.travelbot.global.llm.LlmCallContext;
+import com.yd.travelbot.global.llm.LlmOverloadedException;
+import com.yd.travelbot.global.llm.TokenUsageTracker;
+import com.yd.travelbot.global.metrics.TravelMetrics;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.UserMessage;
@@ -11,25 +18,54 @@ import dev.langchain4j.memory.chat.MessageWindowChatMemory;
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.service.AiServices;
-import lombok.RequiredArgsConstructor;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import io.opentelemetry.context.Scope;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ChatService {
 
+    static final String TOKEN_BUDGET_MESSAGE = "이 대화에서 사용할 수 있는 분량을 모두 사용했어요. 새 대화를 시작해 주세요.";
+
     private final ChatLanguageModel chatModel;
     private final TravelTools travelTools;
+    private final TravelMetrics travelMetrics;
+    private final TokenUsageTracker tokenUsageTracker;
+    // 대화 기록은 저장소에 보관하므로 TravelAssistant를 내려도 다음 접근 때 이어서 대화
+    private final ChatMemoryStore chatMemoryStore;
+    private final int maxMessages;
     
-    // 세션별 TravelAssistant 인스턴스 (ChatMemory 포함)
-    private final Map<String, TravelAssistant> assistantCache = new ConcurrentHashMap<>();
+    // 세션별 TravelAssistant 인스턴스 (최근 사용한 chat-memory.max-resident-sessions개만 유지)
+    private final Map<String, TravelAssistant> assistantCache;
+
+    public ChatService(ChatLanguageModel chatModel, TravelTools travelTools, TravelMetrics travelMetrics,
+                       TokenUsageTracker tokenUsageTracker, ChatMemoryStore chatMemoryStore,
+                       ChatMemoryConfig chatMemoryConfig) {
+        this.chatModel = chatModel;
+        this.travelTools = travelTools;
+        this.travelMetrics = travelMetrics;
+        this.tokenUsageTracker = tokenUsageTracker;
+        this.chatMemoryStore = chatMemoryStore;
+        this.maxMessages = chatMemoryConfig.getMaxMessages();
+        int maxResidentSessions = chatMemoryConfig.getMaxResidentSessions();
+        this.assistantCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TravelAssistant> eldest) {
+                return size() > maxResidentSessions;
+            }
+        });
+        travelMetrics.gaugeCacheSize("session", assistantCache);
+    }
 
     /**
      * 기본 챗 (세션 없이)
@@ -48,15 +84,39 @@ public class ChatService {
             }
             
             // 세션별 TravelAssistant 가져오기 또는 생성 (ChatMemory 포함)
-            TravelAssistant assistant = assistantCache.computeIfAbsent(sessionId, id -> {
-                ChatMemory chatMemory = MessageWindowChatMemory.withMaxMessages(10);
+            TravelAssistant cached = assistantCache.get(sessionId);
+            if (cached != null) {
+                travelMetrics.recordCacheHit("session");
+            } else {
+                travelMetrics.recordCacheMiss("session");
+            }
+            TravelAssistant assistant = cached != null ? cached : assistantCache.computeIfAbsent(sessionId, id -> {
+                ChatMemory chatMemory = MessageWindowChatMemory.builder()
+                        .id(id)
+                        .maxMessages(maxMessages)
+                        .chatMemoryStore(chatMemoryStore)
+                        .build();
                 return AiServices.builder(TravelAssistant.class)
                         .chatLanguageModel(chatModel)
                         .tools(travelTools)
                         .chatMemory(chatMemory)
                         .build();
             });
-            
+
+        // 세션 토큰 한도를 모두 쓴 경우 모델을 호출하지 않고 안내
+        if (tokenUsageTracker.isOverBudget(sessionId)) {
+            log.warn("세션 토큰 한도 초과로 응답 생략: {}", sessionId);
+            return TOKEN_BUDGET_MESSAGE;
+        }
+
+        // 툴 안에서 일어나는 모델 호출(도시명 정규화 등)도 이 세션의 토큰으로 집계
+        try (Scope session = LlmCallContext.session(sessionId);
+             Scope callSite = LlmCallContext.callSite("assistant")) {
+            return chatWithRetries(assistant, userMessage);
+        }
+    }
+
+    private String chatWithRetries(TravelAssistant assistant, String userMessage) {
         // 재시도(백오프) 로직: 모델 과부하(503/UNAVAILABLE/overloaded) 시 최대 3회 재시도
         int maxRetries = 3;
         long[] backoffsMs = new long[]{400L, 800L, 1500L};
@@ -65,15 +125,31 @@ public class ChatService {
             try {
             return assistant.chat(userMessage);
         } catch (Exception e) {
+            if (Thread.currentThread().isInterrupted() || e instanceof CancellationException) {
+                // 대화 턴이 취소됨 - 재시도하지 않고 호출한 쪽에 알림
+                throw new CancellationException("대화 턴 취소");
+            }
             String msg = e.getMessage() != null ? e.getMessage() : "";
+                // 게이트웨이가 포화로 거절한 경우 재시도하면 부하만 키우므로 바로 안내
+                if (LlmOverloadedException.isCause(e)) {
+                    log.warn("LLM 게이트웨이 거절, 재시도하지 않음: {}", msg);
+                    return LlmOverloadedException.USER_MESSAGE;
+                }
+                // 대화 턴의 시간 예산이 지났으면 재시도 없이 안내
+                if (DeadlineExceededException.isCause(e) || deadlineExpired()) {
+                    log.warn("대화 턴 시간 예산 초과, 재시도하지 않음: {}", msg);
+                    return DeadlineExceededException.USER_MESSAGE;
+                }
                 boolean overload =
                         msg.contains("503")
                                 || msg.toLowerCase().contains("unavailable")
                                 || msg.toLowerCase().contains("overloaded");
                 log.warn("LLM 호출 실패 (attempt {}/{}): {}", attempt + 1, maxRetries, msg);
-                if (overload && attempt < maxRetries - 1) {
+                long backoffMs = backoffsMs[Math.min(attempt, backoffsMs.length - 1)];
+                if (overload && attempt < maxRetries - 1 && !deadlineWithin(backoffMs)) {
+                    travelMetrics.recordLlmRetry("chat", "overload");
                     try {
-                        Thread.sleep(backoffsMs[Math.min(attempt, backoffsMs.length - 1)]);
+                        Thread.sleep(backoffMs);
                     } catch (InterruptedException ignored) {
                         Thread.currentThread().interrupt();
                     }
@@ -91,6 +167,17 @@ public class ChatService {
         return "응답 생성 중 오류가 발생했어요. 잠시 후 다시 시도해 주세요.";
     }
 
+    private static boolean deadlineExpired() {
+        Deadline deadline = Deadline.current();
+        return deadline != null && deadline.isExpired();
+    }
+
+    // 남은 시간 예산이 backoff보다 짧으면 기다려도 다시 호출할 수 없음
+    private static boolean deadlineWithin(long backoffMs) {
+        Deadline deadline = Deadline.current();
+        return deadline != null && deadline.remainingNanos() <= TimeUnit.MILLISECONDS.toNanos(backoffMs);
+    }
+
     /**
      * 숙소 검색 결과를 자연스러운 대화 형식으로 포맷팅합니다.
      */
@@ -451,6 +538,12 @@ public class ChatService {
         return response.toString();
     }
 
+    private Response<AiMessage> generateWithFormatCallSite(SystemMessage systemMessage, UserMessage userMsg) {
+        try (Scope ignored = LlmCallContext.callSite("format")) {
+            return chatModel.generate(systemMessage, userMsg);
+        }
+    }
+
     /**
      * LLM을 사용하여 포맷팅된 응답을 생성합니다.
      * timeout이 발생해도 재시도하여 최종적으로 LLM 응답을 받아옵니다.
@@ -466,19 +559,28 @@ public class ChatService {
                 SystemMessage systemMessage = SystemMessage.from(systemPrompt);
                 UserMessage userMsg = UserMessage.from(prompt);
                 
-                Response<AiMessage> response = chatModel.generate(systemMessage, userMsg);
+                Response<AiMessage> response = generateWithFormatCallSite(systemMessage, userMsg);
                 return response.content().text();
             } catch (Exception e) {
+                if (LlmOverloadedException.isCause(e)) {
+                    log.warn("LLM 게이트웨이 거절, 기본 포맷팅으로 대체: {}", e.getMessage());
+                    return null;
+                }
+                if (DeadlineExceededException.isCause(e) || deadlineWithin(1000L * (retryCount + 1))) {
+                    log.warn("요청 시간 예산 부족, 기본 포맷팅으로 대체: {}", e.getMessage());
+                    return null;
+                }
                 retryCount++;
                 if (retryCount >= maxRetries) {
                     log.error("LLM 포맷팅 실패 ({}회 재시도 후): {}", maxRetries, e.getMessage());
                     // 최종 실패 시에도 간단한 프롬프트로 재시도
+                    travelMetrics.recordLlmRetry("format", "simplified");
                     try {
                         String simplePrompt = "다음 정보를 친근하고 자연스러운 대화 형식으로 정리해주세요:\n\n" + 
                                             prompt.substring(prompt.indexOf("다음은") > 0 ? prompt.indexOf("다음은") : 0);
                         SystemMessage systemMessage = SystemMessage.from(systemPrompt);
                         UserMessage userMsg = UserMessage.from(simplePrompt);
-                        Response<AiMessage> response = chatModel.generate(systemMessage, userMsg);
+                        Response<AiMessage> response = generateWithFormatCallSite(systemMessage, userMsg);
                         return response.content().text();
                     } catch (Exception finalException) {
                         log.error("최종 LLM 포맷팅 실패: {}", finalException.getMessage());
@@ -486,6 +588,7 @@ public class ChatService {
                     }
                 } else {
                     log.warn("LLM 포맷팅 실패 (재시도 {}/{}): {}", retryCount, maxRetries, e.getMessage());
+                    travelMetrics.recordLlmRetry("format", "error");
                     try {
                         Thread.sleep(1000 * retryCount); // 지수 백오프
                     } catch (InterruptedException ie) {
@@ -500,8 +603,9 @@ public class ChatService {
 
     /**
      * JSON 문자열에서 특수 문자를 이스케이프합니다.
+     * (src/jmh 벤치마크가 같은 패키지에서 호출하므로 package-private)
      */
-    private String escapeJson(String str) {
+    String escapeJson(String str) {
         if (str == null) {
             return "";
         }
@@ -1,11 +1,13 @@
 package com.yd.travelbot.domain.chatbot.domain.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.yd.travelbot.domain.food.application.dto.FoodResponse;
 import com.yd.travelbot.domain.food.domain.entity.Food;
 import com.yd.travelbot.global.config.GeoapifyConfig;
+import com.yd.travelbot.global.external.geoapify.GeoapifyFeature;
+import com.yd.travelbot.global.external.geoapify.GeoapifyFeatureReader;
+import com.yd.travelbot.global.logging.LogRedactor;
+import com.yd.travelbot.global.metrics.TravelMetrics;
 import com.yd.travelbot.global.resolver.GeoapifyCityResolver;
-import com.yd.travelbot.global.util.JsonUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.OkHttpClient;
@@ -22,11 +24,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GeoapifyPlacesAgent {
 
-    private static final String GEOAPIFY_PLACES_API_BASE = "https://api.geoapify.com/v2/places";
+    private static final int RESULT_LIMIT = 20;
 
     private final GeoapifyConfig geoapifyConfig;
     private final GeoapifyCityResolver cityResolver;
-    private final OkHttpClient http = new OkHttpClient();
+    private final OkHttpClient http;
+    private final TravelMetrics travelMetrics;
 
     public List<FoodResponse> searchFood(String city, String countryCode, String cuisine) {
         Double[] coord = cityResolver.resolveCoordinates(city, countryCode);
@@ -37,26 +40,26 @@ public class GeoapifyPlacesAgent {
         double lon = coord[0];
         double lat = coord[1];
 
-        okhttp3.HttpUrl.Builder url = okhttp3.HttpUrl.parse(GEOAPIFY_PLACES_API_BASE).newBuilder()
+        okhttp3.HttpUrl.Builder url = okhttp3.HttpUrl.parse(geoapifyConfig.placesUrl()).newBuilder()
                 .addQueryParameter("categories", cuisine != null && !cuisine.isBlank() ? "catering.restaurant" : "catering")
                 .addQueryParameter("filter", String.format("circle:%f,%f,10000", lon, lat))
-                .addQueryParameter("limit", "20")
+                .addQueryParameter("limit", String.valueOf(RESULT_LIMIT))
                 .addQueryParameter("apiKey", geoapifyConfig.getApiKey());
 
         String built = url.build().toString();
-        log.info("Geoapify Places API 요청 URL (agent/food): {}", built);
 
         try {
             Request req = new Request.Builder().url(built).get().build();
             try (Response resp = http.newCall(req).execute()) {
                 if (!resp.isSuccessful()) {
                     String body = resp.body() != null ? resp.body().string() : "";
-                    log.error("Geoapify Places API 실패 status={} body={}", resp.code(), body);
+                    log.error("Geoapify Places API 실패 status={} body={}", resp.code(), LogRedactor.snippet(body));
                     return buildDefaultFoods(city, cuisine, 5);
                 }
-                String body = resp.body() != null ? resp.body().string() : "";
-                JsonNode json = JsonUtil.fromJson(body, JsonNode.class);
-                List<Food> foods = mapFoods(json, city, cuisine);
+                List<Food> foods = resp.body() != null
+                        ? mapFoods(GeoapifyFeatureReader.read(resp.body().byteStream(), RESULT_LIMIT,
+                                feature -> feature.name() != null && !feature.name().isBlank()), city, cuisine)
+                        : new ArrayList<>();
                 if (foods.size() < 5) {
                     foods.addAll(mapDefaultFoods(city, cuisine, 5 - foods.size()));
                 }
@@ -68,25 +71,19 @@ public class GeoapifyPlacesAgent {
         }
     }
 
-    private List<Food> mapFoods(JsonNode jsonNode, String city, String cuisine) {
+    private List<Food> mapFoods(List<GeoapifyFeature> features, String city, String cuisine) {
         List<Food> foods = new ArrayList<>();
-        if (jsonNode.has("features") && jsonNode.get("features").isArray()) {
-            for (JsonNode feature : jsonNode.get("features")) {
-                if (!feature.has("properties")) continue;
-                JsonNode p = feature.get("properties");
-                String name = p.has("name") && !p.get("name").isNull() ? p.get("name").asText() : "";
-                if (name.isBlank()) continue;
-                foods.add(Food.builder()
-                        .id(p.has("place_id") ? p.get("place_id").asText() : "unknown")
-                        .name(name)
-                        .address(p.has("formatted") && !p.get("formatted").isNull() ? p.get("formatted").asText() : "")
-                        .city(city != null ? city : "")
-                        .cuisine(cuisine != null ? cuisine : "현지")
-                        .priceRange(new BigDecimal("30000"))
-                        .rating(p.has("rating") && !p.get("rating").isNull() ? p.get("rating").asDouble() : 4.0)
-                        .description("Geoapify를 통해 검색된 음식점")
-                        .build());
-            }
+        for (GeoapifyFeature feature : features) {
+            foods.add(Food.builder()
+                    .id(feature.placeId() != null ? feature.placeId() : "unknown")
+                    .name(feature.name())
+                    .address(feature.formatted() != null ? feature.formatted() : "")
+                    .city(city != null ? city : "")
+                    .cuisine(cuisine != null ? cuisine : "현지")
+                    .priceRange(new BigDecimal("30000"))
+                    .rating(feature.rating() != null ? feature.rating() : 4.0)
+                    .description("Geoapify를 통해 검색된 음식점")
+                    .build());
         }
         return foods;
     }
@@ -117,6 +114,7 @@ public class GeoapifyPlacesAgent {
     }
 
     private List<FoodResponse> buildDefaultFoods(String city, String cuisine, int minCount) {
+        travelMetrics.recordFallback("food");
         return toResponses(mapDefaultFoods(city, cuisine, Math.max(minCount, 5)));
     }
 }
@@ -5,40 +5,16 @@ import org.springframework.stereotype.Component;
 @Component
 public class IntentAnalyzer {
 
-    public Intent analyze(String userInput) {
-        String lowerInput = userInput.toLowerCase();
-
-        // 숙소 검색
-        if (containsKeywords(lowerInput, "숙소", "호텔", "예약", "accommodation", "hotel", "booking")) {
-            return Intent.ACCOMMODATION;
-        }
-
-        // 음식점 검색
-        if (containsKeywords(lowerInput, "음식", "맛집", "식당", "레스토랑", "food", "restaurant", "cuisine")) {
-            return Intent.FOOD;
-        }
-
-        // 관광지 검색
-        if (containsKeywords(lowerInput, "관광지", "명소", "여행지", "place", "attraction", "tourist")) {
-            return Intent.PLACE;
-        }
+    private final TravelLexicon lexicon = TravelLexicon.getDefault();
 
-        // 환율 변환
-        if (containsKeywords(lowerInput, "환율", "변환", "exchange", "currency", "convert")) {
-            return Intent.CURRENCY;
-        }
-
-        // 일반 대화
-        return Intent.GENERAL;
-    }
-
-    private boolean containsKeywords(String text, String... keywords) {
-        for (String keyword : keywords) {
-            if (text.contains(keyword)) {
-                return true;
-            }
+    public Intent analyze(String userInput) {
+        // 숙소 > 음식점 > 관광지 > 환율 순으로 사전에 적힌 의도 키워드를 한 번에 탐색
+        String intent = lexicon.scan(userInput).best(TravelLexicon.Kind.INTENT);
+        if (intent == null) {
+            // 일반 대화
+            return Intent.GENERAL;
         }
-        return false;
+        return Intent.valueOf(intent);
     }
 
     public enum Intent {
@@ -49,4 +25,3 @@ public class IntentAnalyzer {
         GENERAL
     }
 }
-
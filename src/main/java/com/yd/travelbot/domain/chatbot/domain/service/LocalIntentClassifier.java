@@ -0,0 +1,196 @@
+package com.yd.travelbot.domain.chatbot.domain.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로세스 내 의도 분류기
+ *
+ * 문자 1~3-gram을 해싱한 희소 특징 위에 다중 클래스 로지스틱 회귀(softmax)를 얹은 모델입니다.
+ * 기동 시 번들된 학습 데이터(intent/intent-training.tsv)로 학습하며, 분류 한 번은 수 마이크로초 수준입니다.
+ */
+@Slf4j
+@Component
+public class LocalIntentClassifier {
+
+    static final String TRAINING_RESOURCE = "intent/intent-training.tsv";
+
+    private static final int DIMENSION = 1 << 14;
+    private static final int MAX_GRAM = 3;
+    private static final int EPOCHS = 40;
+    private static final float LEARNING_RATE = 0.5f;
+    private static final long SEED = 42L;
+
+    private static final IntentAnalyzer.Intent[] LABELS = IntentAnalyzer.Intent.values();
+
+    private final float[][] weights = new float[LABELS.length][DIMENSION];
+    private final float[] bias = new float[LABELS.length];
+
+    public LocalIntentClassifier() {
+        this(loadTrainingSet(TRAINING_RESOURCE));
+    }
+
+    LocalIntentClassifier(List<Example> examples) {
+        train(examples);
+        log.info("로컬 의도 분류기 학습 완료: {}개 문장", examples.size());
+    }
+
+    /**
+     * 입력 문장의 의도와 신뢰도(softmax 확률)를 반환합니다.
+     */
+    public Prediction classify(String text) {
+        Features features = Features.of(text);
+        float[] probabilities = probabilities(features);
+        int best = 0;
+        for (int i = 1; i < probabilities.length; i++) {
+            if (probabilities[i] > probabilities[best]) {
+                best = i;
+            }
+        }
+        return new Prediction(LABELS[best], probabilities[best]);
+    }
+
+    private void train(List<Example> examples) {
+        List<Features> features = new ArrayList<>(examples.size());
+        for (Example example : examples) {
+            features.add(Features.of(example.text()));
+        }
+        List<Integer> order = new ArrayList<>(examples.size());
+        for (int i = 0; i < examples.size(); i++) {
+            order.add(i);
+        }
+        Random random = new Random(SEED);
+        for (int epoch = 0; epoch < EPOCHS; epoch++) {
+            Collections.shuffle(order, random);
+            float rate = LEARNING_RATE / (1f + epoch * 0.1f);
+            for (int index : order) {
+                Features x = features.get(index);
+                int target = examples.get(index).intent().ordinal();
+                float[] p = probabilities(x);
+                for (int label = 0; label < LABELS.length; label++) {
+                    float gradient = p[label] - (label == target ? 1f : 0f);
+                    if (gradient == 0f) {
+                        continue;
+                    }
+                    float step = rate * gradient;
+                    float[] w = weights[label];
+                    for (int f = 0; f < x.indices.length; f++) {
+                        w[x.indices[f]] -= step * x.value;
+                    }
+                    bias[label] -= step;
+                }
+            }
+        }
+    }
+
+    private float[] probabilities(Features x) {
+        float[] scores = new float[LABELS.length];
+        float max = Float.NEGATIVE_INFINITY;
+        for (int label = 0; label < LABELS.length; label++) {
+            float[] w = weights[label];
+            float score = bias[label];
+            for (int f = 0; f < x.indices.length; f++) {
+                score += w[x.indices[f]] * x.value;
+            }
+            scores[label] = score;
+            max = Math.max(max, score);
+        }
+        float sum = 0f;
+        for (int label = 0; label < LABELS.length; label++) {
+            scores[label] = (float) Math.exp(scores[label] - max);
+            sum += scores[label];
+        }
+        for (int label = 0; label < LABELS.length; label++) {
+            scores[label] /= sum;
+        }
+        return scores;
+    }
+
+    static List<Example> loadTrainingSet(String resource) {
+        InputStream in = LocalIntentClassifier.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new IllegalStateException("의도 분류 학습 데이터를 찾을 수 없습니다: " + resource);
+        }
+        List<Example> examples = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                int tab = line.indexOf('\t');
+                if (tab < 0) {
+                    continue;
+                }
+                IntentAnalyzer.Intent intent = IntentAnalyzer.Intent.valueOf(line.substring(0, tab).trim());
+                examples.add(new Example(intent, line.substring(tab + 1).trim()));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("의도 분류 학습 데이터 로드 실패: " + resource, e);
+        }
+        return examples;
+    }
+
+    public record Prediction(IntentAnalyzer.Intent intent, float confidence) {
+    }
+
+    record Example(IntentAnalyzer.Intent intent, String text) {
+    }
+
+    /**
+     * 해싱된 문자 n-gram 특징 (모든 특징 값은 1/sqrt(n)으로 정규화)
+     */
+    private static final class Features {
+        private final int[] indices;
+        private final float value;
+
+        private Features(int[] indices) {
+            this.indices = indices;
+            this.value = indices.length == 0 ? 0f : (float) (1.0 / Math.sqrt(indices.length));
+        }
+
+        static Features of(String text) {
+            String normalized = " " + (text == null ? "" : text.toLowerCase(Locale.ROOT).trim()) + " ";
+            int length = normalized.length();
+            int[] indices = new int[length * MAX_GRAM];
+            int count = 0;
+            for (int start = 0; start < length; start++) {
+                int hash = 0;
+                for (int n = 1; n <= MAX_GRAM && start + n <= length; n++) {
+                    char c = normalized.charAt(start + n - 1);
+                    if (Character.isWhitespace(c)) {
+                        c = ' ';
+                    }
+                    hash = hash * 31 + c;
+                    // 공백 한 글자는 정보가 없으므로 제외
+                    if (n == 1 && c == ' ') {
+                        continue;
+                    }
+                    indices[count++] = Math.floorMod(mix(hash * 4 + n), DIMENSION);
+                }
+            }
+            int[] trimmed = new int[count];
+            System.arraycopy(indices, 0, trimmed, 0, count);
+            return new Features(trimmed);
+        }
+
+        private static int mix(int h) {
+            h ^= h >>> 16;
+            h *= 0x85ebca6b;
+            h ^= h >>> 13;
+            return h;
+        }
+    }
+}
@@ -23,6 +23,7 @@ public interface TravelAssistant {
         - searchFood: 음식점 검색 (한국, 일본, 미국, 유럽 등 전 세계 도시 지원)
         - searchPlace: 관광지 검색 (한국, 일본, 미국, 유럽 등 전 세계 도시 지원)
         - convertCurrency: 환율 변환
+        - planTrip: 여행 계획용 관광지, 음식점, 숙소, 환율 묶음 조회 (한 번의 호출로 네 항목을 동시에 조회)
         
         중요 지침:
         - 환율 관련 답변을 생성할 때는 반드시 다음 유의사항을 마지막 줄에 포함하세요:
@@ -31,7 +32,8 @@ public interface TravelAssistant {
         
         예를 들어:
         - "제주도 관광지와 맛집 추천해줘" → searchPlace와 searchFood 도구를 사용하여 통합 답변
-        - "서울 3일 여행 계획 세워줘" → searchPlace, searchFood, searchAccommodation을 사용하여 일정 제시
+        - "서울 3일 여행 계획 세워줘" → planTrip 도구를 한 번 호출하여 일정 제시
+        - "오사카 2박 3일 일정 짜줘" → planTrip 도구에 localCurrency로 JPY를 넣어 호출
         - "Tokyo에서 맛집과 관광지 추천해줘" → searchPlace와 searchFood 도구를 사용
         - "Paris 숙소와 관광지 찾아줘" → searchAccommodation과 searchPlace 도구를 사용
         
@@ -0,0 +1,154 @@
+package com.yd.travelbot.domain.chatbot.domain.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.yd.travelbot.global.util.AhoCorasickMatcher;
+import com.yd.travelbot.global.util.AhoCorasickMatcher.Boundary;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도시/음식/관광지 분류/의도 키워드/통화 표현 사전
+ *
+ * 사전 파일(dictionary/travel-lexicon.tsv)의 모든 별칭을 하나의 Aho-Corasick 오토마톤으로 컴파일해
+ * 입력을 한 번만 훑어 모든 종류의 어휘를 찾습니다.
+ * 별칭과 입력은 모두 NFKC로 정규화해 비교하므로, 자모가 분리된(NFD) 한글(macOS에서 붙여 넣은 글 등)이나
+ * 전각 영문자(ＵＳＤ)도 같은 어휘로 찾습니다.
+ */
+@Slf4j
+public final class TravelLexicon {
+
+    static final String DEFAULT_RESOURCE = "dictionary/travel-lexicon.tsv";
+
+    public enum Kind {
+        CITY,
+        CUISINE,
+        CATEGORY,
+        INTENT,
+        CURRENCY
+    }
+
+    private final AhoCorasickMatcher<Entry> matcher;
+
+    private TravelLexicon(AhoCorasickMatcher<Entry> matcher) {
+        this.matcher = matcher;
+    }
+
+    /**
+     * 기본 사전 (최초 사용 시 한 번만 로드)
+     */
+    public static TravelLexicon getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    public static TravelLexicon load(String resource) {
+        InputStream in = TravelLexicon.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new IllegalStateException("여행 어휘 사전을 찾을 수 없습니다: " + resource);
+        }
+        AhoCorasickMatcher.Builder<Entry> builder = AhoCorasickMatcher.builder();
+        Map<Kind, Integer> ranks = new EnumMap<>(Kind.class);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t");
+                if (columns.length < 2) {
+                    continue;
+                }
+                Kind kind = Kind.valueOf(columns[0].trim());
+                String canonical = columns[1].trim();
+                int rank = ranks.merge(kind, 1, Integer::sum);
+                Entry entry = new Entry(kind, canonical, rank);
+                String pattern = normalize(canonical);
+                builder.add(pattern, entry, boundaryOf(pattern));
+                if (columns.length > 2) {
+                    for (String alias : columns[2].split("\\|")) {
+                        String trimmed = normalize(alias.trim());
+                        if (!trimmed.isEmpty()) {
+                            builder.add(trimmed, entry, boundaryOf(trimmed));
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("여행 어휘 사전 로드 실패: " + resource, e);
+        }
+        AhoCorasickMatcher<Entry> matcher = builder.build();
+        log.info("여행 어휘 사전 로드 완료: {}개 패턴", matcher.size());
+        return new TravelLexicon(matcher);
+    }
+
+    /**
+     * 입력을 한 번 훑어 종류별로 가장 우선순위가 높은(사전에서 먼저 적힌) 어휘와 통화 토큰을 모읍니다.
+     */
+    public Matches scan(String input) {
+        Matches matches = new Matches();
+        if (input == null || input.isEmpty()) {
+            return matches;
+        }
+        matcher.scan(normalize(input), (start, end, entry) -> matches.accept(entry));
+        return matches;
+    }
+
+    // 대부분의 입력은 이미 정규화돼 있으므로 확인만 하고 그대로 씀
+    private static String normalize(String text) {
+        return Normalizer.isNormalized(text, Normalizer.Form.NFKC)
+                ? text
+                : Normalizer.normalize(text, Normalizer.Form.NFKC);
+    }
+
+    // 영문 별칭은 단어 중간에서 매칭되지 않도록 시작 경계를 요구하고, 짧은 약어(LA, KL, won)는 양쪽 경계를 요구
+    private static Boundary boundaryOf(String alias) {
+        char first = Character.toLowerCase(alias.charAt(0));
+        if (first < 'a' || first > 'z') {
+            return Boundary.NONE;
+        }
+        return alias.length() <= 3 ? Boundary.BOTH : Boundary.START;
+    }
+
+    private record Entry(Kind kind, String canonical, int rank) {
+    }
+
+    public static final class Matches {
+        private final Map<Kind, Entry> best = new EnumMap<>(Kind.class);
+        private final Set<String> currencyTokens = new HashSet<>();
+
+        private void accept(Entry entry) {
+            if (entry.kind() == Kind.CURRENCY) {
+                currencyTokens.add(entry.canonical());
+            }
+            Entry current = best.get(entry.kind());
+            if (current == null || entry.rank() < current.rank()) {
+                best.put(entry.kind(), entry);
+            }
+        }
+
+        /**
+         * 해당 종류에서 가장 우선순위가 높은 어휘의 표준 이름, 없으면 null
+         */
+        public String best(Kind kind) {
+            Entry entry = best.get(kind);
+            return entry != null ? entry.canonical() : null;
+        }
+
+        public boolean hasCurrencyToken(String token) {
+            return currencyTokens.contains(token);
+        }
+    }
+
+    private static final class DefaultHolder {
+        private static final TravelLexicon INSTANCE = load(DEFAULT_RESOURCE);
+    }
+}
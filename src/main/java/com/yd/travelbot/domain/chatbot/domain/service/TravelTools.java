@@ -12,15 +12,31 @@ import com.yd.travelbot.domain.food.application.usecase.SearchFoodUseCase;
 import com.yd.travelbot.domain.place.application.dto.PlaceSearchRequest;
 import com.yd.travelbot.domain.place.application.dto.PlaceResponse;
 import com.yd.travelbot.domain.place.application.usecase.SearchPlaceUseCase;
+import com.yd.travelbot.domain.trip.application.dto.TripPlanRequest;
+import com.yd.travelbot.domain.trip.application.dto.TripPlanResponse;
+import com.yd.travelbot.domain.trip.application.usecase.PlanTripUseCase;
+import com.yd.travelbot.global.config.SearchTimeoutConfig;
+import com.yd.travelbot.global.deadline.Deadline;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+import com.yd.travelbot.global.tracing.TravelTracing;
 import dev.langchain4j.agent.tool.P;
 import dev.langchain4j.agent.tool.Tool;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Scope;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * LangChain4j Tools를 사용하여 멀티홉 추론을 지원하는 여행 관련 도구들
@@ -30,10 +46,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TravelTools {
 
+    // planTrip은 네 항목을 한 번에 돌려주므로 항목마다 상위 몇 개만
+    private static final int PLAN_ITEMS = 5;
+
     private final SearchAccommodationUseCase searchAccommodationUseCase;
     private final SearchFoodUseCase searchFoodUseCase;
     private final SearchPlaceUseCase searchPlaceUseCase;
     private final ConvertCurrencyUseCase convertCurrencyUseCase;
+    private final PlanTripUseCase planTripUseCase;
+    private final TravelMetrics travelMetrics;
+    private final SearchTimeoutConfig searchTimeoutConfig;
 
     @Tool("특정 도시의 숙소를 검색합니다. 도시명은 한국어, 영어, 또는 다른 언어로 입력할 수 있습니다.")
     public String searchAccommodation(
@@ -42,7 +64,12 @@ public class TravelTools {
             @P("체크아웃 날짜 (YYYY-MM-DD 형식, 선택사항)") String checkOut,
             @P("게스트 수 (선택사항, 기본값: 1)") Integer guests
     ) {
-        try {
+        long start = System.nanoTime();
+        boolean success = true;
+        Span span = TravelTracing.startSpan("tool searchAccommodation");
+        span.setAttribute("travelbot.tool", "searchAccommodation");
+        ChatProgress.toolStarted("searchAccommodation");
+        try (Scope ignored = span.makeCurrent()) {
             LocalDate checkInDate = checkIn != null && !checkIn.isEmpty() 
                 ? LocalDate.parse(checkIn) 
                 : LocalDate.now().plusDays(1);
@@ -58,7 +85,8 @@ public class TravelTools {
                     .guests(guestCount)
                     .build();
 
-            List<AccommodationResponse> accommodations = searchAccommodationUseCase.execute(request);
+            List<AccommodationResponse> accommodations = await(searchAccommodationUseCase.executeAsync(request),
+                    searchTimeoutConfig.getAccommodation());
             
             if (accommodations.isEmpty()) {
                 return String.format("%s에서 숙소를 찾지 못했습니다.", city);
@@ -66,8 +94,8 @@ public class TravelTools {
 
             StringBuilder result = new StringBuilder();
             result.append(String.format("%s 숙소 검색 결과 (%d개):\n", city, accommodations.size()));
-            int count = Math.min(accommodations.size(), 10);
-            for (int i = 0; i < count; i++) {
+            // 검색 유스케이스가 순위를 매겨 상위 ranking.top-k개만 돌려줌
+            for (int i = 0; i < accommodations.size(); i++) {
                 AccommodationResponse acc = accommodations.get(i);
                 result.append(String.format("%d. %s", i + 1, acc.getName()));
                 if (acc.getAddress() != null && !acc.getAddress().isEmpty()) {
@@ -81,10 +109,27 @@ public class TravelTools {
                 }
                 result.append("\n");
             }
+            result.append(staleNote(accommodations.get(0).getStaleAsOf()));
             return result.toString();
+        } catch (CancellationException e) {
+            success = false;
+            TravelTracing.fail(span, e);
+            log.info("대화 턴 취소로 숙소 검색 중단");
+            return "숙소 검색이 취소되었습니다.";
+        } catch (TimeoutException e) {
+            success = false;
+            TravelTracing.fail(span, e);
+            log.warn("숙소 검색 시간 초과");
+            return "숙소 검색 응답이 늦어지고 있습니다. 잠시 후 다시 시도해 주세요.";
         } catch (Exception e) {
+            success = false;
+            TravelTracing.fail(span, e);
             log.error("숙소 검색 실패: {}", e.getMessage(), e);
             return String.format("숙소 검색 중 오류가 발생했습니다: %s", e.getMessage());
+        } finally {
+            span.end();
+            travelMetrics.recordTool("searchAccommodation", System.nanoTime() - start, success);
+            ChatProgress.toolFinished("searchAccommodation", success);
         }
     }
 
@@ -93,13 +138,18 @@ public class TravelTools {
             @P("검색할 도시명 (예: 서울, 부산, 제주도, Tokyo, Paris, New York)") String city,
             @P("음식 종류 (예: 한식, 중식, 일식, 양식, Korean, Chinese, Japanese, Italian, 선택사항)") String cuisine
     ) {
-        try {
+        long start = System.nanoTime();
+        boolean success = true;
+        Span span = TravelTracing.startSpan("tool searchFood");
+        span.setAttribute("travelbot.tool", "searchFood");
+        ChatProgress.toolStarted("searchFood");
+        try (Scope ignored = span.makeCurrent()) {
             FoodSearchRequest request = FoodSearchRequest.builder()
                     .city(city)
                     .cuisine(cuisine)
                     .build();
 
-            List<FoodResponse> foods = searchFoodUseCase.execute(request);
+            List<FoodResponse> foods = await(searchFoodUseCase.executeAsync(request), searchTimeoutConfig.getFood());
             
             if (foods.isEmpty()) {
                 return String.format("%s에서 음식점을 찾지 못했습니다.", city);
@@ -107,8 +157,8 @@ public class TravelTools {
 
             StringBuilder result = new StringBuilder();
             result.append(String.format("%s 음식점 검색 결과 (%d개):\n", city, foods.size()));
-            int count = Math.min(foods.size(), 10);
-            for (int i = 0; i < count; i++) {
+            // 검색 유스케이스가 순위를 매겨 상위 ranking.top-k개만 돌려줌
+            for (int i = 0; i < foods.size(); i++) {
                 FoodResponse food = foods.get(i);
                 result.append(String.format("%d. %s", i + 1, food.getName()));
                 if (food.getDescription() != null && !food.getDescription().isEmpty()) {
@@ -128,10 +178,27 @@ public class TravelTools {
                 }
                 result.append("\n");
             }
+            result.append(staleNote(foods.get(0).getStaleAsOf()));
             return result.toString();
+        } catch (CancellationException e) {
+            success = false;
+            TravelTracing.fail(span, e);
+            log.info("대화 턴 취소로 음식점 검색 중단");
+            return "음식점 검색이 취소되었습니다.";
+        } catch (TimeoutException e) {
+            success = false;
+            TravelTracing.fail(span, e);
+            log.warn("음식점 검색 시간 초과");
+            return "음식점 검색 응답이 늦어지고 있습니다. 잠시 후 다시 시도해 주세요.";
         } catch (Exception e) {
+            success = false;
+            TravelTracing.fail(span, e);
             log.error("음식점 검색 실패: {}", e.getMessage(), e);
             return String.format("음식점 검색 중 오류가 발생했습니다: %s", e.getMessage());
+        } finally {
+            span.end();
+            travelMetrics.recordTool("searchFood", System.nanoTime() - start, success);
+            ChatProgress.toolFinished("searchFood", success);
         }
     }
 
@@ -140,13 +207,18 @@ public class TravelTools {
             @P("검색할 도시명 (예: 서울, 부산, 제주도, Tokyo, Paris, New York)") String city,
             @P("카테고리 (예: 박물관, 미술관, 공원, 해변, museum, park, beach, 선택사항)") String category
     ) {
-        try {
+        long start = System.nanoTime();
+        boolean success = true;
+        Span span = TravelTracing.startSpan("tool searchPlace");
+        span.setAttribute("travelbot.tool", "searchPlace");
+        ChatProgress.toolStarted("searchPlace");
+        try (Scope ignored = span.makeCurrent()) {
             PlaceSearchRequest request = PlaceSearchRequest.builder()
                     .city(city)
                     .category(category)
                     .build();
 
-            List<PlaceResponse> places = searchPlaceUseCase.execute(request);
+            List<PlaceResponse> places = await(searchPlaceUseCase.executeAsync(request), searchTimeoutConfig.getPlace());
             
             if (places.isEmpty()) {
                 return String.format("%s에서 관광지를 찾지 못했습니다.", city);
@@ -154,8 +226,8 @@ public class TravelTools {
 
             StringBuilder result = new StringBuilder();
             result.append(String.format("%s 관광지 검색 결과 (%d개):\n", city, places.size()));
-            int count = Math.min(places.size(), 10);
-            for (int i = 0; i < count; i++) {
+            // 검색 유스케이스가 순위를 매겨 상위 ranking.top-k개만 돌려줌
+            for (int i = 0; i < places.size(); i++) {
                 PlaceResponse place = places.get(i);
                 result.append(String.format("%d. %s", i + 1, place.getName()));
                 if (place.getAddress() != null && !place.getAddress().isEmpty()) {
@@ -169,10 +241,27 @@ public class TravelTools {
                 }
                 result.append("\n");
             }
+            result.append(staleNote(places.get(0).getStaleAsOf()));
             return result.toString();
+        } catch (CancellationException e) {
+            success = false;
+            TravelTracing.fail(span, e);
+            log.info("대화 턴 취소로 관광지 검색 중단");
+            return "관광지 검색이 취소되었습니다.";
+        } catch (TimeoutException e) {
+            success = false;
+            TravelTracing.fail(span, e);
+            log.warn("관광지 검색 시간 초과");
+            return "관광지 검색 응답이 늦어지고 있습니다. 잠시 후 다시 시도해 주세요.";
         } catch (Exception e) {
+            success = false;
+            TravelTracing.fail(span, e);
             log.error("관광지 검색 실패: {}", e.getMessage(), e);
             return String.format("관광지 검색 중 오류가 발생했습니다: %s", e.getMessage());
+        } finally {
+            span.end();
+            travelMetrics.recordTool("searchPlace", System.nanoTime() - start, success);
+            ChatProgress.toolFinished("searchPlace", success);
         }
     }
 
@@ -182,14 +271,20 @@ public class TravelTools {
             @P("출발 통화 코드 (예: KRW, USD, EUR, JPY)") String fromCurrency,
             @P("목표 통화 코드 (예: KRW, USD, EUR, JPY)") String toCurrency
     ) {
-        try {
+        long start = System.nanoTime();
+        boolean success = true;
+        Span span = TravelTracing.startSpan("tool convertCurrency");
+        span.setAttribute("travelbot.tool", "convertCurrency");
+        ChatProgress.toolStarted("convertCurrency");
+        try (Scope ignored = span.makeCurrent()) {
             CurrencyConvertRequest request = CurrencyConvertRequest.builder()
                     .fromCurrency(fromCurrency)
                     .toCurrency(toCurrency)
                     .amount(amount)
                     .build();
 
-            CurrencyResponse response = convertCurrencyUseCase.execute(request);
+            CurrencyResponse response = await(convertCurrencyUseCase.executeAsync(request),
+                    searchTimeoutConfig.getCurrency());
             
             String result = String.format(
                 "%s %s = %s %s (환율: 1 %s = %s %s)",
@@ -203,13 +298,172 @@ public class TravelTools {
             );
             
             // 유의사항 추가
+            if (response.getStaleAsOf() != null) {
+                result += "\n" + staleNote(response.getStaleAsOf()).stripTrailing();
+            }
             result += "\n\n[유의사항] 본 환율은 한국수출입은행의 일자 기준 고시 환율로, 실시간 시세와 다를 수 있습니다. 일부 통화는 CNH(역외 위안) 또는 JPY(100)처럼 단위 표기가 적용됩니다.";
             
             return result;
+        } catch (CancellationException e) {
+            success = false;
+            TravelTracing.fail(span, e);
+            log.info("대화 턴 취소로 환율 변환 중단");
+            return "환율 변환이 취소되었습니다.";
+        } catch (TimeoutException e) {
+            success = false;
+            TravelTracing.fail(span, e);
+            log.warn("환율 변환 시간 초과");
+            return "환율 변환 응답이 늦어지고 있습니다. 잠시 후 다시 시도해 주세요.";
         } catch (Exception e) {
+            success = false;
+            TravelTracing.fail(span, e);
             log.error("환율 변환 실패: {}", e.getMessage(), e);
             return String.format("환율 변환 중 오류가 발생했습니다: %s", e.getMessage());
+        } finally {
+            span.end();
+            travelMetrics.recordTool("convertCurrency", System.nanoTime() - start, success);
+            ChatProgress.toolFinished("convertCurrency", success);
+        }
+    }
+
+    @Tool("여행 일정을 세울 때 한 도시의 관광지, 음식점, 숙소, 환율을 한 번에 조회합니다. "
+            + "여러 항목이 함께 필요하면 개별 검색 도구 대신 이 도구를 한 번만 호출하세요.")
+    public String planTrip(
+            @P("여행할 도시명 (예: 서울, 부산, 오사카, Tokyo, Paris)") String city,
+            @P("체크인 날짜 (YYYY-MM-DD 형식, 선택사항)") String checkIn,
+            @P("숙박 일수 (선택사항, 기본값: 1, 예: 3일 여행이면 2)") Integer nights,
+            @P("게스트 수 (선택사항, 기본값: 1)") Integer guests,
+            @P("현지 통화 코드 (예: JPY, USD, EUR, 국내 여행이면 생략)") String localCurrency
+    ) {
+        long start = System.nanoTime();
+        boolean success = true;
+        Span span = TravelTracing.startSpan("tool planTrip");
+        span.setAttribute("travelbot.tool", "planTrip");
+        ChatProgress.toolStarted("planTrip");
+        try (Scope ignored = span.makeCurrent()) {
+            TripPlanRequest request = TripPlanRequest.builder()
+                    .city(city)
+                    .checkIn(checkIn != null && !checkIn.isEmpty() ? LocalDate.parse(checkIn) : null)
+                    .nights(nights)
+                    .guests(guests)
+                    .localCurrency(localCurrency)
+                    .build();
+
+            TripPlanResponse plan = planTripUseCase.execute(request);
+
+            StringBuilder result = new StringBuilder();
+            result.append(String.format("%s 여행 계획 (%s ~ %s, %d명)\n",
+                    city, plan.getCheckIn(), plan.getCheckOut(), plan.getGuests()));
+
+            result.append("\n[관광지]\n");
+            int count = Math.min(plan.getPlaces().size(), PLAN_ITEMS);
+            for (int i = 0; i < count; i++) {
+                PlaceResponse place = plan.getPlaces().get(i);
+                result.append(String.format("%d. %s", i + 1, place.getName()));
+                if (place.getCategory() != null && !place.getCategory().isEmpty()) {
+                    result.append(String.format(" (%s)", place.getCategory()));
+                }
+                result.append("\n");
+            }
+            if (count > 0) {
+                result.append(staleNote(plan.getPlaces().get(0).getStaleAsOf()));
+            }
+
+            result.append("\n[음식점]\n");
+            count = Math.min(plan.getFoods().size(), PLAN_ITEMS);
+            for (int i = 0; i < count; i++) {
+                FoodResponse food = plan.getFoods().get(i);
+                result.append(String.format("%d. %s", i + 1, food.getName()));
+                if (food.getCuisine() != null && !food.getCuisine().isEmpty()) {
+                    result.append(String.format(" [%s]", food.getCuisine()));
+                }
+                result.append("\n");
+            }
+            if (count > 0) {
+                result.append(staleNote(plan.getFoods().get(0).getStaleAsOf()));
+            }
+
+            result.append("\n[숙소]\n");
+            count = Math.min(plan.getAccommodations().size(), PLAN_ITEMS);
+            for (int i = 0; i < count; i++) {
+                AccommodationResponse acc = plan.getAccommodations().get(i);
+                result.append(String.format("%d. %s", i + 1, acc.getName()));
+                if (acc.getPrice() != null && acc.getCurrency() != null) {
+                    result.append(String.format(" (%s %s/박)", acc.getPrice(), acc.getCurrency()));
+                }
+                result.append("\n");
+            }
+            if (count > 0) {
+                result.append(staleNote(plan.getAccommodations().get(0).getStaleAsOf()));
+            }
+
+            CurrencyResponse currency = plan.getCurrency();
+            if (currency != null) {
+                result.append(String.format("\n[환율] 1 %s = %s %s\n",
+                        currency.getFromCurrency(), currency.getRate(), currency.getToCurrency()));
+                result.append(staleNote(currency.getStaleAsOf()));
+                result.append("[유의사항] 본 환율은 한국수출입은행의 일자 기준 고시 환율로, 실시간 시세와 다를 수 있습니다. 일부 통화는 CNH(역외 위안) 또는 JPY(100)처럼 단위 표기가 적용됩니다.\n");
+            }
+
+            if (!plan.getIncomplete().isEmpty()) {
+                span.setAttribute("travelbot.trip.incomplete", String.join(",", plan.getIncomplete()));
+                result.append(String.format("\n(응답이 늦거나 실패해 빠진 항목: %s - 필요하면 개별 검색 도구로 다시 조회하세요)\n",
+                        String.join(", ", plan.getIncomplete())));
+            }
+            return result.toString();
+        } catch (Exception e) {
+            success = false;
+            TravelTracing.fail(span, e);
+            log.error("여행 계획 조회 실패: {}", e.getMessage(), e);
+            return String.format("여행 계획 조회 중 오류가 발생했습니다: %s", e.getMessage());
+        } finally {
+            span.end();
+            travelMetrics.recordTool("planTrip", System.nanoTime() - start, success);
+            ChatProgress.toolFinished("planTrip", success);
+        }
+    }
+
+    /**
+     * 비동기 조회 결과를 timeout까지만 기다립니다. (도구 호출 API가 동기이므로 도구마다 한 번만 기다림)
+     * 대화 턴의 남은 시간 예산(Deadline)이 더 짧으면 그만큼만 기다립니다. 시간을 넘기면 future를 취소하고 TimeoutException을, 조회가 실패하면 원래 예외를 던집니다.
+     * 기다리는 중에 인터럽트되면(대화 턴 취소) future를 취소하고 CancellationException을 던집니다.
+     */
+    private <T> T await(CompletableFuture<T> future, Duration timeout) throws Exception {
+        try {
+            return future.get(Deadline.clamp(timeout).toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw e;
+        } catch (InterruptedException e) {
+            // 대화 턴이 취소됨: 조회도 취소하고 인터럽트 상태를 남겨 이어지는 모델 호출을 막음
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("대화 턴 취소로 조회 중단");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 외부 API 장애로 마지막 정상 조회 결과를 대신 받았으면 언제 받은 결과인지 알리는 문구 (최신 결과면 빈 문자열)
+     */
+    private String staleNote(Instant staleAsOf) {
+        if (staleAsOf == null) {
+            return "";
+        }
+        Duration age = Duration.between(staleAsOf, Instant.now());
+        String ago;
+        if (age.toMinutes() < 60) {
+            ago = Math.max(1, age.toMinutes()) + "분";
+        } else if (age.toHours() < 24) {
+            ago = age.toHours() + "시간";
+        } else {
+            ago = age.toDays() + "일";
         }
+        return String.format("※ 외부 서비스 장애로 %s 전에 조회한 결과입니다. 최신 정보와 다를 수 있습니다.\n", ago);
     }
 
     private String formatAmount(BigDecimal amount, String currency) {
@@ -1,13 +1,28 @@
 package com.yd.travelbot.domain.chatbot.ui;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yd.travelbot.domain.chatbot.application.dto.request.ChatBatchRequest;
 import com.yd.travelbot.domain.chatbot.application.dto.request.ChatRequest;
+import com.yd.travelbot.domain.chatbot.application.dto.response.ChatBatchResult;
 import com.yd.travelbot.domain.chatbot.application.dto.response.ChatResponse;
+import com.yd.travelbot.domain.chatbot.application.usecase.ProcessChatBatchUseCase;
 import com.yd.travelbot.domain.chatbot.application.usecase.ProcessChatMessageUseCase;
+import com.yd.travelbot.global.config.SearchTimeoutConfig;
+import com.yd.travelbot.global.deadline.Deadline;
+import com.yd.travelbot.global.tracing.TravelTracing;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Scope;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,12 +33,24 @@ import java.util.Map;
 public class ChatController {
 
     private final ProcessChatMessageUseCase processChatMessageUseCase;
+    private final ProcessChatBatchUseCase processChatBatchUseCase;
+    private final ObjectMapper objectMapper;
+    private final SearchTimeoutConfig searchTimeoutConfig;
 
+    /**
+     * 대화 턴 하나를 처리합니다. 턴 전체에 search-timeout.chat-turn 시간 예산(Deadline)을 걸어
+     * 툴 조회, 외부 API 호출, LLM 호출과 재시도가 모두 그 안에서 끝나도록 합니다.
+     */
     @PostMapping
     public ResponseEntity<Map<String, Object>> chat(@RequestBody WebChatRequest request) {
         Map<String, Object> response = new HashMap<>();
-        
-        try {
+        boolean debug = Boolean.TRUE.equals(request.getDebug());
+
+        Span span = TravelTracing.startRootSpan("POST /api/chat", SpanKind.SERVER, debug);
+        span.setAttribute("http.request.method", "POST");
+        span.setAttribute("http.route", "/api/chat");
+        try (Scope ignored = span.makeCurrent();
+             Scope budget = Deadline.start(searchTimeoutConfig.getChatTurn())) {
             ChatRequest domainRequest = ChatRequest.builder()
                     .message(request.getMessage())
                     .build();
@@ -36,17 +63,76 @@ public class ChatController {
             response.put("message", chatResponse.getMessage());
             response.put("sessionId", chatResponse.getSessionId());
         } catch (Exception e) {
+            TravelTracing.fail(span, e);
             log.error("챗봇 처리 중 오류 발생: {}", e.getMessage(), e);
             response.put("success", false);
             response.put("message", "죄송합니다. 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            span.end();
         }
 
+        if (debug) {
+            response.put("debug", debugInfo(span));
+        }
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 여러 메시지를 한 번에 처리하고, 결과를 끝나는 순서대로 한 줄에 하나씩(NDJSON) 보냅니다. (평가/회귀 테스트용)
+     * 요청이 잘못됐으면 처리를 시작하기 전에 400으로 응답합니다.
+     */
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> batch(@RequestBody ChatBatchRequest request) {
+        processChatBatchUseCase.validate(request);
+
+        StreamingResponseBody body = out -> {
+            Span span = TravelTracing.startRootSpan("POST /api/chat/batch", SpanKind.SERVER, false);
+            span.setAttribute("http.request.method", "POST");
+            span.setAttribute("http.route", "/api/chat/batch");
+            span.setAttribute("travelbot.batch.size", request.getItems().size());
+            try (Scope ignored = span.makeCurrent()) {
+                processChatBatchUseCase.execute(request, result -> writeLine(out, result));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                TravelTracing.fail(span, e);
+            } catch (RuntimeException e) {
+                TravelTracing.fail(span, e);
+                log.error("일괄 대화 처리 중단: {}", e.getMessage());
+                throw e;
+            } finally {
+                span.end();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, ChatBatchResult result) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(result));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 이번 턴의 trace ID와 타이밍 트리 (tracing이 꺼져 있으면 timings는 null)
+     */
+    private static Map<String, Object> debugInfo(Span span) {
+        Map<String, Object> debug = new HashMap<>();
+        debug.put("traceId", span.getSpanContext().isValid() ? span.getSpanContext().getTraceId() : null);
+        debug.put("timings", TravelTracing.collectTimings(span));
+        return debug;
+    }
+
     public static class WebChatRequest {
         private String message;
         private String sessionId;
+        // true면 응답에 이번 턴의 타이밍 트리(debug)를 포함
+        private Boolean debug;
 
         public String getMessage() {
             return message;
@@ -63,6 +149,14 @@ public class ChatController {
         public void setSessionId(String sessionId) {
             this.sessionId = sessionId;
         }
+
+        public Boolean getDebug() {
+            return debug;
+        }
+
+        public void setDebug(Boolean debug) {
+            this.debug = debug;
+        }
     }
 }
 
@@ -0,0 +1,318 @@
+package com.yd.travelbot.domain.chatbot.ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yd.travelbot.domain.chatbot.application.dto.request.ChatRequest;
+import com.yd.travelbot.domain.chatbot.application.dto.response.ChatEvent;
+import com.yd.travelbot.domain.chatbot.application.dto.response.ChatResponse;
+import com.yd.travelbot.domain.chatbot.application.usecase.ProcessChatMessageUseCase;
+import com.yd.travelbot.domain.chatbot.domain.service.ChatProgress;
+import com.yd.travelbot.global.config.ChatSocketConfig;
+import com.yd.travelbot.global.deadline.Cancellation;
+import com.yd.travelbot.global.deadline.Deadline;
+import com.yd.travelbot.global.tracing.TravelTracing;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Scope;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket 대화 (/ws/chat)
+ *
+ * - 연결 하나가 대화 세션 하나입니다. ?sessionId=로 기존 세션을 이어가고, 없으면 새로 만들어 session 이벤트로 알려줍니다.
+ * - 클라이언트는 {"type":"message","message":"..."}로 질문하고 {"type":"cancel"}로 진행 중인 턴을 취소합니다.
+ *   턴은 연결마다 하나씩만 진행하며, 진행 중에 온 질문은 error 이벤트로 거절합니다.
+ *   취소한 턴도 처리 스레드가 실제로 끝날 때까지는 진행 중으로 보므로, 인터럽트를 무시하는 모델 호출이 남아 있으면
+ *   같은 대화 메모리에 두 턴이 겹치지 않도록 다음 질문을 거절합니다.
+ * - 턴을 처리하는 동안 툴 호출 시작/종료를 tool 이벤트로, 끝나면 답변을 answer 이벤트로 보냅니다.
+ * - 취소하거나 연결이 끊기면 턴의 취소 범위(Cancellation)를 취소하고 턴을 처리하는 스레드를 인터럽트합니다.
+ *   턴에서 시작한 외부 조회는 진행 중인 OkHttp 호출까지 취소되고, 게이트웨이 대기 중이던 LLM 호출은 대기열에서 빠지며,
+ *   이후 모델/툴 호출은 시작하지 않습니다. 이미 모델에 보낸 LLM 호출은 응답이 올 때까지(또는 시간 예산까지) 이어집니다.
+ * - 턴마다 HTTP 대화와 같은 시간 예산(search-timeout.chat-turn)을 겁니다.
+ */
+@Slf4j
+public class ChatWebSocketHandler extends TextWebSocketHandler {
+
+    static final String MESSAGE = "message";
+    static final String CANCEL = "cancel";
+
+    private final ProcessChatMessageUseCase processChatMessageUseCase;
+    private final ObjectMapper objectMapper;
+    private final ChatSocketConfig chatSocketConfig;
+    private final Duration turnBudget;
+    private final ExecutorService turns;
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+
+    public ChatWebSocketHandler(ProcessChatMessageUseCase processChatMessageUseCase, ObjectMapper objectMapper,
+                                ChatSocketConfig chatSocketConfig, Duration turnBudget) {
+        this.processChatMessageUseCase = processChatMessageUseCase;
+        this.objectMapper = objectMapper;
+        this.chatSocketConfig = chatSocketConfig;
+        this.turnBudget = turnBudget;
+        AtomicInteger counter = new AtomicInteger();
+        this.turns = Executors.newFixedThreadPool(chatSocketConfig.getMaxConcurrentTurns(), runnable -> {
+            Thread thread = new Thread(runnable, "chat-socket-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        turns.shutdownNow();
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        String sessionId = requestedSessionId(session);
+        // 툴 이벤트(턴 스레드)와 취소/오류 응답(컨테이너 스레드)이 동시에 보내도 안전하도록 감쌈
+        WebSocketSession outbound = new ConcurrentWebSocketSessionDecorator(session,
+                (int) chatSocketConfig.getSendTimeLimit().toMillis(), chatSocketConfig.getSendBufferSize());
+        Connection connection = new Connection(outbound, sessionId);
+        connections.put(session.getId(), connection);
+        send(connection, ChatEvent.builder().type(ChatEvent.SESSION).sessionId(sessionId).build());
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage textMessage) {
+        Connection connection = connections.get(session.getId());
+        if (connection == null) {
+            return;
+        }
+        SocketMessage message;
+        try {
+            message = objectMapper.readValue(textMessage.getPayload(), SocketMessage.class);
+        } catch (IOException e) {
+            sendError(connection, "메시지 형식이 올바르지 않습니다.");
+            return;
+        }
+        if (CANCEL.equals(message.getType())) {
+            cancel(connection);
+        } else if (MESSAGE.equals(message.getType())) {
+            start(connection, message.getMessage());
+        } else {
+            sendError(connection, "알 수 없는 메시지 종류입니다: " + message.getType());
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Connection connection = connections.remove(session.getId());
+        if (connection != null && connection.cancel()) {
+            log.info("연결 종료로 진행 중인 턴 취소: {}", connection.sessionId);
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.warn("WebSocket 전송 오류 ({}): {}", session.getId(), exception.getMessage());
+    }
+
+    int activeConnections() {
+        return connections.size();
+    }
+
+    private void start(Connection connection, String text) {
+        if (text == null || text.isBlank()) {
+            sendError(connection, "메시지를 입력해주세요.");
+            return;
+        }
+        Turn turn = new Turn();
+        synchronized (connection) {
+            if (connection.turn != null && !connection.turn.isFinished()) {
+                sendError(connection, connection.turn.open.get()
+                        ? "이전 답변이 끝난 뒤에 보내 주세요."
+                        : "이전 요청을 취소하는 중입니다. 잠시 뒤에 보내 주세요.");
+                return;
+            }
+            connection.turn = turn;
+            turn.future = turns.submit(() -> run(connection, turn, text));
+        }
+    }
+
+    private void cancel(Connection connection) {
+        if (connection.cancel()) {
+            send(connection, ChatEvent.builder().type(ChatEvent.CANCELLED).sessionId(connection.sessionId).build());
+        }
+    }
+
+    private void run(Connection connection, Turn turn, String text) {
+        if (!turn.state.compareAndSet(Turn.PENDING, Turn.RUNNING)) {
+            // 시작하기 전에 취소됨
+            return;
+        }
+        Span span = TravelTracing.startRootSpan("WS /ws/chat", SpanKind.SERVER, false);
+        span.setAttribute("http.route", "/ws/chat");
+        try (Scope ignored = span.makeCurrent();
+             Scope cancellation = turn.cancellation.makeCurrent();
+             Scope progress = ChatProgress.listen(new ToolEvents(connection, turn));
+             Scope budget = Deadline.start(turnBudget)) {
+            ChatResponse response = processChatMessageUseCase.execute(
+                    ChatRequest.builder().message(text).build(), connection.sessionId);
+            // 답변을 받은 클라이언트가 바로 다음 질문을 보낼 수 있도록 보내기 전에 끝난 것으로 표시
+            turn.finish();
+            if (turn.open.compareAndSet(true, false)) {
+                send(connection, ChatEvent.builder()
+                        .type(ChatEvent.ANSWER)
+                        .sessionId(response.getSessionId())
+                        .message(response.getMessage())
+                        .success(response.isSuccess())
+                        .build());
+            }
+        } catch (CancellationException e) {
+            span.setAttribute("travelbot.outcome", "cancelled");
+            log.info("대화 턴 취소: {}", connection.sessionId);
+        } catch (RuntimeException e) {
+            TravelTracing.fail(span, e);
+            log.error("WebSocket 대화 처리 중 오류 발생: {}", e.getMessage(), e);
+            turn.finish();
+            if (turn.open.compareAndSet(true, false)) {
+                sendError(connection, "죄송합니다. 오류가 발생했습니다: " + e.getMessage());
+            }
+        } finally {
+            turn.finish();
+            span.end();
+        }
+    }
+
+    private void sendError(Connection connection, String message) {
+        send(connection, ChatEvent.builder().type(ChatEvent.ERROR).message(message).build());
+    }
+
+    private void send(Connection connection, ChatEvent event) {
+        if (!connection.outbound.isOpen()) {
+            return;
+        }
+        try {
+            connection.outbound.sendMessage(new TextMessage(objectMapper.writeValueAsString(event)));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("WebSocket 이벤트 전송 실패 ({}): {}", connection.sessionId, e.getMessage());
+        }
+    }
+
+    private static String requestedSessionId(WebSocketSession session) {
+        if (session.getUri() != null) {
+            String sessionId = UriComponentsBuilder.fromUri(session.getUri()).build()
+                    .getQueryParams().getFirst("sessionId");
+            if (sessionId != null && !sessionId.isBlank()) {
+                return sessionId;
+            }
+        }
+        return UUID.randomUUID().toString();
+    }
+
+    private final class ToolEvents implements ChatProgress.Listener {
+
+        private final Connection connection;
+        private final Turn turn;
+
+        private ToolEvents(Connection connection, Turn turn) {
+            this.connection = connection;
+            this.turn = turn;
+        }
+
+        @Override
+        public void toolStarted(String tool, String label) {
+            if (turn.open.get()) {
+                send(connection, ChatEvent.builder().type(ChatEvent.TOOL).tool(tool).status("started").label(label).build());
+            }
+        }
+
+        @Override
+        public void toolFinished(String tool, boolean success) {
+            if (turn.open.get()) {
+                send(connection, ChatEvent.builder().type(ChatEvent.TOOL).tool(tool).status("done").success(success).build());
+            }
+        }
+    }
+
+    private static final class Connection {
+        private final WebSocketSession outbound;
+        private final String sessionId;
+        private Turn turn;
+
+        private Connection(WebSocketSession outbound, String sessionId) {
+            this.outbound = outbound;
+            this.sessionId = sessionId;
+        }
+
+        /**
+         * 진행 중인 턴을 닫고, 턴에서 시작한 외부 호출을 취소하고, 처리 스레드를 인터럽트합니다. 진행 중인 턴이 없었으면 false
+         * 처리 스레드가 멈추는 것은 기다리지 않습니다. (멈출 때까지 다음 턴은 start에서 거절)
+         */
+        private synchronized boolean cancel() {
+            if (turn == null || !turn.open.compareAndSet(true, false)) {
+                return false;
+            }
+            turn.cancellation.cancel();
+            if (turn.state.compareAndSet(Turn.PENDING, Turn.FINISHED)) {
+                turn.future.cancel(false);
+            } else {
+                turn.future.cancel(true);
+            }
+            return true;
+        }
+    }
+
+    private static final class Turn {
+        private static final int PENDING = 0;
+        private static final int RUNNING = 1;
+        private static final int FINISHED = 2;
+
+        // 답변/취소 중 먼저 일어난 쪽만 클라이언트에 알림
+        private final AtomicBoolean open = new AtomicBoolean(true);
+        // 처리 스레드의 상태 (취소해도 스레드가 끝나야 FINISHED)
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        // 턴에서 시작한 외부 조회를 취소하는 범위
+        private final Cancellation cancellation = Cancellation.detached();
+        private Future<?> future;
+
+        private void finish() {
+            state.set(FINISHED);
+        }
+
+        private boolean isFinished() {
+            return state.get() == FINISHED;
+        }
+    }
+
+    public static class SocketMessage {
+        // message: 질문, cancel: 진행 중인 턴 취소
+        private String type;
+        private String message;
+
+        public String getType() {
+            return type;
+        }
+
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.yd.travelbot.domain.currency.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.yd.travelbot.domain.currency.domain.entity.Currency;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 @Getter
@@ -19,6 +21,9 @@ public class CurrencyResponse {
     private BigDecimal rate;
     private BigDecimal convertedAmount;
     private LocalDateTime lastUpdated;
+    // 외부 API 장애로 마지막 정상 조회 결과를 대신 돌려줄 때 그 결과를 받은 시각
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Instant staleAsOf;
 
     public static CurrencyResponse from(Currency currency, BigDecimal convertedAmount) {
         return CurrencyResponse.builder()
@@ -27,6 +32,7 @@ public class CurrencyResponse {
                 .rate(currency.getRate())
                 .convertedAmount(convertedAmount)
                 .lastUpdated(currency.getLastUpdated())
+                .staleAsOf(currency.getStaleAsOf())
                 .build();
     }
 }
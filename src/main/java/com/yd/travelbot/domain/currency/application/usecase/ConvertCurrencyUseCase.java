@@ -5,10 +5,13 @@ import com.yd.travelbot.domain.currency.application.dto.CurrencyResponse;
 import com.yd.travelbot.domain.currency.domain.entity.Currency;
 import com.yd.travelbot.domain.currency.domain.repository.CurrencyRepository;
 import com.yd.travelbot.domain.currency.domain.service.CurrencyDomainService;
+import com.yd.travelbot.global.deadline.Cancellation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -18,16 +21,38 @@ public class ConvertCurrencyUseCase {
     private final CurrencyDomainService domainService;
 
     public CurrencyResponse execute(CurrencyConvertRequest request) {
-        if (!domainService.isValidCurrencyCode(request.getFromCurrency()) ||
-            !domainService.isValidCurrencyCode(request.getToCurrency())) {
-            throw new IllegalArgumentException("유효하지 않은 통화 코드입니다.");
-        }
+        validate(request);
 
         Currency currency = currencyRepository.getExchangeRate(
                 request.getFromCurrency(),
                 request.getToCurrency()
         );
 
+        return toResponse(currency, request);
+    }
+
+    /**
+     * 외부 API 응답을 기다리는 동안 스레드를 잡아 두지 않는 버전 (시간 제한은 호출한 쪽에서 적용)
+     * 반환한 future를 취소하면 진행 중인 외부 호출도 취소합니다. (Cancellation)
+     * 통화 코드가 유효하지 않으면 future를 만들기 전에 바로 예외를 던집니다.
+     */
+    public CompletableFuture<CurrencyResponse> executeAsync(CurrencyConvertRequest request) {
+        validate(request);
+
+        return Cancellation.cancellable(() -> currencyRepository.getExchangeRateAsync(
+                request.getFromCurrency(),
+                request.getToCurrency()
+        ).thenApply(currency -> toResponse(currency, request)));
+    }
+
+    private void validate(CurrencyConvertRequest request) {
+        if (!domainService.isValidCurrencyCode(request.getFromCurrency()) ||
+            !domainService.isValidCurrencyCode(request.getToCurrency())) {
+            throw new IllegalArgumentException("유효하지 않은 통화 코드입니다.");
+        }
+    }
+
+    private CurrencyResponse toResponse(Currency currency, CurrencyConvertRequest request) {
         if (currency == null) {
             throw new IllegalArgumentException("환율 정보를 가져올 수 없습니다.");
         }
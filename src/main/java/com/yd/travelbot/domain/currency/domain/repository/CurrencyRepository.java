@@ -2,7 +2,16 @@ package com.yd.travelbot.domain.currency.domain.repository;
 
 import com.yd.travelbot.domain.currency.domain.entity.Currency;
 
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 환율 조회 (비동기 버전이 기본이며, 동기 버전은 결과를 기다려 반환)
+ * 외부 API가 실패하거나 늦으면 future는 마지막으로 받은 환율표로 계산한 환율(staleAsOf에 받은 시각)로, 그것도 없으면 null로 완료됩니다.
+ */
 public interface CurrencyRepository {
-    Currency getExchangeRate(String fromCurrency, String toCurrency);
-}
+    CompletableFuture<Currency> getExchangeRateAsync(String fromCurrency, String toCurrency);
 
+    default Currency getExchangeRate(String fromCurrency, String toCurrency) {
+        return getExchangeRateAsync(fromCurrency, toCurrency).join();
+    }
+}
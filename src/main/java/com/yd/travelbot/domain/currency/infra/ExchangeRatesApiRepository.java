@@ -1,200 +1,210 @@
 package com.yd.travelbot.domain.currency.infra;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.yd.travelbot.domain.currency.domain.entity.Currency;
 import com.yd.travelbot.domain.currency.domain.repository.CurrencyRepository;
+import com.yd.travelbot.global.cache.LastKnownGood;
+import com.yd.travelbot.global.cache.TtlCache;
 import com.yd.travelbot.global.config.ExchangeRatesConfig;
-import com.yd.travelbot.global.util.JsonUtil;
-import lombok.RequiredArgsConstructor;
+import com.yd.travelbot.global.config.LastKnownGoodConfig;
+import com.yd.travelbot.global.config.LookupCacheConfig;
+import com.yd.travelbot.global.external.AsyncCalls;
+import com.yd.travelbot.global.external.koreaexim.KoreaEximRate;
+import com.yd.travelbot.global.external.koreaexim.KoreaEximRateReader;
+import com.yd.travelbot.global.external.koreaexim.KoreaEximRates;
+import com.yd.travelbot.global.logging.LogRedactor;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+import com.yd.travelbot.global.warmup.Warmable;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
-import okhttp3.Response;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Repository
-@RequiredArgsConstructor
-public class ExchangeRatesApiRepository implements CurrencyRepository {
+public class ExchangeRatesApiRepository implements CurrencyRepository, Warmable {
+
+    private static final String LATEST = "latest";
+    private static final int MAX_DAYS_BACK = 5;
 
     private final ExchangeRatesConfig exchangeRatesConfig;
-    private final OkHttpClient httpClient = new OkHttpClient();
-    private static final String KOREA_EXIM_API_BASE = "https://oapi.koreaexim.go.kr/site/program/financial/exchangeJSON";
+    private final OkHttpClient httpClient;
+    // 최신 영업일 환율표 전체 (조회 실패 시에는 보관하지 않음)
+    private final TtlCache<String, KoreaEximRates> rateTableCache;
+    // 마지막으로 받은 환율표 (외부 API 실패/지연 시 대신 사용)
+    private final LastKnownGood<KoreaEximRates> lastKnownGood;
+
+    public ExchangeRatesApiRepository(ExchangeRatesConfig exchangeRatesConfig, OkHttpClient httpClient,
+                                      LookupCacheConfig lookupCacheConfig, LastKnownGoodConfig lastKnownGoodConfig,
+                                      TravelMetrics travelMetrics) {
+        this.exchangeRatesConfig = exchangeRatesConfig;
+        this.httpClient = httpClient;
+        this.rateTableCache = new TtlCache<>("exchange-rate", lookupCacheConfig.getExchangeRateTtl(), 1, travelMetrics);
+        this.lastKnownGood = new LastKnownGood<>("exchange-rate", new TypeReference<>() {}, lastKnownGoodConfig,
+                travelMetrics);
+    }
 
     @Override
-    public Currency getExchangeRate(String fromCurrency, String toCurrency) {
+    public CompletableFuture<Currency> getExchangeRateAsync(String fromCurrency, String toCurrency) {
         // 같은 통화면 1:1 반환
         if (fromCurrency.equals(toCurrency)) {
-            return Currency.builder()
+            return CompletableFuture.completedFuture(Currency.builder()
                     .fromCurrency(fromCurrency)
                     .toCurrency(toCurrency)
                     .rate(BigDecimal.ONE)
                     .lastUpdated(LocalDateTime.now())
-                    .build();
+                    .build());
         }
 
-        try {
-            // 한국수출입은행 API는 KRW 기준으로 환율 제공
-            // 주말/공휴일에는 데이터가 없을 수 있으므로, 최신 데이터부터 최대 5일 전까지 재시도
-            java.time.LocalDate today = java.time.LocalDate.now();
-            java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern("yyyyMMdd");
-            
-            for (int daysBack = 0; daysBack <= 5; daysBack++) {
-                java.time.LocalDate targetDate = today.minusDays(daysBack);
-                String searchdate = targetDate.format(formatter);
-                
-                HttpUrl.Builder urlBuilder = HttpUrl.parse(KOREA_EXIM_API_BASE)
-                    .newBuilder()
-                        .addQueryParameter("authkey", exchangeRatesConfig.getApiKey())
-                        .addQueryParameter("searchdate", searchdate)
-                        .addQueryParameter("data", "AP01"); // AP01: 환율
-            
-            String url = urlBuilder.build().toString();
-                if (daysBack == 0) {
-                    log.info("한국수출입은행 환율 API 요청: {} -> {} (날짜: {})", fromCurrency, toCurrency, searchdate);
-                } else {
-                    log.debug("한국수출입은행 환율 API 재시도: {} -> {} (날짜: {}, {}일 전)", fromCurrency, toCurrency, searchdate, daysBack);
-                }
+        // 환율표는 하루 한 번 고시되므로 최신 환율표 전체를 보관하고 통화 쌍은 보관한 표에서 계산
+        // 조회가 실패하거나 늦으면 마지막으로 받은 환율표를 받은 시각과 함께 사용
+        return lastKnownGood.fetch(LATEST, () -> rateTableCache.getAsync(LATEST, this::fetchLatestRates))
+                .thenApply(served -> rateFrom(served, fromCurrency, toCurrency));
+    }
 
-            Request request = new Request.Builder()
-                    .url(url)
-                    .get()
-                    .build();
+    private Currency rateFrom(LastKnownGood.Served<KoreaEximRates> served, String fromCurrency, String toCurrency) {
+        KoreaEximRates rates = served.value();
+        if (rates == null) {
+            log.warn("환율표를 가져올 수 없습니다.");
+            return null;
+        }
 
-            try (Response response = httpClient.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    String errorBody = response.body() != null ? response.body().string() : "";
-                        if (daysBack == 0) {
-                            log.error("한국수출입은행 API 호출 실패 (status: {}): {}", response.code(), errorBody);
-                        }
-                        if (daysBack < 5) continue; // 다음 날짜로 재시도
-                        log.warn("모든 재시도 실패, 기본 환율로 대체합니다.");
-                    return getDefaultRate(fromCurrency, toCurrency);
-                }
+        Currency currency = parseKoreaEximResponse(rates, fromCurrency, toCurrency);
+        if (currency == null) {
+            log.warn("환율표에서 {} 또는 {} 통화를 찾을 수 없습니다.", fromCurrency, toCurrency);
+            return null;
+        }
+        if (served.isStale()) {
+            log.warn("{}에 받은 환율표 사용: 1 {} = {} {}", served.staleAsOf(), fromCurrency, currency.getRate(),
+                    toCurrency);
+            currency.setStaleAsOf(served.staleAsOf());
+            return currency;
+        }
+        log.debug("✅ 환율 조회 성공: 1 {} = {} {}", fromCurrency, currency.getRate(), toCurrency);
+        return currency;
+    }
 
-                String responseBody = response.body().string();
-                    if (daysBack == 0) {
-                        log.debug("한국수출입은행 API 응답: {}", responseBody.length() > 200 ? responseBody.substring(0, 200) + "..." : responseBody);
-                    }
-                    
-                    // 응답이 JSON 배열 형식
-                    JsonNode jsonArray = JsonUtil.fromJson(responseBody, JsonNode.class);
-                
-                    if (!jsonArray.isArray()) {
-                        log.error("한국수출입은행 API 응답이 배열 형식이 아닙니다.");
-                        if (daysBack < 5) continue;
-                    return getDefaultRate(fromCurrency, toCurrency);
-                }
-                
-                    // 빈 배열이면 다음 날짜로 재시도
-                    if (jsonArray.size() == 0) {
-                        if (daysBack < 5) {
-                            log.debug("{} 날짜에 환율 데이터가 없습니다. 이전 영업일로 재시도합니다.", searchdate);
-                            continue;
-                        } else {
-                            log.warn("최근 5일간 환율 데이터를 찾을 수 없습니다. 기본 환율로 대체합니다.");
-                            return getDefaultRate(fromCurrency, toCurrency);
-                        }
-                    }
-                    
-                    Currency currency = parseKoreaEximResponse(jsonArray, fromCurrency, toCurrency);
-                if (currency != null) {
-                        if (daysBack > 0) {
-                            log.info("✅ 환율 조회 성공 ({}일 전 데이터 사용): 1 {} = {} {}", 
-                                    daysBack, fromCurrency, currency.getRate(), toCurrency);
-                        } else {
-                            log.info("✅ 환율 조회 성공: 1 {} = {} {}", 
-                                    fromCurrency, currency.getRate(), toCurrency);
-                        }
-                    return currency;
-                    } else {
-                        // 통화를 찾지 못했지만 데이터는 있음 (다른 통화는 있지만 요청한 통화는 없음)
-                        if (daysBack < 5) {
-                            log.debug("{} 날짜 데이터에서 {} 또는 {} 통화를 찾을 수 없습니다. 이전 영업일로 재시도합니다.", 
-                                    searchdate, fromCurrency, toCurrency);
-                            continue;
-                } else {
-                    log.warn("응답 파싱 실패, 기본 환율로 대체합니다.");
-                    return getDefaultRate(fromCurrency, toCurrency);
-                        }
-                    }
+    @Override
+    public String intent() {
+        return "currency";
+    }
+
+    /**
+     * 환율표는 도시와 무관하므로 최신 환율표만 채움
+     */
+    @Override
+    public void warmUp(String city) {
+        rateTableCache.getAsync(LATEST, this::fetchLatestRates).join();
+    }
+
+    /**
+     * 가장 최근 영업일의 환율표 전체 (최근 5일간 데이터를 찾지 못하면 null)
+     */
+    private CompletableFuture<KoreaEximRates> fetchLatestRates() {
+        // 한국수출입은행 API는 KRW 기준으로 환율 제공
+        // 주말/공휴일에는 데이터가 없을 수 있으므로, 최신 데이터부터 최대 5일 전까지 재시도
+        return AsyncCalls.defer(() -> fetchRates(java.time.LocalDate.now(), 0)).exceptionally(e -> {
+            Throwable cause = AsyncCalls.unwrap(e);
+            log.error("환율 조회 실패: {}", cause.getMessage(), cause);
+            return null;
+        });
+    }
+
+    private CompletableFuture<KoreaEximRates> fetchRates(java.time.LocalDate today, int daysBack) {
+        if (daysBack > MAX_DAYS_BACK) {
+            // 모든 재시도 실패
+            log.warn("최근 5일간 환율 데이터를 찾을 수 없습니다.");
+            return CompletableFuture.completedFuture(null);
+        }
+        java.time.LocalDate targetDate = today.minusDays(daysBack);
+        String searchdate = targetDate.format(java.time.format.DateTimeFormatter.ofPattern("yyyyMMdd"));
+
+        HttpUrl.Builder urlBuilder = HttpUrl.parse(exchangeRatesConfig.exchangeUrl())
+            .newBuilder()
+                .addQueryParameter("authkey", exchangeRatesConfig.getApiKey())
+                .addQueryParameter("searchdate", searchdate)
+                .addQueryParameter("data", "AP01"); // AP01: 환율
+
+        String url = urlBuilder.build().toString();
+        if (daysBack == 0) {
+            log.info("한국수출입은행 환율 API 요청 (날짜: {})", searchdate);
+        } else {
+            log.debug("한국수출입은행 환율 API 재시도 (날짜: {}, {}일 전)", searchdate, daysBack);
+        }
+
+        Request request = new Request.Builder()
+                .url(url)
+                .get()
+                .build();
+
+        return AsyncCalls.call(httpClient, request, response -> {
+            if (!response.isSuccessful()) {
+                String errorBody = response.body() != null ? response.body().string() : "";
+                if (daysBack == 0) {
+                    log.error("한국수출입은행 API 호출 실패 (status: {}): {}", response.code(), LogRedactor.snippet(errorBody));
                 }
+                return null; // 다음 날짜로 재시도
             }
-            
-            // 모든 재시도 실패
-            log.warn("모든 재시도 실패, 기본 환율로 대체합니다.");
-            return getDefaultRate(fromCurrency, toCurrency);
-        } catch (Exception e) {
-            log.error("환율 조회 실패: {}", e.getMessage(), e);
-            log.warn("기본 환율로 대체합니다.");
-            return getDefaultRate(fromCurrency, toCurrency);
+
+            // 응답이 JSON 배열 형식
+            KoreaEximRates rates = KoreaEximRateReader.readAll(response.body().byteStream());
+            if (!rates.array()) {
+                log.error("한국수출입은행 API 응답이 배열 형식이 아닙니다.");
+                return null;
+            }
+            // 빈 배열이면 다음 날짜로 재시도
+            if (rates.isEmpty()) {
+                log.debug("{} 날짜에 환율 데이터가 없습니다. 이전 영업일로 재시도합니다.", searchdate);
+                return null;
+            }
+            log.info("한국수출입은행 환율표 조회 성공 (날짜: {}, {}개 통화)", searchdate, rates.rates().size());
+            return rates;
+        }).thenCompose(rates -> rates != null
+                ? CompletableFuture.completedFuture(rates)
+                : fetchRates(today, daysBack + 1));
+    }
+
+    /**
+     * 한국수출입은행 API 응답에서 찾아야 할 통화 코드 (KRW는 기준 통화이므로 제외)
+     */
+    Set<String> requestedCodes(String fromCurrency, String toCurrency) {
+        Set<String> codes = new HashSet<>();
+        if (!"KRW".equals(fromCurrency)) {
+            codes.add(normalizeCurrencyCode(fromCurrency));
+        }
+        if (!"KRW".equals(toCurrency)) {
+            codes.add(normalizeCurrencyCode(toCurrency));
         }
+        return codes;
     }
 
     /**
      * 한국수출입은행 API 응답 파싱
      * API는 KRW 기준으로 환율을 제공 (1 외화 = deal_bas_r KRW)
+     * (src/jmh 벤치마크가 같은 패키지에서 호출하므로 package-private)
      */
-    private Currency parseKoreaEximResponse(JsonNode jsonArray, String fromCurrency, String toCurrency) {
-        BigDecimal fromRateKrw = null; // 1 fromCurrency = fromRateKrw KRW
-        BigDecimal toRateKrw = null;   // 1 toCurrency = toRateKrw KRW
-        
+    Currency parseKoreaEximResponse(KoreaEximRates rates, String fromCurrency, String toCurrency) {
         // 통화 코드 매핑 (한국수출입은행 API는 일부 통화 코드가 다를 수 있음)
-        String fromCode = normalizeCurrencyCode(fromCurrency);
-        String toCode = normalizeCurrencyCode(toCurrency);
-            
-        // 배열에서 각 통화 정보 찾기
-        if (jsonArray.isArray()) {
-            for (int i = 0; i < jsonArray.size(); i++) {
-                JsonNode item = jsonArray.get(i);
-                if (!item.has("cur_unit")) continue;
-                
-                String curUnit = item.get("cur_unit").asText();
-                // 통화 코드 매칭 (예: JPY(100) -> JPY, USD -> USD)
-                String normalizedCurUnit = curUnit.replaceAll("\\(.*\\)", "").trim();
-                
-                // 단위 추출 (예: JPY(100) -> 100, USD -> 1)
-                int unit = 1;
-                if (curUnit.contains("(") && curUnit.contains(")")) {
-                    try {
-                        String unitStr = curUnit.substring(curUnit.indexOf("(") + 1, curUnit.indexOf(")"));
-                        unit = Integer.parseInt(unitStr);
-                } catch (Exception e) {
-                        log.warn("단위 파싱 실패: {}, 기본값 1 사용", curUnit);
-                    }
-                }
-                
-                if (normalizedCurUnit.equals(fromCode) && fromRateKrw == null) {
-                    if (item.has("deal_bas_r")) {
-                        String dealBasR = item.get("deal_bas_r").asText().replace(",", "");
-                        BigDecimal rate = new BigDecimal(dealBasR);
-                        // deal_bas_r은 unit개 통화에 대한 KRW 환율이므로, 1개 통화로 변환
-                        fromRateKrw = rate.divide(BigDecimal.valueOf(unit), 10, java.math.RoundingMode.HALF_UP);
-                        log.debug("{} 환율 찾음: 1 {} = {} KRW (원본: {} {} = {} KRW)", 
-                                fromCurrency, fromCurrency, fromRateKrw, unit, fromCurrency, rate);
-                    }
-                }
-                
-                if (normalizedCurUnit.equals(toCode) && toRateKrw == null) {
-                    if (item.has("deal_bas_r")) {
-                        String dealBasR = item.get("deal_bas_r").asText().replace(",", "");
-                        BigDecimal rate = new BigDecimal(dealBasR);
-                        // deal_bas_r은 unit개 통화에 대한 KRW 환율이므로, 1개 통화로 변환
-                        toRateKrw = rate.divide(BigDecimal.valueOf(unit), 10, java.math.RoundingMode.HALF_UP);
-                        log.debug("{} 환율 찾음: 1 {} = {} KRW (원본: {} {} = {} KRW)", 
-                                toCurrency, toCurrency, toRateKrw, unit, toCurrency, rate);
-                    }
-                }
-                
-                // 두 통화 모두 찾았으면 종료
-                if (fromRateKrw != null && toRateKrw != null) {
-                    break;
-                }
-            }
+        KoreaEximRate from = rates.get(normalizeCurrencyCode(fromCurrency));
+        KoreaEximRate to = rates.get(normalizeCurrencyCode(toCurrency));
+
+        // deal_bas_r은 unit개 통화에 대한 KRW 환율이므로, 1개 통화로 변환
+        BigDecimal fromRateKrw = from != null ? from.perUnitKrw() : null; // 1 fromCurrency = fromRateKrw KRW
+        BigDecimal toRateKrw = to != null ? to.perUnitKrw() : null;       // 1 toCurrency = toRateKrw KRW
+        if (from != null) {
+            log.debug("{} 환율 찾음: 1 {} = {} KRW (원본: {} {} = {} KRW)",
+                    fromCurrency, fromCurrency, fromRateKrw, from.unit(), fromCurrency, from.dealBasR());
+        }
+        if (to != null) {
+            log.debug("{} 환율 찾음: 1 {} = {} KRW (원본: {} {} = {} KRW)",
+                    toCurrency, toCurrency, toRateKrw, to.unit(), toCurrency, to.dealBasR());
         }
         
         // KRW 처리
@@ -231,7 +241,7 @@ public class ExchangeRatesApiRepository implements CurrencyRepository {
             return null;
         }
         
-        log.info("파싱된 환율: {} -> {}, rate: {} (fromRateKrw: {}, toRateKrw: {})", 
+        log.debug("파싱된 환율: {} -> {}, rate: {} (fromRateKrw: {}, toRateKrw: {})", 
                 fromCurrency, toCurrency, rate, fromRateKrw, toRateKrw);
             
             return Currency.builder()
@@ -254,62 +264,4 @@ public class ExchangeRatesApiRepository implements CurrencyRepository {
         }
         return currency.toUpperCase();
     }
-
-    private Currency getDefaultRate(String fromCurrency, String toCurrency) {
-        // 기본 환율 (최신 환율 기준으로 업데이트 필요)
-        // USD 기준 환율을 사용하여 간접 변환
-        BigDecimal defaultRate = BigDecimal.ONE;
-        
-        // USD 기준 환율 (1 USD = ?)
-        BigDecimal usdToKrw = BigDecimal.valueOf(1465); // 1 USD = 1,465 KRW
-        BigDecimal usdToEur = BigDecimal.valueOf(0.92); // 1 USD = 0.92 EUR
-        BigDecimal usdToCny = BigDecimal.valueOf(7.25); // 1 USD = 7.25 CNY
-        BigDecimal usdToJpy = BigDecimal.valueOf(150); // 1 USD = 150 JPY
-        
-        BigDecimal fromToUsd = null;
-        BigDecimal toFromUsd = null;
-        
-        // fromCurrency를 USD로 변환하는 환율
-        if ("USD".equals(fromCurrency)) {
-            fromToUsd = BigDecimal.ONE;
-        } else if ("KRW".equals(fromCurrency)) {
-            fromToUsd = BigDecimal.ONE.divide(usdToKrw, 10, java.math.RoundingMode.HALF_UP);
-        } else if ("EUR".equals(fromCurrency)) {
-            fromToUsd = BigDecimal.ONE.divide(usdToEur, 10, java.math.RoundingMode.HALF_UP);
-        } else if ("CNY".equals(fromCurrency)) {
-            fromToUsd = BigDecimal.ONE.divide(usdToCny, 10, java.math.RoundingMode.HALF_UP);
-        } else if ("JPY".equals(fromCurrency)) {
-            fromToUsd = BigDecimal.ONE.divide(usdToJpy, 10, java.math.RoundingMode.HALF_UP);
-        }
-        
-        // toCurrency를 USD로 변환하는 환율
-        if ("USD".equals(toCurrency)) {
-            toFromUsd = BigDecimal.ONE;
-        } else if ("KRW".equals(toCurrency)) {
-            toFromUsd = usdToKrw;
-        } else if ("EUR".equals(toCurrency)) {
-            toFromUsd = usdToEur;
-        } else if ("CNY".equals(toCurrency)) {
-            toFromUsd = usdToCny;
-        } else if ("JPY".equals(toCurrency)) {
-            toFromUsd = usdToJpy;
-        }
-        
-        // 간접 변환: fromCurrency -> USD -> toCurrency
-        if (fromToUsd != null && toFromUsd != null) {
-            defaultRate = fromToUsd.multiply(toFromUsd);
-        } else {
-            // 알 수 없는 통화 쌍인 경우 경고
-            log.warn("알 수 없는 통화 쌍: {} -> {}, 환율 1.0 사용", fromCurrency, toCurrency);
-        }
-
-        log.warn("기본 환율 사용: {} -> {}, 환율: {}", fromCurrency, toCurrency, defaultRate);
-        return Currency.builder()
-                .fromCurrency(fromCurrency)
-                .toCurrency(toCurrency)
-                .rate(defaultRate)
-                .lastUpdated(LocalDateTime.now())
-                .build();
-    }
 }
-
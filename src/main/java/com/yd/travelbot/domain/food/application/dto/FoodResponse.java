@@ -1,5 +1,6 @@
 package com.yd.travelbot.domain.food.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.yd.travelbot.domain.food.domain.entity.Food;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
 @Getter
 @Builder
@@ -25,6 +27,9 @@ public class FoodResponse {
     private String imageUrl;
     private Double latitude;
     private Double longitude;
+    // 외부 API 장애로 마지막 정상 조회 결과를 대신 돌려줄 때 그 결과를 받은 시각
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Instant staleAsOf;
 
     public static FoodResponse from(Food food) {
         return FoodResponse.builder()
@@ -40,6 +45,7 @@ public class FoodResponse {
                 .imageUrl(food.getImageUrl())
                 .latitude(food.getLatitude())
                 .longitude(food.getLongitude())
+                .staleAsOf(food.getStaleAsOf())
                 .build();
     }
 }
@@ -5,11 +5,16 @@ import com.yd.travelbot.domain.food.application.dto.FoodSearchRequest;
 import com.yd.travelbot.domain.food.domain.entity.Food;
 import com.yd.travelbot.domain.food.domain.repository.FoodRepository;
 import com.yd.travelbot.domain.food.domain.service.FoodDomainService;
+import com.yd.travelbot.global.deadline.Cancellation;
+import com.yd.travelbot.global.ranking.SearchRanking;
+import com.yd.travelbot.global.resolver.CityLocation;
+import com.yd.travelbot.global.resolver.GeoapifyCityResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -17,8 +22,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SearchFoodUseCase {
 
+    private static final SearchRanking.Fields<Food> RANKING_FIELDS = new SearchRanking.Fields<>(
+            Food::getLatitude, Food::getLongitude, Food::getRating, Food::getPriceRange, Food::getCategories,
+            Food::getName);
+
     private final FoodRepository foodRepository;
     private final FoodDomainService domainService;
+    private final SearchRanking searchRanking;
+    private final GeoapifyCityResolver cityResolver;
 
     public List<FoodResponse> execute(FoodSearchRequest request) {
         List<Food> foods;
@@ -33,6 +44,32 @@ public class SearchFoodUseCase {
             foods = foodRepository.search(request.getCity(), request.getCuisine());
         }
 
+        return toResponses(foods, request);
+    }
+
+    /**
+     * 외부 API 응답을 기다리는 동안 스레드를 잡아 두지 않는 버전 (시간 제한은 호출한 쪽에서 적용)
+     * 반환한 future를 취소하면 진행 중인 외부 호출도 취소합니다. (Cancellation)
+     */
+    public CompletableFuture<List<FoodResponse>> executeAsync(FoodSearchRequest request) {
+        return Cancellation.cancellable(() -> {
+            CompletableFuture<List<Food>> foods;
+
+            if (request.getLatitude() != null && request.getLongitude() != null) {
+                foods = foodRepository.searchNearbyAsync(
+                        request.getLatitude(),
+                        request.getLongitude(),
+                        request.getRadius() != null ? request.getRadius() : 5.0
+                );
+            } else {
+                foods = foodRepository.searchAsync(request.getCity(), request.getCuisine());
+            }
+
+            return foods.thenApply(found -> toResponses(found, request));
+        });
+    }
+
+    private List<FoodResponse> toResponses(List<Food> foods, FoodSearchRequest request) {
         if (request.getMinRating() != null) {
             foods = domainService.filterByRating(foods, request.getMinRating());
         }
@@ -41,6 +78,16 @@ public class SearchFoodUseCase {
             foods = domainService.filterByPriceRange(foods, request.getMaxPrice());
         }
 
+        // 도시 검색은 저장소가 이미 해석해 둔 도시 좌표를, 좌표 검색은 검색 좌표를 거리 기준으로 사용
+        Double centerLatitude = request.getLatitude();
+        Double centerLongitude = request.getLongitude();
+        if (centerLatitude == null || centerLongitude == null) {
+            CityLocation location = cityResolver.findLocation(request.getCity(), null);
+            centerLatitude = location != null ? location.latitude() : null;
+            centerLongitude = location != null ? location.longitude() : null;
+        }
+        foods = searchRanking.top(foods, RANKING_FIELDS, centerLatitude, centerLongitude, request.getCuisine());
+
         return foods.stream()
                 .map(FoodResponse::from)
                 .collect(Collectors.toList());
@@ -1,6 +1,7 @@
 package com.yd.travelbot.domain.food.domain.entity;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import com.yd.travelbot.global.common.BaseEntity;
 
@@ -26,5 +27,7 @@ public class Food extends BaseEntity {
     private String imageUrl;
     private Double latitude;
     private Double longitude;
+    // Geoapify 분류 코드 (예: catering.restaurant.sushi), 검색 결과 순위의 카테고리 일치 점수에 사용
+    private List<String> categories;
 }
 
@@ -3,9 +3,21 @@ package com.yd.travelbot.domain.food.domain.repository;
 import com.yd.travelbot.domain.food.domain.entity.Food;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * 음식점 검색 (비동기 버전이 기본이며, 동기 버전은 결과를 기다려 반환)
+ * 외부 API가 실패하거나 늦으면 future는 같은 조건의 마지막 정상 결과(staleAsOf에 받은 시각)로, 그것도 없으면 빈 목록으로 완료됩니다.
+ */
 public interface FoodRepository {
-    List<Food> search(String city, String cuisine);
-    List<Food> searchNearby(Double latitude, Double longitude, Double radius);
-}
+    CompletableFuture<List<Food>> searchAsync(String city, String cuisine);
+    CompletableFuture<List<Food>> searchNearbyAsync(Double latitude, Double longitude, Double radius);
+
+    default List<Food> search(String city, String cuisine) {
+        return searchAsync(city, cuisine).join();
+    }
 
+    default List<Food> searchNearby(Double latitude, Double longitude, Double radius) {
+        return searchNearbyAsync(latitude, longitude, radius).join();
+    }
+}
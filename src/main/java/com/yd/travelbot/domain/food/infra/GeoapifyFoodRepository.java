@@ -1,259 +1,221 @@
 package com.yd.travelbot.domain.food.infra;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.yd.travelbot.domain.food.domain.entity.Food;
 import com.yd.travelbot.domain.food.domain.repository.FoodRepository;
+import com.yd.travelbot.global.cache.LastKnownGood;
+import com.yd.travelbot.global.cache.TtlCache;
 import com.yd.travelbot.global.config.GeoapifyConfig;
+import com.yd.travelbot.global.config.LastKnownGoodConfig;
+import com.yd.travelbot.global.config.LookupCacheConfig;
+import com.yd.travelbot.global.external.AsyncCalls;
+import com.yd.travelbot.global.external.geoapify.GeoapifyFeature;
+import com.yd.travelbot.global.external.geoapify.GeoapifyFeatureReader;
+import com.yd.travelbot.global.logging.LogRedactor;
+import com.yd.travelbot.global.metrics.TravelMetrics;
 import com.yd.travelbot.global.resolver.GeoapifyCityResolver;
-import com.yd.travelbot.global.util.JsonUtil;
-import lombok.RequiredArgsConstructor;
+import com.yd.travelbot.global.warmup.Warmable;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
-import okhttp3.Response;
 import org.springframework.stereotype.Repository;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Repository
-@RequiredArgsConstructor
-public class GeoapifyFoodRepository implements FoodRepository {
+public class GeoapifyFoodRepository implements FoodRepository, Warmable {
 
     private final GeoapifyConfig geoapifyConfig;
     // 타임아웃 적용 클라이언트 (연결/읽기/쓰기 각 12초)
-    private final OkHttpClient httpClient = new OkHttpClient.Builder()
-            .connectTimeout(java.time.Duration.ofSeconds(12))
-            .readTimeout(java.time.Duration.ofSeconds(12))
-            .writeTimeout(java.time.Duration.ofSeconds(12))
-            .build();
+    private final OkHttpClient httpClient;
     private final GeoapifyCityResolver cityResolver;
-    private static final String GEOAPIFY_PLACES_API_BASE = "https://api.geoapify.com/v2/places";
-    private static final String GEOAPIFY_GEOCODE_API_BASE = "https://api.geoapify.com/v1/geocode/search";
+    // 도시/요리 종류별 Places 원본 결과 (실패 시에는 보관하지 않음)
+    private final TtlCache<String, List<Food>> foodCache;
+    // 조회 조건별 마지막 정상 결과 (외부 API 실패/지연 시 대신 반환)
+    private final LastKnownGood<List<Food>> lastKnownGood;
+    // 후보를 넉넉히 받아 SearchRanking으로 상위 ranking.top-k개만 모델에 전달
+    private static final int RESULT_LIMIT = 50;
+    private static final int MAX_RETRIES = 2;
+    private static final java.time.Duration RETRY_BACKOFF = java.time.Duration.ofMillis(800);
+
+    public GeoapifyFoodRepository(GeoapifyConfig geoapifyConfig, GeoapifyCityResolver cityResolver,
+                                  OkHttpClient okHttpClient, LookupCacheConfig lookupCacheConfig,
+                                  LastKnownGoodConfig lastKnownGoodConfig, TravelMetrics travelMetrics) {
+        this.geoapifyConfig = geoapifyConfig;
+        this.cityResolver = cityResolver;
+        this.foodCache = new TtlCache<>("food", lookupCacheConfig.getPlacesTtl(),
+                lookupCacheConfig.getMaxEntries(), travelMetrics);
+        this.lastKnownGood = new LastKnownGood<>("food", new TypeReference<>() {}, lastKnownGoodConfig,
+                travelMetrics);
+        // 공용 클라이언트에서 파생해 커넥션 풀은 공유 (연결/읽기/쓰기 각 12초)
+        this.httpClient = okHttpClient.newBuilder()
+                .connectTimeout(java.time.Duration.ofSeconds(12))
+                .readTimeout(java.time.Duration.ofSeconds(12))
+                .writeTimeout(java.time.Duration.ofSeconds(12))
+                .build();
+    }
 
     @Override
-    public List<Food> search(String city, String cuisine) {
-        try {
-            // 1단계: 공통 CityResolver로 도시 좌표 얻기 (국가 힌트 없음)
-            Double[] cityCoordinates = cityResolver.resolveCoordinates(city, null);
+    public CompletableFuture<List<Food>> searchAsync(String city, String cuisine) {
+        // 조회가 실패하거나 늦으면 같은 조건의 마지막 정상 결과를 받은 시각과 함께 반환
+        String key = cacheKey(city, cuisine);
+        return lastKnownGood.fetch(key, () -> foodCache.getAsync(key, () -> fetchFoods(city, cuisine)))
+                .thenApply(GeoapifyFoodRepository::served);
+    }
+
+    private static List<Food> served(LastKnownGood.Served<List<Food>> served) {
+        if (served.value() == null) {
+            return List.of();
+        }
+        if (served.isStale()) {
+            served.value().forEach(food -> food.setStaleAsOf(served.staleAsOf()));
+        }
+        return served.value();
+    }
+
+    @Override
+    public String intent() {
+        return "food";
+    }
+
+    @Override
+    public void warmUp(String city) {
+        search(city, null);
+    }
+
+    private String cacheKey(String city, String cuisine) {
+        return city.trim() + "|" + (cuisine != null ? cuisine.trim() : "");
+    }
+
+    /**
+     * Places API 원본 검색 결과 (도시 좌표를 찾지 못하거나 호출이 실패하면 null)
+     */
+    private CompletableFuture<List<Food>> fetchFoods(String city, String cuisine) {
+        // 1단계: 공통 CityResolver로 도시 좌표 얻기 (국가 힌트 없음, 정규화/지오코딩은 기다리지 않고 이어 붙임)
+        return cityResolver.resolveCoordinatesAsync(city, null).thenCompose(cityCoordinates -> {
             if (cityCoordinates == null) {
-                log.warn("도시 좌표를 찾을 수 없음: {}, 기본 데이터 반환", city);
-                return getDefaultFoods(city, cuisine);
+                log.warn("도시 좌표를 찾을 수 없음: {}", city);
+                return CompletableFuture.completedFuture(null);
             }
-            
+            return fetchFoodsAround(city, cuisine, cityCoordinates);
+        });
+    }
+
+    private CompletableFuture<List<Food>> fetchFoodsAround(String city, String cuisine, Double[] cityCoordinates) {
+        Request request;
+        try {
             double lon = cityCoordinates[0];
             double lat = cityCoordinates[1];
-            log.info("도시 {}의 좌표: ({}, {})", city, lat, lon);
+            log.debug("도시 {}의 좌표: ({}, {})", city, lat, lon);
             
             // 2단계: Places API로 음식점 검색 (도시 중심 10km 반경)
             String category = cuisine != null ? "catering.restaurant" : "catering";
-            okhttp3.HttpUrl.Builder urlBuilder = okhttp3.HttpUrl.parse(GEOAPIFY_PLACES_API_BASE).newBuilder()
+            okhttp3.HttpUrl.Builder urlBuilder = okhttp3.HttpUrl.parse(geoapifyConfig.placesUrl()).newBuilder()
                     .addQueryParameter("categories", category)
                     .addQueryParameter("filter", String.format("circle:%f,%f,10000", lon, lat))
-                    .addQueryParameter("limit", "20")
+                    .addQueryParameter("limit", String.valueOf(RESULT_LIMIT))
                     .addQueryParameter("apiKey", geoapifyConfig.getApiKey());
             
             String url = urlBuilder.build().toString();
-            log.info("Geoapify Places API 요청 URL: {}", url);
 
-            Request request = new Request.Builder()
+            request = new Request.Builder()
                     .url(url)
                     .get()
                     .build();
-
-            try (Response response = executeWithRetry(request, 2)) { // 최대 2회 재시도
-                if (!response.isSuccessful()) {
-                    String errorBody = response.body() != null ? response.body().string() : "";
-                    log.error("Geoapify Places API 호출 실패 (status: {}): {}", response.code(), errorBody);
-                    log.warn("기본 데이터 반환");
-                    return getDefaultFoods(city, cuisine);
-                }
-
-                String responseBody = response.body().string();
-                log.info("Geoapify Places API 응답 (음식점): {}", responseBody.substring(0, Math.min(500, responseBody.length())));
-                JsonNode jsonNode = JsonUtil.fromJson(responseBody, JsonNode.class);
-                List<Food> foods = parseGeoapifyResponse(jsonNode, city, cuisine);
-                
-                log.info("Geoapify API에서 파싱된 음식점 개수: {}", foods.size());
-                
-                // API 응답이 비어있거나 결과가 적을 때 (5개 미만) 기본 데이터로 보충
-                if (foods.isEmpty()) {
-                    log.warn("Geoapify API 응답이 비어있음, 기본 데이터 반환");
-                    return getDefaultFoods(city, cuisine);
-                } else if (foods.size() < 5) {
-                    log.warn("Geoapify API 응답이 적음 ({}개), 기본 데이터로 보충", foods.size());
-                    // 기본 데이터를 추가하여 최소 10개 유지
-                    List<Food> defaultFoods = getDefaultFoods(city, cuisine);
-                    foods.addAll(defaultFoods.subList(0, Math.min(10 - foods.size(), defaultFoods.size())));
-                }
-                
-                return foods;
-            }
         } catch (Exception e) {
             log.error("음식점 검색 실패: {}", e.getMessage(), e);
-            return getDefaultFoods(city, cuisine);
+            return CompletableFuture.completedFuture(null);
         }
+
+        return callWithRetry(request, response -> { // 최대 2회 재시도
+            if (!response.isSuccessful()) {
+                String errorBody = response.body() != null ? response.body().string() : "";
+                log.error("Geoapify Places API 호출 실패 (status: {}): {}", response.code(), LogRedactor.snippet(errorBody));
+                return null;
+            }
+            return List.copyOf(parseGeoapifyResponse(response.body().byteStream(), city, cuisine));
+        }).exceptionally(e -> {
+            log.error("음식점 검색 실패: {}", AsyncCalls.unwrap(e).getMessage());
+            return null;
+        });
     }
     
     @Override
-    public List<Food> searchNearby(Double latitude, Double longitude, Double radius) {
-        try {
-            // URL 인코딩을 위해 HttpUrl.Builder 사용
-            okhttp3.HttpUrl.Builder urlBuilder = okhttp3.HttpUrl.parse(GEOAPIFY_PLACES_API_BASE).newBuilder()
-                    .addQueryParameter("categories", "catering.restaurant")
-                    .addQueryParameter("filter", String.format("circle:%f,%f,%f", longitude, latitude, radius * 1000))
-                    .addQueryParameter("limit", "20")
-                    .addQueryParameter("apiKey", geoapifyConfig.getApiKey());
-            
-            String url = urlBuilder.build().toString();
-            log.info("Geoapify Places API 요청 URL (주변 검색): {}", url);
-
-            Request request = new Request.Builder()
-                    .url(url)
-                    .get()
-                    .build();
-
-            try (Response response = executeWithRetry(request, 2)) { // 최대 2회 재시도
-                if (!response.isSuccessful()) {
-                    String errorBody = response.body() != null ? response.body().string() : "";
-                    log.error("Geoapify API 호출 실패 (status: {}): {}", response.code(), errorBody);
-                    log.warn("기본 데이터 반환");
-                    return getDefaultFoodsNearby(latitude, longitude);
-                }
-
-                String responseBody = response.body().string();
-                JsonNode jsonNode = JsonUtil.fromJson(responseBody, JsonNode.class);
-                return parseGeoapifyResponse(jsonNode, null, null);
-            }
-        } catch (Exception e) {
-            log.error("주변 음식점 검색 실패: {}", e.getMessage());
-            return getDefaultFoodsNearby(latitude, longitude);
-        }
+    public CompletableFuture<List<Food>> searchNearbyAsync(Double latitude, Double longitude, Double radius) {
+        // 좌표는 소수 셋째 자리(약 100m)까지만 키로 사용
+        String key = String.format("nearby|%.3f|%.3f|%s", latitude, longitude, radius);
+        return lastKnownGood.fetch(key, () -> fetchNearby(latitude, longitude, radius))
+                .thenApply(GeoapifyFoodRepository::served)
+                .exceptionally(e -> {
+                    log.error("주변 음식점 검색 실패: {}", AsyncCalls.unwrap(e).getMessage());
+                    return List.of();
+                });
     }
 
     /**
-     * 단순 백오프 재시도 (고정 800ms) - 네트워크 일시 오류/타임아웃 완화
+     * 좌표 주변 Places API 원본 검색 결과 (응답이 실패면 null, 전송 실패는 예외로 완료)
      */
-    private Response executeWithRetry(Request request, int maxRetries) throws IOException, InterruptedException {
-        IOException last = null;
-        for (int attempt = 0; attempt <= maxRetries; attempt++) {
-            try {
-                return httpClient.newCall(request).execute();
-            } catch (IOException ex) {
-                last = ex;
-                if (attempt == maxRetries) break;
-                log.warn("Geoapify 호출 재시도 {}/{}: {}", attempt + 1, maxRetries, ex.getMessage());
-                Thread.sleep(800L);
+    private CompletableFuture<List<Food>> fetchNearby(Double latitude, Double longitude, Double radius) {
+        // URL 인코딩을 위해 HttpUrl.Builder 사용
+        okhttp3.HttpUrl.Builder urlBuilder = okhttp3.HttpUrl.parse(geoapifyConfig.placesUrl()).newBuilder()
+                .addQueryParameter("categories", "catering.restaurant")
+                .addQueryParameter("filter", String.format("circle:%f,%f,%f", longitude, latitude, radius * 1000))
+                .addQueryParameter("limit", String.valueOf(RESULT_LIMIT))
+                .addQueryParameter("apiKey", geoapifyConfig.getApiKey());
+
+        String url = urlBuilder.build().toString();
+
+        Request request = new Request.Builder()
+                .url(url)
+                .get()
+                .build();
+
+        return callWithRetry(request, response -> { // 최대 2회 재시도
+            if (!response.isSuccessful()) {
+                String errorBody = response.body() != null ? response.body().string() : "";
+                log.error("Geoapify API 호출 실패 (status: {}): {}", response.code(), LogRedactor.snippet(errorBody));
+                return null;
             }
-        }
-        throw last != null ? last : new IOException("Geoapify 호출 실패");
+            return List.copyOf(parseGeoapifyResponse(response.body().byteStream(), null, null));
+        });
     }
 
-    private List<Food> parseGeoapifyResponse(JsonNode jsonNode, String city, String cuisine) {
-        List<Food> foods = new ArrayList<>();
-        if (jsonNode.has("features") && jsonNode.get("features").isArray()) {
-            JsonNode features = jsonNode.get("features");
-            log.debug("Geoapify API features 개수: {}", features.size());
-            
-            for (JsonNode feature : features) {
-                if (!feature.has("properties")) {
-                    log.warn("feature에 properties가 없음, 건너뜀");
-                    continue;
-                }
-                
-                JsonNode properties = feature.get("properties");
-                JsonNode geometry = feature.has("geometry") ? feature.get("geometry") : null;
-                
-                String name = properties.has("name") && !properties.get("name").isNull() 
-                    ? properties.get("name").asText() 
-                    : "음식점";
-                
-                // 이름이 비어있거나 "음식점"인 경우 건너뛰기
-                if (name.isEmpty() || name.equals("음식점")) {
-                    log.debug("이름이 비어있거나 기본값인 항목 건너뜀: {}", name);
-                    continue;
-                }
-                
-                foods.add(Food.builder()
-                        .id(properties.has("place_id") ? properties.get("place_id").asText() : "unknown")
-                        .name(name)
-                        .address(properties.has("formatted") && !properties.get("formatted").isNull() 
-                            ? properties.get("formatted").asText() 
-                            : (properties.has("address_line2") && !properties.get("address_line2").isNull()
-                                ? properties.get("address_line2").asText()
-                                : ""))
-                        .city(city != null ? city : "")
-                        .country(properties.has("country_code") ? properties.get("country_code").asText() : "")
-                        .cuisine(cuisine != null ? cuisine : "일반")
-                        .priceRange(new BigDecimal("50000"))
-                        .rating(properties.has("rating") && !properties.get("rating").isNull() 
-                            ? properties.get("rating").asDouble() 
-                            : 4.0)
-                        .description("Geoapify를 통해 검색된 음식점")
-                        .latitude(geometry != null && geometry.has("coordinates") && geometry.get("coordinates").isArray() ? 
-                                 geometry.get("coordinates").get(1).asDouble() : null)
-                        .longitude(geometry != null && geometry.has("coordinates") && geometry.get("coordinates").isArray() ? 
-                                  geometry.get("coordinates").get(0).asDouble() : null)
-                        .build());
-            }
-        } else {
-            log.warn("Geoapify API 응답에 features가 없거나 배열이 아님");
-        }
-        return foods;
-    }
-
-    private List<Food> getDefaultFoods(String city, String cuisine) {
-        List<Food> foods = new ArrayList<>();
-        String[] foodNames = {
-            "해물탕 전문점", "흑돼지 맛집", "갈치조림 전문점", "전복죽 맛집", "한정식",
-            "돼지고기 구이", "해산물 뷔페", "제주 향토 음식", "카페", "디저트 카페"
-        };
-        
-        String cuisineType = cuisine != null ? cuisine : "한식";
-        
-        for (int i = 0; i < 10; i++) {
-            String foodName = city.equals("제주") || city.equals("제주도")
-                ? foodNames[i % foodNames.length]
-                : city + " 맛집 " + (i + 1);
-            
-        foods.add(Food.builder()
-                    .id("food-" + (i + 1))
-                    .name(foodName)
-                .address(city + " 시내")
-                .city(city)
-                    .cuisine(cuisineType)
-                .priceRange(new BigDecimal("30000"))
-                    .rating(4.0 + (i % 5) * 0.1)
-                .description("맛있는 음식점입니다.")
-                .build());
-        }
-        return foods;
+    /**
+     * 단순 백오프 재시도 (고정 800ms) - 네트워크 일시 오류/타임아웃 완화
+     */
+    private <T> CompletableFuture<T> callWithRetry(Request request, AsyncCalls.ResponseHandler<T> handler) {
+        return AsyncCalls.retrying(() -> AsyncCalls.call(httpClient, request, handler),
+                MAX_RETRIES, RETRY_BACKOFF, "Geoapify");
     }
 
-    private List<Food> getDefaultFoodsNearby(Double latitude, Double longitude) {
-        List<Food> foods = new ArrayList<>();
-        String[] foodNames = {
-            "주변 맛집 1", "주변 맛집 2", "주변 맛집 3", "주변 맛집 4", "주변 맛집 5",
-            "주변 맛집 6", "주변 맛집 7", "주변 맛집 8", "주변 맛집 9", "주변 맛집 10"
-        };
-        
-        for (int i = 0; i < 10; i++) {
-        foods.add(Food.builder()
-                    .id("food-nearby-" + (i + 1))
-                    .name(foodNames[i])
-                .address("근처")
-                .cuisine("한식")
-                .priceRange(new BigDecimal("30000"))
-                    .rating(4.0 + (i % 5) * 0.1)
-                .description("주변 맛집입니다.")
-                .latitude(latitude)
-                .longitude(longitude)
-                .build());
+    // src/jmh 벤치마크가 같은 패키지에서 호출하므로 package-private
+    List<Food> parseGeoapifyResponse(InputStream body, String city, String cuisine) throws IOException {
+        // 이름이 비어있거나 "음식점"인 항목은 건너뛰고, 유효한 항목이 RESULT_LIMIT개 모이면 읽기 중단
+        List<GeoapifyFeature> features = GeoapifyFeatureReader.read(body, RESULT_LIMIT,
+                feature -> feature.name() != null && !feature.name().isEmpty() && !feature.name().equals("음식점"));
+        List<Food> foods = new ArrayList<>(features.size());
+        for (GeoapifyFeature feature : features) {
+            foods.add(Food.builder()
+                    .id(feature.placeId() != null ? feature.placeId() : "unknown")
+                    .name(feature.name())
+                    .address(feature.address())
+                    .city(city != null ? city : "")
+                    .country(feature.countryCode() != null ? feature.countryCode() : "")
+                    .cuisine(cuisine != null ? cuisine : "일반")
+                    .priceRange(new BigDecimal("50000"))
+                    .rating(feature.rating() != null ? feature.rating() : 4.0)
+                    .description("Geoapify를 통해 검색된 음식점")
+                    .latitude(feature.latitude())
+                    .longitude(feature.longitude())
+                    .categories(feature.categories())
+                    .build());
         }
         return foods;
     }
 }
-
@@ -1,5 +1,6 @@
 package com.yd.travelbot.domain.place.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.yd.travelbot.domain.place.domain.entity.Place;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
 @Getter
 @Builder
@@ -26,6 +28,9 @@ public class PlaceResponse {
     private Double longitude;
     private BigDecimal entranceFee;
     private String currency;
+    // 외부 API 장애로 마지막 정상 조회 결과를 대신 돌려줄 때 그 결과를 받은 시각
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Instant staleAsOf;
 
     public static PlaceResponse from(Place place) {
         return PlaceResponse.builder()
@@ -42,6 +47,7 @@ public class PlaceResponse {
                 .longitude(place.getLongitude())
                 .entranceFee(place.getEntranceFee())
                 .currency(place.getCurrency())
+                .staleAsOf(place.getStaleAsOf())
                 .build();
     }
 }
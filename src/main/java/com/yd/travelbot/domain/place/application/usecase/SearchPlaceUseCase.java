@@ -5,11 +5,16 @@ import com.yd.travelbot.domain.place.application.dto.PlaceSearchRequest;
 import com.yd.travelbot.domain.place.domain.entity.Place;
 import com.yd.travelbot.domain.place.domain.repository.PlaceRepository;
 import com.yd.travelbot.domain.place.domain.service.PlaceDomainService;
+import com.yd.travelbot.global.deadline.Cancellation;
+import com.yd.travelbot.global.ranking.SearchRanking;
+import com.yd.travelbot.global.resolver.CityLocation;
+import com.yd.travelbot.global.resolver.GeoapifyCityResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -17,8 +22,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SearchPlaceUseCase {
 
+    private static final SearchRanking.Fields<Place> RANKING_FIELDS = new SearchRanking.Fields<>(
+            Place::getLatitude, Place::getLongitude, Place::getRating, Place::getEntranceFee, Place::getCategories,
+            Place::getName);
+
     private final PlaceRepository placeRepository;
     private final PlaceDomainService domainService;
+    private final SearchRanking searchRanking;
+    private final GeoapifyCityResolver cityResolver;
 
     public List<PlaceResponse> execute(PlaceSearchRequest request) {
         List<Place> places;
@@ -33,6 +44,32 @@ public class SearchPlaceUseCase {
             places = placeRepository.search(request.getCity(), request.getCategory());
         }
 
+        return toResponses(places, request);
+    }
+
+    /**
+     * 외부 API 응답을 기다리는 동안 스레드를 잡아 두지 않는 버전 (시간 제한은 호출한 쪽에서 적용)
+     * 반환한 future를 취소하면 진행 중인 외부 호출도 취소합니다. (Cancellation)
+     */
+    public CompletableFuture<List<PlaceResponse>> executeAsync(PlaceSearchRequest request) {
+        return Cancellation.cancellable(() -> {
+            CompletableFuture<List<Place>> places;
+
+            if (request.getLatitude() != null && request.getLongitude() != null) {
+                places = placeRepository.searchNearbyAsync(
+                        request.getLatitude(),
+                        request.getLongitude(),
+                        request.getRadius() != null ? request.getRadius() : 5.0
+                );
+            } else {
+                places = placeRepository.searchAsync(request.getCity(), request.getCategory());
+            }
+
+            return places.thenApply(found -> toResponses(found, request));
+        });
+    }
+
+    private List<PlaceResponse> toResponses(List<Place> places, PlaceSearchRequest request) {
         if (request.getCategory() != null) {
             places = domainService.filterByCategory(places, request.getCategory());
         }
@@ -41,6 +78,16 @@ public class SearchPlaceUseCase {
             places = domainService.filterByRating(places, request.getMinRating());
         }
 
+        // 도시 검색은 저장소가 이미 해석해 둔 도시 좌표(국가 힌트 kr)를, 좌표 검색은 검색 좌표를 거리 기준으로 사용
+        Double centerLatitude = request.getLatitude();
+        Double centerLongitude = request.getLongitude();
+        if (centerLatitude == null || centerLongitude == null) {
+            CityLocation location = cityResolver.findLocation(request.getCity(), "kr");
+            centerLatitude = location != null ? location.latitude() : null;
+            centerLongitude = location != null ? location.longitude() : null;
+        }
+        places = searchRanking.top(places, RANKING_FIELDS, centerLatitude, centerLongitude, request.getCategory());
+
         return places.stream()
                 .map(PlaceResponse::from)
                 .collect(Collectors.toList());
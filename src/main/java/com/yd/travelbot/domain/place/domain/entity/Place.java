@@ -1,6 +1,7 @@
 package com.yd.travelbot.domain.place.domain.entity;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import com.yd.travelbot.global.common.BaseEntity;
 
@@ -27,5 +28,7 @@ public class Place extends BaseEntity {
     private Double longitude;
     private BigDecimal entranceFee;
     private String currency;
+    // Geoapify 분류 코드 (예: catering.restaurant.sushi), 검색 결과 순위의 카테고리 일치 점수에 사용
+    private List<String> categories;
 }
 
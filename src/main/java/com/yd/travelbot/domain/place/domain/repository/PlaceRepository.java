@@ -3,9 +3,21 @@ package com.yd.travelbot.domain.place.domain.repository;
 import com.yd.travelbot.domain.place.domain.entity.Place;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * 관광지 검색 (비동기 버전이 기본이며, 동기 버전은 결과를 기다려 반환)
+ * 외부 API가 실패하거나 늦으면 future는 같은 조건의 마지막 정상 결과(staleAsOf에 받은 시각)로, 그것도 없으면 빈 목록으로 완료됩니다.
+ */
 public interface PlaceRepository {
-    List<Place> search(String city, String category);
-    List<Place> searchNearby(Double latitude, Double longitude, Double radius);
-}
+    CompletableFuture<List<Place>> searchAsync(String city, String category);
+    CompletableFuture<List<Place>> searchNearbyAsync(Double latitude, Double longitude, Double radius);
+
+    default List<Place> search(String city, String category) {
+        return searchAsync(city, category).join();
+    }
 
+    default List<Place> searchNearby(Double latitude, Double longitude, Double radius) {
+        return searchNearbyAsync(latitude, longitude, radius).join();
+    }
+}
@@ -1,33 +1,45 @@
 package com.yd.travelbot.domain.place.infra;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.yd.travelbot.domain.place.domain.entity.Place;
 import com.yd.travelbot.domain.place.domain.repository.PlaceRepository;
+import com.yd.travelbot.global.cache.LastKnownGood;
+import com.yd.travelbot.global.cache.TtlCache;
 import com.yd.travelbot.global.config.GeoapifyConfig;
+import com.yd.travelbot.global.config.LastKnownGoodConfig;
+import com.yd.travelbot.global.config.LookupCacheConfig;
+import com.yd.travelbot.global.external.AsyncCalls;
+import com.yd.travelbot.global.external.geoapify.GeoapifyFeature;
+import com.yd.travelbot.global.external.geoapify.GeoapifyFeatureReader;
+import com.yd.travelbot.global.logging.LogRedactor;
+import com.yd.travelbot.global.metrics.TravelMetrics;
 import com.yd.travelbot.global.resolver.GeoapifyCityResolver;
-import com.yd.travelbot.global.util.JsonUtil;
-import lombok.RequiredArgsConstructor;
+import com.yd.travelbot.global.warmup.Warmable;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
-import okhttp3.Response;
 import org.springframework.stereotype.Repository;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Repository
-@RequiredArgsConstructor
-public class GeoapifyPlaceRepository implements PlaceRepository {
+public class GeoapifyPlaceRepository implements PlaceRepository, Warmable {
 
     private final GeoapifyConfig geoapifyConfig;
     private final GeoapifyCityResolver cityResolver;
-    private final OkHttpClient httpClient = new OkHttpClient();
-    private static final String GEOAPIFY_PLACES_API_BASE = "https://api.geoapify.com/v2/places";
-    private static final String GEOAPIFY_GEOCODE_API_BASE = "https://api.geoapify.com/v1/geocode/search";
+    private final OkHttpClient httpClient;
+    // 도시/카테고리별 Places 원본 결과 (실패 시에는 보관하지 않음)
+    private final TtlCache<String, List<Place>> placeCache;
+    // 조회 조건별 마지막 정상 결과 (외부 API 실패/지연 시 대신 반환)
+    private final LastKnownGood<List<Place>> lastKnownGood;
+    // 후보를 넉넉히 받아 SearchRanking으로 상위 ranking.top-k개만 모델에 전달
+    private static final int RESULT_LIMIT = 50;
     // 한국 도시명 기본 매핑 (한글 → 영어)
     private static final java.util.Map<String, String> CITY_EN_MAP = java.util.Map.ofEntries(
             java.util.Map.entry("서울", "Seoul"),
@@ -59,104 +71,141 @@ public class GeoapifyPlaceRepository implements PlaceRepository {
             "제주도", new Double[]{126.5311884, 33.4996213}
     );
 
+    public GeoapifyPlaceRepository(GeoapifyConfig geoapifyConfig, GeoapifyCityResolver cityResolver,
+                                   OkHttpClient httpClient, LookupCacheConfig lookupCacheConfig,
+                                   LastKnownGoodConfig lastKnownGoodConfig, TravelMetrics travelMetrics) {
+        this.geoapifyConfig = geoapifyConfig;
+        this.cityResolver = cityResolver;
+        this.httpClient = httpClient;
+        this.placeCache = new TtlCache<>("place", lookupCacheConfig.getPlacesTtl(),
+                lookupCacheConfig.getMaxEntries(), travelMetrics);
+        this.lastKnownGood = new LastKnownGood<>("place", new TypeReference<>() {}, lastKnownGoodConfig,
+                travelMetrics);
+    }
+
     @Override
-    public List<Place> search(String city, String category) {
-        try {
-            // 1단계: CityResolver로 도시 좌표 얻기
-            Double[] cityCoordinates = cityResolver.resolveCoordinates(city, "kr");
+    public CompletableFuture<List<Place>> searchAsync(String city, String category) {
+        // 조회가 실패하거나 늦으면 같은 조건의 마지막 정상 결과를 받은 시각과 함께 반환
+        String key = cacheKey(city, category);
+        return lastKnownGood.fetch(key, () -> placeCache.getAsync(key, () -> fetchPlaces(city, category)))
+                .thenApply(GeoapifyPlaceRepository::served);
+    }
+
+    private static List<Place> served(LastKnownGood.Served<List<Place>> served) {
+        if (served.value() == null) {
+            return List.of();
+        }
+        if (served.isStale()) {
+            served.value().forEach(place -> place.setStaleAsOf(served.staleAsOf()));
+        }
+        return served.value();
+    }
+
+    @Override
+    public String intent() {
+        return "place";
+    }
+
+    @Override
+    public void warmUp(String city) {
+        search(city, null);
+    }
+
+    private String cacheKey(String city, String category) {
+        return city.trim() + "|" + (category != null ? category.trim() : "");
+    }
+
+    /**
+     * Places API 원본 검색 결과 (도시 좌표를 찾지 못하거나 호출이 실패하면 null)
+     */
+    private CompletableFuture<List<Place>> fetchPlaces(String city, String category) {
+        // 1단계: CityResolver로 도시 좌표 얻기 (정규화/지오코딩은 기다리지 않고 이어 붙임)
+        return cityResolver.resolveCoordinatesAsync(city, "kr").thenCompose(cityCoordinates -> {
             if (cityCoordinates == null) {
-                log.warn("도시 좌표를 찾을 수 없음: {}, 기본 데이터 반환", city);
-                return getDefaultPlaces(city, category);
+                log.warn("도시 좌표를 찾을 수 없음: {}", city);
+                return CompletableFuture.completedFuture(null);
             }
-            
+            return fetchPlacesAround(city, category, cityCoordinates);
+        });
+    }
+
+    private CompletableFuture<List<Place>> fetchPlacesAround(String city, String category, Double[] cityCoordinates) {
+        Request request;
+        try {
             double lon = cityCoordinates[0];
             double lat = cityCoordinates[1];
-            log.info("도시 {}의 좌표: ({}, {})", city, lat, lon);
+            log.debug("도시 {}의 좌표: ({}, {})", city, lat, lon);
             
             // 2단계: Places API로 관광지 검색 (도시 중심 10km 반경)
             String categories = getCategoryFilter(category);
-            okhttp3.HttpUrl.Builder urlBuilder = okhttp3.HttpUrl.parse(GEOAPIFY_PLACES_API_BASE).newBuilder()
+            okhttp3.HttpUrl.Builder urlBuilder = okhttp3.HttpUrl.parse(geoapifyConfig.placesUrl()).newBuilder()
                     .addQueryParameter("categories", categories)
                     .addQueryParameter("filter", String.format("circle:%f,%f,10000", lon, lat))
-                    .addQueryParameter("limit", "20")
+                    .addQueryParameter("limit", String.valueOf(RESULT_LIMIT))
                     .addQueryParameter("apiKey", geoapifyConfig.getApiKey());
             
             String url = urlBuilder.build().toString();
-            log.info("Geoapify Places API 요청 URL: {}", url);
 
-            Request request = new Request.Builder()
+            request = new Request.Builder()
                     .url(url)
                     .get()
                     .build();
-
-            try (Response response = httpClient.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    String errorBody = response.body() != null ? response.body().string() : "";
-                    log.error("Geoapify Places API 호출 실패 (status: {}): {}", response.code(), errorBody);
-                    log.warn("기본 데이터 반환");
-                    return getDefaultPlaces(city, category);
-                }
-
-                String responseBody = response.body().string();
-                log.info("Geoapify Places API 응답 (관광지): {}", responseBody.substring(0, Math.min(500, responseBody.length())));
-                JsonNode jsonNode = JsonUtil.fromJson(responseBody, JsonNode.class);
-                List<Place> places = parseGeoapifyResponse(jsonNode, city, category);
-                
-                log.info("Geoapify API에서 파싱된 관광지 개수: {}", places.size());
-                
-                // API 응답이 비어있거나 결과가 적을 때 (5개 미만) 기본 데이터로 보충
-                if (places.isEmpty()) {
-                    log.warn("Geoapify API 응답이 비어있음, 기본 데이터 반환");
-                    return getDefaultPlaces(city, category);
-                } else if (places.size() < 5) {
-                    log.warn("Geoapify API 응답이 적음 ({}개), 기본 데이터로 보충", places.size());
-                    // 기본 데이터를 추가하여 최소 10개 유지
-                    List<Place> defaultPlaces = getDefaultPlaces(city, category);
-                    places.addAll(defaultPlaces.subList(0, Math.min(10 - places.size(), defaultPlaces.size())));
-                }
-                
-                return places;
-            }
         } catch (Exception e) {
             log.error("관광지 검색 실패: {}", e.getMessage(), e);
-            return getDefaultPlaces(city, category);
+            return CompletableFuture.completedFuture(null);
         }
+
+        return AsyncCalls.call(httpClient, request, response -> {
+            if (!response.isSuccessful()) {
+                String errorBody = response.body() != null ? response.body().string() : "";
+                log.error("Geoapify Places API 호출 실패 (status: {}): {}", response.code(), LogRedactor.snippet(errorBody));
+                return null;
+            }
+            return List.copyOf(parseGeoapifyResponse(response.body().byteStream(), city, category));
+        }).exceptionally(e -> {
+            log.error("관광지 검색 실패: {}", AsyncCalls.unwrap(e).getMessage());
+            return null;
+        });
     }
 
     @Override
-    public List<Place> searchNearby(Double latitude, Double longitude, Double radius) {
-        try {
-            // URL 인코딩을 위해 HttpUrl.Builder 사용
-            okhttp3.HttpUrl.Builder urlBuilder = okhttp3.HttpUrl.parse(GEOAPIFY_PLACES_API_BASE).newBuilder()
-                    .addQueryParameter("categories", "tourism")
-                    .addQueryParameter("filter", String.format("circle:%f,%f,%f", longitude, latitude, radius * 1000))
-                    .addQueryParameter("limit", "20")
-                    .addQueryParameter("apiKey", geoapifyConfig.getApiKey());
-            
-            String url = urlBuilder.build().toString();
-            log.info("Geoapify Places API 요청 URL (주변 검색): {}", url);
-
-            Request request = new Request.Builder()
-                    .url(url)
-                    .get()
-                    .build();
-
-            try (Response response = httpClient.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    String errorBody = response.body() != null ? response.body().string() : "";
-                    log.error("Geoapify API 호출 실패 (status: {}): {}", response.code(), errorBody);
-                    log.warn("기본 데이터 반환");
-                    return getDefaultPlacesNearby(latitude, longitude);
-                }
+    public CompletableFuture<List<Place>> searchNearbyAsync(Double latitude, Double longitude, Double radius) {
+        // 좌표는 소수 셋째 자리(약 100m)까지만 키로 사용
+        String key = String.format("nearby|%.3f|%.3f|%s", latitude, longitude, radius);
+        return lastKnownGood.fetch(key, () -> fetchNearby(latitude, longitude, radius))
+                .thenApply(GeoapifyPlaceRepository::served)
+                .exceptionally(e -> {
+                    log.error("주변 관광지 검색 실패: {}", AsyncCalls.unwrap(e).getMessage());
+                    return List.of();
+                });
+    }
 
-                String responseBody = response.body().string();
-                JsonNode jsonNode = JsonUtil.fromJson(responseBody, JsonNode.class);
-                return parseGeoapifyResponse(jsonNode, null, null);
+    /**
+     * 좌표 주변 Places API 원본 검색 결과 (응답이 실패면 null, 전송 실패는 예외로 완료)
+     */
+    private CompletableFuture<List<Place>> fetchNearby(Double latitude, Double longitude, Double radius) {
+        // URL 인코딩을 위해 HttpUrl.Builder 사용
+        okhttp3.HttpUrl.Builder urlBuilder = okhttp3.HttpUrl.parse(geoapifyConfig.placesUrl()).newBuilder()
+                .addQueryParameter("categories", "tourism")
+                .addQueryParameter("filter", String.format("circle:%f,%f,%f", longitude, latitude, radius * 1000))
+                .addQueryParameter("limit", String.valueOf(RESULT_LIMIT))
+                .addQueryParameter("apiKey", geoapifyConfig.getApiKey());
+
+        String url = urlBuilder.build().toString();
+
+        Request request = new Request.Builder()
+                .url(url)
+                .get()
+                .build();
+
+        return AsyncCalls.call(httpClient, request, response -> {
+            if (!response.isSuccessful()) {
+                String errorBody = response.body() != null ? response.body().string() : "";
+                log.error("Geoapify API 호출 실패 (status: {}): {}", response.code(), LogRedactor.snippet(errorBody));
+                return null;
             }
-        } catch (Exception e) {
-            log.error("주변 관광지 검색 실패: {}", e.getMessage());
-            return getDefaultPlacesNearby(latitude, longitude);
-        }
+            return List.copyOf(parseGeoapifyResponse(response.body().byteStream(), null, null));
+        });
     }
 
     private String getCategoryFilter(String category) {
@@ -175,109 +224,29 @@ public class GeoapifyPlaceRepository implements PlaceRepository {
         }
     }
 
-    private List<Place> parseGeoapifyResponse(JsonNode jsonNode, String city, String category) {
-        List<Place> places = new ArrayList<>();
-        if (jsonNode.has("features") && jsonNode.get("features").isArray()) {
-            JsonNode features = jsonNode.get("features");
-            log.debug("Geoapify API features 개수: {}", features.size());
-            
-            for (JsonNode feature : features) {
-                if (!feature.has("properties")) {
-                    log.warn("feature에 properties가 없음, 건너뜀");
-                    continue;
-                }
-                
-                JsonNode properties = feature.get("properties");
-                JsonNode geometry = feature.has("geometry") ? feature.get("geometry") : null;
-                
-                String name = properties.has("name") && !properties.get("name").isNull() 
-                    ? properties.get("name").asText() 
-                    : "관광지";
-                
-                // 이름이 비어있거나 "관광지"인 경우 건너뛰기
-                if (name.isEmpty() || name.equals("관광지")) {
-                    log.debug("이름이 비어있거나 기본값인 항목 건너뜀: {}", name);
-                    continue;
-                }
-                
-                places.add(Place.builder()
-                        .id(properties.has("place_id") ? properties.get("place_id").asText() : "unknown")
-                        .name(name)
-                        .address(properties.has("formatted") && !properties.get("formatted").isNull() 
-                            ? properties.get("formatted").asText() 
-                            : (properties.has("address_line2") && !properties.get("address_line2").isNull()
-                                ? properties.get("address_line2").asText()
-                                : ""))
-                        .city(city != null ? city : "")
-                        .country(properties.has("country_code") ? properties.get("country_code").asText() : "")
-                        .category(category != null ? category : "관광지")
-                        .description("Geoapify를 통해 검색된 관광지")
-                        .rating(properties.has("rating") && !properties.get("rating").isNull() 
-                            ? properties.get("rating").asDouble() 
-                            : 4.0)
-                        .entranceFee(new BigDecimal("10000"))
-                        .currency("KRW")
-                        .latitude(geometry != null && geometry.has("coordinates") && geometry.get("coordinates").isArray() ? 
-                                 geometry.get("coordinates").get(1).asDouble() : null)
-                        .longitude(geometry != null && geometry.has("coordinates") && geometry.get("coordinates").isArray() ? 
-                                  geometry.get("coordinates").get(0).asDouble() : null)
-                        .build());
-            }
-        } else {
-            log.warn("Geoapify API 응답에 features가 없거나 배열이 아님");
-        }
-        return places;
-    }
-
-    private List<Place> getDefaultPlaces(String city, String category) {
-        List<Place> places = new ArrayList<>();
-        String[] placeNames = {
-            "성산일출봉", "한라산", "천지연폭포", "성산일출봉", "협재해수욕장",
-            "우도", "섭지코지", "카멜리아힐", "에코랜드", "제주올레"
-        };
-        
-        for (int i = 0; i < 10; i++) {
-            String placeName = city.equals("제주") || city.equals("제주도") 
-                ? placeNames[i % placeNames.length] 
-                : city + " 관광지 " + (i + 1);
-            
-        places.add(Place.builder()
-                    .id("place-" + (i + 1))
-                    .name(placeName)
-                .address(city + " 시내")
-                .city(city)
-                .category(category != null ? category : "관광지")
-                .description("인기 관광지입니다.")
-                    .rating(4.0 + (i % 5) * 0.1)
-                .entranceFee(new BigDecimal("10000"))
-                .currency("KRW")
-                .build());
-        }
-        return places;
-    }
-
-    private List<Place> getDefaultPlacesNearby(Double latitude, Double longitude) {
-        List<Place> places = new ArrayList<>();
-        String[] placeNames = {
-            "주변 관광지 1", "주변 관광지 2", "주변 관광지 3", "주변 관광지 4", "주변 관광지 5",
-            "주변 관광지 6", "주변 관광지 7", "주변 관광지 8", "주변 관광지 9", "주변 관광지 10"
-        };
-        
-        for (int i = 0; i < 10; i++) {
-        places.add(Place.builder()
-                    .id("place-nearby-" + (i + 1))
-                    .name(placeNames[i])
-                .address("근처")
-                .category("관광지")
-                .description("주변 관광지입니다.")
-                    .rating(4.0 + (i % 5) * 0.1)
-                .entranceFee(new BigDecimal("10000"))
-                .currency("KRW")
-                .latitude(latitude)
-                .longitude(longitude)
-                .build());
+    // src/jmh 벤치마크가 같은 패키지에서 호출하므로 package-private
+    List<Place> parseGeoapifyResponse(InputStream body, String city, String category) throws IOException {
+        // 이름이 비어있거나 "관광지"인 항목은 건너뛰고, 유효한 항목이 RESULT_LIMIT개 모이면 읽기 중단
+        List<GeoapifyFeature> features = GeoapifyFeatureReader.read(body, RESULT_LIMIT,
+                feature -> feature.name() != null && !feature.name().isEmpty() && !feature.name().equals("관광지"));
+        List<Place> places = new ArrayList<>(features.size());
+        for (GeoapifyFeature feature : features) {
+            places.add(Place.builder()
+                    .id(feature.placeId() != null ? feature.placeId() : "unknown")
+                    .name(feature.name())
+                    .address(feature.address())
+                    .city(city != null ? city : "")
+                    .country(feature.countryCode() != null ? feature.countryCode() : "")
+                    .category(category != null ? category : "관광지")
+                    .description("Geoapify를 통해 검색된 관광지")
+                    .rating(feature.rating() != null ? feature.rating() : 4.0)
+                    .entranceFee(new BigDecimal("10000"))
+                    .currency("KRW")
+                    .latitude(feature.latitude())
+                    .longitude(feature.longitude())
+                    .categories(feature.categories())
+                    .build());
         }
         return places;
     }
 }
-
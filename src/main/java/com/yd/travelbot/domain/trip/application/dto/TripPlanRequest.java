@@ -0,0 +1,26 @@
+package com.yd.travelbot.domain.trip.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TripPlanRequest {
+    private String city;
+    private LocalDate checkIn;
+    private Integer nights;
+    private Integer guests;
+    // 현지 통화 (예: JPY), 없으면 환율은 조회하지 않음
+    private String localCurrency;
+    // 기준 통화 (기본값: KRW)
+    private String homeCurrency;
+    // 기준 통화로 환산할 금액 (기본값: 1)
+    private BigDecimal amount;
+}
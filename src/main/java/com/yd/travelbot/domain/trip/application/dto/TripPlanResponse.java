@@ -0,0 +1,32 @@
+package com.yd.travelbot.domain.trip.application.dto;
+
+import com.yd.travelbot.domain.accommodation.application.dto.AccommodationResponse;
+import com.yd.travelbot.domain.currency.application.dto.CurrencyResponse;
+import com.yd.travelbot.domain.food.application.dto.FoodResponse;
+import com.yd.travelbot.domain.place.application.dto.PlaceResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TripPlanResponse {
+    private String city;
+    private Double latitude;
+    private Double longitude;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+    private Integer guests;
+    private List<PlaceResponse> places;
+    private List<FoodResponse> foods;
+    private List<AccommodationResponse> accommodations;
+    private CurrencyResponse currency;
+    // 시간 안에 받지 못했거나 실패한 항목 (places, foods, accommodations, currency)
+    private List<String> incomplete;
+}
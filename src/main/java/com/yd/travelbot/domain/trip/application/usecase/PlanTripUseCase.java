@@ -0,0 +1,191 @@
+package com.yd.travelbot.domain.trip.application.usecase;
+
+import com.yd.travelbot.domain.accommodation.application.dto.AccommodationResponse;
+import com.yd.travelbot.domain.accommodation.application.dto.AccommodationSearchRequest;
+import com.yd.travelbot.domain.accommodation.application.usecase.SearchAccommodationUseCase;
+import com.yd.travelbot.domain.currency.application.dto.CurrencyConvertRequest;
+import com.yd.travelbot.domain.currency.application.dto.CurrencyResponse;
+import com.yd.travelbot.domain.currency.application.usecase.ConvertCurrencyUseCase;
+import com.yd.travelbot.domain.food.application.dto.FoodResponse;
+import com.yd.travelbot.domain.food.application.dto.FoodSearchRequest;
+import com.yd.travelbot.domain.food.application.usecase.SearchFoodUseCase;
+import com.yd.travelbot.domain.place.application.dto.PlaceResponse;
+import com.yd.travelbot.domain.place.application.dto.PlaceSearchRequest;
+import com.yd.travelbot.domain.place.application.usecase.SearchPlaceUseCase;
+import com.yd.travelbot.domain.trip.application.dto.TripPlanRequest;
+import com.yd.travelbot.domain.trip.application.dto.TripPlanResponse;
+import com.yd.travelbot.global.config.SearchTimeoutConfig;
+import com.yd.travelbot.global.deadline.Deadline;
+import com.yd.travelbot.global.external.AsyncCalls;
+import com.yd.travelbot.global.resolver.GeoapifyCityResolver;
+import io.opentelemetry.context.Scope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 한 도시의 관광지, 음식점, 숙소, 환율을 한 번에 모아 여행 계획 묶음으로 반환
+ *
+ * - 도시는 처음에 한 번만 해석하고, 관광지/음식점은 그 좌표로 조회합니다.
+ *   (숙소의 Geoapify 대체 경로도 같은 보관 좌표를 사용)
+ * - 네 조회를 동시에 시작하고 search-timeout.trip-plan 안에 끝난 항목만 담습니다.
+ *   이 시간은 시간 예산(Deadline)으로 걸어 두므로 도시 해석과 외부 API 호출도 그 안에서 끝납니다.
+ *   시간을 넘기거나 실패한 항목은 비워 두고 incomplete에 남기며, 끝나지 않은 조회는 취소합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlanTripUseCase {
+
+    static final String PLACES = "places";
+    static final String FOODS = "foods";
+    static final String ACCOMMODATIONS = "accommodations";
+    static final String CURRENCY = "currency";
+
+    private static final int MAX_ITEMS = 10;
+    private static final int MAX_NIGHTS = 30;
+    // 도시 검색(searchAsync)과 같은 반경
+    private static final double PLACE_RADIUS_KM = 10.0;
+    private static final String DEFAULT_HOME_CURRENCY = "KRW";
+
+    private final SearchPlaceUseCase searchPlaceUseCase;
+    private final SearchFoodUseCase searchFoodUseCase;
+    private final SearchAccommodationUseCase searchAccommodationUseCase;
+    private final ConvertCurrencyUseCase convertCurrencyUseCase;
+    private final GeoapifyCityResolver cityResolver;
+    private final SearchTimeoutConfig searchTimeoutConfig;
+
+    public TripPlanResponse execute(TripPlanRequest request) {
+        if (request.getCity() == null || request.getCity().isBlank()) {
+            throw new IllegalArgumentException("도시명을 입력해 주세요.");
+        }
+        int nights = request.getNights() != null ? request.getNights() : 1;
+        if (nights < 1 || nights > MAX_NIGHTS) {
+            throw new IllegalArgumentException("숙박 일수는 1~" + MAX_NIGHTS + "박 사이여야 합니다.");
+        }
+        // 대화 턴 안(planTrip 툴)에서 호출되면 턴의 남은 예산이 더 짧을 수 있음
+        try (Scope ignored = Deadline.start(searchTimeoutConfig.getTripPlan())) {
+            return plan(request, nights);
+        }
+    }
+
+    private TripPlanResponse plan(TripPlanRequest request, int nights) {
+        String city = request.getCity().trim();
+        LocalDate checkIn = request.getCheckIn() != null ? request.getCheckIn() : LocalDate.now().plusDays(1);
+        LocalDate checkOut = checkIn.plusDays(nights);
+        int guests = request.getGuests() != null ? request.getGuests() : 1;
+
+        // 좌표를 찾지 못하면 도시명 검색으로 진행 (좌표 기준 주변 검색 대신 도시 검색 결과 사용)
+        Double[] coordinates = cityResolver.resolveCoordinates(city, null);
+        Double latitude = coordinates != null ? coordinates[1] : null;
+        Double longitude = coordinates != null ? coordinates[0] : null;
+
+        CompletableFuture<List<PlaceResponse>> places = AsyncCalls.defer(() -> searchPlaceUseCase.executeAsync(
+                PlaceSearchRequest.builder()
+                        .city(city)
+                        .latitude(latitude)
+                        .longitude(longitude)
+                        .radius(PLACE_RADIUS_KM)
+                        .build()));
+        CompletableFuture<List<FoodResponse>> foods = AsyncCalls.defer(() -> searchFoodUseCase.executeAsync(
+                FoodSearchRequest.builder()
+                        .city(city)
+                        .latitude(latitude)
+                        .longitude(longitude)
+                        .build()));
+        CompletableFuture<List<AccommodationResponse>> accommodations = AsyncCalls.defer(
+                () -> searchAccommodationUseCase.executeAsync(AccommodationSearchRequest.builder()
+                        .city(city)
+                        .checkIn(checkIn)
+                        .checkOut(checkOut)
+                        .guests(guests)
+                        .build()));
+        CompletableFuture<CurrencyResponse> currency = convertCurrency(request);
+
+        awaitAll(Deadline.current().remainingNanos(), places, foods, accommodations, currency);
+
+        List<String> incomplete = new ArrayList<>();
+        return TripPlanResponse.builder()
+                .city(city)
+                .latitude(latitude)
+                .longitude(longitude)
+                .checkIn(checkIn)
+                .checkOut(checkOut)
+                .guests(guests)
+                .places(limit(take(PLACES, places, incomplete)))
+                .foods(limit(take(FOODS, foods, incomplete)))
+                .accommodations(limit(take(ACCOMMODATIONS, accommodations, incomplete)))
+                .currency(take(CURRENCY, currency, incomplete))
+                .incomplete(incomplete)
+                .build();
+    }
+
+    /**
+     * 현지 통화가 없거나 기준 통화와 같으면 환율은 조회하지 않음
+     */
+    private CompletableFuture<CurrencyResponse> convertCurrency(TripPlanRequest request) {
+        String home = request.getHomeCurrency() != null && !request.getHomeCurrency().isBlank()
+                ? request.getHomeCurrency().trim().toUpperCase(Locale.ROOT)
+                : DEFAULT_HOME_CURRENCY;
+        String local = request.getLocalCurrency() != null
+                ? request.getLocalCurrency().trim().toUpperCase(Locale.ROOT)
+                : "";
+        if (local.isEmpty() || local.equals(home)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return AsyncCalls.defer(() -> convertCurrencyUseCase.executeAsync(CurrencyConvertRequest.builder()
+                .fromCurrency(home)
+                .toCurrency(local)
+                .amount(request.getAmount() != null ? request.getAmount() : BigDecimal.ONE)
+                .build()));
+    }
+
+    private static void awaitAll(long timeoutNanos, CompletableFuture<?>... parts) {
+        try {
+            CompletableFuture.allOf(parts).get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("여행 계획 조회 시간 초과, 받은 항목만 반환");
+        } catch (ExecutionException e) {
+            // 모든 조회가 끝났고 일부가 실패함 - 실패한 항목은 take()에서 기록
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 끝난 조회의 결과 (아직 진행 중이면 취소하고, 실패했거나 취소됐으면 incomplete에 남기고 null)
+     */
+    private static <T> T take(String section, CompletableFuture<T> part, List<String> incomplete) {
+        if (!part.isDone()) {
+            part.cancel(true);
+            incomplete.add(section);
+            return null;
+        }
+        try {
+            return part.join();
+        } catch (CompletionException | CancellationException e) {
+            log.warn("여행 계획 {} 조회 실패: {}", section, AsyncCalls.unwrap(e).getMessage());
+            incomplete.add(section);
+            return null;
+        }
+    }
+
+    private static <T> List<T> limit(List<T> items) {
+        if (items == null) {
+            return List.of();
+        }
+        return items.size() > MAX_ITEMS ? List.copyOf(items.subList(0, MAX_ITEMS)) : items;
+    }
+}
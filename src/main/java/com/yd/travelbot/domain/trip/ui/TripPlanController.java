@@ -0,0 +1,47 @@
+package com.yd.travelbot.domain.trip.ui;
+
+import com.yd.travelbot.domain.trip.application.dto.TripPlanRequest;
+import com.yd.travelbot.domain.trip.application.dto.TripPlanResponse;
+import com.yd.travelbot.domain.trip.application.usecase.PlanTripUseCase;
+import com.yd.travelbot.global.tracing.TravelTracing;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Scope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * LLM을 거치지 않고 여행 계획 묶음(관광지, 음식점, 숙소, 환율)을 바로 반환하는 API
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/trip-plan")
+@RequiredArgsConstructor
+public class TripPlanController {
+
+    private final PlanTripUseCase planTripUseCase;
+
+    @PostMapping
+    public ResponseEntity<TripPlanResponse> plan(@RequestBody TripPlanRequest request) {
+        Span span = TravelTracing.startRootSpan("POST /api/trip-plan", SpanKind.SERVER, false);
+        span.setAttribute("http.request.method", "POST");
+        span.setAttribute("http.route", "/api/trip-plan");
+        try (Scope ignored = span.makeCurrent()) {
+            TripPlanResponse response = planTripUseCase.execute(request);
+            if (!response.getIncomplete().isEmpty()) {
+                span.setAttribute("travelbot.trip.incomplete", String.join(",", response.getIncomplete()));
+            }
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            TravelTracing.fail(span, e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
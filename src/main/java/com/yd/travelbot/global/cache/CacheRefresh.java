@@ -0,0 +1,51 @@
+package com.yd.travelbot.global.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.Scope;
+
+/**
+ * 캐시 갱신(warm-up) 구간을 현재 Context에 묶어 두는 도우미
+ *
+ * 구간 안에서는 horizon 안에 만료될 항목을 미리 다시 읽고, 실제로 외부를 호출한 횟수(loads)를 셉니다.
+ * 구간 밖의 일반 요청은 만료 전 항목을 그대로 사용합니다.
+ *
+ * <pre>
+ * AtomicInteger loads = new AtomicInteger();
+ * try (Scope ignored = CacheRefresh.refreshing(Duration.ofMinutes(40), loads)) {
+ *     foodRepository.search("서울", null);
+ * }
+ * </pre>
+ */
+public final class CacheRefresh {
+
+    private static final ContextKey<Refresh> REFRESH = ContextKey.named("travelbot.cache.refresh");
+
+    private CacheRefresh() {
+    }
+
+    public static Scope refreshing(Duration horizon, AtomicInteger loads) {
+        return Context.current().with(REFRESH, new Refresh(horizon, loads)).makeCurrent();
+    }
+
+    /**
+     * 남은 수명이 이 값보다 짧은 항목은 다시 읽음 (갱신 구간 밖이면 0)
+     */
+    static Duration horizon() {
+        Refresh refresh = Context.current().get(REFRESH);
+        return refresh != null ? refresh.horizon() : Duration.ZERO;
+    }
+
+    static void countLoad() {
+        Refresh refresh = Context.current().get(REFRESH);
+        if (refresh != null) {
+            refresh.loads().incrementAndGet();
+        }
+    }
+
+    private record Refresh(Duration horizon, AtomicInteger loads) {
+    }
+}
@@ -0,0 +1,359 @@
+package com.yd.travelbot.global.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.yd.travelbot.global.config.LastKnownGoodConfig;
+import com.yd.travelbot.global.external.AsyncCalls;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+import com.yd.travelbot.global.util.JsonUtil;
+
+import io.opentelemetry.context.Context;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 조회의 마지막 정상 결과(last-known-good)를 조회 키별로 보관하고, 외부 API가 실패하거나 늦을 때 대신 돌려주는 저장소
+ *
+ * - 조회가 비어 있지 않은 결과로 끝날 때마다 그 결과와 받은 시각을 남깁니다. (같은 결과 객체는 다시 남기지 않음)
+ * - 조회가 실패하거나 빈 결과면 보관된 결과를, serveAfter 안에 끝나지 않으면 보관된 결과를 먼저 돌려줍니다.
+ *   먼저 돌려준 뒤에도 조회는 이어서 진행하고, 끝나면 보관된 결과를 갱신합니다. (stale-while-revalidate)
+ * - 대신 돌려준 결과는 보관본의 복사본이며, Served.staleAsOf에 원래 받은 시각이 담깁니다. maxAge보다 오래된 결과는 돌려주지 않습니다.
+ * - 힙에는 최근 사용한 maxResidentEntries개만 두고, 밀려난 항목은 {directory}/{name}/{sha-256(key)}.json으로 내보냅니다.
+ *   디스크 항목은 다음 조회 때 다시 읽어 힙으로 올리며, 재시작 후에도 그대로 쓰입니다. 기동 시에는 디렉터리를 읽지 않습니다.
+ * - 디스크 쓰기는 저장소 공용 백그라운드 스레드에서 하므로, 결과를 남기는 OkHttp 콜백 스레드가 디스크를 기다리지 않습니다.
+ *   쓰는 동안에도 밀려난 항목은 그대로 조회할 수 있습니다.
+ *
+ * @param <V> 보관할 결과 타입 (JsonUtil의 ObjectMapper로 직렬화할 수 있어야 함)
+ */
+@Slf4j
+public class LastKnownGood<V> {
+
+    static final String SUFFIX = ".json";
+
+    // 모든 저장소가 함께 쓰는 디스크 쓰기 스레드
+    private static final ExecutorService SPILL_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "last-known-good-spill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String name;
+    private final ObjectReader reader;
+    private final int maxResident;
+    private final int maxSpilled;
+    private final Duration maxAge;
+    private final Duration serveAfter;
+    private final Path directory;
+    private final TravelMetrics travelMetrics;
+    private final Clock clock;
+    private final Executor spillExecutor;
+    private final Map<String, Entry<V>> resident = new LinkedHashMap<>(16, 0.75f, true);
+    // 힙에서 밀려나 디스크에 쓰는 중인 항목 (다 쓰면 제거)
+    private final Map<String, Entry<V>> spilling = new HashMap<>();
+    // 디스크 항목 수 (처음 내보낼 때 디렉터리를 세어 채움, -1이면 아직 세지 않음)
+    private int spilled = -1;
+
+    /**
+     * 조회 결과 (staleAsOf가 있으면 외부 조회 대신 보관된 결과를 돌려준 것)
+     */
+    public record Served<V>(V value, Instant staleAsOf) {
+        public boolean isStale() {
+            return staleAsOf != null;
+        }
+    }
+
+    private record Entry<V>(V value, long storedAt) {
+    }
+
+    public LastKnownGood(String name, TypeReference<V> type, LastKnownGoodConfig config, TravelMetrics travelMetrics) {
+        this(name, type, config, travelMetrics, Clock.systemUTC(), SPILL_EXECUTOR);
+    }
+
+    LastKnownGood(String name, TypeReference<V> type, LastKnownGoodConfig config, TravelMetrics travelMetrics,
+                  Clock clock, Executor spillExecutor) {
+        this.name = name;
+        this.reader = JsonUtil.readerFor(type);
+        this.maxResident = Math.max(1, config.getMaxResidentEntries());
+        this.maxSpilled = Math.max(0, config.getMaxSpilledEntries());
+        this.maxAge = config.getMaxAge();
+        this.serveAfter = config.getServeAfter();
+        this.directory = config.getDirectory() != null && !config.getDirectory().isBlank()
+                ? Path.of(config.getDirectory(), name)
+                : null;
+        this.travelMetrics = travelMetrics;
+        this.clock = clock;
+        this.spillExecutor = spillExecutor;
+        travelMetrics.gaugeCacheSize("last-known-good-" + name, resident);
+    }
+
+    /**
+     * loader로 조회하고, 실패/빈 결과/지연이면 보관된 결과로 대신합니다.
+     * 보관된 결과도 없으면 조회 결과(null 또는 빈 결과)나 예외를 그대로 전달합니다.
+     * 반환한 future를 취소해도 조회는 취소하지 않습니다. (끝나면 보관된 결과를 갱신)
+     * 다만 조회는 호출한 시점의 취소 범위(Cancellation)에서 시작하므로, 호출한 쪽이 조회를 포기하며 범위를 취소하면 외부 호출도 취소됩니다.
+     */
+    public CompletableFuture<Served<V>> fetch(String key, Supplier<CompletableFuture<V>> loader) {
+        CompletableFuture<V> loading = AsyncCalls.defer(loader);
+        CompletableFuture<Served<V>> served = new CompletableFuture<>();
+        loading.whenComplete((value, error) -> {
+            Throwable cause = AsyncCalls.unwrap(error);
+            if (cause == null && usable(value)) {
+                put(key, value);
+                served.complete(new Served<>(value, null));
+                return;
+            }
+            if (served.isDone()) {
+                return;
+            }
+            Served<V> stale = stale(key);
+            if (stale != null) {
+                log.warn("{} 조회 실패, {}에 받은 결과로 대신함: {}", name, stale.staleAsOf(),
+                        cause != null ? cause.getMessage() : "빈 결과");
+                travelMetrics.recordLastKnownGood(name, "served");
+                served.complete(stale);
+                return;
+            }
+            travelMetrics.recordLastKnownGood(name, "missing");
+            if (cause != null) {
+                served.completeExceptionally(cause);
+            } else {
+                served.complete(new Served<>(value, null));
+            }
+        });
+        if (!served.isDone() && serveAfter != null && serveAfter.toMillis() > 0) {
+            Executor timer = Context.current().wrap(
+                    CompletableFuture.delayedExecutor(serveAfter.toMillis(), TimeUnit.MILLISECONDS));
+            timer.execute(() -> {
+                if (served.isDone()) {
+                    return;
+                }
+                Served<V> stale = stale(key);
+                if (stale != null && !served.isDone()) {
+                    log.warn("{} 조회가 {}ms 안에 끝나지 않아 {}에 받은 결과를 먼저 반환", name, serveAfter.toMillis(),
+                            stale.staleAsOf());
+                    travelMetrics.recordLastKnownGood(name, "early");
+                    served.complete(stale);
+                }
+            });
+        }
+        return served;
+    }
+
+    /**
+     * 정상 결과를 남깁니다. (null이나 빈 컬렉션은 대신 돌려줄 수 없으므로 무시)
+     */
+    public void put(String key, V value) {
+        if (!usable(value)) {
+            return;
+        }
+        List<Map.Entry<String, Entry<V>>> evicted;
+        synchronized (this) {
+            Entry<V> current = resident.get(key);
+            if (current != null && current.value() == value) {
+                return;
+            }
+            evicted = admit(key, new Entry<>(value, clock.millis()));
+        }
+        spill(evicted);
+    }
+
+    /**
+     * 보관된 결과의 복사본 (없거나 maxAge보다 오래됐으면 null)
+     */
+    public Served<V> stale(String key) {
+        Entry<V> entry = lookup(key);
+        if (entry == null || clock.millis() - entry.storedAt() > maxAge.toMillis()) {
+            return null;
+        }
+        try {
+            V copy = reader.readValue(JsonUtil.toJsonBytes(entry.value()));
+            return new Served<>(copy, Instant.ofEpochMilli(entry.storedAt()));
+        } catch (IOException e) {
+            log.warn("{} 보관 결과 복사 실패: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    synchronized int residentSize() {
+        return resident.size();
+    }
+
+    private Entry<V> lookup(String key) {
+        synchronized (this) {
+            Entry<V> entry = resident.get(key);
+            if (entry != null) {
+                return entry;
+            }
+            entry = spilling.get(key);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        if (directory == null) {
+            return null;
+        }
+        Path file = file(key);
+        Entry<V> loaded;
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            long storedAt = Files.getLastModifiedTime(file).toMillis();
+            loaded = new Entry<>(reader.readValue(bytes), storedAt);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("{} 보관 결과 읽기 실패 ({}): {}", name, file.getFileName(), e.getMessage());
+            return null;
+        }
+        List<Map.Entry<String, Entry<V>>> evicted;
+        synchronized (this) {
+            Entry<V> current = resident.get(key);
+            if (current != null) {
+                // 읽는 사이 새 결과가 남았으면 그쪽을 사용
+                return current;
+            }
+            evicted = admit(key, loaded);
+        }
+        spill(evicted);
+        return loaded;
+    }
+
+    // synchronized 안에서 호출, 힙에서 밀려난 항목을 돌려줌 (디스크로 내보낼 항목은 다 쓸 때까지 spilling에 둠)
+    private List<Map.Entry<String, Entry<V>>> admit(String key, Entry<V> entry) {
+        resident.put(key, entry);
+        List<Map.Entry<String, Entry<V>>> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Entry<V>>> eldest = resident.entrySet().iterator();
+        while (resident.size() > maxResident && eldest.hasNext()) {
+            Map.Entry<String, Entry<V>> next = eldest.next();
+            evicted.add(Map.entry(next.getKey(), next.getValue()));
+            if (directory != null && maxSpilled > 0) {
+                spilling.put(next.getKey(), next.getValue());
+            }
+            eldest.remove();
+        }
+        return evicted;
+    }
+
+    private void spill(List<Map.Entry<String, Entry<V>>> evicted) {
+        if (directory == null || maxSpilled == 0 || evicted.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, Entry<V>> e : evicted) {
+            spillExecutor.execute(() -> {
+                try {
+                    write(e.getKey(), e.getValue());
+                } finally {
+                    synchronized (this) {
+                        spilling.remove(e.getKey(), e.getValue());
+                    }
+                }
+            });
+        }
+    }
+
+    private void write(String key, Entry<V> entry) {
+        Path file = file(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            boolean replaced = Files.exists(file);
+            // 같은 키를 동시에 내보내도 서로 다른 임시 파일에 쓰고 원자적으로 바꿔 끼움
+            temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            Files.write(temp, JsonUtil.toJsonBytes(entry.value()));
+            Files.setLastModifiedTime(temp, FileTime.fromMillis(entry.storedAt()));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+            if (!replaced) {
+                countSpilled();
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.warn("{} 보관 결과 내보내기 실패: {}", name, ex.getMessage());
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // 다음 내보내기에 영향 없음
+                }
+            }
+        }
+    }
+
+    private void countSpilled() throws IOException {
+        synchronized (this) {
+            if (spilled >= 0 && ++spilled <= maxSpilled) {
+                return;
+            }
+        }
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SUFFIX)).toList();
+        }
+        int excess = files.size() - maxSpilled;
+        if (excess > 0) {
+            // 넘친 만큼보다 조금 더 지워 매번 디렉터리를 세지 않도록 함
+            int toDelete = Math.min(files.size(), excess + maxSpilled / 10);
+            List<Path> oldest = new ArrayList<>(files);
+            oldest.sort(Comparator.comparingLong(LastKnownGood::lastModified));
+            for (Path path : oldest.subList(0, toDelete)) {
+                Files.deleteIfExists(path);
+            }
+            log.info("{} 보관 결과 {}개 중 오래된 {}개 삭제", name, files.size(), toDelete);
+            synchronized (this) {
+                spilled = files.size() - toDelete;
+            }
+        } else {
+            synchronized (this) {
+                spilled = files.size();
+            }
+        }
+    }
+
+    private Path file(String key) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(hash) + SUFFIX);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private static boolean usable(Object value) {
+        return value != null && !(value instanceof Collection<?> c && c.isEmpty());
+    }
+}
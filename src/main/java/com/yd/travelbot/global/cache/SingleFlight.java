@@ -0,0 +1,127 @@
+package com.yd.travelbot.global.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.yd.travelbot.global.deadline.Cancellation;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+
+/**
+ * 같은 키의 조회가 진행 중이면 새로 호출하지 않고 그 결과를 함께 기다리게 하는 도우미
+ *
+ * - 결과를 보관하지는 않으므로 캐시에 담을 수 없는 조회(날짜별 숙소 오퍼 등)에도 쓸 수 있습니다.
+ * - 함께 기다린 요청은 travelbot.cache.requests{result=shared}로 셉니다.
+ * - 호출한 쪽마다 따로 만든 future를 돌려주므로 한쪽이 취소해도(시간 초과) 공유 조회와 다른 쪽은 영향을 받지 않고,
+ *   뒤이은 단계는 각자 호출한 시점의 Context(세션, span)에서 실행됩니다.
+ * - 공유 조회는 어느 호출자의 취소 범위(Cancellation)에도 속하지 않는 별도 범위에서 시작합니다.
+ *   호출자가 자기 future를 취소하거나 호출자의 범위가 취소되면 기다림에서 빠지고, 기다리는 호출자가 모두 빠지면 공유 조회도 취소합니다.
+ */
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final TravelMetrics travelMetrics;
+    private final Map<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+
+    private record Flight<V>(CompletableFuture<V> result, Cancellation cancellation, AtomicInteger waiters) {
+        Flight(Cancellation cancellation) {
+            this(new CompletableFuture<>(), cancellation, new AtomicInteger());
+        }
+    }
+
+    public SingleFlight(String name, TravelMetrics travelMetrics) {
+        this.name = name;
+        this.travelMetrics = travelMetrics;
+    }
+
+    /**
+     * 진행 중인 같은 키의 조회를 기다리거나, 없으면 loader를 호출한 스레드에서 실행합니다.
+     */
+    public V run(K key, Supplier<V> loader) {
+        Flight<V> flight = new Flight<>(null);
+        Flight<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            travelMetrics.recordCacheShared(name);
+            try {
+                return existing.result().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        try {
+            V value = loader.get();
+            flight.result().complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * run의 비동기 버전: 진행 중인 조회가 없을 때만 loader를 호출합니다.
+     */
+    public CompletableFuture<V> runAsync(K key, Supplier<CompletableFuture<V>> loader) {
+        Flight<V> flight = new Flight<>(Cancellation.detached());
+        Flight<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            travelMetrics.recordCacheShared(name);
+            return follow(key, existing);
+        }
+        CompletableFuture<V> loaded;
+        try (Scope ignored = flight.cancellation().makeCurrent()) {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            inFlight.remove(key, flight);
+            flight.result().completeExceptionally(e);
+            throw e;
+        }
+        loaded.whenComplete((value, error) -> {
+            inFlight.remove(key, flight);
+            if (error != null) {
+                flight.result().completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            } else {
+                flight.result().complete(value);
+            }
+        });
+        return follow(key, flight);
+    }
+
+    private CompletableFuture<V> follow(K key, Flight<V> flight) {
+        Context context = Context.current();
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        flight.waiters().incrementAndGet();
+        Cancellation caller = Cancellation.current();
+        Runnable unregister = caller != null ? caller.onCancel(() -> mine.cancel(true)) : () -> { };
+        mine.whenComplete((value, error) -> {
+            unregister.run();
+            if (mine.isCancelled() && flight.waiters().decrementAndGet() == 0 && !flight.result().isDone()) {
+                // 기다리는 호출자가 없으니 새 호출자가 합류하지 않게 빼고 공유 조회를 취소
+                inFlight.remove(key, flight);
+                flight.cancellation().cancel();
+            }
+        });
+        flight.result().whenComplete((value, error) -> {
+            try (Scope ignored = context.makeCurrent()) {
+                if (error != null) {
+                    mine.completeExceptionally(error);
+                } else {
+                    mine.complete(value);
+                }
+            }
+        });
+        return mine;
+    }
+}
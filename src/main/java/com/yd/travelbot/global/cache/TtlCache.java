@@ -0,0 +1,124 @@
+package com.yd.travelbot.global.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+/**
+ * 외부 조회 결과를 정해진 시간 동안 보관하는 캐시
+ *
+ * - loader가 null을 돌려주면 (외부 API 실패 → 마지막 정상 결과 사용) 보관하지 않습니다.
+ * - 최근 사용 순으로 maxEntries개까지만 보관합니다.
+ * - CacheRefresh 구간(warm-up)에서는 곧 만료될 항목을 미리 다시 읽으며, 다시 읽기에 실패하면 기존 값을 유지합니다.
+ * - 같은 키를 동시에 읽으면 loader는 한 번만 실행하고 나머지 요청은 그 결과를 함께 기다립니다. (SingleFlight)
+ * - 조회 결과는 travelbot.cache.requests(hit/miss/shared) / travelbot.cache.size 지표로 내보냅니다.
+ */
+public class TtlCache<K, V> {
+
+    private final String name;
+    private final Duration ttl;
+    private final TravelMetrics travelMetrics;
+    private final Clock clock;
+    private final Map<K, Entry<V>> entries;
+    private final SingleFlight<K, V> loads;
+
+    public TtlCache(String name, Duration ttl, int maxEntries, TravelMetrics travelMetrics) {
+        this(name, ttl, maxEntries, travelMetrics, Clock.systemUTC());
+    }
+
+    TtlCache(String name, Duration ttl, int maxEntries, TravelMetrics travelMetrics, Clock clock) {
+        this.name = name;
+        this.ttl = ttl;
+        this.travelMetrics = travelMetrics;
+        this.clock = clock;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.loads = new SingleFlight<>(name, travelMetrics);
+        travelMetrics.gaugeCacheSize(name, entries);
+    }
+
+    /**
+     * 보관 중인 값을 돌려주거나, 없거나 만료됐으면 loader로 읽어 보관합니다.
+     */
+    public V get(K key, Supplier<V> loader) {
+        Entry<V> entry = entries.get(key);
+        Instant now = clock.instant();
+        if (entry != null && entry.expiresAt().isAfter(now.plus(CacheRefresh.horizon()))) {
+            travelMetrics.recordCacheHit(name);
+            return entry.value();
+        }
+        return loads.run(key, () -> {
+            travelMetrics.recordCacheMiss(name);
+            CacheRefresh.countLoad();
+
+            V value = loader.get();
+            if (value != null) {
+                entries.put(key, new Entry<>(value, clock.instant().plus(ttl)));
+                return value;
+            }
+            // 미리 다시 읽기에 실패한 경우 아직 유효한 기존 값을 사용
+            if (entry != null && entry.expiresAt().isAfter(clock.instant())) {
+                return entry.value();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * get의 비동기 버전: 보관 중인 값은 바로 완료된 future로, 없으면 loader가 돌려준 future가 끝날 때 보관합니다.
+     */
+    public CompletableFuture<V> getAsync(K key, Supplier<CompletableFuture<V>> loader) {
+        Entry<V> entry = entries.get(key);
+        Instant now = clock.instant();
+        if (entry != null && entry.expiresAt().isAfter(now.plus(CacheRefresh.horizon()))) {
+            travelMetrics.recordCacheHit(name);
+            return CompletableFuture.completedFuture(entry.value());
+        }
+        return loads.runAsync(key, () -> {
+            travelMetrics.recordCacheMiss(name);
+            CacheRefresh.countLoad();
+
+            return loader.get().thenApply(value -> {
+                if (value != null) {
+                    entries.put(key, new Entry<>(value, clock.instant().plus(ttl)));
+                    return value;
+                }
+                // 미리 다시 읽기에 실패한 경우 아직 유효한 기존 값을 사용
+                if (entry != null && entry.expiresAt().isAfter(clock.instant())) {
+                    return entry.value();
+                }
+                return null;
+            });
+        });
+    }
+
+    /**
+     * 보관 중이고 만료되지 않은 값 (없으면 null, loader를 실행하지 않고 지표도 남기지 않음)
+     */
+    public V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null && entry.expiresAt().isAfter(clock.instant()) ? entry.value() : null;
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, Instant expiresAt) {
+    }
+}
@@ -11,6 +11,8 @@ public abstract class BaseEntity {
 
     private Instant createdAt;
     private Instant updatedAt;
+    // 외부 API 장애로 마지막 정상 조회 결과를 대신 돌려줄 때 그 결과를 받은 시각 (최신 결과면 null)
+    private Instant staleAsOf;
 
     protected BaseEntity() {
         Instant now = Instant.now();
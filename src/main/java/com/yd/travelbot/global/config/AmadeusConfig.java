@@ -12,5 +12,14 @@ import org.springframework.context.annotation.Configuration;
 public class AmadeusConfig {
     private String apiKey;
     private String apiSecret;
-}
+    // API 기본 주소 (부하 테스트에서는 로컬 스텁 서버 주소로 교체)
+    private String baseUrl = "https://test.api.amadeus.com";
+
+    public String v1Url() {
+        return baseUrl + "/v1";
+    }
 
+    public String v3Url() {
+        return baseUrl + "/v3";
+    }
+}
@@ -0,0 +1,18 @@
+package com.yd.travelbot.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Configuration
+@ConfigurationProperties(prefix = "chat-batch")
+@Getter
+@Setter
+public class ChatBatchConfig {
+    // 일괄 처리 전체(모든 요청 합산)의 동시 처리 수 - 사용자 대화가 밀리지 않도록 langchain.gateway.max-concurrent보다 작게
+    private int parallelism = 4;
+    // 요청 하나에 담을 수 있는 최대 메시지 수
+    private int maxItems = 5_000;
+}
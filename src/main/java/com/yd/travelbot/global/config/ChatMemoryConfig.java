@@ -0,0 +1,35 @@
+package com.yd.travelbot.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Configuration
+@ConfigurationProperties(prefix = "chat-memory")
+@Getter
+@Setter
+public class ChatMemoryConfig {
+    // 대화 기록 저장소
+    // file: 로컬 디스크에 세션별 로그로 보관해 재시작 후에도 유지
+    // redis: 여러 노드가 Redis(spring.data.redis.*)를 공유하고 노드마다 최근 세션을 가까이 캐시 (고정 세션 불필요)
+    // memory: 힙에만 보관
+    private String store = "file";
+    // file 저장소 디렉터리
+    private String directory = "data/chat-memory";
+    // 세션당 모델에 넘기는 최근 메시지 수
+    private int maxMessages = 10;
+    // 힙에 올려 두는 최대 세션 수 (초과 시 가장 오래 쓰지 않은 세션부터 내림, file/redis 저장소에서는 다음 접근 때 복원)
+    private int maxResidentSessions = 1_000;
+    // 세션 로그가 이 레코드 수를 넘으면 현재 메시지만 남기도록 다시 씀
+    private int compactionThreshold = 64;
+    // 이 기간 동안 쓰이지 않은 세션 기록은 삭제 (file: 기동 시 삭제, redis: 키 만료, 0이면 삭제하지 않음)
+    private Duration retention = Duration.ofDays(7);
+    // 기록할 때마다 디스크 동기화 (끄면 OS 버퍼에 맡김 - 프로세스 종료에는 안전, 전원 장애 시 마지막 기록 유실 가능)
+    private boolean sync = false;
+    // redis 저장소의 세션 키 접두사
+    private String redisKeyPrefix = "travelbot:chat:";
+}
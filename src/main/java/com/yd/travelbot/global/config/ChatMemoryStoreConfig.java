@@ -0,0 +1,56 @@
+package com.yd.travelbot.global.config;
+
+import java.nio.file.Path;
+import java.time.Clock;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.yd.travelbot.global.memory.DistributedChatMemoryStore;
+import com.yd.travelbot.global.memory.FileChatMemoryStore;
+import com.yd.travelbot.global.memory.RedisChatMemoryBackend;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션 대화 기록 저장소 구성 (chat-memory.store)
+ *
+ * - file: 세션별 로그를 chat-memory.directory에 보관해 재시작/배포 후에도 대화를 이어갑니다.
+ * - redis: 여러 노드가 Redis를 공유하므로 어느 노드로 요청이 가도 대화를 이어갑니다.
+ * - memory: 힙에만 보관 (오프라인 부하 테스트 등)
+ */
+@Slf4j
+@Configuration
+public class ChatMemoryStoreConfig {
+
+    @Bean
+    public ChatMemoryStore chatMemoryStore(ChatMemoryConfig chatMemoryConfig, TravelMetrics travelMetrics,
+                                           ObjectProvider<StringRedisTemplate> redisTemplate) {
+        if ("memory".equalsIgnoreCase(chatMemoryConfig.getStore())) {
+            return new InMemoryChatMemoryStore();
+        }
+        if ("redis".equalsIgnoreCase(chatMemoryConfig.getStore())) {
+            RedisChatMemoryBackend backend = new RedisChatMemoryBackend(redisTemplate.getObject(),
+                    chatMemoryConfig.getRedisKeyPrefix());
+            log.info("대화 기록 Redis 저장소 사용 (키 접두사 {})", chatMemoryConfig.getRedisKeyPrefix());
+            return new DistributedChatMemoryStore(backend, chatMemoryConfig.getRetention(),
+                    chatMemoryConfig.getMaxResidentSessions(), travelMetrics);
+        }
+        Path directory = Path.of(chatMemoryConfig.getDirectory());
+        FileChatMemoryStore store = new FileChatMemoryStore(directory, chatMemoryConfig.getMaxResidentSessions(),
+                chatMemoryConfig.getCompactionThreshold(), chatMemoryConfig.isSync(), travelMetrics);
+        if (!chatMemoryConfig.getRetention().isZero()) {
+            int purged = store.purgeOlderThan(chatMemoryConfig.getRetention(), Clock.systemUTC());
+            if (purged > 0) {
+                log.info("오래된 대화 기록 {}건 삭제 ({} 경과)", purged, chatMemoryConfig.getRetention());
+            }
+        }
+        log.info("대화 기록 파일 저장소 사용: {}", directory.toAbsolutePath());
+        return store;
+    }
+}
@@ -0,0 +1,27 @@
+package com.yd.travelbot.global.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Configuration
+@ConfigurationProperties(prefix = "chat-socket")
+@Getter
+@Setter
+public class ChatSocketConfig {
+    // WebSocket 대화(/ws/chat) 사용 여부
+    private boolean enabled = true;
+    // 모든 연결 합산 동시에 처리하는 대화 턴 수 (초과분은 작업 대기열에서 기다림)
+    private int maxConcurrentTurns = 32;
+    // 이벤트 전송이 이 시간을 넘기거나 보내지 못한 이벤트가 send-buffer-size를 넘으면 연결을 닫음 (느린 클라이언트)
+    private Duration sendTimeLimit = Duration.ofSeconds(10);
+    private int sendBufferSize = 512 * 1024;
+    // 다른 출처(개발 서버 등)에서 접속을 허용할 Origin 목록 (비우면 같은 출처만)
+    private List<String> allowedOrigins = new ArrayList<>();
+}
@@ -12,5 +12,10 @@ import lombok.Setter;
 @Setter
 public class ExchangeRatesConfig {
     private String apiKey;
-}
+    // 한국수출입은행 API 기본 주소 (부하 테스트에서는 로컬 스텁 서버 주소로 교체)
+    private String baseUrl = "https://oapi.koreaexim.go.kr";
 
+    public String exchangeUrl() {
+        return baseUrl + "/site/program/financial/exchangeJSON";
+    }
+}
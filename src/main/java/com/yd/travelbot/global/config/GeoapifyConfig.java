@@ -11,5 +11,14 @@ import org.springframework.context.annotation.Configuration;
 @Setter
 public class GeoapifyConfig {
     private String apiKey;
-}
+    // API 기본 주소 (부하 테스트에서는 로컬 스텁 서버 주소로 교체)
+    private String baseUrl = "https://api.geoapify.com";
+
+    public String placesUrl() {
+        return baseUrl + "/v2/places";
+    }
 
+    public String geocodeUrl() {
+        return baseUrl + "/v1/geocode/search";
+    }
+}
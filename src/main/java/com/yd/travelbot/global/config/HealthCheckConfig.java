@@ -0,0 +1,22 @@
+package com.yd.travelbot.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Configuration
+@ConfigurationProperties(prefix = "health-check")
+@Getter
+@Setter
+public class HealthCheckConfig {
+    // 외부 API 가용성 점검 여부 (오프라인 부하 테스트 등에서는 끔)
+    private boolean enabled = true;
+    // 점검 한 건의 최대 시간 (연결~응답 본문까지)
+    private Duration timeout = Duration.ofSeconds(5);
+    // 재점검 주기 (0이면 기동 시 한 번만 점검)
+    private Duration refreshInterval = Duration.ofMinutes(15);
+}
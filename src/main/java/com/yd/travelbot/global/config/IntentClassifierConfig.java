@@ -0,0 +1,18 @@
+package com.yd.travelbot.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Configuration
+@ConfigurationProperties(prefix = "intent.classifier")
+@Getter
+@Setter
+public class IntentClassifierConfig {
+    // 로컬 분류기 사용 여부 (false면 항상 LLM으로 분류)
+    private boolean enabled = true;
+    // 이 신뢰도 미만이면 LLM으로 재분류
+    private double confidenceThreshold = 0.7;
+}
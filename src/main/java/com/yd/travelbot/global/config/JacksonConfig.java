@@ -0,0 +1,20 @@
+package com.yd.travelbot.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Spring MVC가 사용하는 ObjectMapper에도 JsonUtil과 같은 Blackbird 모듈을 등록
+ * (Spring Boot는 Module 타입 빈을 자동으로 ObjectMapper에 등록합니다)
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
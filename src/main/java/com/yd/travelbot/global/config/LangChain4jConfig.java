@@ -1,15 +1,46 @@
 package com.yd.travelbot.global.config;
 
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.StringUtils;
+
+import com.yd.travelbot.global.llm.ChatModelFactory;
+import com.yd.travelbot.global.llm.HedgingChatModel;
+import com.yd.travelbot.global.llm.LlmGateway;
+import com.yd.travelbot.global.llm.LlmPriority;
+import com.yd.travelbot.global.llm.TimeLimitedChatModel;
+import com.yd.travelbot.global.llm.TokenUsageTracker;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+import com.yd.travelbot.global.tracing.TravelTracing;
 
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.googleai.GoogleAiGeminiChatModel;
+import io.opentelemetry.context.Context;
 
+/**
+ * Gemini 모델 티어 구성
+ *
+ * - 메인 티어: 툴 호출이 포함된 사용자 대화 (CHAT 우선순위, 헤지 적용)
+ * - 경량 티어: 도시명 정규화, 의도 분류, 헬스 체크 (BACKGROUND 우선순위)
+ * - 모든 티어의 호출은 티어별 timeout과 요청의 남은 시간 예산 중 짧은 쪽까지만 기다립니다. (TimeLimitedChatModel)
+ */
 @Configuration
 public class LangChain4jConfig {
 
+    // 도시명 정규화/의도 분류 등 경량 티어 모델 빈 이름
+    public static final String LIGHT_CHAT_MODEL = "lightChatModel";
+
+    private static final String LLM_EXECUTOR = "llmCallExecutor";
+
     @Value("${langchain.gemini.api-key:}")
     private String apiKey;
 
@@ -19,13 +50,106 @@ public class LangChain4jConfig {
     @Value("${langchain.gemini.temperature:0.8}")
     private Double temperature;
 
+    @Value("${langchain.gemini.light-model:gemini-2.5-flash-lite}")
+    private String lightModelName;
+
+    @Value("${langchain.gemini.light-temperature:0.0}")
+    private Double lightTemperature;
+
+    @Value("${langchain.gemini.timeout:30s}")
+    private Duration timeout;
+
+    @Value("${langchain.gemini.light-timeout:10s}")
+    private Duration lightTimeout;
+
+    @Bean
+    public LlmGateway llmGateway(LlmGatewayConfig gatewayConfig) {
+        return new LlmGateway(
+                gatewayConfig.getMaxConcurrent(),
+                gatewayConfig.getMaxQueueSize(),
+                gatewayConfig.getChatQueueTimeout(),
+                gatewayConfig.getBackgroundQueueTimeout());
+    }
+
+    /**
+     * 기본 모델 생성기 (Gemini)
+     * 다른 ChatModelFactory 빈이 등록돼 있으면 그 구현을 사용합니다.
+     */
     @Bean
-    public ChatLanguageModel chatModel() {
-        return GoogleAiGeminiChatModel.builder()
+    @ConditionalOnMissingBean(ChatModelFactory.class)
+    public ChatModelFactory chatModelFactory() {
+        return (name, modelTemperature) -> GoogleAiGeminiChatModel.builder()
                 .apiKey(apiKey)
-                .modelName(modelName)
-                .temperature(temperature)
+                .modelName(name)
+                .temperature(modelTemperature)
                 .build();
     }
-}
 
+    /**
+     * 헤지 요청과 시간 제한을 건 모델 호출을 실행하는 스레드 (동시 호출 수는 게이트웨이가 제한)
+     */
+    @Bean(name = LLM_EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService llmCallExecutor() {
+        AtomicInteger counter = new AtomicInteger();
+        // 호출 스레드에서도 호출한 쪽의 trace Context와 시간 예산을 이어받도록 감쌈
+        return Context.taskWrapping(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "llm-call-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * 사용자 대화용 메인 티어 모델 (게이트웨이 CHAT 우선순위)
+     * 헤지 요청은 BACKGROUND 우선순위로 보내 부하가 높을 때 먼저 버려지도록 합니다.
+     */
+    @Bean
+    @Primary
+    public ChatLanguageModel chatModel(LlmGateway llmGateway, LlmHedgeConfig hedgeConfig,
+                                       @Qualifier(LLM_EXECUTOR) ExecutorService llmExecutor,
+                                       ChatModelFactory chatModelFactory, TravelMetrics travelMetrics,
+                                       TokenUsageTracker tokenUsageTracker) {
+        ChatLanguageModel main = llmGateway.wrap(
+                instrumented(chatModelFactory, travelMetrics, tokenUsageTracker, llmExecutor,
+                        modelName, temperature, timeout, "main"), LlmPriority.CHAT);
+        if (!hedgeConfig.isEnabled()) {
+            return main;
+        }
+        String hedgeModelName = StringUtils.hasText(hedgeConfig.getModel()) ? hedgeConfig.getModel() : modelName;
+        ChatLanguageModel hedge = llmGateway.wrap(
+                instrumented(chatModelFactory, travelMetrics, tokenUsageTracker, llmExecutor,
+                        hedgeModelName, temperature, timeout, "hedge"), LlmPriority.BACKGROUND);
+        return new HedgingChatModel(main, hedge, llmExecutor,
+                hedgeConfig.getWindowSize(),
+                hedgeConfig.getPercentile(),
+                hedgeConfig.getInitialDelay(),
+                hedgeConfig.getMinDelay());
+    }
+
+    /**
+     * 정규화/분류용 경량 티어 모델 (게이트웨이 BACKGROUND 우선순위)
+     */
+    @Bean(LIGHT_CHAT_MODEL)
+    public ChatLanguageModel lightChatModel(LlmGateway llmGateway, ChatModelFactory chatModelFactory,
+                                           TravelMetrics travelMetrics, TokenUsageTracker tokenUsageTracker,
+                                           @Qualifier(LLM_EXECUTOR) ExecutorService llmExecutor) {
+        return llmGateway.wrap(
+                instrumented(chatModelFactory, travelMetrics, tokenUsageTracker, llmExecutor,
+                        lightModelName, lightTemperature, lightTimeout, "light"),
+                LlmPriority.BACKGROUND);
+    }
+
+    /**
+     * 원본 모델에 호출 시간 제한을 걸고 지표(travelbot.llm.calls), 토큰 집계, span으로 감쌈 (게이트웨이 안쪽이라 대기 시간 제외)
+     */
+    private static ChatLanguageModel instrumented(ChatModelFactory chatModelFactory, TravelMetrics travelMetrics,
+                                                  TokenUsageTracker tokenUsageTracker, ExecutorService llmExecutor,
+                                                  String name, Double modelTemperature, Duration modelTimeout,
+                                                  String tier) {
+        // Gemini 빌더에는 timeout 옵션이 없어 호출을 실행기에서 돌리며 timeout/남은 예산까지만 기다림
+        ChatLanguageModel model = new TimeLimitedChatModel(
+                chatModelFactory.create(name, modelTemperature), modelTimeout, llmExecutor);
+        ChatLanguageModel counted = tokenUsageTracker.tracked(travelMetrics.timed(model, tier), tier);
+        return TravelTracing.traced(counted, tier, name);
+    }
+}
@@ -0,0 +1,30 @@
+package com.yd.travelbot.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 외부 조회의 마지막 정상 결과 보관 (LastKnownGood)
+ * 외부 API가 실패하거나 늦을 때 만든 데이터 대신 실제로 받았던 최근 결과를 받은 시각과 함께 돌려줍니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "last-known-good")
+@Getter
+@Setter
+public class LastKnownGoodConfig {
+    // 힙에서 밀려난 결과를 내보낼 디렉터리 (비우면 힙에만 보관)
+    private String directory = "data/last-known-good";
+    // 저장소별로 힙에 두는 최대 항목 수 (넘치면 가장 오래 쓰지 않은 항목부터 디스크로 내보냄)
+    private int maxResidentEntries = 200;
+    // 저장소별로 디스크에 두는 최대 항목 수 (넘치면 가장 오래된 결과부터 삭제)
+    private int maxSpilledEntries = 2_000;
+    // 이보다 오래된 결과는 돌려주지 않음
+    private Duration maxAge = Duration.ofDays(7);
+    // 외부 API가 이 시간 안에 답하지 않으면 보관된 결과를 먼저 돌려주고, 조회는 이어서 끝나면 결과를 갱신
+    private Duration serveAfter = Duration.ofSeconds(5);
+}
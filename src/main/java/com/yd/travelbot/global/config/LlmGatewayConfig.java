@@ -0,0 +1,23 @@
+package com.yd.travelbot.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Configuration
+@ConfigurationProperties(prefix = "langchain.gateway")
+@Getter
+@Setter
+public class LlmGatewayConfig {
+    // 동시에 Gemini로 나갈 수 있는 최대 호출 수
+    private int maxConcurrent = 8;
+    // 대기열 최대 길이 (초과 시 즉시 거절)
+    private int maxQueueSize = 32;
+    // 우선순위별 대기 허용 시간
+    private Duration chatQueueTimeout = Duration.ofSeconds(5);
+    private Duration backgroundQueueTimeout = Duration.ofSeconds(1);
+}
@@ -0,0 +1,28 @@
+package com.yd.travelbot.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Configuration
+@ConfigurationProperties(prefix = "langchain.hedge")
+@Getter
+@Setter
+public class LlmHedgeConfig {
+    // 헤지 요청 사용 여부
+    private boolean enabled = true;
+    // 헤지 요청을 보낼 모델 (비어 있으면 메인 모델로 재요청)
+    private String model;
+    // 이 백분위수의 응답 시간을 넘기면 헤지
+    private double percentile = 0.95;
+    // 백분위수 계산에 쓰는 최근 응답 수
+    private int windowSize = 200;
+    // 샘플이 부족할 때 사용할 헤지 기준 시간
+    private Duration initialDelay = Duration.ofSeconds(8);
+    // 헤지 기준 시간 하한 (짧은 응답이 몰릴 때 불필요한 중복 호출 방지)
+    private Duration minDelay = Duration.ofSeconds(2);
+}
@@ -0,0 +1,18 @@
+package com.yd.travelbot.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Configuration
+@ConfigurationProperties(prefix = "langchain.tokens")
+@Getter
+@Setter
+public class LlmTokenConfig {
+    // 세션당 누적 토큰(입력+출력) 한도, 0이면 제한 없음
+    private long sessionBudget = 0;
+    // 토큰 사용량을 보관할 최대 세션 수 (초과 시 가장 오래 쓰지 않은 세션부터 제거)
+    private int maxTrackedSessions = 10_000;
+}
@@ -0,0 +1,30 @@
+package com.yd.travelbot.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 외부 조회 결과 보관 시간 (TtlCache)
+ * 보관 시간은 warmup.interval보다 길어야 warm-up이 채운 결과가 다음 실행까지 유지됩니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "lookup-cache")
+@Getter
+@Setter
+public class LookupCacheConfig {
+    // 도시명 → 좌표 (도시 위치는 바뀌지 않으므로 길게)
+    private Duration cityTtl = Duration.ofHours(24);
+    // Geoapify Places 음식점/관광지 검색 결과
+    private Duration placesTtl = Duration.ofHours(2);
+    // Amadeus 도시별 호텔 ID 목록 (가격/재고가 담긴 오퍼는 보관하지 않음)
+    private Duration hotelListTtl = Duration.ofHours(12);
+    // 한국수출입은행 환율표 (영업일 오전 11시경 하루 한 번 고시)
+    private Duration exchangeRateTtl = Duration.ofHours(1);
+    // 캐시별 최대 항목 수 (최근 사용 순으로 유지)
+    private int maxEntries = 500;
+}
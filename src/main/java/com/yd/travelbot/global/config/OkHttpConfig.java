@@ -0,0 +1,53 @@
+package com.yd.travelbot.global.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.yd.travelbot.global.deadline.DeadlineInterceptor;
+import com.yd.travelbot.global.logging.PayloadLoggingInterceptor;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+import com.yd.travelbot.global.metrics.UpstreamMetricsInterceptor;
+import com.yd.travelbot.global.tracing.CallContextInterceptor;
+import com.yd.travelbot.global.tracing.UpstreamTracingInterceptor;
+
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+/**
+ * 외부 API 호출용 공용 OkHttpClient
+ *
+ * 컴포넌트마다 클라이언트를 새로 만들면 커넥션 풀과 디스패처 스레드가 따로 생기므로 하나를 공유합니다.
+ * 타임아웃 등이 다른 곳은 newBuilder()로 파생해 풀은 그대로 공유합니다.
+ * 비동기 호출(enqueue)은 디스패처의 동시 호출 상한을 따르므로, 기본값(호스트당 5건)보다 넉넉하게 둡니다.
+ * 요청/응답 샘플 로그는 일부 호출만 골라 남기며, 시간 예산(Deadline) 인터셉터는 예산 초과도 span과 지표에 남도록 마지막에 둡니다.
+ */
+@Configuration
+public class OkHttpConfig {
+
+    private static final int MAX_REQUESTS = 128;
+    private static final int MAX_REQUESTS_PER_HOST = 32;
+
+    @Bean
+    public OkHttpClient okHttpClient(TravelMetrics travelMetrics, AmadeusConfig amadeusConfig,
+                                     GeoapifyConfig geoapifyConfig, ExchangeRatesConfig exchangeRatesConfig,
+                                     PayloadLoggingConfig payloadLoggingConfig) {
+        Map<String, String> baseUrls = new LinkedHashMap<>();
+        baseUrls.put("amadeus", amadeusConfig.getBaseUrl());
+        baseUrls.put("geoapify", geoapifyConfig.getBaseUrl());
+        baseUrls.put("koreaexim", exchangeRatesConfig.getBaseUrl());
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(MAX_REQUESTS);
+        dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+        return new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .addInterceptor(new CallContextInterceptor())
+                .addInterceptor(new UpstreamTracingInterceptor(baseUrls))
+                .addInterceptor(new UpstreamMetricsInterceptor(travelMetrics, baseUrls))
+                .addInterceptor(new PayloadLoggingInterceptor(payloadLoggingConfig, baseUrls))
+                .addInterceptor(new DeadlineInterceptor())
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.yd.travelbot.global.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import com.yd.travelbot.global.tracing.DebugAwareSampler;
+import com.yd.travelbot.global.tracing.JsonLinesSpanExporter;
+import com.yd.travelbot.global.tracing.TravelTracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OpenTelemetry SDK Tracer 구성
+ *
+ * - 대화 턴/툴/LLM/외부 API span을 TravelTracing으로 기록합니다.
+ * - tracing.file 을 지정하면 로컬 파일(JSON Lines)로, tracing.otlp-endpoint 를 지정하면 OTLP/HTTP 수집기로 내보냅니다.
+ * - debug 요청의 타이밍 트리 수집기는 항상 등록되며, debug가 아닌 요청의 span은 보관하지 않습니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "tracing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OpenTelemetryConfig {
+
+    @Bean
+    public SdkTracerProvider sdkTracerProvider(TracingConfig tracingConfig, ObjectProvider<Resource> resource,
+                                               @Value("${spring.application.name:travelbot}") String serviceName)
+            throws IOException {
+        SdkTracerProviderBuilder builder = SdkTracerProvider.builder()
+                .setResource(resource.getIfAvailable(() -> Resource.getDefault().merge(
+                        Resource.create(Attributes.of(AttributeKey.stringKey("service.name"), serviceName)))))
+                .setSampler(Sampler.parentBased(
+                        new DebugAwareSampler(Sampler.traceIdRatioBased(tracingConfig.getSampleRatio()))))
+                .addSpanProcessor(TravelTracing.timings());
+
+        if (StringUtils.hasText(tracingConfig.getFile())) {
+            Path file = Path.of(tracingConfig.getFile());
+            builder.addSpanProcessor(BatchSpanProcessor.builder(new JsonLinesSpanExporter(file)).build());
+            log.info("span 파일 내보내기 사용: {}", file.toAbsolutePath());
+        }
+        if (StringUtils.hasText(tracingConfig.getOtlpEndpoint())) {
+            OtlpHttpSpanExporter exporter = OtlpHttpSpanExporter.builder()
+                    .setEndpoint(tracingConfig.getOtlpEndpoint())
+                    .build();
+            builder.addSpanProcessor(BatchSpanProcessor.builder(exporter).build());
+            log.info("span OTLP 내보내기 사용: {}", tracingConfig.getOtlpEndpoint());
+        }
+
+        SdkTracerProvider provider = builder.build();
+        TravelTracing.install(provider.get(TravelTracing.INSTRUMENTATION_NAME));
+        return provider;
+    }
+}
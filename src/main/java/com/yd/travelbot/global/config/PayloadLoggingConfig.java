@@ -0,0 +1,22 @@
+package com.yd.travelbot.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 외부 API 요청/응답 샘플 로그 (PayloadLoggingInterceptor)
+ * 호출마다 URL과 본문을 남기지 않고 일부만 골라 비밀값을 가린 뒤 남깁니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "payload-logging")
+@Getter
+@Setter
+public class PayloadLoggingConfig {
+    // 외부 API 호출 중 로그로 남길 비율 (0이면 남기지 않음, 인터셉터 로거가 DEBUG면 비율과 관계없이 모두 남김)
+    private double sampleRate = 0.01;
+    // 응답 본문은 앞부분만 남김
+    private int maxBodyChars = 500;
+}
@@ -0,0 +1,30 @@
+package com.yd.travelbot.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 음식점/관광지/숙소 검색 결과 순위 (SearchRanking)
+ * 특성별 점수(0~1)에 가중치를 곱해 더한 값으로 상위 topK개를 고릅니다. 가중치가 0인 특성은 계산하지 않습니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ranking")
+@Getter
+@Setter
+public class RankingConfig {
+    // 모델에 전달할 결과 수
+    private int topK = 10;
+    // 도시 중심(좌표 검색이면 검색 좌표)과의 거리
+    private double distanceWeight = 0.3;
+    // 평점 (0~5)
+    private double ratingWeight = 0.4;
+    // 가격 (후보 중 저렴할수록 높음)
+    private double priceWeight = 0.1;
+    // 요청한 요리 종류/카테고리와의 일치
+    private double categoryWeight = 0.2;
+    // 거리 점수가 0.5가 되는 거리 (km)
+    private double distanceHalfScoreKm = 3.0;
+}
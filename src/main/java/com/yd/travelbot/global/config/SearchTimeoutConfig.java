@@ -0,0 +1,30 @@
+package com.yd.travelbot.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 검색 도구가 외부 조회 결과를 기다리는 최대 시간
+ * 넘기면 기다리기를 그만두고 모델에게 지연 안내를 돌려줍니다. (진행 중인 호출은 OkHttp 타임아웃까지 이어짐)
+ * 대화 턴 전체에는 chatTurn 예산(Deadline)이 걸려 있어, 각 대기는 남은 예산보다 길어지지 않습니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "search-timeout")
+@Getter
+@Setter
+public class SearchTimeoutConfig {
+    // Amadeus 토큰 → 도시 코드 → 호텔 목록 → 오퍼(최대 3회) → Geoapify 대체까지 이어지므로 가장 길게
+    private Duration accommodation = Duration.ofSeconds(20);
+    private Duration food = Duration.ofSeconds(15);
+    private Duration place = Duration.ofSeconds(15);
+    private Duration currency = Duration.ofSeconds(10);
+    // 여행 계획 묶음: 도시 해석부터 네 조회가 모두 끝날 때까지 (가장 느린 숙소 조회에 맞춤)
+    private Duration tripPlan = Duration.ofSeconds(20);
+    // 대화 턴 하나의 전체 예산: LLM 호출, 툴 조회, 재시도를 모두 포함 (넘기면 남은 작업을 취소하고 안내 반환)
+    private Duration chatTurn = Duration.ofSeconds(60);
+}
@@ -0,0 +1,21 @@
+package com.yd.travelbot.global.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+
+/**
+ * 지연 초기화(spring.main.lazy-initialization, fast-startup 프로필)에서도 기동 시 만들어야 하는 빈
+ *
+ * - SdkTracerProvider: 생성하면서 TravelTracing에 Tracer를 설치하므로, 직접 주입받는 곳이 없어 지연되면 span이 남지 않습니다.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(SdkTracerProvider.class);
+    }
+}
@@ -0,0 +1,22 @@
+package com.yd.travelbot.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Configuration
+@ConfigurationProperties(prefix = "tracing")
+@Getter
+@Setter
+public class TracingConfig {
+    // span 기록 여부 (끄면 no-op Tracer 사용)
+    private boolean enabled = true;
+    // 루트 span 샘플링 비율 (debug 요청은 항상 기록)
+    private double sampleRatio = 1.0;
+    // span을 JSON 한 줄씩 덧붙일 로컬 파일 (비우면 파일로 내보내지 않음)
+    private String file;
+    // OTLP/HTTP 수집기 주소 (예: http://localhost:4318/v1/traces, 비우면 내보내지 않음)
+    private String otlpEndpoint;
+}
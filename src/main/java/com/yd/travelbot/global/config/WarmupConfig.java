@@ -0,0 +1,35 @@
+package com.yd.travelbot.global.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Configuration
+@ConfigurationProperties(prefix = "warmup")
+@Getter
+@Setter
+public class WarmupConfig {
+    // 인기 도시 결과 미리 채우기 여부 (오프라인 부하 테스트 등에서는 끔)
+    private boolean enabled = true;
+    // 기동 후 첫 실행까지 대기 (기동 직후 외부 API 점검과 겹치지 않도록)
+    private Duration initialDelay = Duration.ofSeconds(10);
+    // 재실행 주기 (0이면 기동 후 한 번만 실행)
+    private Duration interval = Duration.ofMinutes(30);
+    // 한 번 실행할 때 외부 조회(캐시 미스) 최대 횟수 - 외부 API 할당량 보호
+    private int maxLoadsPerRun = 60;
+    // 미리 채울 도시와 의도 (food, place, accommodation, currency), 앞쪽부터 실행
+    private List<Target> targets = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Target {
+        private String city;
+        private List<String> intents = new ArrayList<>();
+    }
+}
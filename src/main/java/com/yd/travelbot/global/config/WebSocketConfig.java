@@ -0,0 +1,49 @@
+package com.yd.travelbot.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yd.travelbot.domain.chatbot.application.usecase.ProcessChatMessageUseCase;
+import com.yd.travelbot.domain.chatbot.ui.ChatWebSocketHandler;
+
+/**
+ * WebSocket 대화 엔드포인트 등록 (chat-socket.enabled=false면 등록하지 않음)
+ */
+@Configuration
+@EnableWebSocket
+@ConditionalOnProperty(prefix = "chat-socket", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    public static final String CHAT_PATH = "/ws/chat";
+
+    private final ProcessChatMessageUseCase processChatMessageUseCase;
+    private final ObjectMapper objectMapper;
+    private final ChatSocketConfig chatSocketConfig;
+    private final SearchTimeoutConfig searchTimeoutConfig;
+
+    public WebSocketConfig(ProcessChatMessageUseCase processChatMessageUseCase, ObjectMapper objectMapper,
+                           ChatSocketConfig chatSocketConfig, SearchTimeoutConfig searchTimeoutConfig) {
+        this.processChatMessageUseCase = processChatMessageUseCase;
+        this.objectMapper = objectMapper;
+        this.chatSocketConfig = chatSocketConfig;
+        this.searchTimeoutConfig = searchTimeoutConfig;
+    }
+
+    @Bean
+    public ChatWebSocketHandler chatWebSocketHandler() {
+        return new ChatWebSocketHandler(processChatMessageUseCase, objectMapper, chatSocketConfig,
+                searchTimeoutConfig.getChatTurn());
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        // 허용 Origin을 비워 두면 같은 출처에서만 접속 가능
+        registry.addHandler(chatWebSocketHandler(), CHAT_PATH)
+                .setAllowedOrigins(chatSocketConfig.getAllowedOrigins().toArray(String[]::new));
+    }
+}
@@ -0,0 +1,154 @@
+package com.yd.travelbot.global.deadline;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.Scope;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 하나(대화 턴, 툴 조회, 여행 계획 항목)에서 시작한 외부 호출을 한 번에 취소하는 범위
+ *
+ * 조회 결과 future를 취소해도 thenApply 등으로 이어 만든 future는 원래 OkHttp 호출까지 취소를 전달하지 않습니다.
+ * 그래서 AsyncCalls가 호출마다 현재 범위에 취소 hook을 등록하고, 범위를 취소하면 진행 중인 호출이 모두 취소됩니다.
+ * 끝난 호출은 등록을 해제합니다.
+ * Deadline처럼 OpenTelemetry Context에 담기므로 AsyncCalls 콜백, 재시도 타이머에서 이어 시작한 호출도 같은 범위에 들어갑니다.
+ * child()로 만든 안쪽 범위는 바깥 범위(대화 턴)가 취소되면 함께 취소됩니다.
+ *
+ * 유스케이스의 executeAsync는 cancellable로 조회를 감싸므로, 호출한 쪽(툴 대기 시간 초과, 여행 계획 항목 포기)은
+ * 받은 future를 취소하기만 하면 외부 호출까지 취소됩니다.
+ *
+ * <pre>
+ * return Cancellation.cancellable(() -> repository.searchAsync(city).thenApply(this::toResponses));
+ * </pre>
+ */
+@Slf4j
+public final class Cancellation {
+
+    private static final ContextKey<Cancellation> CANCELLATION = ContextKey.named("travelbot.cancellation");
+
+    private final Set<Runnable> hooks = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled;
+    // 바깥 범위에 등록한 hook 해제 (바깥 범위가 없으면 아무것도 하지 않음)
+    private volatile Runnable detach = () -> { };
+
+    private Cancellation() {
+    }
+
+    /**
+     * 현재 범위 안쪽의 새 범위 (현재 범위가 없으면 독립된 범위)
+     */
+    public static Cancellation child() {
+        Cancellation child = new Cancellation();
+        Cancellation parent = current();
+        if (parent != null) {
+            child.detach = parent.onCancel(child::cancel);
+        }
+        return child;
+    }
+
+    /**
+     * 현재 범위와 무관한 새 범위 (여러 요청이 함께 기다리는 공유 조회 등)
+     */
+    public static Cancellation detached() {
+        return new Cancellation();
+    }
+
+    /**
+     * lookup을 새 안쪽 범위에서 시작합니다. 돌려준 future를 취소하면 범위를 취소하고, 끝나면 범위를 닫습니다.
+     * lookup이 future를 만들기 전에 던진 예외는 그대로 던집니다.
+     */
+    public static <T> CompletableFuture<T> cancellable(Supplier<CompletableFuture<T>> lookup) {
+        Cancellation cancellation = child();
+        CompletableFuture<T> started;
+        try (Scope ignored = cancellation.makeCurrent()) {
+            started = lookup.get();
+        } catch (RuntimeException e) {
+            cancellation.close();
+            throw e;
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                cancellation.cancel();
+            } else {
+                cancellation.close();
+            }
+        });
+        started.whenComplete((value, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            } else {
+                result.complete(value);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 현재 범위 (범위 밖이면 null)
+     */
+    public static Cancellation current() {
+        return Context.current().get(CANCELLATION);
+    }
+
+    public Scope makeCurrent() {
+        return Context.current().with(CANCELLATION, this).makeCurrent();
+    }
+
+    /**
+     * 범위가 취소되면 hook을 한 번 실행합니다. 이미 취소됐으면 바로 실행합니다.
+     *
+     * @return 등록 해제 (호출이 끝나 더 취소할 일이 없을 때)
+     */
+    public Runnable onCancel(Runnable hook) {
+        Runnable entry = hook::run;
+        hooks.add(entry);
+        if (cancelled && hooks.remove(entry)) {
+            run(entry);
+        }
+        return () -> hooks.remove(entry);
+    }
+
+    /**
+     * 등록된 hook(진행 중인 호출 취소, 안쪽 범위 취소)을 모두 실행합니다. 두 번째부터는 아무것도 하지 않습니다.
+     */
+    public void cancel() {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        detach.run();
+        for (Runnable entry : hooks) {
+            if (hooks.remove(entry)) {
+                run(entry);
+            }
+        }
+    }
+
+    /**
+     * 취소하지 않고 바깥 범위에서 등록만 해제합니다. (조회를 다 받았을 때)
+     */
+    public void close() {
+        detach.run();
+        hooks.clear();
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    private static void run(Runnable hook) {
+        try {
+            hook.run();
+        } catch (RuntimeException e) {
+            log.warn("취소 처리 중 오류: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.yd.travelbot.global.deadline;
+
+import java.time.Duration;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.Scope;
+
+/**
+ * 요청 하나(대화 턴, 여행 계획 조회)에 주어진 시간 예산을 현재 Context에 묶어 두는 도우미
+ *
+ * 요청 입구(ChatController 등)에서 시작하면 같은 Context를 이어받는 툴 대기, 외부 API 호출(DeadlineInterceptor),
+ * LLM 게이트웨이 대기와 헤지 대기가 모두 남은 시간만큼만 기다리고, 시간이 지나면 새 호출을 시작하지 않습니다.
+ * OpenTelemetry Context에 담기 때문에 비동기 호출(AsyncCalls)과 헤지 스레드에서도 유지됩니다.
+ * 안쪽에서 다시 시작해도 바깥 예산보다 길어지지 않습니다.
+ * 예산은 호출을 끊는 상한일 뿐이고, 툴이 search-timeout에서 먼저 포기한 조회는 Cancellation으로 그때 바로 취소합니다.
+ *
+ * <pre>
+ * try (Scope ignored = Deadline.start(Duration.ofSeconds(60))) {
+ *     processChatMessageUseCase.execute(...);
+ * }
+ * </pre>
+ */
+public final class Deadline {
+
+    private static final ContextKey<Deadline> DEADLINE = ContextKey.named("travelbot.deadline");
+
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static Scope start(Duration budget) {
+        long expiresAt = System.nanoTime() + budget.toNanos();
+        Deadline outer = current();
+        if (outer != null && outer.expiresAtNanos - expiresAt <= 0) {
+            return Context.current().makeCurrent();
+        }
+        return Context.current().with(DEADLINE, new Deadline(expiresAt)).makeCurrent();
+    }
+
+    /**
+     * 현재 예산 (예산 밖의 호출이면 null)
+     */
+    public static Deadline current() {
+        return Context.current().get(DEADLINE);
+    }
+
+    /**
+     * timeout과 남은 예산 중 짧은 쪽 (예산이 없으면 timeout 그대로, 이미 지났으면 0)
+     */
+    public static Duration clamp(Duration timeout) {
+        Deadline deadline = current();
+        if (deadline == null) {
+            return timeout;
+        }
+        long remaining = deadline.remainingNanos();
+        return remaining < timeout.toNanos() ? Duration.ofNanos(remaining) : timeout;
+    }
+
+    /**
+     * 예산이 지났으면 DeadlineExceededException을 던집니다.
+     */
+    public static void check(String stage) {
+        Deadline deadline = current();
+        if (deadline != null && deadline.isExpired()) {
+            throw new DeadlineExceededException(stage);
+        }
+    }
+
+    public long remainingNanos() {
+        return Math.max(0L, expiresAtNanos - System.nanoTime());
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+}
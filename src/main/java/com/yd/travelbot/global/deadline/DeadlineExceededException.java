@@ -0,0 +1,32 @@
+package com.yd.travelbot.global.deadline;
+
+import com.yd.travelbot.global.exception.ApiException;
+
+/**
+ * 요청의 시간 예산이 지나 더 이상 기다리거나 새 호출을 시작하지 않을 때 발생합니다.
+ */
+public class DeadlineExceededException extends ApiException {
+
+    public static final String USER_MESSAGE = "답변을 준비하는 데 시간이 너무 오래 걸려 중단했어요. 질문을 나눠서 다시 시도해 주세요 🙏";
+
+    public DeadlineExceededException(String stage) {
+        super("요청 시간 예산 초과 (" + stage + ")");
+    }
+
+    /**
+     * 예외 체인 안에 예산 초과가 포함되어 있는지 확인합니다.
+     */
+    public static boolean isCause(Throwable t) {
+        Throwable cur = t;
+        while (cur != null) {
+            if (cur instanceof DeadlineExceededException) {
+                return true;
+            }
+            if (cur.getCause() == cur) {
+                break;
+            }
+            cur = cur.getCause();
+        }
+        return false;
+    }
+}
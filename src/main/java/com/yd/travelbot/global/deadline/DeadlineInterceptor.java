@@ -0,0 +1,41 @@
+package com.yd.travelbot.global.deadline;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * 외부 API 호출의 연결/읽기/쓰기 타임아웃을 요청의 남은 시간 예산 안으로 줄이는 OkHttp 인터셉터
+ * (CallContextInterceptor 다음에 등록해 비동기 호출에서도 호출 시점의 예산을 읽음)
+ *
+ * 예산이 이미 지났으면 요청을 보내지 않고 InterruptedIOException으로 끝냅니다.
+ * 예산 밖의 호출(warm-up, 헬스 체크)은 클라이언트에 설정한 타임아웃을 그대로 씁니다.
+ */
+public class DeadlineInterceptor implements Interceptor {
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            return chain.proceed(chain.request());
+        }
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline.remainingNanos());
+        if (remainingMillis <= 0) {
+            throw new InterruptedIOException("요청 시간 예산 초과: " + chain.request().url().encodedPath());
+        }
+        int budget = (int) Math.min(remainingMillis, Integer.MAX_VALUE);
+        return chain
+                .withConnectTimeout(cap(chain.connectTimeoutMillis(), budget), TimeUnit.MILLISECONDS)
+                .withReadTimeout(cap(chain.readTimeoutMillis(), budget), TimeUnit.MILLISECONDS)
+                .withWriteTimeout(cap(chain.writeTimeoutMillis(), budget), TimeUnit.MILLISECONDS)
+                .proceed(chain.request());
+    }
+
+    // 0은 타임아웃 없음
+    private static int cap(int timeoutMillis, int budgetMillis) {
+        return timeoutMillis == 0 ? budgetMillis : Math.min(timeoutMillis, budgetMillis);
+    }
+}
@@ -0,0 +1,162 @@
+package com.yd.travelbot.global.external;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.yd.travelbot.global.deadline.Cancellation;
+import com.yd.travelbot.global.deadline.Deadline;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * OkHttp enqueue 기반 비동기 호출 도우미
+ *
+ * - 요청을 디스패처에 넘기고 바로 CompletableFuture를 돌려주므로, 응답을 기다리는 동안 호출한 스레드를 잡아 두지 않습니다.
+ * - 응답 처리(handler)는 디스패처 스레드에서 실행되고, 처리 후 응답은 항상 닫힙니다.
+ *   전송 실패는 IOException, 응답 처리 중 실패는 UncheckedIOException으로 끝나므로 재시도는 전송 실패에만 적용됩니다.
+ * - 호출 시점의 Context(부모 span, LLM 호출 위치, warm-up 구간)를 요청 태그로 넘겨 인터셉터가 복원하고,
+ *   future도 그 Context 안에서 완료하므로 뒤이어 실행되는 단계(thenCompose 등)가 같은 Context를 이어받습니다.
+ * - 반환한 future를 취소하면 진행 중인 호출도 취소합니다. thenApply 등으로 이어 만든 future의 취소는 여기까지 오지 않으므로,
+ *   호출을 현재 취소 범위(Cancellation)에 등록해 두고 조회를 포기하는 쪽이 범위를 취소하면 함께 취소되게 합니다.
+ *   범위가 이미 취소됐으면 요청을 보내지 않습니다.
+ * - 요청의 시간 예산(Deadline) 안에서 호출하면 호출 전체 시간을 남은 예산으로 제한하고,
+ *   예산이 지났으면 요청을 보내지 않으며 재시도도 하지 않습니다.
+ */
+@Slf4j
+public final class AsyncCalls {
+
+    private AsyncCalls() {
+    }
+
+    @FunctionalInterface
+    public interface ResponseHandler<T> {
+        /**
+         * 응답을 읽어 결과를 반환합니다. 응답은 반환 후 닫히므로 본문을 끝까지 처리해야 합니다.
+         */
+        T handle(Response response) throws IOException;
+    }
+
+    public static <T> CompletableFuture<T> call(OkHttpClient client, Request request, ResponseHandler<T> handler) {
+        Context context = Context.current();
+        Deadline deadline = Deadline.current();
+        if (deadline != null && deadline.isExpired()) {
+            return CompletableFuture.failedFuture(
+                    new InterruptedIOException("요청 시간 예산 초과: " + request.url().encodedPath()));
+        }
+        Cancellation cancellation = Cancellation.current();
+        if (cancellation != null && cancellation.isCancelled()) {
+            return CompletableFuture.failedFuture(
+                    new CancellationException("취소된 조회: " + request.url().encodedPath()));
+        }
+        Call call = client.newCall(request.newBuilder().tag(Context.class, context).build());
+        if (deadline != null) {
+            call.timeout().timeout(deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable unregister = cancellation != null ? cancellation.onCancel(() -> future.cancel(true)) : () -> { };
+        future.whenComplete((result, error) -> {
+            unregister.run();
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        call.enqueue(new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                T result;
+                try (response) {
+                    result = handler.handle(response);
+                } catch (IOException e) {
+                    complete(context, future, null, new UncheckedIOException(e.getMessage(), e));
+                    return;
+                } catch (RuntimeException e) {
+                    complete(context, future, null, e);
+                    return;
+                }
+                complete(context, future, result, null);
+            }
+
+            @Override
+            public void onFailure(Call call, IOException e) {
+                complete(context, future, null, e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * IOException(네트워크 오류/타임아웃)으로 실패하면 backoff 뒤에 maxRetries번까지 다시 시도합니다.
+     * 기다리는 동안에는 스레드를 잡아 두지 않습니다. 남은 시간 예산이 backoff보다 짧으면 다시 시도하지 않습니다.
+     */
+    public static <T> CompletableFuture<T> retrying(Supplier<CompletableFuture<T>> attempt, int maxRetries,
+                                                    Duration backoff, String upstream) {
+        Executor delayed = Context.current().wrap(
+                CompletableFuture.delayedExecutor(backoff.toMillis(), TimeUnit.MILLISECONDS));
+        return retrying(attempt, 0, maxRetries, backoff, delayed, upstream);
+    }
+
+    private static <T> CompletableFuture<T> retrying(Supplier<CompletableFuture<T>> attempt, int tried,
+                                                     int maxRetries, Duration backoff, Executor delayed,
+                                                     String upstream) {
+        Deadline deadline = Deadline.current();
+        return attempt.get().handle((result, error) -> {
+            Throwable cause = unwrap(error);
+            if (cause == null) {
+                return CompletableFuture.completedFuture(result);
+            }
+            if (!(cause instanceof IOException) || tried >= maxRetries) {
+                return CompletableFuture.<T>failedFuture(cause);
+            }
+            if (deadline != null && deadline.remainingNanos() <= backoff.toNanos()) {
+                log.warn("{} 호출 실패, 남은 시간 예산이 없어 재시도하지 않음: {}", upstream, cause.getMessage());
+                return CompletableFuture.<T>failedFuture(cause);
+            }
+            log.warn("{} 호출 재시도 {}/{}: {}", upstream, tried + 1, maxRetries, cause.getMessage());
+            return CompletableFuture.supplyAsync(() -> null, delayed)
+                    .thenCompose(ignored -> retrying(attempt, tried + 1, maxRetries, backoff, delayed, upstream));
+        }).thenCompose(next -> next);
+    }
+
+    /**
+     * 요청을 만드는 중(설정 누락 등) 던진 예외도 실패한 future로 돌려줍니다.
+     */
+    public static <T> CompletableFuture<T> defer(Supplier<CompletableFuture<T>> start) {
+        try {
+            return start.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * CompletionException에 싸인 원래 예외
+     */
+    public static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static <T> void complete(Context context, CompletableFuture<T> future, T result, Throwable error) {
+        try (Scope ignored = context.makeCurrent()) {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(result);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.yd.travelbot.global.external;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Jackson JsonParser 기반 스트리밍 디코딩 도우미
+ *
+ * 응답 본문을 String이나 JsonNode 트리로 만들지 않고 토큰 단위로 훑으면서,
+ * 필요한 배열 원소만 ObjectReader로 바인딩하고 나머지는 건너뜁니다.
+ */
+public final class JsonStreams {
+
+    private JsonStreams() {
+    }
+
+    @FunctionalInterface
+    public interface FieldHandler {
+        /**
+         * 필드 값을 처리했으면 true를 반환합니다. 객체/배열 값을 처리한 경우 끝 토큰까지 소비해야 합니다.
+         * false를 반환하면 값 전체를 건너뜁니다.
+         */
+        boolean handle(String name, JsonToken value) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface ElementReader<T> {
+        /**
+         * 현재 원소 하나를 끝까지 읽어 결과를 반환합니다. 유효하지 않은 원소는 null을 반환합니다.
+         */
+        T read(JsonParser parser, JsonToken token) throws IOException;
+    }
+
+    /**
+     * 현재 START_OBJECT의 필드를 하나씩 핸들러로 넘깁니다. 객체가 아니면 값을 건너뜁니다.
+     */
+    public static void forEachField(JsonParser parser, FieldHandler handler) throws IOException {
+        forEachField(parser, handler, () -> false);
+    }
+
+    /**
+     * forEachField와 같지만, 필드 하나를 처리할 때마다 done을 확인해 true면 나머지 필드를 읽지 않고 멈춥니다.
+     */
+    public static void forEachField(JsonParser parser, FieldHandler handler, BooleanSupplier done) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (!handler.handle(name, value)) {
+                parser.skipChildren();
+            }
+            if (done.getAsBoolean()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 현재 START_ARRAY의 원소를 읽어 유효한 결과가 limit개 모이면 나머지를 읽지 않고 멈춥니다.
+     * 끝까지 읽은 경우에만 END_ARRAY까지 소비합니다.
+     */
+    public static <T> List<T> readArray(JsonParser parser, int limit, ElementReader<T> reader) throws IOException {
+        List<T> results = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return results;
+        }
+        JsonToken token;
+        while (results.size() < limit && (token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+            T value = reader.read(parser, token);
+            parser.skipChildren();
+            if (value != null) {
+                results.add(value);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 배열 앞쪽 원소 중 유효한 결과를 limit개까지 읽고, 나머지 원소는 건너뛰어 END_ARRAY까지 소비합니다.
+     * 객체 안의 배열 필드처럼 뒤에 다른 필드를 계속 읽어야 할 때 사용합니다.
+     */
+    public static <T> List<T> readFirst(JsonParser parser, int limit, ElementReader<T> reader) throws IOException {
+        boolean isArray = parser.currentToken() == JsonToken.START_ARRAY;
+        List<T> results = readArray(parser, limit, reader);
+        if (isArray && parser.currentToken() != JsonToken.END_ARRAY) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                parser.skipChildren();
+            }
+        }
+        return results;
+    }
+}
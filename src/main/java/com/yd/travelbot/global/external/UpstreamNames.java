@@ -0,0 +1,34 @@
+package com.yd.travelbot.global.external;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import okhttp3.HttpUrl;
+
+/**
+ * 요청 주소(호스트:포트)로 외부 API 이름(amadeus, geoapify, koreaexim)을 찾는 조회표
+ *
+ * 설정된 기본 주소로 판별하므로 기본 주소를 스텁으로 바꿔도 같은 이름이 나옵니다.
+ * 등록되지 않은 주소는 호스트 이름을 그대로 사용합니다.
+ */
+public final class UpstreamNames {
+
+    private final Map<String, String> upstreamsByAuthority = new HashMap<>();
+
+    public UpstreamNames(Map<String, String> baseUrlsByUpstream) {
+        baseUrlsByUpstream.forEach((upstream, baseUrl) -> {
+            HttpUrl url = baseUrl != null ? HttpUrl.parse(baseUrl) : null;
+            if (url != null) {
+                upstreamsByAuthority.put(authority(url), upstream);
+            }
+        });
+    }
+
+    public String of(HttpUrl url) {
+        return upstreamsByAuthority.getOrDefault(authority(url), url.host());
+    }
+
+    private static String authority(HttpUrl url) {
+        return url.host() + ":" + url.port();
+    }
+}
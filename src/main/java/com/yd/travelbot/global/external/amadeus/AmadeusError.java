@@ -0,0 +1,17 @@
+package com.yd.travelbot.global.external.amadeus;
+
+/**
+ * Amadeus 응답의 errors[0] (필드가 없으면 기본값)
+ */
+public record AmadeusError(String code, String detail, String sourceParameter) {
+
+    /**
+     * source.parameter가 "hotelIds=A,B" 형식이면 잘못된 호텔 ID 목록을, 아니면 null을 반환합니다.
+     */
+    public String[] invalidHotelIds() {
+        if (sourceParameter == null || !sourceParameter.startsWith("hotelIds=")) {
+            return null;
+        }
+        return sourceParameter.substring("hotelIds=".length()).split(",");
+    }
+}
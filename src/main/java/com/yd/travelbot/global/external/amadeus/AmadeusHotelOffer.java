@@ -0,0 +1,31 @@
+package com.yd.travelbot.global.external.amadeus;
+
+/**
+ * Amadeus hotel-offers 응답의 data 원소 하나 (첫 번째 오퍼 가격만 보관)
+ */
+public record AmadeusHotelOffer(
+        String hotelId,
+        String name,
+        String cityCode,
+        Double rating,
+        String addressLine,
+        String cityName,
+        String countryCode,
+        boolean available,
+        boolean hasOffer,
+        Double priceTotal,
+        Double priceBase,
+        String priceCurrency,
+        Double latitude,
+        Double longitude) {
+
+    /**
+     * 주소 첫 줄이 없으면 도시명을 사용합니다.
+     */
+    public String address() {
+        if (addressLine != null) {
+            return addressLine;
+        }
+        return cityName != null ? cityName : "";
+    }
+}
@@ -0,0 +1,13 @@
+package com.yd.travelbot.global.external.amadeus;
+
+import java.util.List;
+
+/**
+ * Amadeus 응답의 data 목록과 errors[0]
+ */
+public record AmadeusPage<T>(List<T> data, AmadeusError error) {
+
+    public boolean hasError() {
+        return error != null;
+    }
+}
@@ -0,0 +1,111 @@
+package com.yd.travelbot.global.external.amadeus;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Amadeus 응답 바인딩 모델 (사용하는 필드만 선언, 나머지는 무시)
+ */
+public final class AmadeusPayloads {
+
+    private AmadeusPayloads() {
+    }
+
+    /**
+     * reference-data/locations/hotels/by-city의 data[] 원소
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record HotelRef(String hotelId) {
+    }
+
+    /**
+     * reference-data/locations/cities의 data[] 원소
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record City(String iataCode, String name) {
+    }
+
+    /**
+     * OAuth2 토큰 응답
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Token(
+            @JsonProperty("access_token") String accessToken,
+            @JsonProperty("expires_in") Long expiresIn) {
+    }
+
+    /**
+     * errors[] 원소
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record ApiError(String code, String detail, ErrorSource source) {
+
+        public AmadeusError toError() {
+            return new AmadeusError(
+                    code != null ? code : "UNKNOWN",
+                    detail != null ? detail : "Unknown error",
+                    source != null ? source.parameter() : null);
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record ErrorSource(String parameter) {
+    }
+
+    /**
+     * shopping/hotel-offers의 data[] 원소
+     * { "type": "hotel-offers", "hotel": {...}, "available": true, "offers": [...] }
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record HotelOffers(Boolean available, Hotel hotel, List<Offer> offers) {
+
+        /**
+         * hotel이 없으면 null을 반환합니다. 첫 번째 오퍼(가장 저렴한 옵션)의 가격만 사용합니다.
+         */
+        public AmadeusHotelOffer toHotelOffer() {
+            if (hotel == null) {
+                return null;
+            }
+            Address address = hotel.address();
+            boolean hasOffer = offers != null && !offers.isEmpty();
+            Price price = hasOffer && offers.get(0) != null ? offers.get(0).price() : null;
+            return new AmadeusHotelOffer(
+                    hotel.hotelId(),
+                    hotel.name(),
+                    hotel.cityCode(),
+                    hotel.rating(),
+                    address != null && address.lines() != null && !address.lines().isEmpty() ? address.lines().get(0) : null,
+                    address != null ? address.cityName() : null,
+                    address != null ? address.countryCode() : null,
+                    Boolean.TRUE.equals(available),
+                    hasOffer,
+                    price != null ? price.total() : null,
+                    price != null ? price.base() : null,
+                    price != null ? price.currency() : null,
+                    hotel.latitude(),
+                    hotel.longitude());
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Hotel(String hotelId, String name, String cityCode, Double rating, Address address,
+                        Double latitude, Double longitude) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Address(List<String> lines, String cityName, String countryCode) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Offer(String id, Price price) {
+    }
+
+    /**
+     * { "currency": "USD", "base": "200.00", "total": "250.00" } (숫자가 문자열로 옴)
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Price(String currency, Double base, Double total) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.yd.travelbot.global.external.amadeus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.yd.travelbot.global.external.JsonStreams;
+import com.yd.travelbot.global.util.JsonUtil;
+
+/**
+ * Amadeus 응답 스트리밍 디코더
+ *
+ * { "data": [...], "meta": {...}, "errors": [...] } 구조에서 data 원소를 하나씩 타입 모델로 바인딩해
+ * limit개까지만 읽습니다. by-city 호텔 목록처럼 수백 건이 오는 응답도 필요한 만큼만 읽고 멈춥니다.
+ */
+public final class AmadeusResponseReader {
+
+    private static final ObjectReader HOTEL_REF_READER = JsonUtil.readerFor(AmadeusPayloads.HotelRef.class);
+    private static final ObjectReader HOTEL_OFFERS_READER = JsonUtil.readerFor(AmadeusPayloads.HotelOffers.class);
+    private static final ObjectReader CITY_READER = JsonUtil.readerFor(AmadeusPayloads.City.class);
+    private static final ObjectReader TOKEN_READER = JsonUtil.readerFor(AmadeusPayloads.Token.class);
+    private static final ObjectReader ERROR_READER = JsonUtil.readerFor(AmadeusPayloads.ApiError.class);
+
+    private AmadeusResponseReader() {
+    }
+
+    @FunctionalInterface
+    private interface DataReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * reference-data/locations/hotels/by-city 응답에서 hotelId를 limit개까지 읽습니다.
+     */
+    public static AmadeusPage<String> readHotelIds(InputStream body, int limit) throws IOException {
+        return readPage(body, limit, parser -> {
+            AmadeusPayloads.HotelRef hotel = HOTEL_REF_READER.readValue(parser);
+            return hotel.hotelId();
+        });
+    }
+
+    /**
+     * shopping/hotel-offers 응답에서 호텔 오퍼를 limit개까지 읽습니다.
+     */
+    public static AmadeusPage<AmadeusHotelOffer> readHotelOffers(InputStream body, int limit) throws IOException {
+        return readPage(body, limit, parser -> {
+            AmadeusPayloads.HotelOffers offers = HOTEL_OFFERS_READER.readValue(parser);
+            return offers.toHotelOffer();
+        });
+    }
+
+    /**
+     * reference-data/locations/cities 응답에서 도시 IATA 코드를 limit개까지 읽습니다.
+     */
+    public static AmadeusPage<String> readCityCodes(InputStream body, int limit) throws IOException {
+        return readPage(body, limit, parser -> {
+            AmadeusPayloads.City city = CITY_READER.readValue(parser);
+            return city.iataCode();
+        });
+    }
+
+    /**
+     * OAuth2 토큰 응답에서 access_token을 읽습니다. 없으면 null을 반환합니다.
+     */
+    public static String readAccessToken(InputStream body) throws IOException {
+        AmadeusPayloads.Token token = TOKEN_READER.readValue(body);
+        return token != null ? token.accessToken() : null;
+    }
+
+    /**
+     * 오류 응답 본문에서 errors[0]만 읽습니다. 없으면 null을 반환합니다.
+     */
+    public static AmadeusError readError(InputStream body) throws IOException {
+        return readPage(body, 0, parser -> null).error();
+    }
+
+    private static <T> AmadeusPage<T> readPage(InputStream body, int limit, DataReader<T> reader) throws IOException {
+        List<T> data = new ArrayList<>();
+        AmadeusError[] error = {null};
+        try (JsonParser parser = JsonUtil.createParser(body)) {
+            parser.nextToken();
+            JsonStreams.forEachField(parser, (name, token) -> switch (name) {
+                case "data" -> {
+                    if (limit <= 0) {
+                        yield false;
+                    }
+                    data.addAll(JsonStreams.readArray(parser, limit,
+                            (p, t) -> p.isExpectedStartObjectToken() ? reader.read(p) : null));
+                    yield true;
+                }
+                case "errors" -> {
+                    List<AmadeusError> errors = JsonStreams.readFirst(parser, 1, (p, t) -> {
+                        if (!p.isExpectedStartObjectToken()) {
+                            return null;
+                        }
+                        AmadeusPayloads.ApiError e = ERROR_READER.readValue(p);
+                        return e.toError();
+                    });
+                    if (!errors.isEmpty()) {
+                        error[0] = errors.get(0);
+                    }
+                    yield true;
+                }
+                default -> false;
+            }, () -> (limit > 0 && data.size() >= limit) || error[0] != null);
+        }
+        return new AmadeusPage<>(data, error[0]);
+    }
+}
@@ -0,0 +1,28 @@
+package com.yd.travelbot.global.external.geoapify;
+
+import java.util.List;
+
+/**
+ * Geoapify Places 응답의 feature 하나 (필드가 없거나 null이면 null, categories는 없으면 빈 목록)
+ */
+public record GeoapifyFeature(
+        String placeId,
+        String name,
+        String formatted,
+        String addressLine2,
+        String countryCode,
+        Double rating,
+        Double longitude,
+        Double latitude,
+        List<String> categories) {
+
+    /**
+     * formatted → address_line2 → "" 순으로 주소를 고릅니다.
+     */
+    public String address() {
+        if (formatted != null) {
+            return formatted;
+        }
+        return addressLine2 != null ? addressLine2 : "";
+    }
+}
@@ -0,0 +1,65 @@
+package com.yd.travelbot.global.external.geoapify;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.yd.travelbot.global.external.JsonStreams;
+import com.yd.travelbot.global.util.JsonUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Geoapify FeatureCollection 스트리밍 디코더
+ *
+ * { "features": [ { "properties": {...}, "geometry": { "coordinates": [lon, lat] } } ] }
+ * 구조에서 features 원소를 하나씩 타입 모델로 바인딩하고, 조건을 만족하는 feature가 limit개 모이면
+ * 나머지 본문은 읽지 않습니다.
+ */
+@Slf4j
+public final class GeoapifyFeatureReader {
+
+    private static final ObjectReader FEATURE_READER = JsonUtil.readerFor(GeoapifyPayloads.Feature.class);
+
+    private GeoapifyFeatureReader() {
+    }
+
+    public static List<GeoapifyFeature> read(InputStream body, int limit, Predicate<GeoapifyFeature> filter) throws IOException {
+        List<GeoapifyFeature> features = new ArrayList<>();
+        boolean[] found = {false};
+        try (JsonParser parser = JsonUtil.createParser(body)) {
+            parser.nextToken();
+            JsonStreams.forEachField(parser, (name, token) -> {
+                if (!"features".equals(name) || found[0]) {
+                    return false;
+                }
+                found[0] = true;
+                features.addAll(JsonStreams.readArray(parser, limit, (p, t) -> {
+                    GeoapifyFeature feature = readFeature(p);
+                    return feature != null && filter.test(feature) ? feature : null;
+                }));
+                return true;
+            }, () -> features.size() >= limit); // limit에 도달하면 남은 본문은 읽지 않음
+        }
+        if (!found[0]) {
+            log.warn("Geoapify API 응답에 features가 없거나 배열이 아님");
+        }
+        return features;
+    }
+
+    private static GeoapifyFeature readFeature(JsonParser parser) throws IOException {
+        if (!parser.isExpectedStartObjectToken()) {
+            return null;
+        }
+        GeoapifyPayloads.Feature feature = FEATURE_READER.readValue(parser);
+        GeoapifyFeature result = feature.toFeature();
+        if (result == null) {
+            log.warn("feature에 properties가 없음, 건너뜀");
+        }
+        return result;
+    }
+}
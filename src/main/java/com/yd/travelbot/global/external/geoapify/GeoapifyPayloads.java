@@ -0,0 +1,88 @@
+package com.yd.travelbot.global.external.geoapify;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Geoapify 응답 바인딩 모델 (사용하는 필드만 선언, 나머지는 무시)
+ */
+public final class GeoapifyPayloads {
+
+    private GeoapifyPayloads() {
+    }
+
+    /**
+     * Places API FeatureCollection의 features[] 원소
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Feature(Properties properties, Geometry geometry) {
+
+        /**
+         * properties가 없으면 null을 반환합니다.
+         */
+        public GeoapifyFeature toFeature() {
+            if (properties == null) {
+                return null;
+            }
+            Double longitude = null;
+            Double latitude = null;
+            if (geometry != null) {
+                JsonNode coordinates = geometry.coordinates();
+                // Point가 아닌 geometry는 좌표가 중첩 배열이므로 [lon, lat] 숫자 쌍일 때만 사용
+                if (coordinates != null && coordinates.isArray() && coordinates.size() == 2
+                        && coordinates.get(0).isNumber() && coordinates.get(1).isNumber()) {
+                    longitude = coordinates.get(0).asDouble();
+                    latitude = coordinates.get(1).asDouble();
+                }
+            }
+            return new GeoapifyFeature(properties.placeId(), properties.name(), properties.formatted(),
+                    properties.addressLine2(), properties.countryCode(), properties.rating(), longitude, latitude,
+                    properties.categories() != null ? properties.categories() : List.of());
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Properties(
+            @JsonProperty("place_id") String placeId,
+            String name,
+            String formatted,
+            @JsonProperty("address_line2") String addressLine2,
+            @JsonProperty("country_code") String countryCode,
+            Double rating,
+            List<String> categories) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Geometry(String type, JsonNode coordinates) {
+    }
+
+    /**
+     * Geocoding API (format=json) 응답
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record GeocodeResponse(List<GeocodeResult> results) {
+
+        /**
+         * 좌표가 있는 첫 번째 결과, 없으면 null
+         */
+        public GeocodeResult first() {
+            if (results == null || results.isEmpty()) {
+                return null;
+            }
+            GeocodeResult first = results.get(0);
+            return first.lat() != null && first.lon() != null ? first : null;
+        }
+
+        public boolean isEmpty() {
+            return results == null || results.isEmpty();
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record GeocodeResult(Double lat, Double lon, String city, String country,
+                                @JsonProperty("country_code") String countryCode) {
+    }
+}
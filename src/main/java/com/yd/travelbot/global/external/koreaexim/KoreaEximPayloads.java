@@ -0,0 +1,23 @@
+package com.yd.travelbot.global.external.koreaexim;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 한국수출입은행 AP01 응답 바인딩 모델 (사용하는 필드만 선언, 나머지는 무시)
+ */
+public final class KoreaEximPayloads {
+
+    private KoreaEximPayloads() {
+    }
+
+    /**
+     * AP01 배열 원소 하나 (예: { "result": 1, "cur_unit": "JPY(100)", "deal_bas_r": "912.34" })
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Rate(
+            Integer result,
+            @JsonProperty("cur_unit") String curUnit,
+            @JsonProperty("deal_bas_r") String dealBasR) {
+    }
+}
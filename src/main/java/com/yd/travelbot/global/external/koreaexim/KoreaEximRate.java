@@ -0,0 +1,21 @@
+package com.yd.travelbot.global.external.koreaexim;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 한국수출입은행 AP01 환율 항목 하나
+ *
+ * @param currencyCode 단위 표시를 뺀 통화 코드 (예: "JPY(100)" → "JPY")
+ * @param unit         deal_bas_r이 기준으로 하는 통화 수량 (예: JPY(100) → 100)
+ * @param dealBasR     unit개 통화에 대한 매매 기준율 (KRW)
+ */
+public record KoreaEximRate(String currencyCode, int unit, BigDecimal dealBasR) {
+
+    /**
+     * 1 통화 = ? KRW
+     */
+    public BigDecimal perUnitKrw() {
+        return dealBasR.divide(BigDecimal.valueOf(unit), 10, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,94 @@
+package com.yd.travelbot.global.external.koreaexim;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.yd.travelbot.global.util.JsonUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한국수출입은행 AP01 응답 스트리밍 디코더
+ *
+ * [ { "cur_unit": "USD", "deal_bas_r": "1,465.5", ... }, ... ] 배열의 원소를 하나씩 타입 모델로 바인딩해
+ * 요청한 통화만 골라 읽고, 모두 찾으면 나머지 원소는 읽지 않습니다.
+ * readAll은 환율표 전체를 읽어 보관용(TtlCache)으로 사용합니다.
+ */
+@Slf4j
+public final class KoreaEximRateReader {
+
+    private static final ObjectReader RATE_READER = JsonUtil.readerFor(KoreaEximPayloads.Rate.class);
+
+    private KoreaEximRateReader() {
+    }
+
+    public static KoreaEximRates read(InputStream body, Set<String> currencyCodes) throws IOException {
+        return read(body, currencyCodes, false);
+    }
+
+    public static KoreaEximRates readAll(InputStream body) throws IOException {
+        return read(body, Set.of(), true);
+    }
+
+    private static KoreaEximRates read(InputStream body, Set<String> currencyCodes, boolean all) throws IOException {
+        Map<String, KoreaEximRate> rates = new HashMap<>();
+        int scanned = 0;
+        try (JsonParser parser = JsonUtil.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return new KoreaEximRates(false, 0, rates);
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                scanned++;
+                KoreaEximRate rate = readRate(parser);
+                parser.skipChildren();
+                if (rate != null && (all || currencyCodes.contains(rate.currencyCode()))) {
+                    rates.putIfAbsent(rate.currencyCode(), rate);
+                    if (!all && rates.size() == currencyCodes.size()) {
+                        break;
+                    }
+                }
+            }
+        }
+        return new KoreaEximRates(true, scanned, rates);
+    }
+
+    private static KoreaEximRate readRate(JsonParser parser) throws IOException {
+        if (!parser.isExpectedStartObjectToken()) {
+            return null;
+        }
+        KoreaEximPayloads.Rate rate = RATE_READER.readValue(parser);
+        String curUnit = rate.curUnit();
+        String dealBasR = rate.dealBasR();
+        if (curUnit == null || dealBasR == null) {
+            return null;
+        }
+
+        // 단위 추출 (예: JPY(100) -> 100, USD -> 1)
+        int unit = 1;
+        String currencyCode = curUnit.trim();
+        int open = curUnit.indexOf('(');
+        int close = curUnit.indexOf(')');
+        if (open >= 0 && close > open) {
+            currencyCode = curUnit.substring(0, open).trim();
+            try {
+                unit = Integer.parseInt(curUnit.substring(open + 1, close));
+            } catch (NumberFormatException e) {
+                log.warn("단위 파싱 실패: {}, 기본값 1 사용", curUnit);
+            }
+        }
+        try {
+            return new KoreaEximRate(currencyCode, unit, new BigDecimal(dealBasR.replace(",", "")));
+        } catch (NumberFormatException e) {
+            log.warn("환율 값 파싱 실패: {} = {}", curUnit, dealBasR);
+            return null;
+        }
+    }
+}
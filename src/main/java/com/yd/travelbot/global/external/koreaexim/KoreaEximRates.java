@@ -0,0 +1,21 @@
+package com.yd.travelbot.global.external.koreaexim;
+
+import java.util.Map;
+
+/**
+ * 한국수출입은행 AP01 응답 디코딩 결과
+ *
+ * @param array   응답이 JSON 배열이었는지 여부
+ * @param scanned 읽은 배열 원소 수 (0이면 해당 날짜 데이터 없음)
+ * @param rates   요청한 통화 코드별 환율 (찾은 것만)
+ */
+public record KoreaEximRates(boolean array, int scanned, Map<String, KoreaEximRate> rates) {
+
+    public boolean isEmpty() {
+        return scanned == 0;
+    }
+
+    public KoreaEximRate get(String currencyCode) {
+        return rates.get(currencyCode);
+    }
+}
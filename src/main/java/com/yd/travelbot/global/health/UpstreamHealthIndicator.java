@@ -0,0 +1,59 @@
+package com.yd.travelbot.global.health;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /actuator/health 의 "upstreams" 항목
+ *
+ * UpstreamHealthProber가 캐시한 결과만 읽으므로 호출해도 외부 API를 다시 부르지 않습니다.
+ * 외부 API 일부가 내려가도 챗봇은 기본값으로 응답할 수 있으므로 DOWN 대신 DEGRADED(HTTP 200)로 알립니다.
+ */
+@Component("upstreams")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "health-check", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class UpstreamHealthIndicator implements HealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "일부 외부 API 응답 없음");
+
+    private final UpstreamHealthProber prober;
+
+    @Override
+    public Health health() {
+        Map<String, UpstreamStatus> statuses = prober.statuses();
+        Health.Builder builder = Health.status(aggregate(statuses));
+        statuses.forEach((name, status) -> builder.withDetail(name, describe(status)));
+        return builder.build();
+    }
+
+    static Status aggregate(Map<String, UpstreamStatus> statuses) {
+        boolean anyDown = statuses.values().stream().anyMatch(s -> s.state() == UpstreamStatus.State.DOWN);
+        if (anyDown) {
+            return DEGRADED;
+        }
+        boolean allUnknown = statuses.values().stream().allMatch(s -> s.state() == UpstreamStatus.State.UNKNOWN);
+        // 기동 직후 첫 점검이 끝나기 전
+        return allUnknown ? Status.UNKNOWN : Status.UP;
+    }
+
+    private static Map<String, Object> describe(UpstreamStatus status) {
+        Map<String, Object> detail = new LinkedHashMap<>();
+        detail.put("state", status.state().name());
+        if (status.checkedAt() != null) {
+            detail.put("checkedAt", status.checkedAt().toString());
+            detail.put("latencyMs", status.latencyMs());
+        }
+        if (status.error() != null) {
+            detail.put("error", status.error());
+        }
+        return detail;
+    }
+}
@@ -0,0 +1,242 @@
+package com.yd.travelbot.global.health;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.yd.travelbot.global.config.AmadeusConfig;
+import com.yd.travelbot.global.config.ExchangeRatesConfig;
+import com.yd.travelbot.global.config.GeoapifyConfig;
+import com.yd.travelbot.global.config.HealthCheckConfig;
+import com.yd.travelbot.global.external.geoapify.GeoapifyPayloads.GeocodeResponse;
+import com.yd.travelbot.global.util.JsonUtil;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Credentials;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+/**
+ * 외부 API 가용성을 백그라운드에서 병렬로 점검하고 결과를 캐시합니다.
+ *
+ * - ApplicationReadyEvent에서는 점검을 예약만 하므로 기동이 외부 API 응답을 기다리지 않습니다.
+ * - 점검 한 건은 health-check.timeout 안에 끝나지 않으면 DOWN으로 기록합니다.
+ * - refresh-interval마다 다시 점검하며, 결과는 UpstreamHealthIndicator(/actuator/health)가 캐시에서 읽어 갑니다.
+ * - Gemini는 토큰을 쓰는 생성 호출 대신 모델 메타데이터 조회(models.get)로 키와 모델 가용성만 확인합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "health-check", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class UpstreamHealthProber {
+
+    public static final String AMADEUS = "amadeus";
+    public static final String GEOAPIFY = "geoapify";
+    public static final String KOREAEXIM = "koreaexim";
+    public static final String GEMINI = "gemini";
+
+    private static final MediaType FORM = MediaType.get("application/x-www-form-urlencoded");
+
+    private final Map<String, Probe> probes = new LinkedHashMap<>();
+    private final Map<String, UpstreamStatus> statuses = new ConcurrentHashMap<>();
+    private final OkHttpClient http;
+    private final Duration timeout;
+    private final Duration refreshInterval;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService scheduler;
+
+    @Autowired
+    public UpstreamHealthProber(AmadeusConfig amadeusConfig, GeoapifyConfig geoapifyConfig,
+                                ExchangeRatesConfig exchangeRatesConfig, HealthCheckConfig healthCheckConfig,
+                                OkHttpClient http,
+                                @Value("${langchain.gemini.api-key:}") String geminiApiKey,
+                                @Value("${langchain.gemini.model:gemini-2.5-flash}") String geminiModel,
+                                @Value("${langchain.gemini.base-url:https://generativelanguage.googleapis.com/v1beta}") String geminiBaseUrl) {
+        this.timeout = healthCheckConfig.getTimeout();
+        this.refreshInterval = healthCheckConfig.getRefreshInterval();
+        // 점검 한 건이 연결/응답 대기/본문 수신을 모두 합쳐 timeout을 넘지 않도록 제한
+        this.http = http.newBuilder().callTimeout(timeout).build();
+
+        probes.put(AMADEUS, new Probe(() -> amadeusToken(amadeusConfig), body -> true));
+        probes.put(GEOAPIFY, new Probe(() -> geoapifyGeocode(geoapifyConfig), UpstreamHealthProber::hasGeocodeResult));
+        probes.put(KOREAEXIM, new Probe(() -> koreaeximRates(exchangeRatesConfig), body -> true));
+        probes.put(GEMINI, new Probe(() -> geminiModel(geminiBaseUrl, geminiModel, geminiApiKey), body -> true));
+        probes.keySet().forEach(name -> statuses.put(name, UpstreamStatus.unknown()));
+
+        this.workers = Executors.newFixedThreadPool(probes.size(), daemonThreads("upstream-probe-"));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("upstream-health-"));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startProbing() {
+        if (refreshInterval.isZero() || refreshInterval.isNegative()) {
+            scheduler.execute(this::probeAll);
+        } else {
+            scheduler.scheduleWithFixedDelay(this::probeAll, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    /**
+     * 모든 외부 API를 병렬로 점검하고 캐시를 갱신합니다. 가장 느린 점검도 timeout 근처에서 끊깁니다.
+     */
+    public Map<String, UpstreamStatus> probeAll() {
+        long start = System.nanoTime();
+        Map<String, Future<UpstreamStatus>> running = new LinkedHashMap<>();
+        probes.forEach((name, probe) -> running.put(name, workers.submit(() -> check(probe))));
+
+        // callTimeout이 먼저 끊어야 하지만, DNS 조회 등 OkHttp 밖에서 멈추는 경우를 대비해 여유를 두고 기다림
+        long deadline = start + timeout.toNanos() + TimeUnit.MILLISECONDS.toNanos(500);
+        running.forEach((name, future) -> update(name, await(future, start, deadline)));
+        return statuses();
+    }
+
+    /**
+     * 마지막 점검 결과 (점검 순서 유지, 외부 호출 없음)
+     */
+    public Map<String, UpstreamStatus> statuses() {
+        Map<String, UpstreamStatus> snapshot = new LinkedHashMap<>();
+        probes.keySet().forEach(name -> snapshot.put(name, statuses.get(name)));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    private UpstreamStatus check(Probe probe) {
+        long start = System.nanoTime();
+        try {
+            Request request = probe.request().get();
+            try (Response resp = http.newCall(request).execute()) {
+                if (!resp.isSuccessful()) {
+                    return UpstreamStatus.down(Instant.now(), elapsedMs(start), "HTTP " + resp.code());
+                }
+                String body = resp.body() != null ? resp.body().string() : "";
+                if (!probe.bodyCheck().test(body)) {
+                    return UpstreamStatus.down(Instant.now(), elapsedMs(start), "응답 내용 없음");
+                }
+                return UpstreamStatus.up(Instant.now(), elapsedMs(start));
+            }
+        } catch (InterruptedIOException e) {
+            return UpstreamStatus.down(Instant.now(), elapsedMs(start), "timeout");
+        } catch (IOException | RuntimeException e) {
+            return UpstreamStatus.down(Instant.now(), elapsedMs(start), e.getClass().getSimpleName());
+        }
+    }
+
+    private UpstreamStatus await(Future<UpstreamStatus> future, long start, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return UpstreamStatus.down(Instant.now(), elapsedMs(start), "timeout");
+        } catch (ExecutionException e) {
+            return UpstreamStatus.down(Instant.now(), elapsedMs(start), e.getCause().getClass().getSimpleName());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return UpstreamStatus.down(Instant.now(), elapsedMs(start), "interrupted");
+        }
+    }
+
+    private void update(String name, UpstreamStatus status) {
+        UpstreamStatus previous = statuses.put(name, status);
+        // 주기 점검마다 같은 로그가 쌓이지 않도록 상태가 바뀔 때만 남김
+        if (previous == null || previous.state() != status.state()) {
+            if (status.state() == UpstreamStatus.State.UP) {
+                log.info("[HEALTH] {} UP ({}ms)", name, status.latencyMs());
+            } else {
+                log.warn("[HEALTH] {} {} ({}ms): {}", name, status.state(), status.latencyMs(), status.error());
+            }
+        }
+    }
+
+    private static Request amadeusToken(AmadeusConfig config) {
+        return new Request.Builder()
+                .url(config.v1Url() + "/security/oauth2/token")
+                .addHeader("Authorization", Credentials.basic(nullToEmpty(config.getApiKey()), nullToEmpty(config.getApiSecret())))
+                .post(RequestBody.create("grant_type=client_credentials", FORM))
+                .build();
+    }
+
+    private static Request geoapifyGeocode(GeoapifyConfig config) {
+        HttpUrl url = HttpUrl.parse(config.geocodeUrl()).newBuilder()
+                .addQueryParameter("text", "Seoul, South Korea")
+                .addQueryParameter("type", "city")
+                .addQueryParameter("limit", "1")
+                .addQueryParameter("format", "json")
+                .addQueryParameter("apiKey", nullToEmpty(config.getApiKey()))
+                .build();
+        return new Request.Builder().url(url).get().build();
+    }
+
+    private static Request koreaeximRates(ExchangeRatesConfig config) {
+        HttpUrl url = HttpUrl.parse(config.exchangeUrl()).newBuilder()
+                .addQueryParameter("authkey", nullToEmpty(config.getApiKey()))
+                .addQueryParameter("data", "AP01")
+                .build();
+        return new Request.Builder().url(url).get().build();
+    }
+
+    private static Request geminiModel(String baseUrl, String model, String apiKey) {
+        return new Request.Builder()
+                .url(baseUrl + "/models/" + model)
+                .addHeader("x-goog-api-key", nullToEmpty(apiKey))
+                .get()
+                .build();
+    }
+
+    private static boolean hasGeocodeResult(String body) {
+        GeocodeResponse response = JsonUtil.fromJson(body, GeocodeResponse.class);
+        return response != null && !response.isEmpty();
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Probe(Supplier<Request> request, Predicate<String> bodyCheck) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.yd.travelbot.global.health;
+
+import java.time.Instant;
+
+/**
+ * 외부 API 하나의 마지막 점검 결과
+ *
+ * @param state     UP / DOWN / UNKNOWN (아직 점검 전)
+ * @param checkedAt 점검을 마친 시각 (점검 전이면 null)
+ * @param latencyMs 응답까지 걸린 시간 (점검 전이면 null)
+ * @param error     DOWN 사유 (상태 코드 또는 예외 요약, URL/키는 포함하지 않음)
+ */
+public record UpstreamStatus(State state, Instant checkedAt, Long latencyMs, String error) {
+
+    public enum State {
+        UP, DOWN, UNKNOWN
+    }
+
+    public static UpstreamStatus unknown() {
+        return new UpstreamStatus(State.UNKNOWN, null, null, null);
+    }
+
+    public static UpstreamStatus up(Instant checkedAt, long latencyMs) {
+        return new UpstreamStatus(State.UP, checkedAt, latencyMs, null);
+    }
+
+    public static UpstreamStatus down(Instant checkedAt, long latencyMs, String error) {
+        return new UpstreamStatus(State.DOWN, checkedAt, latencyMs, error);
+    }
+}
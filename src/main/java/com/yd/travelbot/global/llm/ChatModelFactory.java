@@ -0,0 +1,15 @@
+package com.yd.travelbot.global.llm;
+
+import dev.langchain4j.model.chat.ChatLanguageModel;
+
+/**
+ * 모델 티어별 원본 ChatLanguageModel 생성기
+ *
+ * 기본 구현은 Gemini 모델을 만들며, 게이트웨이/헤지 래핑은 LangChain4jConfig에서 공통으로 적용합니다.
+ * 부하 테스트처럼 외부 LLM 없이 돌려야 할 때 다른 구현을 빈으로 등록해 교체합니다.
+ */
+@FunctionalInterface
+public interface ChatModelFactory {
+
+    ChatLanguageModel create(String modelName, Double temperature);
+}
@@ -0,0 +1,164 @@
+package com.yd.travelbot.global.llm;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.yd.travelbot.global.deadline.Deadline;
+import com.yd.travelbot.global.deadline.DeadlineExceededException;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 헤지(hedged) 요청으로 꼬리 지연을 줄이는 ChatLanguageModel
+ *
+ * - 주 모델 호출이 최근 응답 시간의 p95(설정 백분위수) 안에 끝나지 않으면 헤지 모델로 같은 요청을 한 번 더 보냅니다.
+ * - 먼저 성공한 응답을 사용하고, 남은 호출은 인터럽트로 취소합니다.
+ * - 샘플이 충분히 쌓이기 전에는 initialDelay를 기준으로 헤지합니다.
+ * - 응답 시간은 주 호출만 결과와 상관없이 기록합니다. 취소·실패한 호출은 그때까지 걸린 시간을 하한으로 씁니다.
+ *   (성공한 호출만 기록하면 느린 호출이 빠져 p95가 점점 낮아지고 헤지가 점점 일찍 나갑니다)
+ * - 요청의 시간 예산(Deadline)이 있으면 남은 예산까지만 기다리고, 지나면 두 호출을 모두 취소합니다.
+ */
+@Slf4j
+public class HedgingChatModel implements ChatLanguageModel {
+
+    // p95 추정에 필요한 최소 샘플 수
+    static final int MIN_SAMPLES = 20;
+
+    private final ChatLanguageModel primary;
+    private final ChatLanguageModel hedge;
+    private final ExecutorService executor;
+    private final LatencyTracker latencies;
+    private final double percentile;
+    private final Duration initialDelay;
+    private final Duration minDelay;
+
+    public HedgingChatModel(ChatLanguageModel primary, ChatLanguageModel hedge, ExecutorService executor,
+                            int windowSize, double percentile, Duration initialDelay, Duration minDelay) {
+        this.primary = primary;
+        this.hedge = hedge != null ? hedge : primary;
+        this.executor = executor;
+        this.latencies = new LatencyTracker(windowSize);
+        this.percentile = percentile;
+        this.initialDelay = initialDelay;
+        this.minDelay = minDelay;
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        return hedged(model -> model.generate(messages));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        return hedged(model -> model.generate(messages, toolSpecifications));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        return hedged(model -> model.generate(messages, toolSpecification));
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return primary.supportedCapabilities();
+    }
+
+    /**
+     * 현재 헤지 발동 기준 지연 시간
+     */
+    Duration hedgeDelay() {
+        if (latencies.size() < MIN_SAMPLES) {
+            return initialDelay;
+        }
+        long nanos = Math.max(latencies.percentile(percentile), minDelay.toNanos());
+        return Duration.ofNanos(nanos);
+    }
+
+    private Response<AiMessage> hedged(Function<ChatLanguageModel, Response<AiMessage>> call) {
+        CompletableFuture<Response<AiMessage>> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        Future<?> first = submit(primary, call, winner, pending, true);
+        Future<?> second = null;
+        Deadline deadline = Deadline.current();
+        try {
+            Duration delay = hedgeDelay();
+            try {
+                return winner.get(Deadline.clamp(delay).toNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (deadline != null && deadline.isExpired()) {
+                    throw new DeadlineExceededException("llm");
+                }
+                log.info("LLM 응답이 {}ms 안에 오지 않아 헤지 요청 전송", delay.toMillis());
+                pending.incrementAndGet();
+                second = submit(hedge, call, winner, pending, false);
+            }
+            if (deadline == null) {
+                return winner.get();
+            }
+            try {
+                return winner.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                throw new DeadlineExceededException("llm");
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("LLM 호출 대기 중 인터럽트", e);
+        } finally {
+            // 먼저 끝난 쪽을 제외한 나머지 호출 취소
+            first.cancel(true);
+            if (second != null) {
+                second.cancel(true);
+            }
+        }
+    }
+
+    private Future<?> submit(ChatLanguageModel model,
+                             Function<ChatLanguageModel, Response<AiMessage>> call,
+                             CompletableFuture<Response<AiMessage>> winner,
+                             AtomicInteger pending,
+                             boolean measured) {
+        return executor.submit(() -> {
+            long start = System.nanoTime();
+            Response<AiMessage> response = null;
+            RuntimeException failure = null;
+            try {
+                response = call.apply(model);
+            } catch (RuntimeException e) {
+                failure = e;
+            } finally {
+                // 헤지에 밀려 취소되거나 실패한 주 호출도 그때까지 걸린 시간을 하한으로 기록 (빠른 호출만 남지 않도록)
+                if (measured && !(failure instanceof LlmOverloadedException)) {
+                    latencies.record(System.nanoTime() - start);
+                }
+            }
+            if (failure == null) {
+                winner.complete(response);
+                pending.decrementAndGet();
+            } else if (pending.decrementAndGet() == 0) {
+                // 마지막으로 실패한 시도의 예외를 그대로 전달 (다른 시도가 아직 진행 중이면 대기)
+                winner.completeExceptionally(failure);
+            }
+        });
+    }
+}
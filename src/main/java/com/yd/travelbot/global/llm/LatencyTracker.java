@@ -0,0 +1,45 @@
+package com.yd.travelbot.global.llm;
+
+import java.util.Arrays;
+
+/**
+ * 최근 N건의 응답 지연 시간을 보관하고 백분위수를 계산하는 롤링 윈도우
+ */
+class LatencyTracker {
+
+    private final long[] samples;
+    private int count;
+    private int next;
+
+    LatencyTracker(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize는 1 이상이어야 합니다.");
+        }
+        this.samples = new long[windowSize];
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+
+    synchronized int size() {
+        return count;
+    }
+
+    /**
+     * 현재 윈도우의 백분위수(0~1) 지연 시간(ns), 샘플이 없으면 -1
+     */
+    synchronized long percentile(double p) {
+        if (count == 0) {
+            return -1L;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(p * count) - 1;
+        return sorted[Math.min(Math.max(index, 0), count - 1)];
+    }
+}
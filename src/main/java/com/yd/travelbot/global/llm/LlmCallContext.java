@@ -0,0 +1,69 @@
+package com.yd.travelbot.global.llm;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.Scope;
+
+/**
+ * 모델 호출을 일으킨 호출 지점(call site)과 세션, 우선순위 상한을 현재 Context에 묶어 두는 도우미
+ *
+ * 모델 래퍼(토큰 집계, span)는 호출한 쪽을 모르므로 이 값을 읽어 태그로 씁니다.
+ * OpenTelemetry Context에 담기 때문에 헤지 스레드처럼 Context를 넘겨받는 실행기에서도 유지됩니다.
+ * 안쪽에서 다시 묶으면 안쪽 값이 우선합니다. (예: 대화 루프 안의 툴이 도시명 정규화를 호출)
+ *
+ * <pre>
+ * try (Scope ignored = LlmCallContext.callSite("intent")) {
+ *     model.generate(...);
+ * }
+ * </pre>
+ */
+public final class LlmCallContext {
+
+    public static final String UNKNOWN = "unknown";
+
+    private static final ContextKey<String> CALL_SITE = ContextKey.named("travelbot.llm.call_site");
+    private static final ContextKey<String> SESSION = ContextKey.named("travelbot.llm.session");
+    private static final ContextKey<LlmPriority> PRIORITY = ContextKey.named("travelbot.llm.priority");
+
+    private LlmCallContext() {
+    }
+
+    public static Scope callSite(String callSite) {
+        return Context.current().with(CALL_SITE, callSite).makeCurrent();
+    }
+
+    public static Scope session(String sessionId) {
+        return Context.current().with(SESSION, sessionId).makeCurrent();
+    }
+
+    /**
+     * 이 범위의 모델 호출이 게이트웨이를 priority보다 높은 우선순위로 통과하지 않도록 합니다.
+     * (예: 일괄 평가 대화는 메인 모델도 BACKGROUND로 보내 사용자 대화를 먼저 처리)
+     */
+    public static Scope priority(LlmPriority priority) {
+        return Context.current().with(PRIORITY, priority).makeCurrent();
+    }
+
+    /**
+     * 모델에 지정된 우선순위와 현재 범위의 상한 중 낮은 쪽
+     */
+    public static LlmPriority effectivePriority(LlmPriority priority) {
+        LlmPriority limit = Context.current().get(PRIORITY);
+        return limit != null && limit.compareTo(priority) > 0 ? limit : priority;
+    }
+
+    /**
+     * 현재 호출 지점 (묶인 값이 없으면 "unknown")
+     */
+    public static String currentCallSite() {
+        String callSite = Context.current().get(CALL_SITE);
+        return callSite != null ? callSite : UNKNOWN;
+    }
+
+    /**
+     * 현재 세션 ID (세션 밖의 호출이면 null)
+     */
+    public static String currentSession() {
+        return Context.current().get(SESSION);
+    }
+}
@@ -0,0 +1,244 @@
+package com.yd.travelbot.global.llm;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import com.yd.travelbot.global.deadline.Deadline;
+import com.yd.travelbot.global.deadline.DeadlineExceededException;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gemini 호출 앞단의 승인 제어(admission control) 게이트웨이
+ *
+ * 모델 티어(메인/경량/헤지)가 달라도 같은 게이트웨이로 감싸 하나의 동시성 예산을 공유합니다.
+ * - 동시 호출 수를 maxConcurrent로 제한합니다.
+ * - 초과 요청은 우선순위 대기열(CHAT > BACKGROUND, 같은 우선순위는 도착 순)에서 기다립니다.
+ *   LlmCallContext.priority로 범위를 묶으면 그 안의 호출은 모델에 지정된 것보다 낮은 우선순위로 통과합니다.
+ * - 우선순위별 대기 허용 시간이 지나거나 대기열이 가득 차면 즉시 LlmOverloadedException으로 거절합니다.
+ *   대기열이 가득 찼을 때 더 높은 우선순위 요청이 오면 가장 낮은 우선순위의 마지막 대기자를 밀어냅니다.
+ * - 인터럽트된 스레드(취소된 대화 턴)의 호출은 시작하지 않고 CancellationException으로 끝냅니다.
+ *   대기 중에 인터럽트되면 대기열에서 빠집니다.
+ * - 요청의 시간 예산(Deadline)이 지났으면 호출을 시작하지 않고, 대기도 남은 예산까지만 하며
+ *   예산 때문에 끝난 경우에는 DeadlineExceededException으로 끝냅니다.
+ */
+@Slf4j
+public class LlmGateway {
+
+    private final int maxConcurrent;
+    private final int maxQueueSize;
+    private final Map<LlmPriority, Duration> queueTimeouts;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+    private int inFlight;
+    private long sequence;
+
+    public LlmGateway(int maxConcurrent, int maxQueueSize,
+                      Duration chatQueueTimeout, Duration backgroundQueueTimeout) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("maxConcurrent는 1 이상이어야 합니다.");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueueSize = Math.max(0, maxQueueSize);
+        this.queueTimeouts = new EnumMap<>(LlmPriority.class);
+        this.queueTimeouts.put(LlmPriority.CHAT, chatQueueTimeout);
+        this.queueTimeouts.put(LlmPriority.BACKGROUND, backgroundQueueTimeout);
+    }
+
+    /**
+     * delegate 호출이 지정한 우선순위로 게이트웨이를 통과하도록 감싼 ChatLanguageModel을 반환합니다.
+     */
+    public ChatLanguageModel wrap(ChatLanguageModel delegate, LlmPriority priority) {
+        return new GatedChatModel(delegate, priority);
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueueSize() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    <T> T execute(LlmPriority priority, Supplier<T> call) {
+        if (Thread.currentThread().isInterrupted()) {
+            // 취소된 대화 턴(인터럽트된 스레드)에서는 새 호출을 시작하지 않음
+            throw new CancellationException("LLM 호출 취소");
+        }
+        Deadline.check("llm");
+        acquire(priority);
+        try {
+            return call.get();
+        } finally {
+            release();
+        }
+    }
+
+    private void acquire(LlmPriority priority) {
+        Waiter waiter = null;
+        lock.lock();
+        try {
+            if (inFlight < maxConcurrent && waiters.isEmpty()) {
+                inFlight++;
+                return;
+            }
+            if (waiters.size() >= maxQueueSize) {
+                Waiter victim = lowestPriorityWaiter();
+                if (victim == null || victim.priority.compareTo(priority) <= 0) {
+                    log.warn("LLM 게이트웨이 포화: 대기열 가득 참 ({}), {} 요청 거절", waiters.size(), priority);
+                    throw new LlmOverloadedException(priority, "queue full");
+                }
+                // 더 낮은 우선순위 대기자를 밀어내고 자리를 확보
+                waiters.remove(victim);
+                victim.shed = true;
+                victim.condition.signal();
+            }
+            waiter = new Waiter(priority, sequence++, lock.newCondition());
+            waiters.add(waiter);
+
+            long remaining = queueTimeouts.get(priority).toNanos();
+            Deadline deadline = Deadline.current();
+            boolean boundByDeadline = deadline != null && deadline.remainingNanos() < remaining;
+            if (boundByDeadline) {
+                remaining = deadline.remainingNanos();
+            }
+            while (!waiter.granted && !waiter.shed) {
+                if (remaining <= 0L) {
+                    waiters.remove(waiter);
+                    if (boundByDeadline) {
+                        log.warn("LLM 게이트웨이 대기 중 요청 시간 예산 초과: {} 요청 중단", priority);
+                        throw new DeadlineExceededException("llm queue");
+                    }
+                    log.warn("LLM 게이트웨이 대기 시간 초과: {} 요청 거절", priority);
+                    throw new LlmOverloadedException(priority, "queue timeout");
+                }
+                remaining = waiter.condition.awaitNanos(remaining);
+            }
+            if (waiter.shed) {
+                log.warn("LLM 게이트웨이 부하 차단: 더 높은 우선순위 요청에 밀려 {} 요청 거절", priority);
+                throw new LlmOverloadedException(priority, "shed");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (waiter != null) {
+                if (waiter.granted) {
+                    // 허가를 넘겨받은 직후 인터럽트된 경우 반납
+                    releaseLocked();
+                } else {
+                    waiters.remove(waiter);
+                }
+            }
+            throw new LlmOverloadedException(priority, "interrupted");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            releaseLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseLocked() {
+        Waiter next = waiters.poll();
+        if (next != null) {
+            // 허가를 그대로 다음 대기자에게 넘김 (inFlight 유지)
+            next.granted = true;
+            next.condition.signal();
+        } else {
+            inFlight--;
+        }
+    }
+
+    private Waiter lowestPriorityWaiter() {
+        Waiter worst = null;
+        for (Waiter w : waiters) {
+            if (worst == null || w.compareTo(worst) > 0) {
+                worst = w;
+            }
+        }
+        return worst;
+    }
+
+    private static final class Waiter implements Comparable<Waiter> {
+        private final LlmPriority priority;
+        private final long seq;
+        private final Condition condition;
+        private boolean granted;
+        private boolean shed;
+
+        private Waiter(LlmPriority priority, long seq, Condition condition) {
+            this.priority = priority;
+            this.seq = seq;
+            this.condition = condition;
+        }
+
+        @Override
+        public int compareTo(Waiter o) {
+            int byPriority = priority.compareTo(o.priority);
+            return byPriority != 0 ? byPriority : Long.compare(seq, o.seq);
+        }
+    }
+
+    private final class GatedChatModel implements ChatLanguageModel {
+
+        private final ChatLanguageModel delegate;
+        private final LlmPriority priority;
+
+        private GatedChatModel(ChatLanguageModel delegate, LlmPriority priority) {
+            this.delegate = delegate;
+            this.priority = priority;
+        }
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages) {
+            return execute(LlmCallContext.effectivePriority(priority), () -> delegate.generate(messages));
+        }
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+            return execute(LlmCallContext.effectivePriority(priority),
+                    () -> delegate.generate(messages, toolSpecifications));
+        }
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+            return execute(LlmCallContext.effectivePriority(priority),
+                    () -> delegate.generate(messages, toolSpecification));
+        }
+
+        @Override
+        public Set<Capability> supportedCapabilities() {
+            return delegate.supportedCapabilities();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.yd.travelbot.global.llm;
+
+import com.yd.travelbot.global.exception.ApiException;
+
+/**
+ * LLM 게이트웨이가 포화 상태라 호출을 받아들이지 않았을 때 발생합니다.
+ * 메시지는 그대로 사용자에게 보여줄 수 있는 문구입니다.
+ */
+public class LlmOverloadedException extends ApiException {
+
+    public static final String USER_MESSAGE = "지금은 이용자가 많아 답변이 지연되고 있어요. 잠시 후 다시 시도해 주세요 🙏";
+
+    private final LlmPriority priority;
+
+    public LlmOverloadedException(LlmPriority priority, String reason) {
+        super(USER_MESSAGE + " (" + reason + ")");
+        this.priority = priority;
+    }
+
+    public LlmPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * 예외 체인 안에 게이트웨이 거절이 포함되어 있는지 확인합니다.
+     */
+    public static boolean isCause(Throwable t) {
+        Throwable cur = t;
+        while (cur != null) {
+            if (cur instanceof LlmOverloadedException) {
+                return true;
+            }
+            if (cur.getCause() == cur) {
+                break;
+            }
+            cur = cur.getCause();
+        }
+        return false;
+    }
+}
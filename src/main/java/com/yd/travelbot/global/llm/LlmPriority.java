@@ -0,0 +1,11 @@
+package com.yd.travelbot.global.llm;
+
+/**
+ * LLM 게이트웨이 대기열 우선순위 (선언 순서가 높은 우선순위)
+ */
+public enum LlmPriority {
+    // 사용자 대화 (TravelAssistant, 결과 포맷팅)
+    CHAT,
+    // 도시명 정규화, 의도 분류, 헬스체크 등 백그라운드 호출
+    BACKGROUND
+}
@@ -0,0 +1,92 @@
+package com.yd.travelbot.global.llm;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import com.yd.travelbot.global.deadline.Deadline;
+import com.yd.travelbot.global.deadline.DeadlineExceededException;
+import com.yd.travelbot.global.exception.ApiException;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모델 호출 하나에 시간 상한을 거는 ChatLanguageModel
+ *
+ * - Gemini 클라이언트는 호출 시간 제한을 설정할 수 없어, 호출을 실행기에서 돌리고 timeout까지만 기다립니다.
+ * - 요청의 시간 예산(Deadline)이 있으면 timeout과 남은 예산 중 짧은 쪽까지만 기다리고,
+ *   예산 때문에 끝난 경우에는 DeadlineExceededException으로 끝냅니다.
+ * - 시간을 넘긴 호출은 인터럽트로 취소합니다. (클라이언트가 인터럽트를 무시하면 응답이 와도 버림)
+ */
+@Slf4j
+public class TimeLimitedChatModel implements ChatLanguageModel {
+
+    private final ChatLanguageModel delegate;
+    private final Duration timeout;
+    private final ExecutorService executor;
+
+    public TimeLimitedChatModel(ChatLanguageModel delegate, Duration timeout, ExecutorService executor) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.executor = executor;
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        return limited(() -> delegate.generate(messages));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        return limited(() -> delegate.generate(messages, toolSpecifications));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        return limited(() -> delegate.generate(messages, toolSpecification));
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+
+    private Response<AiMessage> limited(Supplier<Response<AiMessage>> call) {
+        Deadline.check("llm");
+        Duration wait = Deadline.clamp(timeout);
+        boolean boundByDeadline = wait.compareTo(timeout) < 0;
+        Future<Response<AiMessage>> future = executor.submit(call::get);
+        try {
+            return future.get(wait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (boundByDeadline) {
+                throw new DeadlineExceededException("llm");
+            }
+            log.warn("LLM 응답이 {}ms 안에 오지 않아 호출 취소", timeout.toMillis());
+            throw new ApiException("LLM 응답 시간 초과 (" + timeout.toMillis() + "ms)");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("LLM 호출 대기 중 인터럽트", e);
+        } finally {
+            future.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.yd.travelbot.global.llm;
+
+import java.util.List;
+import java.util.Set;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * 응답의 tokenUsage()를 TokenUsageTracker에 넘기는 래퍼
+ * 원본 모델 바로 바깥에 두어 재시도/헤지로 실제로 나간 호출을 모두 집계합니다.
+ */
+final class TokenCountingChatModel implements ChatLanguageModel {
+
+    private final ChatLanguageModel delegate;
+    private final String tier;
+    private final TokenUsageTracker tracker;
+
+    TokenCountingChatModel(ChatLanguageModel delegate, String tier, TokenUsageTracker tracker) {
+        this.delegate = delegate;
+        this.tier = tier;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        return counted(delegate.generate(messages));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        return counted(delegate.generate(messages, toolSpecifications));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        return counted(delegate.generate(messages, toolSpecification));
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+
+    private Response<AiMessage> counted(Response<AiMessage> response) {
+        if (response != null) {
+            tracker.record(tier, response.tokenUsage());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,23 @@
+package com.yd.travelbot.global.llm;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 세션 또는 호출 지점 하나의 누적 토큰 사용량 스냅샷
+ *
+ * @param id               세션 ID 또는 호출 지점 이름
+ * @param tokensByCallSite 호출 지점별 누적 토큰(입력+출력)
+ */
+public record TokenUsageSummary(
+        String id,
+        long inputTokens,
+        long outputTokens,
+        long calls,
+        Map<String, Long> tokensByCallSite,
+        Instant lastUsedAt) {
+
+    public long totalTokens() {
+        return inputTokens + outputTokens;
+    }
+}
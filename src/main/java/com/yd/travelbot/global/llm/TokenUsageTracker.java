@@ -0,0 +1,161 @@
+package com.yd.travelbot.global.llm;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.yd.travelbot.global.config.LlmTokenConfig;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.TokenUsage;
+
+/**
+ * 모델 호출의 토큰 사용량을 호출 지점(call site)과 세션별로 집계합니다.
+ *
+ * - 호출 지점/세션은 LlmCallContext에서 읽으며, 지표는 travelbot.llm.tokens 로 내보냅니다.
+ * - 세션별 누적치는 최근 사용 순으로 maxTrackedSessions개까지만 보관합니다.
+ * - sessionBudget이 설정되면 누적 토큰이 한도에 도달한 세션을 isOverBudget()으로 알려줍니다.
+ *   한도 검사는 다음 턴을 시작하기 전에 하므로 한 턴이 한도를 조금 넘길 수는 있습니다.
+ */
+@Component
+public class TokenUsageTracker {
+
+    private final TravelMetrics travelMetrics;
+    private final long sessionBudget;
+    private final Clock clock;
+
+    private final Map<String, Tally> sessions;
+    private final Map<String, Tally> callSites = new HashMap<>();
+
+    @Autowired
+    public TokenUsageTracker(TravelMetrics travelMetrics, LlmTokenConfig config) {
+        this(travelMetrics, config.getSessionBudget(), config.getMaxTrackedSessions(), Clock.systemUTC());
+    }
+
+    TokenUsageTracker(TravelMetrics travelMetrics, long sessionBudget, int maxTrackedSessions, Clock clock) {
+        this.travelMetrics = travelMetrics;
+        this.sessionBudget = sessionBudget;
+        this.clock = clock;
+        this.sessions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Tally> eldest) {
+                return size() > maxTrackedSessions;
+            }
+        };
+    }
+
+    /**
+     * 원본 모델 호출의 토큰 사용량을 tier 태그로 집계하도록 감쌉니다.
+     */
+    public ChatLanguageModel tracked(ChatLanguageModel delegate, String tier) {
+        return new TokenCountingChatModel(delegate, tier, this);
+    }
+
+    /**
+     * 현재 Context의 호출 지점/세션으로 토큰 사용량을 기록합니다. (사용량이 없는 응답은 무시)
+     */
+    public void record(String tier, TokenUsage usage) {
+        if (usage == null) {
+            return;
+        }
+        long input = usage.inputTokenCount() != null ? usage.inputTokenCount() : 0;
+        long output = usage.outputTokenCount() != null ? usage.outputTokenCount() : 0;
+        if (input == 0 && output == 0) {
+            return;
+        }
+        record(LlmCallContext.currentCallSite(), LlmCallContext.currentSession(), tier, input, output);
+    }
+
+    void record(String callSite, String sessionId, String tier, long input, long output) {
+        travelMetrics.recordLlmTokens(callSite, tier, input, output);
+        Instant now = clock.instant();
+        synchronized (this) {
+            callSites.computeIfAbsent(callSite, k -> new Tally()).add(callSite, input, output, now);
+            if (sessionId != null) {
+                sessions.computeIfAbsent(sessionId, k -> new Tally()).add(callSite, input, output, now);
+            }
+        }
+    }
+
+    /**
+     * 세션 누적 토큰이 한도에 도달했는지 여부 (한도가 없으면 항상 false)
+     */
+    public boolean isOverBudget(String sessionId) {
+        if (sessionBudget <= 0 || sessionId == null) {
+            return false;
+        }
+        synchronized (this) {
+            Tally tally = sessions.get(sessionId);
+            return tally != null && tally.input + tally.output >= sessionBudget;
+        }
+    }
+
+    public long getSessionBudget() {
+        return sessionBudget;
+    }
+
+    /**
+     * 세션 하나의 누적 사용량 (기록이 없으면 null)
+     */
+    public synchronized TokenUsageSummary session(String sessionId) {
+        Tally tally = sessions.get(sessionId);
+        return tally != null ? tally.snapshot(sessionId) : null;
+    }
+
+    /**
+     * 누적 토큰이 많은 순서로 상위 limit개 세션
+     */
+    public List<TokenUsageSummary> topSessions(int limit) {
+        List<TokenUsageSummary> snapshots = new ArrayList<>();
+        synchronized (this) {
+            sessions.forEach((id, tally) -> snapshots.add(tally.snapshot(id)));
+        }
+        return snapshots.stream()
+                .sorted(Comparator.comparingLong(TokenUsageSummary::totalTokens).reversed())
+                .limit(Math.max(0, limit))
+                .toList();
+    }
+
+    /**
+     * 호출 지점별 누적 사용량 (세션 구분 없음)
+     */
+    public Map<String, TokenUsageSummary> callSites() {
+        Map<String, TokenUsageSummary> snapshots = new TreeMap<>();
+        synchronized (this) {
+            callSites.forEach((site, tally) -> snapshots.put(site, tally.snapshot(site)));
+        }
+        return snapshots;
+    }
+
+    private static final class Tally {
+        private long input;
+        private long output;
+        private long calls;
+        private final Map<String, Long> byCallSite = new TreeMap<>();
+        private Instant lastUsedAt;
+
+        private void add(String callSite, long inputTokens, long outputTokens, Instant now) {
+            input += inputTokens;
+            output += outputTokens;
+            calls++;
+            byCallSite.merge(callSite, inputTokens + outputTokens, Long::sum);
+            lastUsedAt = now;
+        }
+
+        private TokenUsageSummary snapshot(String id) {
+            return new TokenUsageSummary(id, input, output, calls,
+                    Collections.unmodifiableMap(new TreeMap<>(byCallSite)), lastUsedAt);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.yd.travelbot.global.logging;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import okhttp3.HttpUrl;
+
+/**
+ * 로그에 남기기 전에 API 키/토큰을 가리는 도우미
+ *
+ * - URL은 비밀값이 들어가는 쿼리 파라미터(apiKey, authkey 등)의 값을 *** 로 바꿉니다.
+ * - 본문/오류 메시지는 key=value, "key":"value", Bearer 토큰 형태의 비밀값을 가리고 앞부분만 남깁니다.
+ */
+public final class LogRedactor {
+
+    static final String MASK = "***";
+    // 오류 응답 본문은 앞부분만 남김
+    public static final int SNIPPET_CHARS = 500;
+
+    private static final Set<String> SECRET_PARAMS = Set.of(
+            "apikey", "api_key", "authkey", "key", "token", "access_token", "refresh_token", "client_secret");
+    private static final Pattern SECRET_VALUE = Pattern.compile(
+            "(?i)((?:apiKey|api_key|authkey|access_token|refresh_token|client_secret)\"?\\s*[=:]\\s*\"?)[^\"&\\s,}]+");
+    private static final Pattern BEARER = Pattern.compile("(?i)(Bearer\\s+)[A-Za-z0-9._~+/=-]+");
+
+    private LogRedactor() {
+    }
+
+    public static String url(HttpUrl url) {
+        HttpUrl.Builder redacted = null;
+        for (int i = 0; i < url.querySize(); i++) {
+            String name = url.queryParameterName(i);
+            if (SECRET_PARAMS.contains(name.toLowerCase(Locale.ROOT))) {
+                if (redacted == null) {
+                    redacted = url.newBuilder();
+                }
+                redacted.setQueryParameter(name, MASK);
+            }
+        }
+        return redacted != null ? redacted.build().toString() : url.toString();
+    }
+
+    public static String text(String text) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        String masked = SECRET_VALUE.matcher(text).replaceAll("$1" + MASK);
+        return BEARER.matcher(masked).replaceAll("$1" + MASK);
+    }
+
+    /**
+     * 앞 maxChars자만 남기고 비밀값을 가린 본문 (잘린 경우 남은 글자 수 표시)
+     */
+    public static String snippet(String body, int maxChars) {
+        if (body == null) {
+            return "";
+        }
+        if (body.length() <= maxChars) {
+            return text(body);
+        }
+        return text(body.substring(0, maxChars)) + "…(+" + (body.length() - maxChars) + "자)";
+    }
+
+    public static String snippet(String body) {
+        return snippet(body, SNIPPET_CHARS);
+    }
+}
@@ -0,0 +1,88 @@
+package com.yd.travelbot.global.logging;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import com.yd.travelbot.global.config.PayloadLoggingConfig;
+import com.yd.travelbot.global.external.UpstreamNames;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * 외부 API 호출 중 sampleRate 비율만 골라 요청 URL과 응답 본문 앞부분을 남기는 OkHttp 인터셉터
+ *
+ * - 고르지 않은 호출은 난수 하나만 뽑고 그대로 진행하므로, 호출마다 URL/본문 문자열을 만들지 않습니다.
+ * - URL의 API 키와 본문의 토큰은 LogRedactor로 가리고, 본문은 peekBody로 앞부분만 읽어 호출한 쪽이 그대로 읽을 수 있습니다.
+ * - upstream, endpoint, status, elapsed_ms는 키-값으로도 남기므로 구조화 로그(json-logs 프로필)에서 필드로 검색할 수 있습니다.
+ * - 이 인터셉터의 로거를 DEBUG로 낮추면 비율과 관계없이 모든 호출을 DEBUG로 남깁니다.
+ */
+public class PayloadLoggingInterceptor implements Interceptor {
+
+    private final double sampleRate;
+    private final int maxBodyChars;
+    private final UpstreamNames upstreamNames;
+    private final Logger log;
+
+    public PayloadLoggingInterceptor(PayloadLoggingConfig config, Map<String, String> baseUrlsByUpstream) {
+        this(config, baseUrlsByUpstream, LoggerFactory.getLogger(PayloadLoggingInterceptor.class));
+    }
+
+    // src/jmh 벤치마크와 테스트가 로거를 바꿔 끼움
+    PayloadLoggingInterceptor(PayloadLoggingConfig config, Map<String, String> baseUrlsByUpstream, Logger log) {
+        this.sampleRate = config.getSampleRate();
+        this.maxBodyChars = Math.max(0, config.getMaxBodyChars());
+        this.upstreamNames = new UpstreamNames(baseUrlsByUpstream);
+        this.log = log;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!sampled()) {
+            return chain.proceed(request);
+        }
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            log(request, "IO_ERROR", System.nanoTime() - start, e.getMessage());
+            throw e;
+        }
+        String body = "";
+        if (maxBodyChars > 0 && response.body() != null) {
+            // UTF-8 한글은 3바이트이므로 글자 수의 3배까지 읽고 글자 수로 자름
+            body = response.peekBody(maxBodyChars * 3L).string();
+        }
+        log(request, String.valueOf(response.code()), System.nanoTime() - start, body);
+        return response;
+    }
+
+    boolean sampled() {
+        if (log.isDebugEnabled()) {
+            return true;
+        }
+        return sampleRate > 0 && log.isInfoEnabled()
+                && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    void log(Request request, String status, long nanos, String body) {
+        String upstream = upstreamNames.of(request.url());
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(nanos);
+        LoggingEventBuilder event = log.isDebugEnabled() ? log.atDebug() : log.atInfo();
+        event.addKeyValue("upstream", upstream)
+                .addKeyValue("endpoint", request.url().encodedPath())
+                .addKeyValue("status", status)
+                .addKeyValue("elapsed_ms", elapsedMs)
+                .log("외부 API 응답 샘플 [{}] {} {} → {} ({}ms): {}", upstream, request.method(),
+                        LogRedactor.url(request.url()), status, elapsedMs, LogRedactor.snippet(body, maxBodyChars));
+    }
+}
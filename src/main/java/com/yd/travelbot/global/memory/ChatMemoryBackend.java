@@ -0,0 +1,37 @@
+package com.yd.travelbot.global.memory;
+
+import java.time.Duration;
+
+/**
+ * 여러 노드가 공유하는 세션 대화 기록 저장소 (DistributedChatMemoryStore의 원격 쪽)
+ *
+ * 세션마다 버전이 붙은 값 하나를 보관합니다. 버전은 기록할 때마다 저장소 전체에서 한 번도 쓰지 않은 값으로 바뀌며,
+ * 각 노드는 버전만 먼저 확인해 가까운 캐시(near-cache)에 있는 기록이 최신인지 판단합니다. 세션을 지우거나 만료된 뒤
+ * 새로 기록해도 예전 버전이 다시 나오지 않으므로, 지워진 기록을 캐시에 둔 노드가 그 기록을 최신으로 오인하지 않습니다. 항목이 있으면 살아 있는 세션이고 ttl 동안 기록이
+ * 없으면 사라지므로, 이 저장소가 노드 사이의 세션 레지스트리 역할도 합니다.
+ *
+ * Redis 해시 + Lua 스크립트(RedisChatMemoryBackend)로 구현하며, 테스트에서는 프로세스 안의 맵으로 대신합니다.
+ */
+public interface ChatMemoryBackend {
+
+    /**
+     * 세션의 현재 버전 (없으면 0)
+     */
+    long version(String sessionId);
+
+    /**
+     * 세션의 버전과 기록 (없으면 null)
+     */
+    Entry load(String sessionId);
+
+    /**
+     * 현재 버전이 expectedVersion일 때만 기록하고 새 버전(0보다 크고 이전에 쓰이지 않은 값)을 반환합니다. 다른 노드가 먼저 기록했으면 -1.
+     * ttl이 0이면 만료되지 않습니다.
+     */
+    long store(String sessionId, long expectedVersion, String payload, Duration ttl);
+
+    void delete(String sessionId);
+
+    record Entry(long version, String payload) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.yd.travelbot.global.memory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageDeserializer;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 노드가 ChatMemoryBackend를 공유하고, 노드마다 최근 세션을 가까운 캐시(near-cache)에 두는 ChatMemoryStore
+ *
+ * - 읽을 때는 원격 버전만 확인해 캐시가 최신이면 그대로 쓰고, 다른 노드가 기록했으면 기록 전체를 다시 읽습니다.
+ *   같은 노드로 이어지는 대화는 버전 확인 한 번으로 끝나고, 어느 노드로 가도 최신 기록으로 대화를 이어갑니다.
+ * - 기록할 때는 캐시의 버전을 기대값으로 조건부 기록하고, 그 사이 다른 노드가 기록했으면(같은 세션 동시 요청)
+ *   나중 기록을 남기고 경고를 남깁니다.
+ * - 세션 기록은 ttl 동안 쓰이지 않으면 원격 저장소에서 만료됩니다.
+ */
+@Slf4j
+public class DistributedChatMemoryStore implements ChatMemoryStore {
+
+    private final ChatMemoryBackend backend;
+    private final Duration ttl;
+    private final TravelMetrics travelMetrics;
+    private final Map<String, Near> nearCache;
+
+    public DistributedChatMemoryStore(ChatMemoryBackend backend, Duration ttl, int nearCacheSize,
+                                      TravelMetrics travelMetrics) {
+        this.backend = backend;
+        this.ttl = ttl;
+        this.travelMetrics = travelMetrics;
+        this.nearCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Near> eldest) {
+                return size() > nearCacheSize;
+            }
+        });
+        travelMetrics.gaugeCacheSize("chat-memory-near", nearCache);
+    }
+
+    @Override
+    public List<ChatMessage> getMessages(Object memoryId) {
+        return new ArrayList<>(current(String.valueOf(memoryId)).messages());
+    }
+
+    @Override
+    public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+        String id = String.valueOf(memoryId);
+        Near near = nearCache.get(id);
+        long expected = near != null ? near.version() : backend.version(id);
+        String payload = ChatMessageSerializer.messagesToJson(messages);
+
+        long version = backend.store(id, expected, payload, ttl);
+        if (version < 0) {
+            log.warn("다른 노드가 먼저 기록한 세션, 이번 기록으로 덮어씀: {}", id);
+            version = backend.store(id, backend.version(id), payload, ttl);
+        }
+        if (version < 0) {
+            // 덮어쓰는 사이에도 바뀌었으면 캐시를 비워 다음 접근 때 원격 기록을 읽음
+            nearCache.remove(id);
+            return;
+        }
+        nearCache.put(id, new Near(version, List.copyOf(messages)));
+    }
+
+    @Override
+    public void deleteMessages(Object memoryId) {
+        String id = String.valueOf(memoryId);
+        backend.delete(id);
+        nearCache.remove(id);
+    }
+
+    private Near current(String id) {
+        Near near = nearCache.get(id);
+        if (near != null && near.version() == backend.version(id)) {
+            travelMetrics.recordCacheHit("chat-memory-near");
+            return near;
+        }
+        travelMetrics.recordCacheMiss("chat-memory-near");
+        ChatMemoryBackend.Entry entry = backend.load(id);
+        Near loaded = entry != null
+                ? new Near(entry.version(), List.copyOf(ChatMessageDeserializer.messagesFromJson(entry.payload())))
+                : new Near(0, List.of());
+        nearCache.put(id, loaded);
+        return loaded;
+    }
+
+    private record Near(long version, List<ChatMessage> messages) {
+    }
+}
@@ -0,0 +1,283 @@
+package com.yd.travelbot.global.memory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageDeserializer;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션별 대화 기록을 로컬 디스크에 추가 전용 로그로 보관하는 ChatMemoryStore
+ *
+ * - 세션마다 {directory}/{sha-256(sessionId)}.log 파일 하나를 쓰며, 한 줄이 레코드 하나입니다.
+ *   "+ {메시지}" 끝에 추가, "- {from} {count}" 구간 삭제(윈도 밖으로 밀려난 메시지), "= [{메시지}...]" 전체 교체
+ * - 메모리 윈도가 바뀔 때마다 직전 상태와 비교해 바뀐 부분만 덧붙이고, 레코드가 compactionThreshold를 넘으면
+ *   현재 메시지만 담은 "=" 한 줄로 다시 씁니다. (임시 파일에 쓴 뒤 원자적으로 교체)
+ * - 힙에는 최근 사용한 maxResidentSessions개 세션만 올려 두고, 내려간 세션은 다음 접근 때 로그를 재생해 복원합니다.
+ *   재시작 후에도 같은 방식으로 첫 접근 때 복원되므로 기동 시 로그를 읽지 않습니다.
+ * - 기록 중 종료되어 마지막 줄이 깨졌으면 읽을 수 있는 곳까지 복원하고, 다음 기록 때 전체를 다시 씁니다.
+ */
+@Slf4j
+public class FileChatMemoryStore implements ChatMemoryStore {
+
+    static final String SUFFIX = ".log";
+    private static final String APPEND = "+ ";
+    private static final String REMOVE = "- ";
+    private static final String REPLACE = "= ";
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path directory;
+    private final int compactionThreshold;
+    private final OpenOption[] appendOptions;
+    private final TravelMetrics travelMetrics;
+    private final Map<String, Session> resident;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public FileChatMemoryStore(Path directory, int maxResidentSessions, int compactionThreshold, boolean sync,
+                               TravelMetrics travelMetrics) {
+        this.directory = directory;
+        this.compactionThreshold = compactionThreshold;
+        this.appendOptions = sync
+                ? new OpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC}
+                : new OpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.APPEND};
+        this.travelMetrics = travelMetrics;
+        this.resident = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Session> eldest) {
+                return size() > maxResidentSessions;
+            }
+        });
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("대화 기록 디렉터리 생성 실패: " + directory, e);
+        }
+        travelMetrics.gaugeCacheSize("chat-memory", resident);
+    }
+
+    @Override
+    public List<ChatMessage> getMessages(Object memoryId) {
+        String id = String.valueOf(memoryId);
+        synchronized (lock(id)) {
+            return new ArrayList<>(session(id).messages);
+        }
+    }
+
+    @Override
+    public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+        String id = String.valueOf(memoryId);
+        synchronized (lock(id)) {
+            Session session = session(id);
+            List<String> records = diff(session.messages, messages);
+            if (records.isEmpty() && !session.damaged) {
+                return;
+            }
+            try {
+                if (session.damaged || session.records + records.size() > compactionThreshold) {
+                    rewrite(id, messages);
+                    session.records = 1;
+                    session.damaged = false;
+                } else {
+                    Files.write(file(id), records, StandardCharsets.UTF_8, appendOptions);
+                    session.records += records.size();
+                }
+            } catch (IOException e) {
+                // 디스크 기록에 실패해도 대화는 이어가고, 다음 기록 때 전체를 다시 씀
+                log.error("대화 기록 저장 실패 ({}): {}", id, e.getMessage());
+                session.damaged = true;
+            }
+            session.messages = List.copyOf(messages);
+        }
+    }
+
+    @Override
+    public void deleteMessages(Object memoryId) {
+        String id = String.valueOf(memoryId);
+        synchronized (lock(id)) {
+            resident.remove(id);
+            try {
+                Files.deleteIfExists(file(id));
+            } catch (IOException e) {
+                log.error("대화 기록 삭제 실패 ({}): {}", id, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 마지막 기록이 retention보다 오래된 세션 로그를 삭제하고 삭제한 수를 반환합니다.
+     */
+    public int purgeOlderThan(Duration retention, Clock clock) {
+        Instant cutoff = clock.instant().minus(retention);
+        int purged = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (!file.getFileName().toString().endsWith(SUFFIX)) {
+                    continue;
+                }
+                try {
+                    FileTime modified = Files.getLastModifiedTime(file);
+                    if (modified.toInstant().isBefore(cutoff) && Files.deleteIfExists(file)) {
+                        purged++;
+                    }
+                } catch (IOException e) {
+                    log.warn("오래된 대화 기록 삭제 실패 ({}): {}", file.getFileName(), e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("대화 기록 디렉터리 조회 실패: {}", e.getMessage());
+        }
+        return purged;
+    }
+
+    /**
+     * 직전 메시지 목록에서 새 목록으로 가는 레코드 (공통 앞부분 뒤를 가장 적게 지우고 나머지를 덧붙임)
+     *
+     * MessageWindowChatMemory는 시스템 메시지를 맨 앞에 두고 그 다음 메시지부터 밀어내므로,
+     * 대부분의 갱신은 "- 1 n" 한 줄과 "+" 몇 줄로 표현됩니다.
+     */
+    static List<String> diff(List<ChatMessage> previous, List<ChatMessage> current) {
+        int prefix = 0;
+        while (prefix < previous.size() && prefix < current.size()
+                && previous.get(prefix).equals(current.get(prefix))) {
+            prefix++;
+        }
+        int remaining = previous.size() - prefix;
+        for (int removed = 0; removed <= remaining; removed++) {
+            int kept = remaining - removed;
+            if (prefix + kept > current.size()
+                    || !previous.subList(prefix + removed, previous.size())
+                            .equals(current.subList(prefix, prefix + kept))) {
+                continue;
+            }
+            List<String> records = new ArrayList<>();
+            if (removed > 0) {
+                records.add(REMOVE + prefix + " " + removed);
+            }
+            for (ChatMessage message : current.subList(prefix + kept, current.size())) {
+                records.add(APPEND + ChatMessageSerializer.messageToJson(message));
+            }
+            return records;
+        }
+        throw new IllegalStateException("도달하지 않음: 공통 앞부분 뒤를 모두 지우면 항상 일치");
+    }
+
+    private Session session(String id) {
+        Session session = resident.get(id);
+        if (session != null) {
+            travelMetrics.recordCacheHit("chat-memory");
+            return session;
+        }
+        travelMetrics.recordCacheMiss("chat-memory");
+        session = load(id);
+        resident.put(id, session);
+        return session;
+    }
+
+    /**
+     * 세션 로그를 처음부터 재생해 현재 메시지 목록을 복원합니다.
+     */
+    private Session load(String id) {
+        Session session = new Session();
+        List<ChatMessage> messages = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file(id), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!apply(messages, line)) {
+                    log.warn("대화 기록의 손상된 레코드 이후는 무시 ({}: {}번째 줄)", id, session.records + 1);
+                    session.damaged = true;
+                    break;
+                }
+                session.records++;
+            }
+        } catch (NoSuchFileException e) {
+            // 새 세션
+        } catch (IOException e) {
+            log.error("대화 기록 읽기 실패 ({}): {}", id, e.getMessage());
+            session.damaged = true;
+        }
+        session.messages = List.copyOf(messages);
+        return session;
+    }
+
+    private static boolean apply(List<ChatMessage> messages, String line) {
+        try {
+            if (line.startsWith(APPEND)) {
+                messages.add(ChatMessageDeserializer.messageFromJson(line.substring(APPEND.length())));
+            } else if (line.startsWith(REMOVE)) {
+                String[] range = line.substring(REMOVE.length()).split(" ");
+                int from = Integer.parseInt(range[0]);
+                int count = Integer.parseInt(range[1]);
+                messages.subList(from, from + count).clear();
+            } else if (line.startsWith(REPLACE)) {
+                messages.clear();
+                messages.addAll(ChatMessageDeserializer.messagesFromJson(line.substring(REPLACE.length())));
+            } else {
+                return false;
+            }
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void rewrite(String id, List<ChatMessage> messages) throws IOException {
+        Path file = file(id);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(temp, REPLACE + ChatMessageSerializer.messagesToJson(messages) + System.lineSeparator(),
+                StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 세션 ID는 사용자 입력이므로 그대로 파일명에 쓰지 않고 해시를 사용
+     */
+    Path file(String id) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(id.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(hash) + SUFFIX);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Object lock(String id) {
+        return locks[Math.floorMod(id.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static final class Session {
+        private List<ChatMessage> messages = List.of();
+        // 로그 파일의 레코드 수 (다시 쓰기 기준)
+        private int records;
+        // 로그가 메모리 상태와 다를 수 있음 (손상된 레코드, 기록 실패) - 다음 기록 때 전체를 다시 씀
+        private boolean damaged;
+    }
+}
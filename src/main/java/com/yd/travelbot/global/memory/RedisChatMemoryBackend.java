@@ -0,0 +1,78 @@
+package com.yd.travelbot.global.memory;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Redis 해시 하나에 세션의 버전(v)과 기록(m)을 보관하는 ChatMemoryBackend
+ *
+ * 버전 비교와 기록, 만료 갱신은 Lua 스크립트 한 번으로 원자적으로 처리합니다.
+ * 새 버전은 세션 키가 아닌 전역 카운터 키(접두사 + "version-seq")에서 INCR로 받아, 세션 키가 지워지거나 만료돼도
+ * 이전 버전 번호가 다시 쓰이지 않습니다.
+ */
+public class RedisChatMemoryBackend implements ChatMemoryBackend {
+
+    private static final String VERSION = "v";
+    private static final String MESSAGES = "m";
+    private static final String VERSION_SEQUENCE = "version-seq";
+
+    private static final RedisScript<Long> STORE = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('HGET', KEYS[1], 'v') or '0')
+            if current ~= tonumber(ARGV[1]) then
+              return -1
+            end
+            local next = redis.call('INCR', KEYS[2])
+            redis.call('HSET', KEYS[1], 'v', next, 'm', ARGV[2])
+            if tonumber(ARGV[3]) > 0 then
+              redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            else
+              redis.call('PERSIST', KEYS[1])
+            end
+            return next
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final String keyPrefix;
+    private final String versionKey;
+
+    public RedisChatMemoryBackend(StringRedisTemplate redis, String keyPrefix) {
+        this.redis = redis;
+        this.keyPrefix = keyPrefix;
+        this.versionKey = keyPrefix + VERSION_SEQUENCE;
+    }
+
+    @Override
+    public long version(String sessionId) {
+        Object version = redis.opsForHash().get(key(sessionId), VERSION);
+        return version != null ? Long.parseLong(version.toString()) : 0;
+    }
+
+    @Override
+    public Entry load(String sessionId) {
+        List<Object> values = redis.opsForHash().multiGet(key(sessionId), List.of(VERSION, MESSAGES));
+        if (values.get(0) == null || values.get(1) == null) {
+            return null;
+        }
+        return new Entry(Long.parseLong(values.get(0).toString()), values.get(1).toString());
+    }
+
+    @Override
+    public long store(String sessionId, long expectedVersion, String payload, Duration ttl) {
+        Long version = redis.execute(STORE, List.of(key(sessionId), versionKey),
+                Long.toString(expectedVersion), payload, Long.toString(ttl.toMillis()));
+        return version != null ? version : -1;
+    }
+
+    @Override
+    public void delete(String sessionId) {
+        redis.delete(key(sessionId));
+    }
+
+    private String key(String sessionId) {
+        return keyPrefix + sessionId;
+    }
+}
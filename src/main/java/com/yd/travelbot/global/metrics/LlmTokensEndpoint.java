@@ -0,0 +1,80 @@
+package com.yd.travelbot.global.metrics;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.yd.travelbot.global.llm.TokenUsageSummary;
+import com.yd.travelbot.global.llm.TokenUsageTracker;
+
+/**
+ * 토큰 사용량 보고서 (/actuator/llmtokens)
+ *
+ * - GET /actuator/llmtokens?limit=10    호출 지점별 누계와 토큰을 많이 쓴 상위 세션
+ * - GET /actuator/llmtokens/{sessionHash} 세션 하나의 누계 (호출 지점별 내역 포함)
+ *
+ * 세션 ID를 알면 누구나 그 대화를 이어갈 수 있으므로 세션은 SHA-256 앞 12자리(sessionHash)로만 보여 줍니다.
+ * 인증이 없으므로 기본 설정에서는 웹으로 노출하지 않습니다. (application.yml의 management.endpoints.web.exposure)
+ */
+@Component
+@Endpoint(id = "llmtokens")
+public class LlmTokensEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int HASH_CHARS = 12;
+
+    private final TokenUsageTracker tokenUsageTracker;
+
+    public LlmTokensEndpoint(TokenUsageTracker tokenUsageTracker) {
+        this.tokenUsageTracker = tokenUsageTracker;
+    }
+
+    @ReadOperation
+    public Map<String, Object> report(@Nullable Integer limit) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("sessionBudget", tokenUsageTracker.getSessionBudget());
+        report.put("callSites", tokenUsageTracker.callSites());
+        report.put("topSessions", tokenUsageTracker.topSessions(limit != null ? limit : DEFAULT_LIMIT).stream()
+                .map(LlmTokensEndpoint::hashed)
+                .toList());
+        return report;
+    }
+
+    /**
+     * 보고서의 sessionHash로 찾은 세션 하나 (없으면 null)
+     */
+    @ReadOperation
+    public TokenUsageSummary session(@Selector String sessionHash) {
+        List<TokenUsageSummary> sessions = tokenUsageTracker.topSessions(Integer.MAX_VALUE);
+        for (TokenUsageSummary summary : sessions) {
+            if (hash(summary.id()).equals(sessionHash)) {
+                return hashed(summary);
+            }
+        }
+        return null;
+    }
+
+    static String hash(String sessionId) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sessionId.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest).substring(0, HASH_CHARS);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static TokenUsageSummary hashed(TokenUsageSummary summary) {
+        return new TokenUsageSummary(hash(summary.id()), summary.inputTokens(), summary.outputTokens(),
+                summary.calls(), summary.tokensByCallSite(), summary.lastUsedAt());
+    }
+}
@@ -0,0 +1,61 @@
+package com.yd.travelbot.global.metrics;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * 모델 호출 시간을 travelbot.llm.calls 로 기록하는 래퍼
+ * 게이트웨이 안쪽(원본 모델 바로 바깥)에 두어 대기열 대기 시간은 포함하지 않습니다.
+ */
+final class TimedChatModel implements ChatLanguageModel {
+
+    private final ChatLanguageModel delegate;
+    private final String tier;
+    private final TravelMetrics metrics;
+
+    TimedChatModel(ChatLanguageModel delegate, String tier, TravelMetrics metrics) {
+        this.delegate = delegate;
+        this.tier = tier;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        return timed(() -> delegate.generate(messages));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        return timed(() -> delegate.generate(messages, toolSpecifications));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        return timed(() -> delegate.generate(messages, toolSpecification));
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+
+    private Response<AiMessage> timed(Supplier<Response<AiMessage>> call) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Response<AiMessage> response = call.get();
+            success = true;
+            return response;
+        } finally {
+            metrics.recordLlmCall(tier, System.nanoTime() - start, success);
+        }
+    }
+}
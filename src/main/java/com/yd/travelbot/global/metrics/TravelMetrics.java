@@ -0,0 +1,191 @@
+package com.yd.travelbot.global.metrics;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 대화/툴/LLM/외부 API 계층의 Micrometer 지표
+ *
+ * 지표 이름은 모두 travelbot. 으로 시작하며 /actuator/prometheus 에서 확인할 수 있습니다.
+ * - travelbot.chat.turn            대화 한 턴 처리 시간 (outcome)
+ * - travelbot.tool.calls           툴 호출 시간 (tool, outcome)
+ * - travelbot.llm.calls            모델 호출 시간 (tier, outcome)
+ * - travelbot.llm.retries          ChatService의 LLM 재시도 횟수 (operation, reason)
+ * - travelbot.llm.tokens           모델 호출 토큰 수 누계 (call_site, tier, type=input|output)
+ * - travelbot.llm.prompt.tokens    호출 한 번의 입력 토큰 수 분포 (call_site)
+ * - travelbot.upstream.requests    외부 API 호출 시간, 응답 헤더 수신까지 (upstream, endpoint, status)
+ * - travelbot.upstream.response.bytes  외부 API 응답 크기 (upstream, endpoint)
+ * - travelbot.fallback             기본 데이터로 대체한 횟수 (source)
+ * - travelbot.last_known_good      외부 API 실패/지연 시 마지막 정상 결과 사용 (source, result=served|early|missing)
+ * - travelbot.cache.requests       캐시 조회 결과 (cache, result=hit|miss)
+ * - travelbot.cache.size           캐시 크기 (cache)
+ *
+ * 기록 메서드는 모두 void라 단위 테스트에서 목으로 대체해도 호출 흐름이 바뀌지 않습니다.
+ */
+@Component
+public class TravelMetrics {
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+
+    private final MeterRegistry registry;
+
+    public TravelMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void recordChatTurn(long nanos, boolean success) {
+        Timer.builder("travelbot.chat.turn")
+                .description("대화 한 턴 처리 시간")
+                .tag("outcome", outcome(success))
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTool(String tool, long nanos, boolean success) {
+        Timer.builder("travelbot.tool.calls")
+                .description("툴 호출 시간")
+                .tag("tool", tool)
+                .tag("outcome", outcome(success))
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLlmCall(String tier, long nanos, boolean success) {
+        Timer.builder("travelbot.llm.calls")
+                .description("모델 호출 시간")
+                .tag("tier", tier)
+                .tag("outcome", outcome(success))
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLlmRetry(String operation, String reason) {
+        Counter.builder("travelbot.llm.retries")
+                .description("LLM 재시도 횟수")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * 모델 호출 한 번의 토큰 사용량 (호출 지점별 프롬프트 크기 분포 포함)
+     */
+    public void recordLlmTokens(String callSite, String tier, long inputTokens, long outputTokens) {
+        tokenCounter(callSite, tier, "input").increment(inputTokens);
+        tokenCounter(callSite, tier, "output").increment(outputTokens);
+        DistributionSummary.builder("travelbot.llm.prompt.tokens")
+                .description("호출 한 번의 입력 토큰 수")
+                .baseUnit("tokens")
+                .tag("call_site", callSite)
+                .register(registry)
+                .record(inputTokens);
+    }
+
+    public void recordUpstream(String upstream, String endpoint, String status, long nanos) {
+        Timer.builder("travelbot.upstream.requests")
+                .description("외부 API 호출 시간 (응답 헤더 수신까지)")
+                .tag("upstream", upstream)
+                .tag("endpoint", endpoint)
+                .tag("status", status)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUpstreamBytes(String upstream, String endpoint, long bytes) {
+        DistributionSummary.builder("travelbot.upstream.response.bytes")
+                .description("외부 API 응답 크기")
+                .baseUnit("bytes")
+                .tag("upstream", upstream)
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .record(bytes);
+    }
+
+    /**
+     * 외부 API 실패 등으로 기본(하드코딩) 데이터를 돌려준 경우
+     */
+    public void recordFallback(String source) {
+        Counter.builder("travelbot.fallback")
+                .description("기본 데이터로 대체한 횟수")
+                .tag("source", source)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * 외부 API 실패/지연 시 마지막 정상 결과로 대신한 경우 (missing은 보관된 결과도 없었던 경우)
+     */
+    public void recordLastKnownGood(String source, String result) {
+        Counter.builder("travelbot.last_known_good")
+                .description("마지막 정상 결과로 대신한 횟수")
+                .tag("source", source)
+                .tag("result", result)
+                .register(registry)
+                .increment();
+    }
+
+    public void recordCacheHit(String cache) {
+        cacheCounter(cache, "hit").increment();
+    }
+
+    public void recordCacheMiss(String cache) {
+        cacheCounter(cache, "miss").increment();
+    }
+
+    /**
+     * 보관된 값은 없었지만 진행 중인 같은 조회를 함께 기다린 요청
+     */
+    public void recordCacheShared(String cache) {
+        cacheCounter(cache, "shared").increment();
+    }
+
+    /**
+     * 캐시 크기 게이지 등록 (맵은 약한 참조로 보관되므로 소유 객체와 수명이 같습니다)
+     */
+    public void gaugeCacheSize(String cache, Map<?, ?> map) {
+        Gauge.builder("travelbot.cache.size", map, Map::size)
+                .description("캐시 크기")
+                .tag("cache", cache)
+                .register(registry);
+    }
+
+    /**
+     * 원본 모델 호출 시간을 tier 태그로 기록하도록 감쌉니다.
+     */
+    public ChatLanguageModel timed(ChatLanguageModel delegate, String tier) {
+        return new TimedChatModel(delegate, tier, this);
+    }
+
+    private Counter tokenCounter(String callSite, String tier, String type) {
+        return Counter.builder("travelbot.llm.tokens")
+                .description("모델 호출 토큰 수")
+                .baseUnit("tokens")
+                .tag("call_site", callSite)
+                .tag("tier", tier)
+                .tag("type", type)
+                .register(registry);
+    }
+
+    private Counter cacheCounter(String cache, String result) {
+        return Counter.builder("travelbot.cache.requests")
+                .description("캐시 조회 결과")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static String outcome(boolean success) {
+        return success ? SUCCESS : ERROR;
+    }
+}
@@ -0,0 +1,117 @@
+package com.yd.travelbot.global.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+
+import com.yd.travelbot.global.external.UpstreamNames;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+/**
+ * 외부 API 호출마다 지연 시간/상태 코드/응답 크기를 기록하는 OkHttp 인터셉터
+ *
+ * upstream 태그는 설정된 기본 주소(호스트:포트)로 판별하므로, 기본 주소를 스텁으로 바꿔도 같은 이름으로 집계됩니다.
+ * 응답 크기는 Content-Length가 있으면 그 값을, 없으면(chunked) 실제로 읽은 바이트 수를 본문을 닫을 때 기록합니다.
+ */
+public class UpstreamMetricsInterceptor implements Interceptor {
+
+    private static final String IO_ERROR = "IO_ERROR";
+
+    private final TravelMetrics metrics;
+    private final UpstreamNames upstreamNames;
+
+    public UpstreamMetricsInterceptor(TravelMetrics metrics, Map<String, String> baseUrlsByUpstream) {
+        this.metrics = metrics;
+        this.upstreamNames = new UpstreamNames(baseUrlsByUpstream);
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String upstream = upstreamNames.of(request.url());
+        String endpoint = request.url().encodedPath();
+
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            metrics.recordUpstream(upstream, endpoint, IO_ERROR, System.nanoTime() - start);
+            throw e;
+        }
+        metrics.recordUpstream(upstream, endpoint, String.valueOf(response.code()), System.nanoTime() - start);
+
+        ResponseBody body = response.body();
+        if (body == null) {
+            return response;
+        }
+        long contentLength = body.contentLength();
+        if (contentLength >= 0) {
+            metrics.recordUpstreamBytes(upstream, endpoint, contentLength);
+            return response;
+        }
+        return response.newBuilder()
+                .body(new CountingBody(body, bytes -> metrics.recordUpstreamBytes(upstream, endpoint, bytes)))
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface ByteCountListener {
+        void onClose(long bytes);
+    }
+
+    private static final class CountingBody extends ResponseBody {
+
+        private final ResponseBody delegate;
+        private final BufferedSource source;
+
+        private CountingBody(ResponseBody delegate, ByteCountListener listener) {
+            this.delegate = delegate;
+            this.source = Okio.buffer(new ForwardingSource(delegate.source()) {
+                private long bytes;
+                private boolean reported;
+
+                @Override
+                public long read(Buffer sink, long byteCount) throws IOException {
+                    long read = super.read(sink, byteCount);
+                    if (read > 0) {
+                        bytes += read;
+                    }
+                    return read;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    if (!reported) {
+                        reported = true;
+                        listener.onClose(bytes);
+                    }
+                    super.close();
+                }
+            });
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return -1L;
+        }
+
+        @Override
+        public BufferedSource source() {
+            return source;
+        }
+    }
+}
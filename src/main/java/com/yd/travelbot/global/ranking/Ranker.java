@@ -0,0 +1,98 @@
+package com.yd.travelbot.global.ranking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 가중치를 곱한 특성 점수의 합으로 후보 중 상위 k개를 고르는 순위기
+ *
+ * - 전체를 정렬하지 않고 크기 k의 최소 힙만 유지하므로 후보 n개에 O(n log k)입니다.
+ * - 점수가 같으면 원래 순서(외부 API 응답 순서)가 앞선 쪽을 앞에 둡니다.
+ * - 가중치가 0 이하인 특성은 등록하지 않습니다.
+ */
+public final class Ranker<T> {
+
+    private static final Comparator<Scored<?>> WORST_FIRST = Comparator.<Scored<?>>comparingDouble(Scored::score)
+            .thenComparing(Comparator.<Scored<?>>comparingInt(Scored::index).reversed());
+
+    private final List<Weighted<T>> features;
+
+    private record Weighted<T>(double weight, RankingFeature<T> feature) {
+    }
+
+    private record Scored<T>(T item, double score, int index) {
+    }
+
+    private Ranker(List<Weighted<T>> features) {
+        this.features = List.copyOf(features);
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 점수가 높은 순으로 최대 k개 (후보가 k개 이하여도 점수 순으로 정렬해 반환)
+     */
+    public List<T> top(List<? extends T> candidates, int k) {
+        if (candidates == null || candidates.isEmpty() || k <= 0) {
+            return List.of();
+        }
+        if (features.isEmpty()) {
+            return List.copyOf(candidates.subList(0, Math.min(k, candidates.size())));
+        }
+        List<Weighted<T>> prepared = new ArrayList<>(features.size());
+        for (Weighted<T> weighted : features) {
+            prepared.add(new Weighted<>(weighted.weight(), weighted.feature().prepare(candidates)));
+        }
+
+        PriorityQueue<Scored<T>> heap = new PriorityQueue<>(Math.min(k, candidates.size()) + 1, WORST_FIRST);
+        int index = 0;
+        for (T item : candidates) {
+            Scored<T> scored = new Scored<>(item, score(prepared, item), index++);
+            if (heap.size() < k) {
+                heap.add(scored);
+            } else if (WORST_FIRST.compare(scored, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(scored);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        T[] ranked = (T[]) new Object[heap.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = heap.poll().item();
+        }
+        return Arrays.asList(ranked);
+    }
+
+    private static <T> double score(List<Weighted<T>> prepared, T item) {
+        double total = 0;
+        for (Weighted<T> weighted : prepared) {
+            total += weighted.weight() * weighted.feature().score(item);
+        }
+        return total;
+    }
+
+    public static final class Builder<T> {
+
+        private final List<Weighted<T>> features = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder<T> feature(double weight, RankingFeature<T> feature) {
+            if (weight > 0 && feature != null) {
+                features.add(new Weighted<>(weight, feature));
+            }
+            return this;
+        }
+
+        public Ranker<T> build() {
+            return new Ranker<>(features);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.yd.travelbot.global.ranking;
+
+import java.util.List;
+
+/**
+ * 검색 결과 하나의 순위 특성 점수 (0~1, 클수록 앞)
+ *
+ * 후보 전체를 본 뒤에야 기준이 정해지는 특성(가격 범위, 후보 좌표의 중앙값 등)은 prepare에서 기준을 잡은 특성을 돌려줍니다.
+ */
+@FunctionalInterface
+public interface RankingFeature<T> {
+
+    // 값을 알 수 없을 때의 점수
+    double NEUTRAL = 0.5;
+
+    double score(T item);
+
+    default RankingFeature<T> prepare(List<? extends T> candidates) {
+        return this;
+    }
+}
@@ -0,0 +1,189 @@
+package com.yd.travelbot.global.ranking;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 검색 결과에 공통으로 쓰는 순위 특성
+ *
+ * - distance: 기준 좌표와의 거리 (기준 좌표가 없으면 후보 좌표의 중앙값, 좌표가 없는 후보는 0점)
+ * - rating: 평점 / 5 (없으면 NEUTRAL)
+ * - lowerPrice: 후보 가격 범위 안에서 저렴할수록 1에 가까움 (없거나 0 이하면 NEUTRAL)
+ * - matches: 요청한 요리 종류/카테고리가 후보의 분류 코드나 이름에 들어 있으면 1 (한국어 요청어는 Geoapify 분류어로도 찾음)
+ */
+public final class RankingFeatures {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    // 한국어 요청어 → Geoapify 분류 코드에 쓰이는 단어
+    static final Map<String, List<String>> CATEGORY_TERMS = Map.ofEntries(
+            Map.entry("한식", List.of("korean")),
+            Map.entry("중식", List.of("chinese")),
+            Map.entry("일식", List.of("japanese", "sushi", "ramen", "udon", "tempura", "tonkatsu", "yakiniku")),
+            Map.entry("양식", List.of("italian", "french", "european", "american", "pizza", "steak_house")),
+            Map.entry("카페", List.of("cafe", "coffee")),
+            Map.entry("박물관", List.of("museum")),
+            Map.entry("미술관", List.of("gallery", "arts_centre")),
+            Map.entry("공원", List.of("leisure.park", "garden")),
+            Map.entry("해변", List.of("beach")),
+            Map.entry("사찰", List.of("place_of_worship", "temple")),
+            Map.entry("궁궐", List.of("castle", "palace")));
+
+    private RankingFeatures() {
+    }
+
+    public static <T> RankingFeature<T> distance(Function<T, Double> latitude, Function<T, Double> longitude,
+                                                 Double centerLatitude, Double centerLongitude, double halfScoreKm) {
+        return new RankingFeature<>() {
+            @Override
+            public double score(T item) {
+                return NEUTRAL;
+            }
+
+            @Override
+            public RankingFeature<T> prepare(List<? extends T> candidates) {
+                double[] center = centerLatitude != null && centerLongitude != null
+                        ? new double[]{centerLatitude, centerLongitude}
+                        : medianCoordinates(candidates, latitude, longitude);
+                if (center == null) {
+                    return this;
+                }
+                double half = halfScoreKm > 0 ? halfScoreKm : 1.0;
+                return item -> {
+                    Double lat = latitude.apply(item);
+                    Double lon = longitude.apply(item);
+                    if (lat == null || lon == null) {
+                        return 0;
+                    }
+                    return 1.0 / (1.0 + distanceKm(center[0], center[1], lat, lon) / half);
+                };
+            }
+        };
+    }
+
+    public static <T> RankingFeature<T> rating(Function<T, Double> rating) {
+        return item -> {
+            Double value = rating.apply(item);
+            if (value == null) {
+                return RankingFeature.NEUTRAL;
+            }
+            return Math.max(0, Math.min(1, value / 5.0));
+        };
+    }
+
+    public static <T> RankingFeature<T> lowerPrice(Function<T, BigDecimal> price) {
+        return new RankingFeature<>() {
+            @Override
+            public double score(T item) {
+                return NEUTRAL;
+            }
+
+            @Override
+            public RankingFeature<T> prepare(List<? extends T> candidates) {
+                double min = Double.MAX_VALUE;
+                double max = 0;
+                for (T candidate : candidates) {
+                    BigDecimal value = price.apply(candidate);
+                    if (value != null && value.signum() > 0) {
+                        min = Math.min(min, value.doubleValue());
+                        max = Math.max(max, value.doubleValue());
+                    }
+                }
+                if (max == 0) {
+                    return this;
+                }
+                double low = min;
+                double range = max - min;
+                return item -> {
+                    BigDecimal value = price.apply(item);
+                    if (value == null || value.signum() <= 0) {
+                        return NEUTRAL;
+                    }
+                    return range > 0 ? 1.0 - (value.doubleValue() - low) / range : 1.0;
+                };
+            }
+        };
+    }
+
+    /**
+     * wanted가 비어 있으면 모든 후보가 0점이므로 순위에 영향이 없습니다.
+     */
+    @SafeVarargs
+    public static <T> RankingFeature<T> matches(String wanted, Function<T, ? extends Iterable<String>>... texts) {
+        List<String> terms = terms(wanted);
+        if (terms.isEmpty()) {
+            return item -> 0;
+        }
+        return item -> {
+            for (Function<T, ? extends Iterable<String>> text : texts) {
+                Iterable<String> values = text.apply(item);
+                if (values == null) {
+                    continue;
+                }
+                for (String value : values) {
+                    if (value != null && containsAny(value.toLowerCase(Locale.ROOT), terms)) {
+                        return 1;
+                    }
+                }
+            }
+            return 0;
+        };
+    }
+
+    /**
+     * 두 좌표 사이의 대권 거리 (km, haversine)
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    static List<String> terms(String wanted) {
+        if (wanted == null || wanted.isBlank()) {
+            return List.of();
+        }
+        String normalized = wanted.trim().toLowerCase(Locale.ROOT);
+        List<String> terms = new ArrayList<>();
+        terms.add(normalized);
+        terms.addAll(CATEGORY_TERMS.getOrDefault(normalized, List.of()));
+        return terms;
+    }
+
+    private static boolean containsAny(String value, List<String> terms) {
+        for (String term : terms) {
+            if (value.contains(term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> double[] medianCoordinates(List<? extends T> candidates, Function<T, Double> latitude,
+                                                  Function<T, Double> longitude) {
+        List<Double> lats = new ArrayList<>(candidates.size());
+        List<Double> lons = new ArrayList<>(candidates.size());
+        for (T candidate : candidates) {
+            Double lat = latitude.apply(candidate);
+            Double lon = longitude.apply(candidate);
+            if (lat != null && lon != null) {
+                lats.add(lat);
+                lons.add(lon);
+            }
+        }
+        if (lats.isEmpty()) {
+            return null;
+        }
+        Collections.sort(lats);
+        Collections.sort(lons);
+        return new double[]{lats.get(lats.size() / 2), lons.get(lons.size() / 2)};
+    }
+}
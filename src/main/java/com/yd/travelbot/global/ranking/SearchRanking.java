@@ -0,0 +1,68 @@
+package com.yd.travelbot.global.ranking;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.yd.travelbot.global.config.RankingConfig;
+
+/**
+ * 음식점/관광지/숙소 검색 결과에 같은 기준으로 순위를 매겨 상위 ranking.top-k개를 고르는 단계
+ *
+ * 도메인마다 Fields로 좌표/평점/가격/분류를 꺼내는 방법만 알려 주면, 거리·평점·가격·카테고리 일치 점수에
+ * RankingConfig의 가중치를 곱해 Ranker로 고릅니다. 도메인에 없는 필드(숙소의 분류 등)는 null로 두면 그 특성을 건너뜁니다.
+ */
+@Component
+public class SearchRanking {
+
+    private final RankingConfig rankingConfig;
+
+    /**
+     * 순위 특성에 쓸 필드 (없는 필드는 null)
+     */
+    public record Fields<T>(
+            Function<T, Double> latitude,
+            Function<T, Double> longitude,
+            Function<T, Double> rating,
+            Function<T, BigDecimal> price,
+            Function<T, List<String>> categories,
+            Function<T, String> name) {
+    }
+
+    public SearchRanking(RankingConfig rankingConfig) {
+        this.rankingConfig = rankingConfig;
+    }
+
+    /**
+     * @param centerLatitude  거리 기준 좌표 (null이면 후보 좌표의 중앙값)
+     * @param category        요청한 요리 종류/카테고리 (null이면 카테고리 일치 점수 없음)
+     */
+    public <T> List<T> top(List<T> candidates, Fields<T> fields, Double centerLatitude, Double centerLongitude,
+                           String category) {
+        return ranker(fields, centerLatitude, centerLongitude, category).top(candidates, rankingConfig.getTopK());
+    }
+
+    <T> Ranker<T> ranker(Fields<T> fields, Double centerLatitude, Double centerLongitude, String category) {
+        Ranker.Builder<T> builder = Ranker.builder();
+        if (fields.latitude() != null && fields.longitude() != null) {
+            builder.feature(rankingConfig.getDistanceWeight(), RankingFeatures.distance(fields.latitude(),
+                    fields.longitude(), centerLatitude, centerLongitude, rankingConfig.getDistanceHalfScoreKm()));
+        }
+        if (fields.rating() != null) {
+            builder.feature(rankingConfig.getRatingWeight(), RankingFeatures.rating(fields.rating()));
+        }
+        if (fields.price() != null) {
+            builder.feature(rankingConfig.getPriceWeight(), RankingFeatures.lowerPrice(fields.price()));
+        }
+        if (category != null && !category.isBlank() && (fields.categories() != null || fields.name() != null)) {
+            Function<T, List<String>> categories = fields.categories() != null ? fields.categories() : item -> null;
+            Function<T, String> name = fields.name() != null ? fields.name() : item -> null;
+            builder.feature(rankingConfig.getCategoryWeight(), RankingFeatures.matches(category, categories,
+                    item -> Collections.singletonList(name.apply(item))));
+        }
+        return builder.build();
+    }
+}
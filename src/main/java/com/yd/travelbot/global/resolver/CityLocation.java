@@ -0,0 +1,39 @@
+package com.yd.travelbot.global.resolver;
+
+/**
+ * 해석한 도시 정보 (표준 영문명, 좌표, 국가 코드, IATA 도시 코드)
+ *
+ * 좌표와 IATA 코드는 서로 다른 API에서 채워지므로 아직 모르는 값은 null입니다.
+ */
+public record CityLocation(String name, Double longitude, Double latitude, String countryCode, String iataCode) {
+
+    public static CityLocation of(String name, double longitude, double latitude, String countryCode) {
+        return new CityLocation(name, longitude, latitude, countryCode, null);
+    }
+
+    public boolean hasCoordinates() {
+        return longitude != null && latitude != null;
+    }
+
+    /**
+     * GeoapifyCityResolver.resolveCoordinates 형식의 [lon, lat]
+     */
+    public Double[] coordinates() {
+        return hasCoordinates() ? new Double[]{longitude, latitude} : null;
+    }
+
+    /**
+     * 이미 아는 값은 두고 비어 있는 값만 other로 채운 결과
+     */
+    public CityLocation merge(CityLocation other) {
+        if (other == null) {
+            return this;
+        }
+        return new CityLocation(
+                name != null ? name : other.name,
+                hasCoordinates() ? longitude : other.longitude,
+                hasCoordinates() ? latitude : other.latitude,
+                countryCode != null ? countryCode : other.countryCode,
+                iataCode != null ? iataCode : other.iataCode);
+    }
+}
@@ -1,34 +1,99 @@
 package com.yd.travelbot.global.resolver;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.yd.travelbot.global.cache.TtlCache;
 import com.yd.travelbot.global.config.GeoapifyConfig;
+import com.yd.travelbot.global.config.LangChain4jConfig;
+import com.yd.travelbot.global.config.LookupCacheConfig;
+import com.yd.travelbot.global.external.AsyncCalls;
+import com.yd.travelbot.global.external.geoapify.GeoapifyPayloads;
+import com.yd.travelbot.global.llm.LlmCallContext;
+import com.yd.travelbot.global.logging.LogRedactor;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+import com.yd.travelbot.global.tracing.TravelTracing;
 import com.yd.travelbot.global.util.JsonUtil;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.model.chat.ChatLanguageModel;
-import lombok.RequiredArgsConstructor;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 도시 입력을 표준 영문명과 좌표로 해석
+ *
+ * - 도시명 정규화(경량 LLM)는 크기가 정해진 전용 스레드에서, 지오코딩은 AsyncCalls(OkHttp enqueue)로 호출하므로
+ *   resolveLocationAsync는 해석이 끝나기를 기다리지 않고 바로 future를 돌려줍니다.
+ *   정규화 스레드가 모두 바쁘고 대기열도 가득 차면 정규화를 건너뛰고 전처리한 입력으로 지오코딩합니다.
+ * - resolveLocation(동기)은 같은 경로를 기다리는 버전입니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class GeoapifyCityResolver {
 
-    private static final String GEOAPIFY_GEOCODE_API_BASE = "https://api.geoapify.com/v1/geocode/search";
+    private static final ObjectReader GEOCODE_READER = JsonUtil.readerFor(GeoapifyPayloads.GeocodeResponse.class);
+    // 정규화 전용 스레드 수와 대기열 (LLM 게이트웨이가 동시 호출을 다시 제한하므로 작게 둠)
+    private static final int NORMALIZE_THREADS = 4;
+    private static final int NORMALIZE_QUEUE_SIZE = 64;
 
     private final GeoapifyConfig geoapifyConfig;
+    // 정규화는 경량 티어 모델로, 백그라운드 우선순위로 게이트웨이를 통과 (포화 시 즉시 거절 → 전처리 결과 사용)
     private final ChatLanguageModel chatModel;
-    private final OkHttpClient http = new OkHttpClient();
+    private final OkHttpClient http;
+    // 정규화(LLM) + 지오코딩 결과를 입력/국가 힌트별로 보관 (찾지 못한 도시는 보관하지 않음)
+    private final TtlCache<String, CityLocation> coordinatesCache;
+    // 세션에서 한 번 해석한 도시는 힌트와 관계없이 다시 해석하지 않음
+    private final SessionLocationContext sessionLocations;
+    private final ThreadPoolExecutor normalizeWorkers;
+    // 호출한 쪽의 Context(시간 예산, 세션, 호출 위치)를 정규화 스레드로 넘김
+    private final Executor normalizeExecutor;
     
     // 안전 좌표 맵 (필요시 application.yml에서 주입 가능)
     private final Map<String, String> safeCoordsMap = Collections.emptyMap();
 
+    public GeoapifyCityResolver(GeoapifyConfig geoapifyConfig,
+                                @Qualifier(LangChain4jConfig.LIGHT_CHAT_MODEL) ChatLanguageModel chatModel,
+                                OkHttpClient http, LookupCacheConfig lookupCacheConfig, TravelMetrics travelMetrics,
+                                SessionLocationContext sessionLocations) {
+        this.geoapifyConfig = geoapifyConfig;
+        this.chatModel = chatModel;
+        this.http = http;
+        this.sessionLocations = sessionLocations;
+        this.coordinatesCache = new TtlCache<>("city", lookupCacheConfig.getCityTtl(),
+                lookupCacheConfig.getMaxEntries(), travelMetrics);
+        AtomicInteger counter = new AtomicInteger();
+        this.normalizeWorkers = new ThreadPoolExecutor(NORMALIZE_THREADS, NORMALIZE_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(NORMALIZE_QUEUE_SIZE), runnable -> {
+                    Thread thread = new Thread(runnable, "city-normalize-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.normalizeExecutor = Context.taskWrapping(normalizeWorkers);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        normalizeWorkers.shutdownNow();
+    }
+
     /**
      * Resolve city name to coordinates [lon, lat].
      * @param city raw city name (any language)
@@ -36,42 +101,131 @@ public class GeoapifyCityResolver {
      * @return Double[]{lon, lat} or null if not found
      */
     public Double[] resolveCoordinates(String city, String countryCode) {
-        if (city == null || city.isBlank()) return null;
-        String input = city.trim();
-        String preprocessed = preprocessCityInput(input);
+        CityLocation location = resolveLocation(city, countryCode);
+        return location != null ? location.coordinates() : null;
+    }
 
-        // 1) AI 번역/정규화: 약어/별칭/다국어 입력을 표준 영문 도시명으로
-        String normalized = translateCityName(preprocessed);
-        if (normalized == null || normalized.isBlank()) {
-            normalized = preprocessed;
+    /**
+     * resolveCoordinates의 비동기 버전 (찾지 못하면 null로 완료)
+     */
+    public CompletableFuture<Double[]> resolveCoordinatesAsync(String city, String countryCode) {
+        return resolveLocationAsync(city, countryCode)
+                .thenApply(location -> location != null ? location.coordinates() : null);
+    }
+
+    /**
+     * 도시의 표준 영문명, 좌표, 국가 코드 (찾지 못하면 null)
+     * 현재 세션에서 이미 해석한 도시면 정규화/지오코딩 없이 바로 반환하고, 새로 해석한 도시는 세션에 보관합니다.
+     */
+    public CityLocation resolveLocation(String city, String countryCode) {
+        try {
+            return resolveLocationAsync(city, countryCode).join();
+        } catch (CompletionException e) {
+            log.warn("도시 해석 실패: {} - {}", city, AsyncCalls.unwrap(e).getMessage());
+            return null;
         }
+    }
 
-        // 2) 1차 시도: 영문 표준명으로 Geoapify 호출
-        Double[] coord = callGeoapify(normalized, "en", countryCode);
-        if (coord != null) return coord;
+    /**
+     * resolveLocation의 비동기 버전: 호출한 스레드에서 정규화/지오코딩을 기다리지 않습니다. (찾지 못하면 null로 완료)
+     */
+    public CompletableFuture<CityLocation> resolveLocationAsync(String city, String countryCode) {
+        if (city == null || city.isBlank()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CityLocation known = sessionLocations.find(city);
+        if (known != null && known.hasCoordinates()) {
+            return CompletableFuture.completedFuture(known);
+        }
+        // 도시명 정규화(경량 LLM)와 지오코딩 호출을 한 span 아래로 묶음
+        Context context = Context.current();
+        Span span = TravelTracing.startSpan("city.resolve");
+        span.setAttribute("travelbot.city", city);
+        CompletableFuture<CityLocation> resolving;
+        try (Scope ignored = span.makeCurrent()) {
+            resolving = coordinatesCache.getAsync(cacheKey(city, countryCode), () -> resolveAsync(city, countryCode));
+        } catch (RuntimeException e) {
+            span.end();
+            throw e;
+        }
+        return resolving.whenComplete((location, error) -> {
+            span.setAttribute("travelbot.city.resolved", location != null);
+            span.end();
+            if (location != null) {
+                // 세션은 호출한 쪽의 Context에서 읽음
+                try (Scope ignored = context.makeCurrent()) {
+                    sessionLocations.remember(city, location);
+                }
+            }
+        });
+    }
 
-        // 3) 2차 시도: "<city>, <country>" 형태 (countryCode가 있을 때)
-        if (countryCode != null && !countryCode.isBlank()) {
-            String countryName = countryCodeToName(countryCode);
-            coord = callGeoapify(normalized + ", " + countryName, "en", countryCode);
-            if (coord != null) return coord;
+    /**
+     * 현재 세션이나 좌표 캐시에 이미 있는 도시 정보 (없으면 null, 정규화/지오코딩을 호출하지 않음)
+     */
+    public CityLocation findLocation(String city, String countryCode) {
+        if (city == null || city.isBlank()) return null;
+        CityLocation known = sessionLocations.find(city);
+        if (known != null && known.hasCoordinates()) {
+            return known;
         }
+        return coordinatesCache.getIfPresent(cacheKey(city, countryCode));
+    }
+
+    private String cacheKey(String city, String countryCode) {
+        String country = countryCode != null ? countryCode.toLowerCase(Locale.ROOT) : "";
+        return preprocessCityInput(city).toLowerCase(Locale.ROOT) + "|" + country;
+    }
+
+    private CompletableFuture<CityLocation> resolveAsync(String city, String countryCode) {
+        String input = city.trim();
+        String preprocessed = preprocessCityInput(input);
+
+        // 1) AI 번역/정규화: 약어/별칭/다국어 입력을 표준 영문 도시명으로 (전용 스레드에서)
+        return translateCityNameAsync(preprocessed).thenCompose(translated -> {
+            String normalized = translated == null || translated.isBlank() ? preprocessed : translated;
 
+            // 2) 1차 시도: 영문 표준명으로 Geoapify 호출
+            return callGeoapifyAsync(normalized, "en", countryCode).thenCompose(location -> {
+                if (location != null) {
+                    return CompletableFuture.completedFuture(location);
+                }
+                // 3) 2차 시도: "<city>, <country>" 형태 (countryCode가 있을 때)
+                if (countryCode != null && !countryCode.isBlank()) {
+                    String countryName = countryCodeToName(countryCode);
+                    return callGeoapifyAsync(normalized + ", " + countryName, "en", countryCode)
+                            .thenApply(second -> second != null ? second : safeLocation(normalized, input, countryCode));
+                }
+                return CompletableFuture.completedFuture(safeLocation(normalized, input, countryCode));
+            });
+        });
+    }
+
+    private CityLocation safeLocation(String normalized, String input, String countryCode) {
         // 4) 안전 좌표 (최후의 수단)
         Double[] safe = safeCoords(normalized, safeCoordsMap);
         if (safe != null) {
             log.warn("도시 좌표 안전값 사용: {} -> {}", normalized, java.util.Arrays.toString(safe));
-            return safe;
+            return CityLocation.of(normalized, safe[0], safe[1], countryCode);
         }
         safe = safeCoords(input, safeCoordsMap);
         if (safe != null) {
             log.warn("도시 좌표 안전값 사용: {} -> {}", input, java.util.Arrays.toString(safe));
-            return safe;
+            return CityLocation.of(normalized, safe[0], safe[1], countryCode);
         }
 
         return null;
     }
 
+    private CompletableFuture<String> translateCityNameAsync(String cityName) {
+        try {
+            return CompletableFuture.supplyAsync(() -> translateCityName(cityName), normalizeExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("도시명 정규화 대기열 포화, 전처리 결과로 지오코딩: {}", cityName);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
     /**
      * AI를 사용하여 도시 입력(약어/별칭/다국어 포함)을 표준 영문 도시명으로 정규화합니다.
      */
@@ -106,8 +260,10 @@ public class GeoapifyCityResolver {
                 """;
             String user = "Normalize this city input to standard English city name: " + cityName;
             
-            dev.langchain4j.model.output.Response<dev.langchain4j.data.message.AiMessage> response =
-                chatModel.generate(SystemMessage.from(system), UserMessage.from(user));
+            dev.langchain4j.model.output.Response<dev.langchain4j.data.message.AiMessage> response;
+            try (Scope ignored = LlmCallContext.callSite("city-normalize")) {
+                response = chatModel.generate(SystemMessage.from(system), UserMessage.from(user));
+            }
             
             String translated = response.content().text().trim();
             // 따옴표 제거 + 여분 구두점 제거
@@ -134,9 +290,10 @@ public class GeoapifyCityResolver {
         return s;
     }
 
-    private Double[] callGeoapify(String text, String lang, String countryCode) {
+    private CompletableFuture<CityLocation> callGeoapifyAsync(String text, String lang, String countryCode) {
+        Request req;
         try {
-            okhttp3.HttpUrl.Builder url = okhttp3.HttpUrl.parse(GEOAPIFY_GEOCODE_API_BASE).newBuilder()
+            okhttp3.HttpUrl.Builder url = okhttp3.HttpUrl.parse(geoapifyConfig.geocodeUrl()).newBuilder()
                     .addQueryParameter("text", text)
                     .addQueryParameter("type", "city")
                     .addQueryParameter("limit", "1")
@@ -146,30 +303,36 @@ public class GeoapifyCityResolver {
             if (countryCode != null && !countryCode.isBlank()) {
                 url.addQueryParameter("filter", "countrycode:" + countryCode.toLowerCase());
             }
-            String built = url.build().toString();
-            log.debug("Geoapify CityResolver 요청: {}", built);
-
-            Request req = new Request.Builder().url(built).get().build();
-            try (okhttp3.Response resp = http.newCall(req).execute()) {
-                if (!resp.isSuccessful()) {
-                    log.warn("Geoapify CityResolver 실패 status={}", resp.code());
-                    return null;
-                }
-                String body = resp.body() != null ? resp.body().string() : "";
-                JsonNode node = JsonUtil.fromJson(body, JsonNode.class);
-                if (node.has("results") && node.get("results").isArray() && node.get("results").size() > 0) {
-                    JsonNode first = node.get("results").get(0);
-                    if (first.has("lat") && first.has("lon")) {
-                        double lat = first.get("lat").asDouble();
-                        double lon = first.get("lon").asDouble();
-                        return new Double[]{lon, lat};
-                    }
-                }
+            okhttp3.HttpUrl built = url.build();
+            if (log.isDebugEnabled()) {
+                log.debug("Geoapify CityResolver 요청: {}", LogRedactor.url(built));
             }
+            req = new Request.Builder().url(built).get().build();
         } catch (Exception e) {
             log.warn("Geoapify CityResolver 예외: {}", e.getMessage());
+            return CompletableFuture.completedFuture(null);
         }
-        return null;
+
+        return AsyncCalls.call(http, req, resp -> {
+            if (!resp.isSuccessful()) {
+                log.warn("Geoapify CityResolver 실패 status={}", resp.code());
+                return null;
+            }
+            if (resp.body() == null) {
+                return null;
+            }
+            GeoapifyPayloads.GeocodeResponse geocode = GEOCODE_READER.readValue(resp.body().byteStream());
+            GeoapifyPayloads.GeocodeResult first = geocode != null ? geocode.first() : null;
+            if (first == null) {
+                return null;
+            }
+            String name = first.city() != null && !first.city().isBlank() ? first.city() : text;
+            return CityLocation.of(name, first.lon(), first.lat(),
+                    first.countryCode() != null ? first.countryCode() : countryCode);
+        }).exceptionally(e -> {
+            log.warn("Geoapify CityResolver 예외: {}", AsyncCalls.unwrap(e).getMessage());
+            return null;
+        });
     }
 
     private Double[] safeCoords(String city, Map<String, String> map) {
@@ -0,0 +1,105 @@
+package com.yd.travelbot.global.resolver;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.yd.travelbot.global.config.ChatMemoryConfig;
+import com.yd.travelbot.global.llm.LlmCallContext;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+/**
+ * 대화 세션마다 한 번 해석한 도시 정보를 보관해, 같은 세션의 다음 툴 호출이 도시 해석을 건너뛰게 하는 저장소
+ *
+ * - 현재 세션은 LlmCallContext에서 읽으므로 세션 밖의 호출(warm-up, /api/trip-plan 등)은 보관하지도 찾지도 않습니다.
+ * - 사용자가 입력한 도시명과 해석한 표준 영문명 둘 다로 찾을 수 있게 보관합니다. ("오사카" → Osaka, 이후 "Osaka"도 같은 정보)
+ * - 국가 코드 힌트는 구분하지 않습니다. 세션에서 한 번 정해진 도시는 어느 툴에서 물어도 같은 도시로 봅니다.
+ * - 세션은 chat-memory.max-resident-sessions개, 세션마다 도시는 MAX_CITIES_PER_SESSION개까지 최근 사용 순으로 유지합니다.
+ */
+@Component
+public class SessionLocationContext {
+
+    static final int MAX_CITIES_PER_SESSION = 16;
+
+    private final TravelMetrics travelMetrics;
+    private final Map<String, Map<String, CityLocation>> sessions;
+
+    public SessionLocationContext(ChatMemoryConfig chatMemoryConfig, TravelMetrics travelMetrics) {
+        this.travelMetrics = travelMetrics;
+        int maxSessions = chatMemoryConfig.getMaxResidentSessions();
+        this.sessions = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, CityLocation>> eldest) {
+                return size() > maxSessions;
+            }
+        });
+        travelMetrics.gaugeCacheSize("session-location", sessions);
+    }
+
+    /**
+     * 현재 세션에서 이미 해석한 도시 정보 (세션 밖이거나 처음 보는 도시면 null)
+     */
+    public CityLocation find(String city) {
+        String session = LlmCallContext.currentSession();
+        if (session == null || city == null || city.isBlank()) {
+            return null;
+        }
+        Map<String, CityLocation> cities = sessions.get(session);
+        CityLocation location = cities != null ? cities.get(key(city)) : null;
+        if (location != null) {
+            travelMetrics.recordCacheHit("session-location");
+        } else {
+            travelMetrics.recordCacheMiss("session-location");
+        }
+        return location;
+    }
+
+    /**
+     * 현재 세션에 도시 정보를 보관합니다. 이미 아는 값(다른 API에서 채운 IATA 코드 등)은 유지합니다.
+     */
+    public void remember(String city, CityLocation location) {
+        String session = LlmCallContext.currentSession();
+        if (session == null || city == null || city.isBlank() || location == null) {
+            return;
+        }
+        Map<String, CityLocation> cities = sessions.computeIfAbsent(session, id -> newCities());
+        synchronized (cities) {
+            CityLocation merged = location;
+            CityLocation known = cities.get(key(city));
+            if (known != null) {
+                merged = known.merge(location);
+            }
+            if (merged.name() != null) {
+                CityLocation byName = cities.get(key(merged.name()));
+                if (byName != null && byName != known) {
+                    merged = merged.merge(byName);
+                }
+                cities.put(key(merged.name()), merged);
+            }
+            cities.put(key(city), merged);
+        }
+    }
+
+    public void rememberIataCode(String city, String iataCode) {
+        if (iataCode == null || iataCode.isBlank()) {
+            return;
+        }
+        remember(city, new CityLocation(null, null, null, null, iataCode));
+    }
+
+    private static Map<String, CityLocation> newCities() {
+        return Collections.synchronizedMap(new LinkedHashMap<>(8, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CityLocation> eldest) {
+                return size() > MAX_CITIES_PER_SESSION;
+            }
+        });
+    }
+
+    private static String key(String city) {
+        return city.trim().replace(".", "").replace(",", "").replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
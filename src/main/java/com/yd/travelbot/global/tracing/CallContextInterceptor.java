@@ -0,0 +1,28 @@
+package com.yd.travelbot.global.tracing;
+
+import java.io.IOException;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * 요청 태그로 넘어온 호출 시점 Context를 복원하는 OkHttp 인터셉터 (인터셉터 중 가장 먼저 등록)
+ *
+ * 비동기 호출(enqueue)은 디스패처 스레드에서 인터셉터를 실행하므로, 복원하지 않으면
+ * 외부 API span이 툴 span 아래가 아닌 새 트레이스로 남습니다. 태그가 없는 동기 호출은 그대로 진행합니다.
+ */
+public class CallContextInterceptor implements Interceptor {
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Context context = chain.request().tag(Context.class);
+        if (context == null) {
+            return chain.proceed(chain.request());
+        }
+        try (Scope ignored = context.makeCurrent()) {
+            return chain.proceed(chain.request());
+        }
+    }
+}
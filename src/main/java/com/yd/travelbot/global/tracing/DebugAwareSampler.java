@@ -0,0 +1,37 @@
+package com.yd.travelbot.global.tracing;
+
+import java.util.List;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+/**
+ * debug 요청의 루트 span은 항상 샘플링하고, 나머지는 위임 샘플러(비율 샘플링)에 맡기는 샘플러
+ * 샘플링 비율을 낮춰도 debug 응답의 타이밍 트리는 비지 않습니다.
+ */
+public final class DebugAwareSampler implements Sampler {
+
+    private final Sampler delegate;
+
+    public DebugAwareSampler(Sampler delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+                                       Attributes attributes, List<LinkData> parentLinks) {
+        if (Boolean.TRUE.equals(attributes.get(TravelTracing.DEBUG))) {
+            return SamplingResult.recordAndSample();
+        }
+        return delegate.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+    }
+
+    @Override
+    public String getDescription() {
+        return "DebugAwareSampler{" + delegate.getDescription() + "}";
+    }
+}
@@ -0,0 +1,123 @@
+package com.yd.travelbot.global.tracing;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.yd.travelbot.global.util.JsonUtil;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * span을 한 줄에 하나씩 JSON으로 로컬 파일에 덧붙이는 SpanExporter
+ *
+ * 필드 이름은 OTLP JSON(traceId, spanId, parentSpanId, startTimeUnixNano ...)을 따르되
+ * 속성은 평평한 key-value 객체로 적어 jq 등으로 바로 훑어볼 수 있게 했습니다.
+ * 수집기로 보낼 때는 tracing.otlp-endpoint를 사용합니다.
+ */
+@Slf4j
+public class JsonLinesSpanExporter implements SpanExporter {
+
+    private final Path file;
+    private BufferedWriter writer;
+
+    public JsonLinesSpanExporter(Path file) throws IOException {
+        this.file = file;
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        if (writer == null) {
+            return CompletableResultCode.ofFailure();
+        }
+        try {
+            for (SpanData span : spans) {
+                writer.write(JsonUtil.toJson(toJson(span)));
+                writer.newLine();
+            }
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("span 파일 기록 실패 ({}): {}", file, e.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            if (writer != null) {
+                writer.flush();
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        if (writer == null) {
+            return CompletableResultCode.ofSuccess();
+        }
+        try {
+            writer.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        } finally {
+            writer = null;
+        }
+    }
+
+    static Map<String, Object> toJson(SpanData span) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("traceId", span.getTraceId());
+        json.put("spanId", span.getSpanId());
+        if (span.getParentSpanContext().isValid()) {
+            json.put("parentSpanId", span.getParentSpanId());
+        }
+        json.put("name", span.getName());
+        json.put("kind", span.getKind().name());
+        json.put("startTimeUnixNano", span.getStartEpochNanos());
+        json.put("endTimeUnixNano", span.getEndEpochNanos());
+        json.put("attributes", flatten(span.getAttributes()));
+        json.put("status", Map.of(
+                "code", span.getStatus().getStatusCode().name(),
+                "message", span.getStatus().getDescription()));
+        if (!span.getEvents().isEmpty()) {
+            List<Map<String, Object>> events = span.getEvents().stream()
+                    .map(event -> Map.<String, Object>of(
+                            "name", event.getName(),
+                            "timeUnixNano", event.getEpochNanos(),
+                            "attributes", flatten(event.getAttributes())))
+                    .toList();
+            json.put("events", events);
+        }
+        json.put("resource", flatten(span.getResource().getAttributes()));
+        return json;
+    }
+
+    private static Map<String, Object> flatten(Attributes attributes) {
+        Map<String, Object> flat = new LinkedHashMap<>();
+        attributes.forEach((key, value) -> flat.put(key.getKey(), value));
+        return flat;
+    }
+}
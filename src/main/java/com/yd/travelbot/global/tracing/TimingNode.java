@@ -0,0 +1,23 @@
+package com.yd.travelbot.global.tracing;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 턴의 타이밍 트리 노드 (span 하나)
+ *
+ * @param name       span 이름
+ * @param offsetMs   루트 span 시작 시점부터 이 span이 시작되기까지의 시간
+ * @param durationMs span 길이
+ * @param error      span 상태가 ERROR인지 여부
+ * @param attributes span 속성
+ * @param children   시작 시각 순으로 정렬한 자식 span
+ */
+public record TimingNode(
+        String name,
+        double offsetMs,
+        double durationMs,
+        boolean error,
+        Map<String, Object> attributes,
+        List<TimingNode> children) {
+}
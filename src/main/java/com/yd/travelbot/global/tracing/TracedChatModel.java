@@ -0,0 +1,98 @@
+package com.yd.travelbot.global.tracing;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.yd.travelbot.global.llm.LlmCallContext;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Scope;
+
+/**
+ * 모델 호출마다 "chat {모델명}" span을 남기는 래퍼 (GenAI semantic convention 속성 사용)
+ * 게이트웨이 안쪽에 두어 대기열 대기 시간은 포함하지 않으며, 응답의 토큰 사용량과 툴 호출 요청 수를 속성으로 기록합니다.
+ */
+final class TracedChatModel implements ChatLanguageModel {
+
+    private final ChatLanguageModel delegate;
+    private final String tier;
+    private final String modelName;
+
+    TracedChatModel(ChatLanguageModel delegate, String tier, String modelName) {
+        this.delegate = delegate;
+        this.tier = tier;
+        this.modelName = modelName;
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        return traced(messages.size(), 0, () -> delegate.generate(messages));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        int tools = toolSpecifications != null ? toolSpecifications.size() : 0;
+        return traced(messages.size(), tools, () -> delegate.generate(messages, toolSpecifications));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        return traced(messages.size(), 1, () -> delegate.generate(messages, toolSpecification));
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+
+    private Response<AiMessage> traced(int messageCount, int toolCount, Supplier<Response<AiMessage>> call) {
+        Span span = TravelTracing.startSpan("chat " + modelName, SpanKind.CLIENT);
+        span.setAttribute("gen_ai.operation.name", "chat");
+        span.setAttribute("gen_ai.request.model", modelName);
+        span.setAttribute("travelbot.llm.tier", tier);
+        span.setAttribute("travelbot.llm.call_site", LlmCallContext.currentCallSite());
+        span.setAttribute("travelbot.llm.messages", messageCount);
+        span.setAttribute("travelbot.llm.tools", toolCount);
+        try (Scope ignored = span.makeCurrent()) {
+            Response<AiMessage> response = call.get();
+            describe(span, response);
+            return response;
+        } catch (RuntimeException e) {
+            TravelTracing.fail(span, e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private static void describe(Span span, Response<AiMessage> response) {
+        if (response == null) {
+            return;
+        }
+        TokenUsage usage = response.tokenUsage();
+        if (usage != null) {
+            if (usage.inputTokenCount() != null) {
+                span.setAttribute("gen_ai.usage.input_tokens", usage.inputTokenCount());
+            }
+            if (usage.outputTokenCount() != null) {
+                span.setAttribute("gen_ai.usage.output_tokens", usage.outputTokenCount());
+            }
+        }
+        if (response.finishReason() != null) {
+            span.setAttribute("gen_ai.response.finish_reason", response.finishReason().name());
+        }
+        AiMessage message = response.content();
+        if (message != null && message.hasToolExecutionRequests()) {
+            span.setAttribute("travelbot.llm.tool_requests", message.toolExecutionRequests().size());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.yd.travelbot.global.tracing;
+
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+
+/**
+ * OpenTelemetry span 생성 진입점
+ *
+ * 대화 턴 → 툴 호출 → LLM 호출 / 외부 API 호출 순으로 span이 중첩되며, 부모는 현재 스레드의 Context로 이어집니다.
+ * OpenTelemetryConfig가 SDK Tracer를 설치하기 전(단위 테스트 등)에는 no-op Tracer를 사용하므로
+ * 계측 코드가 있는 클래스를 테스트할 때 별도 준비가 필요 없습니다.
+ */
+public final class TravelTracing {
+
+    public static final String INSTRUMENTATION_NAME = "com.yd.travelbot";
+
+    // debug 요청의 루트 span 표시 (DebugAwareSampler가 항상 샘플링)
+    public static final AttributeKey<Boolean> DEBUG = AttributeKey.booleanKey("travelbot.debug");
+
+    private static final TurnTimingCollector TIMINGS = new TurnTimingCollector();
+
+    private static volatile Tracer tracer = OpenTelemetry.noop().getTracer(INSTRUMENTATION_NAME);
+
+    private TravelTracing() {
+    }
+
+    /**
+     * 애플리케이션에서 사용할 Tracer를 설치합니다. (OpenTelemetryConfig에서 호출)
+     */
+    public static void install(Tracer sdkTracer) {
+        tracer = sdkTracer;
+    }
+
+    /**
+     * 턴별 타이밍 트리를 모으는 SpanProcessor (SDK에 등록해야 debug 응답에 span이 모입니다)
+     */
+    public static TurnTimingCollector timings() {
+        return TIMINGS;
+    }
+
+    /**
+     * 현재 Context의 span을 부모로 하는 내부 span을 시작합니다.
+     * 호출한 쪽에서 makeCurrent()로 범위를 열고 finally에서 end()를 호출해야 합니다.
+     */
+    public static Span startSpan(String name) {
+        return startSpan(name, SpanKind.INTERNAL);
+    }
+
+    public static Span startSpan(String name, SpanKind kind) {
+        return tracer.spanBuilder(name).setSpanKind(kind).startSpan();
+    }
+
+    /**
+     * 요청 단위 루트 span을 시작합니다. debug면 샘플링 비율과 관계없이 기록되고 타이밍 수집 대상으로 등록됩니다.
+     * debug 루트 span은 end() 뒤에 collectTimings()로 트리를 꺼내야 보관분이 정리됩니다.
+     */
+    public static Span startRootSpan(String name, SpanKind kind, boolean debug) {
+        SpanBuilder builder = tracer.spanBuilder(name).setSpanKind(kind).setNoParent();
+        if (debug) {
+            builder.setAttribute(DEBUG, true);
+        }
+        Span span = builder.startSpan();
+        if (debug && span.getSpanContext().isValid()) {
+            TIMINGS.watch(span.getSpanContext().getTraceId());
+        }
+        return span;
+    }
+
+    /**
+     * debug 루트 span의 타이밍 트리 (tracing이 꺼져 있으면 null)
+     */
+    public static TimingNode collectTimings(Span rootSpan) {
+        SpanContext context = rootSpan.getSpanContext();
+        if (!context.isValid()) {
+            return null;
+        }
+        return TIMINGS.collect(context.getTraceId(), context.getSpanId());
+    }
+
+    /**
+     * 예외를 span 이벤트로 남기고 상태를 ERROR로 표시합니다.
+     */
+    public static void fail(Span span, Throwable error) {
+        span.recordException(error);
+        span.setStatus(StatusCode.ERROR, error.getClass().getSimpleName());
+    }
+
+    /**
+     * 모델 호출마다 span을 남기도록 감싼 ChatLanguageModel을 반환합니다.
+     */
+    public static ChatLanguageModel traced(ChatLanguageModel delegate, String tier, String modelName) {
+        return new TracedChatModel(delegate, tier, modelName);
+    }
+}
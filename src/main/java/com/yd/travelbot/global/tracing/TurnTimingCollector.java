@@ -0,0 +1,133 @@
+package com.yd.travelbot.global.tracing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+/**
+ * debug 요청의 span을 모아 턴별 타이밍 트리로 만드는 SpanProcessor
+ *
+ * watch()로 등록한 trace의 span만 보관하므로 debug가 아닌 요청에는 비용이 들지 않습니다.
+ * collect()를 호출하는 시점에 아직 끝나지 않은 span(취소 중인 헤지 호출 등)은 트리에 포함되지 않습니다.
+ */
+public final class TurnTimingCollector implements SpanProcessor {
+
+    // 한 턴에서 보관할 최대 span 수 (툴 재시도가 폭주해도 메모리가 늘지 않도록)
+    static final int MAX_SPANS_PER_TURN = 256;
+
+    private final Map<String, Turn> turns = new ConcurrentHashMap<>();
+
+    TurnTimingCollector() {
+    }
+
+    /**
+     * traceId에 속한 span을 모으기 시작합니다. 반드시 collect()로 정리해야 합니다.
+     */
+    public void watch(String traceId) {
+        turns.put(traceId, new Turn());
+    }
+
+    /**
+     * 지금까지 모은 span으로 rootSpanId를 루트로 하는 트리를 만들고 보관분을 정리합니다.
+     * 루트 span이 아직 끝나지 않았거나 watch()하지 않은 trace면 null을 반환합니다.
+     */
+    public TimingNode collect(String traceId, String rootSpanId) {
+        Turn turn = turns.remove(traceId);
+        if (turn == null) {
+            return null;
+        }
+        List<SpanData> spans = new ArrayList<>(turn.spans);
+        SpanData root = spans.stream()
+                .filter(span -> span.getSpanId().equals(rootSpanId))
+                .findFirst()
+                .orElse(null);
+        if (root == null) {
+            return null;
+        }
+        spans.sort(Comparator.comparingLong(SpanData::getStartEpochNanos));
+
+        Set<String> spanIds = new HashSet<>();
+        spans.forEach(span -> spanIds.add(span.getSpanId()));
+        Map<String, List<SpanData>> childrenByParent = new HashMap<>();
+        for (SpanData span : spans) {
+            if (span == root) {
+                continue;
+            }
+            // 부모가 보관되지 않은 span(한도 초과 등)은 루트 아래에 붙임
+            String parent = spanIds.contains(span.getParentSpanId()) ? span.getParentSpanId() : rootSpanId;
+            childrenByParent.computeIfAbsent(parent, k -> new ArrayList<>()).add(span);
+        }
+        return toNode(root, root.getStartEpochNanos(), childrenByParent);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        Turn turn = turns.get(span.getSpanContext().getTraceId());
+        if (turn != null && turn.count.incrementAndGet() <= MAX_SPANS_PER_TURN) {
+            turn.spans.add(span.toSpanData());
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        turns.clear();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    private static TimingNode toNode(SpanData span, long rootStart, Map<String, List<SpanData>> childrenByParent) {
+        List<TimingNode> children = new ArrayList<>();
+        for (SpanData child : childrenByParent.getOrDefault(span.getSpanId(), List.of())) {
+            children.add(toNode(child, rootStart, childrenByParent));
+        }
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+        return new TimingNode(
+                span.getName(),
+                millis(span.getStartEpochNanos() - rootStart),
+                millis(span.getEndEpochNanos() - span.getStartEpochNanos()),
+                span.getStatus().getStatusCode() == StatusCode.ERROR,
+                attributes,
+                children);
+    }
+
+    // 0.1ms 단위로 반올림
+    private static double millis(long nanos) {
+        return Math.round(nanos / 100_000.0) / 10.0;
+    }
+
+    private static final class Turn {
+        private final Queue<SpanData> spans = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger count = new AtomicInteger();
+    }
+}
@@ -0,0 +1,57 @@
+package com.yd.travelbot.global.tracing;
+
+import java.io.IOException;
+import java.util.Map;
+
+import com.yd.travelbot.global.external.UpstreamNames;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Scope;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * 외부 API 호출마다 HTTP 클라이언트 span을 남기는 OkHttp 인터셉터
+ *
+ * span은 응답 헤더를 받을 때까지의 시간이며 이름은 "{메서드} {upstream} {경로}" 입니다.
+ * 쿼리 문자열에는 API 키가 들어가므로 url.path만 기록하고 전체 URL은 남기지 않습니다.
+ */
+public class UpstreamTracingInterceptor implements Interceptor {
+
+    private final UpstreamNames upstreamNames;
+
+    public UpstreamTracingInterceptor(Map<String, String> baseUrlsByUpstream) {
+        this.upstreamNames = new UpstreamNames(baseUrlsByUpstream);
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String upstream = upstreamNames.of(request.url());
+        String path = request.url().encodedPath();
+
+        Span span = TravelTracing.startSpan(request.method() + " " + upstream + " " + path, SpanKind.CLIENT);
+        span.setAttribute("http.request.method", request.method());
+        span.setAttribute("server.address", request.url().host());
+        span.setAttribute("server.port", request.url().port());
+        span.setAttribute("url.path", path);
+        span.setAttribute("travelbot.upstream", upstream);
+        try (Scope ignored = span.makeCurrent()) {
+            Response response = chain.proceed(request);
+            span.setAttribute("http.response.status_code", response.code());
+            if (response.code() >= 400) {
+                span.setStatus(StatusCode.ERROR, "HTTP " + response.code());
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            span.setAttribute("error.type", e.getClass().getSimpleName());
+            TravelTracing.fail(span, e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
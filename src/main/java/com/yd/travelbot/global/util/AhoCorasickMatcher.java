@@ -0,0 +1,204 @@
+package com.yd.travelbot.global.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 다중 패턴 문자열 매처 (Aho-Corasick)
+ *
+ * 미리 컴파일한 오토마톤으로 입력을 한 번만 훑어 모든 패턴의 출현 위치를 찾습니다.
+ * 패턴과 입력은 모두 소문자로 정규화해 비교하므로 대소문자를 구분하지 않습니다.
+ * 매칭 위치는 받은 입력 기준이므로 유니코드 정규화(NFKC 등)는 호출한 쪽에서 패턴과 입력에 같이 적용합니다.
+ * 패턴 수가 수천 개로 늘어나도 탐색 비용은 입력 길이와 매칭 수에만 비례합니다.
+ */
+public final class AhoCorasickMatcher<T> {
+
+    /**
+     * 패턴 양 끝에서 요구하는 단어 경계 (ASCII 영문자가 아닌 문자 또는 입력의 시작/끝)
+     * 숫자는 경계로 취급해 "100USD" 같은 입력에서도 통화 코드를 찾을 수 있습니다.
+     */
+    public enum Boundary {
+        NONE,
+        START,
+        BOTH
+    }
+
+    @FunctionalInterface
+    public interface MatchHandler<T> {
+        void onMatch(int start, int end, T payload);
+    }
+
+    // 상태별 전이 (정렬된 문자 배열 + 다음 상태)
+    private final char[][] transitionChars;
+    private final int[][] transitionTargets;
+    private final int[] failure;
+    // 상태에서 끝나는 패턴 목록과, 실패 링크를 따라가며 만나는 다음 출력 상태
+    private final int[][] outputs;
+    private final int[] outputLink;
+
+    private final int[] patternLengths;
+    private final Boundary[] boundaries;
+    private final List<T> payloads;
+
+    private AhoCorasickMatcher(Builder<T> builder) {
+        List<TreeMap<Character, Integer>> trie = builder.trie;
+        int states = trie.size();
+        this.transitionChars = new char[states][];
+        this.transitionTargets = new int[states][];
+        for (int state = 0; state < states; state++) {
+            TreeMap<Character, Integer> edges = trie.get(state);
+            char[] chars = new char[edges.size()];
+            int[] targets = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                chars[i] = edge.getKey();
+                targets[i] = edge.getValue();
+                i++;
+            }
+            transitionChars[state] = chars;
+            transitionTargets[state] = targets;
+        }
+
+        this.outputs = new int[states][];
+        for (int state = 0; state < states; state++) {
+            List<Integer> ids = builder.terminals.get(state);
+            outputs[state] = ids == null ? new int[0] : ids.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        this.failure = new int[states];
+        this.outputLink = new int[states];
+        Arrays.fill(outputLink, -1);
+        buildFailureLinks();
+
+        this.patternLengths = builder.lengths.stream().mapToInt(Integer::intValue).toArray();
+        this.boundaries = builder.boundaries.toArray(new Boundary[0]);
+        this.payloads = List.copyOf(builder.payloads);
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public int size() {
+        return payloads.size();
+    }
+
+    /**
+     * 입력을 한 번 훑으며 경계 조건을 만족하는 모든 매칭을 끝 위치 순서로 전달합니다.
+     */
+    public void scan(CharSequence text, MatchHandler<T> handler) {
+        int state = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next = next(state, c);
+            while (next < 0 && state != 0) {
+                state = failure[state];
+                next = next(state, c);
+            }
+            state = next < 0 ? 0 : next;
+
+            for (int out = outputs[state].length > 0 ? state : outputLink[state]; out >= 0; out = outputLink[out]) {
+                for (int id : outputs[out]) {
+                    int end = i + 1;
+                    int start = end - patternLengths[id];
+                    if (satisfiesBoundary(text, start, end, boundaries[id])) {
+                        handler.onMatch(start, end, payloads.get(id));
+                    }
+                }
+            }
+        }
+    }
+
+    private int next(int state, char c) {
+        int index = Arrays.binarySearch(transitionChars[state], c);
+        return index >= 0 ? transitionTargets[state][index] : -1;
+    }
+
+    private void buildFailureLinks() {
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int target : transitionTargets[0]) {
+            failure[target] = 0;
+            queue.add(target);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            char[] chars = transitionChars[state];
+            int[] targets = transitionTargets[state];
+            for (int i = 0; i < chars.length; i++) {
+                int child = targets[i];
+                int fallback = failure[state];
+                int next = next(fallback, chars[i]);
+                while (next < 0 && fallback != 0) {
+                    fallback = failure[fallback];
+                    next = next(fallback, chars[i]);
+                }
+                failure[child] = next < 0 || next == child ? 0 : next;
+                int link = failure[child];
+                outputLink[child] = outputs[link].length > 0 ? link : outputLink[link];
+                queue.add(child);
+            }
+        }
+    }
+
+    private static boolean satisfiesBoundary(CharSequence text, int start, int end, Boundary boundary) {
+        if (boundary == Boundary.NONE) {
+            return true;
+        }
+        if (start > 0 && isLatinLetter(text.charAt(start - 1))) {
+            return false;
+        }
+        return boundary != Boundary.BOTH || end >= text.length() || !isLatinLetter(text.charAt(end));
+    }
+
+    private static boolean isLatinLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    public static final class Builder<T> {
+        private final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        private final Map<Integer, List<Integer>> terminals = new HashMap<>();
+        private final List<Integer> lengths = new ArrayList<>();
+        private final List<Boundary> boundaries = new ArrayList<>();
+        private final List<T> payloads = new ArrayList<>();
+
+        private Builder() {
+            trie.add(new TreeMap<>());
+        }
+
+        public Builder<T> add(String pattern, T payload) {
+            return add(pattern, payload, Boundary.NONE);
+        }
+
+        public Builder<T> add(String pattern, T payload, Boundary boundary) {
+            if (pattern == null || pattern.isEmpty()) {
+                throw new IllegalArgumentException("빈 패턴은 등록할 수 없습니다.");
+            }
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = Character.toLowerCase(pattern.charAt(i));
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+            terminals.computeIfAbsent(state, k -> new ArrayList<>()).add(payloads.size());
+            lengths.add(pattern.length());
+            boundaries.add(boundary);
+            payloads.add(payload);
+            return this;
+        }
+
+        public AhoCorasickMatcher<T> build() {
+            return new AhoCorasickMatcher<>(this);
+        }
+    }
+}
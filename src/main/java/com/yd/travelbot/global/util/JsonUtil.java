@@ -1,13 +1,35 @@
 package com.yd.travelbot.global.util;
 
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class JsonUtil {
-    private static final ObjectMapper objectMapper = new ObjectMapper()
-            .registerModule(new JavaTimeModule());
+    private static final ObjectMapper objectMapper = createObjectMapper();
+
+    /**
+     * 외부 API 응답 바인딩에 쓰는 공용 ObjectMapper 설정
+     * - 응답에 새 필드가 추가되어도 실패하지 않도록 모르는 필드는 무시
+     * - Blackbird 모듈로 리플렉션 대신 생성된 접근자를 사용
+     */
+    public static ObjectMapper createObjectMapper() {
+        return JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new BlackbirdModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
 
     public static <T> T fromJson(String json, Class<T> clazz) {
         try {
@@ -18,6 +40,31 @@ public class JsonUtil {
         }
     }
 
+    /**
+     * 타입별 ObjectReader (불변이므로 static 필드에 보관해 재사용)
+     */
+    public static ObjectReader readerFor(Class<?> clazz) {
+        return objectMapper.readerFor(clazz);
+    }
+
+    /**
+     * 제네릭 타입(List<Food> 등)용 ObjectReader
+     */
+    public static ObjectReader readerFor(TypeReference<?> type) {
+        return objectMapper.readerFor(type);
+    }
+
+    public static byte[] toJsonBytes(Object obj) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(obj);
+    }
+
+    /**
+     * 응답 본문을 문자열로 만들지 않고 토큰 단위로 읽기 위한 스트리밍 파서
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        return objectMapper.getFactory().createParser(in);
+    }
+
     public static String toJson(Object obj) {
         try {
             return objectMapper.writeValueAsString(obj);
@@ -27,4 +74,3 @@ public class JsonUtil {
         }
     }
 }
-
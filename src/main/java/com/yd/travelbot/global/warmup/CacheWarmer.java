@@ -0,0 +1,161 @@
+package com.yd.travelbot.global.warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.yd.travelbot.global.cache.CacheRefresh;
+import com.yd.travelbot.global.config.WarmupConfig;
+import com.yd.travelbot.global.llm.LlmCallContext;
+import com.yd.travelbot.global.tracing.TravelTracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Scope;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인기 도시/의도 조합을 백그라운드에서 미리 조회해 캐시(TtlCache)를 채웁니다.
+ *
+ * - 기동 후 initial-delay 뒤 첫 실행, 이후 interval마다 다시 실행합니다. (기동은 기다리지 않음)
+ * - 다음 실행 전에 만료될 항목(interval + 여유 25%)은 미리 다시 읽어, 요청이 만료된 항목을 만나지 않도록 합니다.
+ * - 한 번 실행할 때 외부 조회가 max-loads-per-run을 넘으면 남은 대상은 다음 실행으로 미루고,
+ *   다음 실행은 미룬 첫 대상부터 시작해 한 바퀴 돕니다. (한도가 늘 앞쪽 대상에서 소진돼도 뒤쪽 대상이 채워지도록)
+ * - 대상 하나가 실패해도 다음 대상으로 진행합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CacheWarmer {
+
+    // 토큰 집계(TokenUsageTracker)에서 사용자 세션과 구분되는 세션 이름
+    static final String SESSION = "warmup";
+
+    private final WarmupConfig warmupConfig;
+    private final Map<String, Warmable> warmables = new LinkedHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    // 다음 실행을 시작할 대상 위치 (도시/의도 조합 순서 기준)
+    private final AtomicInteger resumeAt = new AtomicInteger();
+
+    public CacheWarmer(WarmupConfig warmupConfig, List<Warmable> warmables) {
+        this.warmupConfig = warmupConfig;
+        warmables.forEach(warmable -> this.warmables.put(warmable.intent(), warmable));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWarming() {
+        if (warmupConfig.getTargets().isEmpty()) {
+            return;
+        }
+        long initialDelay = warmupConfig.getInitialDelay().toMillis();
+        Duration interval = warmupConfig.getInterval();
+        if (interval.isZero() || interval.isNegative()) {
+            scheduler.schedule(this::warmUp, initialDelay, TimeUnit.MILLISECONDS);
+        } else {
+            scheduler.scheduleWithFixedDelay(this::warmUp, initialDelay, interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 지난 실행에서 미룬 대상부터(없으면 앞쪽부터) 한 바퀴 조회하고 실제 외부 조회 횟수를 반환합니다.
+     */
+    public int warmUp() {
+        long start = System.nanoTime();
+        AtomicInteger loads = new AtomicInteger();
+        int warmed = 0;
+        int failed = 0;
+        int skipped = 0;
+
+        Span span = TravelTracing.startRootSpan("cache.warmup", SpanKind.INTERNAL, false);
+        try (Scope ignored = span.makeCurrent();
+             Scope session = LlmCallContext.session(SESSION);
+             Scope refresh = CacheRefresh.refreshing(refreshHorizon(), loads)) {
+            List<Work> works = works();
+            int offset = works.isEmpty() ? 0 : resumeAt.get() % works.size();
+            int firstSkipped = -1;
+            for (int i = 0; i < works.size(); i++) {
+                int position = (offset + i) % works.size();
+                Work work = works.get(position);
+                if (loads.get() >= warmupConfig.getMaxLoadsPerRun()) {
+                    if (firstSkipped < 0) {
+                        firstSkipped = position;
+                    }
+                    skipped++;
+                    continue;
+                }
+                Warmable warmable = warmables.get(work.intent());
+                if (warmable == null) {
+                    log.warn("[WARMUP] 알 수 없는 의도: {} ({})", work.intent(), work.city());
+                    continue;
+                }
+                try {
+                    warmable.warmUp(work.city());
+                    warmed++;
+                } catch (RuntimeException e) {
+                    failed++;
+                    log.warn("[WARMUP] {} {} 실패: {}", work.city(), work.intent(), e.getMessage());
+                }
+            }
+            resumeAt.set(Math.max(firstSkipped, 0));
+        } finally {
+            span.setAttribute("travelbot.warmup.loads", loads.get());
+            span.setAttribute("travelbot.warmup.skipped", skipped);
+            span.end();
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (skipped > 0) {
+            log.info("[WARMUP] {}건 완료, {}건 실패, 외부 조회 {}회 ({}ms) - 한도 {}회 초과로 {}건은 다음 실행으로",
+                    warmed, failed, loads.get(), elapsedMs, warmupConfig.getMaxLoadsPerRun(), skipped);
+        } else {
+            log.info("[WARMUP] {}건 완료, {}건 실패, 외부 조회 {}회 ({}ms)", warmed, failed, loads.get(), elapsedMs);
+        }
+        return loads.get();
+    }
+
+    /**
+     * 설정된 대상을 도시/의도 조합 하나씩 펼친 실행 순서
+     */
+    private List<Work> works() {
+        List<Work> works = new ArrayList<>();
+        for (WarmupConfig.Target target : warmupConfig.getTargets()) {
+            for (String intent : target.getIntents()) {
+                works.add(new Work(target.getCity(), intent));
+            }
+        }
+        return works;
+    }
+
+    private Duration refreshHorizon() {
+        Duration interval = warmupConfig.getInterval();
+        if (interval.isZero() || interval.isNegative()) {
+            return Duration.ZERO;
+        }
+        return interval.plus(interval.dividedBy(4));
+    }
+
+    private record Work(String city, String intent) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.yd.travelbot.global.warmup;
+
+/**
+ * 시작 직후/주기적으로 인기 도시 결과를 미리 채울 수 있는 조회 컴포넌트
+ *
+ * intent()는 warmup.targets[].intents 값(food, place, accommodation, currency)과 대응합니다.
+ */
+public interface Warmable {
+
+    String intent();
+
+    /**
+     * 해당 도시의 자주 쓰는 조회를 한 번 실행해 캐시를 채움 (예외는 CacheWarmer가 기록하고 다음 대상으로 진행)
+     */
+    void warmUp(String city);
+}
@@ -5,12 +5,16 @@ import com.yd.travelbot.domain.accommodation.application.dto.AccommodationSearch
 import com.yd.travelbot.domain.accommodation.domain.entity.Accommodation;
 import com.yd.travelbot.domain.accommodation.domain.repository.AccommodationRepository;
 import com.yd.travelbot.domain.accommodation.domain.service.AccommodationDomainService;
+import com.yd.travelbot.global.config.RankingConfig;
+import com.yd.travelbot.global.ranking.SearchRanking;
+import com.yd.travelbot.global.resolver.GeoapifyCityResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -33,6 +37,12 @@ class SearchAccommodationUseCaseTest {
     @Mock
     private AccommodationDomainService domainService;
 
+    @Spy
+    private SearchRanking searchRanking = new SearchRanking(new RankingConfig());
+
+    @Mock
+    private GeoapifyCityResolver cityResolver;
+
     @InjectMocks
     private SearchAccommodationUseCase useCase;
 
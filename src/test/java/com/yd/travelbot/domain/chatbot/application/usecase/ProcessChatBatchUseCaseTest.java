@@ -0,0 +1,239 @@
+package com.yd.travelbot.domain.chatbot.application.usecase;
+
+import com.yd.travelbot.domain.chatbot.application.dto.request.ChatBatchRequest;
+import com.yd.travelbot.domain.chatbot.application.dto.request.ChatRequest;
+import com.yd.travelbot.domain.chatbot.application.dto.response.ChatBatchResult;
+import com.yd.travelbot.domain.chatbot.application.dto.response.ChatResponse;
+import com.yd.travelbot.global.config.ChatBatchConfig;
+import com.yd.travelbot.global.config.SearchTimeoutConfig;
+import com.yd.travelbot.global.llm.LlmCallContext;
+import com.yd.travelbot.global.llm.LlmPriority;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProcessChatBatchUseCase 테스트")
+class ProcessChatBatchUseCaseTest {
+
+    @Mock
+    private ProcessChatMessageUseCase processChatMessageUseCase;
+
+    private ProcessChatBatchUseCase batchUseCase;
+
+    @AfterEach
+    void tearDown() {
+        if (batchUseCase != null) {
+            batchUseCase.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 처리 수를 넘지 않고 모든 메시지의 결과를 끝나는 순서대로 전달")
+    void 동시_처리_제한() throws Exception {
+        // given
+        batchUseCase = batchUseCase(2, 100);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(processChatMessageUseCase.execute(any(ChatRequest.class), any())).thenAnswer(invocation -> {
+            int now = running.incrementAndGet();
+            maxRunning.accumulateAndGet(now, Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            ChatRequest request = invocation.getArgument(0);
+            return ChatResponse.builder().success(true).message("답변: " + request.getMessage()).sessionId("s").build();
+        });
+        List<ChatBatchRequest.Item> items = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            items.add(ChatBatchRequest.Item.builder().id("q" + i).message("질문 " + i).build());
+        }
+        List<ChatBatchResult> results = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        batchUseCase.execute(ChatBatchRequest.builder().items(items).build(), results::add);
+
+        // then
+        assertThat(results).hasSize(8);
+        assertThat(results).extracting(ChatBatchResult::getIndex).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7);
+        assertThat(results).allMatch(r -> r.getMessage().equals("답변: 질문 " + r.getIndex())
+                && r.getId().equals("q" + r.getIndex()));
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 세션의 메시지는 입력 순서대로 이어서 처리")
+    void 같은_세션_순서_유지() throws Exception {
+        // given
+        batchUseCase = batchUseCase(4, 100);
+        List<String> handled = Collections.synchronizedList(new ArrayList<>());
+        when(processChatMessageUseCase.execute(any(ChatRequest.class), any())).thenAnswer(invocation -> {
+            ChatRequest request = invocation.getArgument(0);
+            String sessionId = invocation.getArgument(1);
+            handled.add(sessionId + ":" + request.getMessage());
+            return ChatResponse.builder().success(true).message("ok").sessionId(sessionId).build();
+        });
+        List<ChatBatchRequest.Item> items = List.of(
+                ChatBatchRequest.Item.builder().message("오사카 맛집").sessionId("a").build(),
+                ChatBatchRequest.Item.builder().message("환율은?").build(),
+                ChatBatchRequest.Item.builder().message("거기 숙소는?").sessionId("a").build(),
+                ChatBatchRequest.Item.builder().message("관광지도").sessionId("a").build());
+
+        // when
+        batchUseCase.execute(ChatBatchRequest.builder().items(items).build(), result -> { });
+
+        // then
+        assertThat(handled).hasSize(4);
+        assertThat(handled.stream().filter(h -> h.startsWith("a:")).toList())
+                .containsExactly("a:오사카 맛집", "a:거기 숙소는?", "a:관광지도");
+        assertThat(ProcessChatBatchUseCase.conversations(items)).containsExactly(List.of(0, 2, 3), List.of(1));
+    }
+
+    @Test
+    @DisplayName("처리 중 예외가 난 메시지는 실패 결과로 전달하고 나머지는 계속 처리")
+    void 실패_메시지_격리() throws Exception {
+        // given
+        batchUseCase = batchUseCase(2, 100);
+        when(processChatMessageUseCase.execute(any(ChatRequest.class), any())).thenAnswer(invocation -> {
+            ChatRequest request = invocation.getArgument(0);
+            if (request.getMessage().equals("실패")) {
+                throw new IllegalStateException("모델 오류");
+            }
+            return ChatResponse.builder().success(true).message("ok").build();
+        });
+        List<ChatBatchResult> results = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        batchUseCase.execute(ChatBatchRequest.builder().items(List.of(
+                ChatBatchRequest.Item.builder().message("실패").build(),
+                ChatBatchRequest.Item.builder().message("성공").build())).build(), results::add);
+
+        // then
+        assertThat(results).hasSize(2);
+        assertThat(results).filteredOn(ChatBatchResult::isSuccess).hasSize(1);
+        assertThat(results).filteredOn(r -> !r.isSuccess()).first()
+                .satisfies(r -> assertThat(r.getMessage()).contains("모델 오류"));
+    }
+
+    @Test
+    @DisplayName("작업이 Error로 끝나도 처리하지 못한 메시지를 실패 결과로 전달하고 기다리지 않음")
+    void 작업_중단_남은_메시지_실패_결과() {
+        // given
+        batchUseCase = batchUseCase(2, 100);
+        when(processChatMessageUseCase.execute(any(ChatRequest.class), any()))
+                .thenThrow(new LinkageError("모델 클래스 로드 실패"));
+        List<ChatBatchResult> results = Collections.synchronizedList(new ArrayList<>());
+        List<ChatBatchRequest.Item> items = List.of(
+                ChatBatchRequest.Item.builder().message("오사카 맛집").sessionId("a").build(),
+                ChatBatchRequest.Item.builder().message("거기 숙소는?").sessionId("a").build(),
+                ChatBatchRequest.Item.builder().message("환율은?").build());
+
+        // when
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> batchUseCase.execute(ChatBatchRequest.builder().items(items).build(), results::add));
+
+        // then
+        assertThat(results).extracting(ChatBatchResult::getIndex).containsExactlyInAnyOrder(0, 1, 2);
+        assertThat(results).noneMatch(ChatBatchResult::isSuccess);
+    }
+
+    @Test
+    @DisplayName("처리 중에 작업 스레드가 종료돼 대기열의 작업이 버려져도 남은 메시지를 실패 결과로 전달하고 기다리지 않음")
+    void 종료_시_대기_작업_실패_결과() throws Exception {
+        // given
+        batchUseCase = batchUseCase(1, 100);
+        CountDownLatch started = new CountDownLatch(1);
+        when(processChatMessageUseCase.execute(any(ChatRequest.class), any())).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ChatResponse.builder().success(false).message("중단").build();
+        });
+        List<ChatBatchResult> results = Collections.synchronizedList(new ArrayList<>());
+        List<ChatBatchRequest.Item> items = List.of(
+                ChatBatchRequest.Item.builder().message("오사카 맛집").build(),
+                ChatBatchRequest.Item.builder().message("도쿄 숙소").build());
+        Thread stopper = new Thread(() -> {
+            try {
+                started.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+            batchUseCase.shutdown();
+        });
+        stopper.start();
+
+        // when
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> batchUseCase.execute(ChatBatchRequest.builder().items(items).build(), results::add));
+
+        // then
+        assertThat(results).extracting(ChatBatchResult::getIndex).containsExactlyInAnyOrder(0, 1);
+        assertThat(results).noneMatch(ChatBatchResult::isSuccess);
+        verify(processChatMessageUseCase, times(1)).execute(any(ChatRequest.class), any());
+    }
+
+    @Test
+    @DisplayName("일괄 메시지의 모델 호출은 BACKGROUND 우선순위로 게이트웨이를 통과")
+    void 일괄_메시지_백그라운드_우선순위() throws Exception {
+        // given
+        batchUseCase = batchUseCase(2, 100);
+        List<LlmPriority> priorities = Collections.synchronizedList(new ArrayList<>());
+        when(processChatMessageUseCase.execute(any(ChatRequest.class), any())).thenAnswer(invocation -> {
+            priorities.add(LlmCallContext.effectivePriority(LlmPriority.CHAT));
+            return ChatResponse.builder().success(true).message("ok").build();
+        });
+
+        // when
+        batchUseCase.execute(ChatBatchRequest.builder().items(List.of(
+                ChatBatchRequest.Item.builder().message("질문").build())).build(), result -> { });
+
+        // then
+        assertThat(priorities).containsExactly(LlmPriority.BACKGROUND);
+    }
+
+    @Test
+    @DisplayName("비어 있거나 최대 개수를 넘거나 빈 메시지가 있으면 처리 전에 예외")
+    void 요청_검증() {
+        // given
+        batchUseCase = batchUseCase(2, 2);
+        ChatBatchRequest.Item item = ChatBatchRequest.Item.builder().message("질문").build();
+
+        // when & then
+        assertThatThrownBy(() -> batchUseCase.validate(ChatBatchRequest.builder().items(List.of()).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> batchUseCase.validate(
+                ChatBatchRequest.builder().items(List.of(item, item, item)).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> batchUseCase.validate(ChatBatchRequest.builder()
+                .items(List.of(item, ChatBatchRequest.Item.builder().message(" ").build())).build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("1번째");
+        verifyNoInteractions(processChatMessageUseCase);
+    }
+
+    private ProcessChatBatchUseCase batchUseCase(int parallelism, int maxItems) {
+        ChatBatchConfig config = new ChatBatchConfig();
+        config.setParallelism(parallelism);
+        config.setMaxItems(maxItems);
+        return new ProcessChatBatchUseCase(processChatMessageUseCase, config, new SearchTimeoutConfig());
+    }
+}
@@ -3,6 +3,7 @@ package com.yd.travelbot.domain.chatbot.application.usecase;
 import com.yd.travelbot.domain.chatbot.application.dto.request.ChatRequest;
 import com.yd.travelbot.domain.chatbot.application.dto.response.ChatResponse;
 import com.yd.travelbot.domain.chatbot.domain.service.ChatService;
+import com.yd.travelbot.global.metrics.TravelMetrics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,6 +22,9 @@ class ProcessChatMessageUseCaseTest {
     @Mock
     private ChatService chatService;
 
+    @Mock
+    private TravelMetrics travelMetrics;
+
     @InjectMocks
     private ProcessChatMessageUseCase useCase;
 
@@ -46,6 +50,7 @@ class ProcessChatMessageUseCaseTest {
         assertThat(result.getMessage()).isEqualTo(expectedResponse);
         assertThat(result.getSessionId()).isEqualTo(sessionId);
         verify(chatService).chatWithHistory("서울 맛집 추천해줘", "", sessionId);
+        verify(travelMetrics).recordChatTurn(anyLong(), eq(true));
     }
 
     @Test
@@ -137,6 +142,7 @@ class ProcessChatMessageUseCaseTest {
         assertThat(result.getMessage()).contains("오류가 발생했습니다");
         assertThat(result.getMessage()).contains(errorMessage);
         assertThat(result.getSessionId()).isEqualTo(sessionId);
+        verify(travelMetrics).recordChatTurn(anyLong(), eq(false));
     }
 
     @Test
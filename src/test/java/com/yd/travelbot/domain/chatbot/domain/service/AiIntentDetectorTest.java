@@ -4,12 +4,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.BeforeEach;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.yd.travelbot.global.config.IntentClassifierConfig;
+
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.UserMessage;
@@ -23,9 +31,81 @@ class AiIntentDetectorTest {
     @Mock
     private ChatLanguageModel chatLanguageModel;
 
+    @Mock
+    private LocalIntentClassifier localIntentClassifier;
+
+    @Spy
+    private MessageParser messageParser = new MessageParser();
+
+    @Spy
+    private IntentClassifierConfig classifierConfig = new IntentClassifierConfig();
+
     @InjectMocks
     private AiIntentDetector aiIntentDetector;
 
+    @BeforeEach
+    void setUp() {
+        // 기본: 로컬 분류 신뢰도가 낮아 LLM으로 재분류되는 경로
+        lenient().when(localIntentClassifier.classify(anyString()))
+                .thenReturn(new LocalIntentClassifier.Prediction(IntentAnalyzer.Intent.GENERAL, 0.3f));
+    }
+
+    @Test
+    @DisplayName("로컬 분류 신뢰도가 높으면 LLM을 호출하지 않고 슬롯 추출")
+    void 로컬_분류_신뢰도_높음_LLM_미호출() {
+        // given
+        String userInput = "서울 호텔 2024-12-25 부터 2024-12-27 까지 2명";
+        when(localIntentClassifier.classify(userInput))
+                .thenReturn(new LocalIntentClassifier.Prediction(IntentAnalyzer.Intent.ACCOMMODATION, 0.92f));
+
+        // when
+        AiIntentDetector.Result result = aiIntentDetector.detect(userInput);
+
+        // then
+        assertThat(result.intent).isEqualTo(IntentAnalyzer.Intent.ACCOMMODATION);
+        assertThat(result.confidence).isEqualTo(0.92f);
+        assertThat(result.city).isEqualTo("서울");
+        assertThat(result.checkIn).isEqualTo("2024-12-25");
+        assertThat(result.checkOut).isEqualTo("2024-12-27");
+        assertThat(result.guests).isEqualTo(2);
+        verify(chatLanguageModel, never()).generate(any(SystemMessage.class), any(UserMessage.class));
+    }
+
+    @Test
+    @DisplayName("로컬 분류 - 환율 의도는 금액과 통화 슬롯 추출")
+    void 로컬_분류_환율_슬롯() {
+        // given
+        String userInput = "100 USD를 KRW로 변환해줘";
+        when(localIntentClassifier.classify(userInput))
+                .thenReturn(new LocalIntentClassifier.Prediction(IntentAnalyzer.Intent.CURRENCY, 0.88f));
+
+        // when
+        AiIntentDetector.Result result = aiIntentDetector.detect(userInput);
+
+        // then
+        assertThat(result.intent).isEqualTo(IntentAnalyzer.Intent.CURRENCY);
+        assertThat(result.amount).isEqualTo(100.0);
+        assertThat(result.fromCurrency).isEqualTo("USD");
+        assertThat(result.toCurrency).isEqualTo("KRW");
+        verify(chatLanguageModel, never()).generate(any(SystemMessage.class), any(UserMessage.class));
+    }
+
+    @Test
+    @DisplayName("로컬 분류 비활성화 시 항상 LLM 호출")
+    void 로컬_분류_비활성화() {
+        // given
+        classifierConfig.setEnabled(false);
+        when(chatLanguageModel.generate(any(SystemMessage.class), any(UserMessage.class)))
+                .thenReturn(Response.from(AiMessage.from("{\"intent\": \"PLACE\", \"confidence\": 0.8}")));
+
+        // when
+        AiIntentDetector.Result result = aiIntentDetector.detect("파리 명소");
+
+        // then
+        assertThat(result.intent).isEqualTo(IntentAnalyzer.Intent.PLACE);
+        verify(localIntentClassifier, never()).classify(anyString());
+    }
+
     @Test
     @DisplayName("의도 감지 성공 - ACCOMMODATION 의도")
     void 의도_감지_성공_숙소() {
@@ -3,12 +3,18 @@ package com.yd.travelbot.domain.chatbot.domain.service;
 import com.yd.travelbot.domain.accommodation.application.dto.AccommodationResponse;
 import com.yd.travelbot.domain.food.application.dto.FoodResponse;
 import com.yd.travelbot.domain.place.application.dto.PlaceResponse;
+import com.yd.travelbot.global.config.ChatMemoryConfig;
+import com.yd.travelbot.global.llm.LlmOverloadedException;
+import com.yd.travelbot.global.llm.LlmPriority;
+import com.yd.travelbot.global.llm.TokenUsageTracker;
+import com.yd.travelbot.global.metrics.TravelMetrics;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +28,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,11 +41,18 @@ class ChatServiceTest {
     @Mock
     private TravelTools travelTools;
 
+    @Mock
+    private TravelMetrics travelMetrics;
+
+    @Mock
+    private TokenUsageTracker tokenUsageTracker;
+
     private ChatService chatService;
 
     @BeforeEach
     void setUp() {
-        chatService = new ChatService(chatModel, travelTools);
+        chatService = new ChatService(chatModel, travelTools, travelMetrics, tokenUsageTracker,
+                new InMemoryChatMemoryStore(), new ChatMemoryConfig());
     }
 
     @Test
@@ -233,5 +247,50 @@ class ChatServiceTest {
         // 기본 포맷팅이 적용되어야 함
         assertThat(result).contains("호텔 A");
     }
-}
 
+    @Test
+    @DisplayName("게이트웨이 거절 시 재시도 없이 안내 메시지 반환")
+    void 게이트웨이_거절_재시도_없음() {
+        // given
+        when(chatModel.generate(anyList(), anyList()))
+                .thenThrow(new LlmOverloadedException(LlmPriority.CHAT, "queue full"));
+
+        // when
+        String result = chatService.chatWithHistory("서울 맛집 추천", "", "overload-session");
+
+        // then
+        assertThat(result).isEqualTo(LlmOverloadedException.USER_MESSAGE);
+        verify(chatModel, times(1)).generate(anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("게이트웨이 거절 시 포맷팅 재시도 없이 기본 포맷팅")
+    void 게이트웨이_거절_포맷팅_기본값() {
+        // given
+        List<PlaceResponse> places = new ArrayList<>();
+        places.add(PlaceResponse.builder().name("경복궁").category("궁").rating(4.5).build());
+        when(chatModel.generate(any(SystemMessage.class), any(UserMessage.class)))
+                .thenThrow(new LlmOverloadedException(LlmPriority.CHAT, "queue full"));
+
+        // when
+        String result = chatService.formatPlaceResults("서울 관광지", places);
+
+        // then
+        assertThat(result).contains("경복궁");
+        verify(chatModel, times(2)).generate(any(ChatMessage.class), any(ChatMessage.class));
+    }
+
+    @Test
+    @DisplayName("세션 토큰 한도를 다 쓰면 모델을 호출하지 않고 안내")
+    void 세션_토큰_한도_초과() {
+        // given
+        when(tokenUsageTracker.isOverBudget("heavy-session")).thenReturn(true);
+
+        // when
+        String response = chatService.chatWithHistory("도쿄 호텔 더 보여줘", "", "heavy-session");
+
+        // then
+        assertThat(response).isEqualTo(ChatService.TOKEN_BUDGET_MESSAGE);
+        verifyNoInteractions(chatModel);
+    }
+}
@@ -0,0 +1,44 @@
+package com.yd.travelbot.domain.chatbot.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@DisplayName("LocalIntentClassifier 테스트")
+class LocalIntentClassifierTest {
+
+    private static LocalIntentClassifier classifier;
+
+    @BeforeAll
+    static void setUp() {
+        classifier = new LocalIntentClassifier();
+    }
+
+    @ParameterizedTest(name = "{0} → {1}")
+    @DisplayName("학습 데이터에 없는 문장도 의도 분류")
+    @CsvSource(delimiter = '|', value = {
+            "대구 호텔 예약해줘|ACCOMMODATION",
+            "교토 숙소 추천 부탁해|ACCOMMODATION",
+            "hotel in berlin for 3 guests|ACCOMMODATION",
+            "전주 맛집 추천|FOOD",
+            "로마 레스토랑 알려줘|FOOD",
+            "good restaurants in seoul|FOOD",
+            "런던 관광지 알려줘|PLACE",
+            "부산 가볼만한 명소|PLACE",
+            "attractions in barcelona|PLACE",
+            "엔화 환율 알려줘|CURRENCY",
+            "50 EUR to USD|CURRENCY",
+            "안녕 반가워|GENERAL"
+    })
+    void 의도_분류(String text, IntentAnalyzer.Intent expected) {
+        // when
+        LocalIntentClassifier.Prediction prediction = classifier.classify(text);
+
+        // then
+        assertThat(prediction.intent()).isEqualTo(expected);
+        assertThat(prediction.confidence()).isBetween(0f, 1f);
+    }
+}
@@ -1,6 +1,7 @@
 package com.yd.travelbot.domain.chatbot.domain.service;
 
 import java.math.BigDecimal;
+import java.text.Normalizer;
 import java.time.LocalDate;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -309,5 +310,34 @@ class MessageParserTest {
         // then
         assertThat(result).isNull();
     }
-}
 
+    @Test
+    @DisplayName("도시명 추출 - 영문 약어는 단어 중간에서 매칭하지 않음")
+    void 도시명_추출_약어_단어_경계() {
+        // when & then
+        assertThat(messageParser.extractCity("Las Vegas 호텔")).isEqualTo("라스베가스");
+        assertThat(messageParser.extractCity("salad 맛집")).isNull();
+    }
+
+    @Test
+    @DisplayName("통화 추출 - 숫자에 붙은 통화 코드")
+    void 통화_추출_숫자_붙은_코드() {
+        // when & then
+        assertThat(messageParser.extractCurrency("100USD를 EUR로", "from")).isEqualTo("USD");
+        assertThat(messageParser.extractCurrency("100USD를 EUR로", "to")).isEqualTo("EUR");
+    }
+
+    @Test
+    @DisplayName("어휘 추출 - 자모가 분리된(NFD) 한글과 전각 영문자도 인식")
+    void 어휘_추출_유니코드_정규화() {
+        // given: macOS에서 붙여 넣은 글처럼 자모가 분리된 입력
+        String decomposed = Normalizer.normalize("부산 맛집 100달러를 유로로", Normalizer.Form.NFD);
+
+        // when & then
+        assertThat(decomposed).isNotEqualTo("부산 맛집 100달러를 유로로");
+        assertThat(messageParser.extractCity(decomposed)).isEqualTo("부산");
+        assertThat(messageParser.extractCurrency(decomposed, "from")).isEqualTo("USD");
+        assertThat(messageParser.extractCity("Ｔｏｋｙｏ 호텔")).isEqualTo("도쿄");
+        assertThat(messageParser.extractCurrency("100ＵＳＤ를 EUR로", "from")).isEqualTo("USD");
+    }
+}
@@ -8,18 +8,46 @@ import com.yd.travelbot.domain.food.application.dto.FoodResponse;
 import com.yd.travelbot.domain.food.application.usecase.SearchFoodUseCase;
 import com.yd.travelbot.domain.place.application.dto.PlaceResponse;
 import com.yd.travelbot.domain.place.application.usecase.SearchPlaceUseCase;
+import com.yd.travelbot.domain.place.domain.service.PlaceDomainService;
+import com.yd.travelbot.domain.place.infra.GeoapifyPlaceRepository;
+import com.yd.travelbot.domain.trip.application.dto.TripPlanResponse;
+import com.yd.travelbot.domain.trip.application.usecase.PlanTripUseCase;
+import com.yd.travelbot.global.config.GeoapifyConfig;
+import com.yd.travelbot.global.config.LastKnownGoodConfig;
+import com.yd.travelbot.global.config.LookupCacheConfig;
+import com.yd.travelbot.global.config.RankingConfig;
+import com.yd.travelbot.global.config.SearchTimeoutConfig;
+import com.yd.travelbot.global.deadline.Deadline;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+import com.yd.travelbot.global.ranking.SearchRanking;
+import com.yd.travelbot.global.resolver.GeoapifyCityResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.context.Scope;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -41,6 +69,15 @@ class TravelToolsTest {
     @Mock
     private ConvertCurrencyUseCase convertCurrencyUseCase;
 
+    @Mock
+    private PlanTripUseCase planTripUseCase;
+
+    @Mock
+    private TravelMetrics travelMetrics;
+
+    @Spy
+    private SearchTimeoutConfig searchTimeoutConfig = new SearchTimeoutConfig();
+
     @InjectMocks
     private TravelTools travelTools;
 
@@ -62,8 +99,8 @@ class TravelToolsTest {
                 .rating(4.5)
                 .build());
 
-        when(searchAccommodationUseCase.execute(any()))
-                .thenReturn(accommodations);
+        when(searchAccommodationUseCase.executeAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(accommodations));
 
         // when
         String result = travelTools.searchAccommodation(city, checkIn, checkOut, guests);
@@ -72,7 +109,7 @@ class TravelToolsTest {
         assertThat(result).isNotNull();
         assertThat(result).contains("서울");
         assertThat(result).contains("호텔 A");
-        verify(searchAccommodationUseCase).execute(any());
+        verify(searchAccommodationUseCase).executeAsync(any());
     }
 
     @Test
@@ -90,8 +127,8 @@ class TravelToolsTest {
                 .rating(4.5)
                 .build());
 
-        when(searchFoodUseCase.execute(any()))
-                .thenReturn(foods);
+        when(searchFoodUseCase.executeAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(foods));
 
         // when
         String result = travelTools.searchFood(city, cuisine);
@@ -100,7 +137,7 @@ class TravelToolsTest {
         assertThat(result).isNotNull();
         assertThat(result).contains("서울");
         assertThat(result).contains("맛집 A");
-        verify(searchFoodUseCase).execute(any());
+        verify(searchFoodUseCase).executeAsync(any());
     }
 
     @Test
@@ -118,8 +155,8 @@ class TravelToolsTest {
                 .rating(4.5)
                 .build());
 
-        when(searchPlaceUseCase.execute(any()))
-                .thenReturn(places);
+        when(searchPlaceUseCase.executeAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(places));
 
         // when
         String result = travelTools.searchPlace(city, category);
@@ -128,7 +165,7 @@ class TravelToolsTest {
         assertThat(result).isNotNull();
         assertThat(result).contains("서울");
         assertThat(result).contains("국립중앙박물관");
-        verify(searchPlaceUseCase).execute(any());
+        verify(searchPlaceUseCase).executeAsync(any());
     }
 
     @Test
@@ -146,8 +183,8 @@ class TravelToolsTest {
                 .convertedAmount(new BigDecimal("130050.00"))
                 .build();
 
-        when(convertCurrencyUseCase.execute(any()))
-                .thenReturn(currencyResponse);
+        when(convertCurrencyUseCase.executeAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(currencyResponse));
 
         // when
         String result = travelTools.convertCurrency(amount, fromCurrency, toCurrency);
@@ -158,7 +195,7 @@ class TravelToolsTest {
         assertThat(result).contains("KRW");
         // formatAmount로 포맷되므로 "130,050" 또는 "130050" 형태일 수 있음
         assertThat(result).containsAnyOf("130050", "130,050", "130,050.00");
-        verify(convertCurrencyUseCase).execute(any());
+        verify(convertCurrencyUseCase).executeAsync(any());
     }
 
     @Test
@@ -170,8 +207,8 @@ class TravelToolsTest {
         String checkOut = LocalDate.now().plusDays(3).toString();
         Integer guests = 2;
 
-        when(searchAccommodationUseCase.execute(any()))
-                .thenThrow(new RuntimeException("검색 실패"));
+        when(searchAccommodationUseCase.executeAsync(any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("검색 실패")));
 
         // when
         String result = travelTools.searchAccommodation(city, checkIn, checkOut, guests);
@@ -179,7 +216,7 @@ class TravelToolsTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result).contains("오류가 발생했습니다");
-        verify(searchAccommodationUseCase).execute(any());
+        verify(searchAccommodationUseCase).executeAsync(any());
     }
 
     @Test
@@ -191,8 +228,8 @@ class TravelToolsTest {
         String checkOut = LocalDate.now().plusDays(3).toString();
         Integer guests = 2;
 
-        when(searchAccommodationUseCase.execute(any()))
-                .thenReturn(new ArrayList<>());
+        when(searchAccommodationUseCase.executeAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(new ArrayList<>()));
 
         // when
         String result = travelTools.searchAccommodation(city, checkIn, checkOut, guests);
@@ -201,5 +238,172 @@ class TravelToolsTest {
         assertThat(result).isNotNull();
         assertThat(result).contains("찾지 못했습니다");
     }
-}
 
+    @Test
+    @DisplayName("시간 초과 - 조회가 제한 시간을 넘기면 기다리지 않고 지연 안내를 반환")
+    void 시간_초과_searchFood() {
+        // given
+        CompletableFuture<List<FoodResponse>> pending = new CompletableFuture<>();
+        searchTimeoutConfig.setFood(Duration.ofMillis(50));
+        when(searchFoodUseCase.executeAsync(any())).thenReturn(pending);
+
+        // when
+        String result = travelTools.searchFood("서울", null);
+
+        // then
+        assertThat(result).contains("응답이 늦어지고 있습니다");
+        assertThat(pending).isCancelled();
+    }
+
+    @Test
+    @DisplayName("대화 턴 취소 - 툴 스레드를 인터럽트하면 진행 중인 외부 API 호출까지 취소하고 인터럽트 상태를 남김")
+    void 턴_취소_searchPlace() throws Exception {
+        // given: 실제 유스케이스/저장소가 응답하지 않는 Geoapify를 호출
+        MockWebServer server = new MockWebServer();
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE));
+        server.start();
+        CountDownLatch cancelled = new CountDownLatch(1);
+        OkHttpClient client = cancelTrackingClient(cancelled);
+        TravelTools tools = toolsWithGeoapifyPlaces(server, client);
+
+        AtomicReference<String> result = new AtomicReference<>();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Thread turn = new Thread(() -> {
+            result.set(tools.searchPlace("서울", null));
+            interrupted.set(Thread.currentThread().isInterrupted());
+        });
+        try {
+            turn.start();
+            assertThat(server.takeRequest(5, TimeUnit.SECONDS)).isNotNull();
+
+            // when: 대화 턴 취소 (ChatWebSocketHandler가 처리 스레드를 인터럽트)
+            turn.interrupt();
+            turn.join(5_000);
+
+            // then
+            assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(result.get()).contains("취소되었습니다");
+            assertThat(interrupted.get()).isTrue();
+        } finally {
+            client.dispatcher().executorService().shutdownNow();
+            server.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("시간 초과 - 툴이 조회를 포기하면 턴 예산을 기다리지 않고 진행 중인 외부 API 호출을 취소")
+    void 시간_초과_외부_호출_취소() throws Exception {
+        // given
+        MockWebServer server = new MockWebServer();
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE));
+        server.start();
+        CountDownLatch cancelled = new CountDownLatch(1);
+        OkHttpClient client = cancelTrackingClient(cancelled);
+        TravelTools tools = toolsWithGeoapifyPlaces(server, client);
+        searchTimeoutConfig.setPlace(Duration.ofMillis(300));
+
+        try (Scope ignored = Deadline.start(Duration.ofSeconds(60))) {
+            // when
+            String result = tools.searchPlace("서울", null);
+
+            // then
+            assertThat(result).contains("응답이 늦어지고 있습니다");
+            assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(server.getRequestCount()).isEqualTo(1);
+        } finally {
+            client.dispatcher().executorService().shutdownNow();
+            server.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("툴 호출 시작/종료를 현재 턴의 진행 리스너에 알림")
+    void 진행_상황_알림() {
+        // given
+        List<String> events = new ArrayList<>();
+        when(searchFoodUseCase.executeAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+        ChatProgress.Listener listener = new ChatProgress.Listener() {
+            @Override
+            public void toolStarted(String tool, String label) {
+                events.add("started " + tool + " " + label);
+            }
+
+            @Override
+            public void toolFinished(String tool, boolean success) {
+                events.add("done " + tool + " " + success);
+            }
+        };
+
+        // when
+        try (Scope ignored = ChatProgress.listen(listener)) {
+            travelTools.searchFood("부산", null);
+        }
+        travelTools.searchFood("부산", null);
+
+        // then
+        assertThat(events).containsExactly("started searchFood 음식점 검색 중…", "done searchFood true");
+    }
+
+    @Test
+    @DisplayName("planTrip - 여행 계획 묶음을 한 번에 조회하고 빠진 항목을 안내")
+    void planTrip_성공() {
+        // given
+        TripPlanResponse plan = TripPlanResponse.builder()
+                .city("오사카")
+                .checkIn(LocalDate.of(2026, 11, 1))
+                .checkOut(LocalDate.of(2026, 11, 3))
+                .guests(1)
+                .places(List.of(PlaceResponse.builder().name("오사카성").category("명소").build()))
+                .foods(List.of(FoodResponse.builder().name("타코야키").build()))
+                .accommodations(List.of())
+                .currency(CurrencyResponse.builder()
+                        .fromCurrency("KRW").toCurrency("JPY").rate(new BigDecimal("0.11")).build())
+                .incomplete(List.of("accommodations"))
+                .build();
+        when(planTripUseCase.execute(any())).thenReturn(plan);
+
+        // when
+        String result = travelTools.planTrip("오사카", "2026-11-01", 2, null, "JPY");
+
+        // then
+        assertThat(result).contains("오사카 여행 계획");
+        assertThat(result).contains("오사카성");
+        assertThat(result).contains("타코야키");
+        assertThat(result).contains("1 KRW = 0.11 JPY");
+        assertThat(result).contains("빠진 항목: accommodations");
+        verify(planTripUseCase).execute(any());
+    }
+
+    private static OkHttpClient cancelTrackingClient(CountDownLatch cancelled) {
+        return new OkHttpClient.Builder()
+                .eventListener(new EventListener() {
+                    @Override
+                    public void canceled(Call call) {
+                        cancelled.countDown();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * searchPlace만 실제 유스케이스/저장소로 MockWebServer를 호출하는 TravelTools
+     */
+    private TravelTools toolsWithGeoapifyPlaces(MockWebServer server, OkHttpClient client) {
+        GeoapifyConfig geoapifyConfig = new GeoapifyConfig();
+        geoapifyConfig.setApiKey("test-key");
+        geoapifyConfig.setBaseUrl(server.url("/").toString().replaceAll("/$", ""));
+        LastKnownGoodConfig lastKnownGoodConfig = new LastKnownGoodConfig();
+        lastKnownGoodConfig.setDirectory("");
+        GeoapifyCityResolver cityResolver = mock(GeoapifyCityResolver.class);
+        when(cityResolver.resolveCoordinatesAsync("서울", "kr"))
+                .thenReturn(CompletableFuture.completedFuture(new Double[]{126.978, 37.5665}));
+        TravelMetrics metrics = new TravelMetrics(new SimpleMeterRegistry());
+        SearchPlaceUseCase placeUseCase = new SearchPlaceUseCase(
+                new GeoapifyPlaceRepository(geoapifyConfig, cityResolver, client, new LookupCacheConfig(),
+                        lastKnownGoodConfig, metrics),
+                new PlaceDomainService(), new SearchRanking(new RankingConfig()), cityResolver);
+        return new TravelTools(searchAccommodationUseCase, searchFoodUseCase, placeUseCase,
+                convertCurrencyUseCase, planTripUseCase, metrics, searchTimeoutConfig);
+    }
+}
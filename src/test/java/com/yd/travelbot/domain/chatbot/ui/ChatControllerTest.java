@@ -1,24 +1,39 @@
 package com.yd.travelbot.domain.chatbot.ui;
 
+import com.yd.travelbot.domain.chatbot.application.dto.request.ChatBatchRequest;
 import com.yd.travelbot.domain.chatbot.application.dto.request.ChatRequest;
+import com.yd.travelbot.domain.chatbot.application.dto.response.ChatBatchResult;
 import com.yd.travelbot.domain.chatbot.application.dto.response.ChatResponse;
+import com.yd.travelbot.domain.chatbot.application.usecase.ProcessChatBatchUseCase;
 import com.yd.travelbot.domain.chatbot.application.usecase.ProcessChatMessageUseCase;
+import com.yd.travelbot.global.config.SearchTimeoutConfig;
+import com.yd.travelbot.global.deadline.Deadline;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ChatController.class)
+@Import(SearchTimeoutConfig.class)
 @DisplayName("ChatController 테스트")
 class ChatControllerTest {
 
@@ -28,6 +43,9 @@ class ChatControllerTest {
     @MockitoBean
     private ProcessChatMessageUseCase processChatMessageUseCase;
 
+    @MockitoBean
+    private ProcessChatBatchUseCase processChatBatchUseCase;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -85,6 +103,29 @@ class ChatControllerTest {
             .andExpect(jsonPath("$.sessionId").exists());
     }
 
+    @Test
+    @DisplayName("대화 턴은 chat-turn 시간 예산 안에서 처리")
+    void 대화_턴_시간_예산() throws Exception {
+        // given
+        ChatController.WebChatRequest request = new ChatController.WebChatRequest();
+        request.setMessage("도쿄 숙소 찾아줘");
+        long[] remainingNanos = new long[1];
+        when(processChatMessageUseCase.execute(any(ChatRequest.class), any())).thenAnswer(invocation -> {
+            remainingNanos[0] = Deadline.current() != null ? Deadline.current().remainingNanos() : -1;
+            return ChatResponse.builder().message("ok").success(true).sessionId("s").build();
+        });
+
+        // when
+        mockMvc.perform(post("/api/chat")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk());
+
+        // then
+        assertThat(remainingNanos[0]).isPositive().isLessThanOrEqualTo(60_000_000_000L);
+        assertThat(Deadline.current()).isNull();
+    }
+
     @Test
     @DisplayName("응답 형식 검증 - success, message, sessionId")
     void 응답_형식_검증() throws Exception {
@@ -178,5 +219,86 @@ class ChatControllerTest {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.sessionId").value("existing-session-789"));
     }
-}
 
+    @Test
+    @DisplayName("debug 요청이면 응답에 debug 필드 포함, 아니면 생략")
+    void debug_필드_포함() throws Exception {
+        // given
+        ChatController.WebChatRequest request = new ChatController.WebChatRequest();
+        request.setMessage("서울 맛집");
+        request.setDebug(true);
+
+        ChatResponse chatResponse = ChatResponse.builder()
+                .message("추천입니다.")
+                .success(true)
+                .sessionId("debug-session")
+                .build();
+
+        when(processChatMessageUseCase.execute(any(ChatRequest.class), any()))
+                .thenReturn(chatResponse);
+
+        // when & then
+        mockMvc.perform(post("/api/chat")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.debug").exists());
+
+        request.setDebug(null);
+        mockMvc.perform(post("/api/chat")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.debug").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("일괄 요청 - 결과를 한 줄에 하나씩 NDJSON으로 전송")
+    void 일괄_요청_NDJSON() throws Exception {
+        // given
+        ChatBatchRequest request = ChatBatchRequest.builder()
+                .items(List.of(
+                        ChatBatchRequest.Item.builder().id("q1").message("서울 맛집").build(),
+                        ChatBatchRequest.Item.builder().id("q2").message("부산 숙소").build()))
+                .build();
+        doAnswer(invocation -> {
+            Consumer<ChatBatchResult> sink = invocation.getArgument(1);
+            sink.accept(ChatBatchResult.builder().index(1).id("q2").success(true).message("부산 숙소 목록").build());
+            sink.accept(ChatBatchResult.builder().index(0).id("q1").success(true).message("서울 맛집 목록").build());
+            return null;
+        }).when(processChatBatchUseCase).execute(any(ChatBatchRequest.class), any());
+
+        // when
+        MvcResult started = mockMvc.perform(post("/api/chat/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        String body = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines.get(0)).get("id").asText())
+                .isEqualTo("q2");
+        assertThat(objectMapper.readTree(lines.get(1)).get("index").asInt())
+                .isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("일괄 요청 - 잘못된 요청은 처리 전에 400")
+    void 일괄_요청_검증_실패() throws Exception {
+        // given
+        doThrow(new IllegalArgumentException("처리할 메시지가 없습니다."))
+                .when(processChatBatchUseCase).validate(any(ChatBatchRequest.class));
+
+        // when & then
+        mockMvc.perform(post("/api/chat/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"items\":[]}"))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,197 @@
+package com.yd.travelbot.domain.chatbot.ui;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yd.travelbot.domain.chatbot.application.dto.request.ChatRequest;
+import com.yd.travelbot.domain.chatbot.application.dto.response.ChatResponse;
+import com.yd.travelbot.domain.chatbot.application.usecase.ProcessChatMessageUseCase;
+import com.yd.travelbot.domain.chatbot.domain.service.ChatProgress;
+import com.yd.travelbot.global.config.ChatSocketConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ChatWebSocketHandler 테스트")
+class ChatWebSocketHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ProcessChatMessageUseCase processChatMessageUseCase = mock(ProcessChatMessageUseCase.class);
+    private final List<JsonNode> sent = new CopyOnWriteArrayList<>();
+    private ChatWebSocketHandler handler;
+    private WebSocketSession session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        handler = new ChatWebSocketHandler(processChatMessageUseCase, objectMapper, new ChatSocketConfig(),
+                Duration.ofSeconds(60));
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("ws-1");
+        when(session.isOpen()).thenReturn(true);
+        when(session.getUri()).thenReturn(URI.create("ws://localhost/ws/chat?sessionId=session-1"));
+        doAnswer(invocation -> {
+            TextMessage message = invocation.getArgument(0);
+            sent.add(objectMapper.readTree(message.getPayload()));
+            return null;
+        }).when(session).sendMessage(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        handler.shutdown();
+    }
+
+    @Test
+    @DisplayName("연결하면 세션을 알리고, 질문하면 툴 진행 이벤트와 답변을 보냄")
+    void 툴_진행_이벤트와_답변() throws Exception {
+        // given
+        when(processChatMessageUseCase.execute(any(ChatRequest.class), eq("session-1"))).thenAnswer(invocation -> {
+            ChatProgress.toolStarted("searchAccommodation");
+            ChatProgress.toolFinished("searchAccommodation", true);
+            return ChatResponse.builder().success(true).message("숙소 목록입니다").sessionId("session-1").build();
+        });
+
+        // when
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session, new TextMessage("{\"type\":\"message\",\"message\":\"서울 숙소\"}"));
+        waitUntil(() -> sent.size() == 4);
+
+        // then
+        assertThat(sent).extracting(event -> event.get("type").asText())
+                .containsExactly("session", "tool", "tool", "answer");
+        assertThat(sent.get(0).get("sessionId").asText()).isEqualTo("session-1");
+        assertThat(sent.get(1).get("label").asText()).isEqualTo("숙소 검색 중…");
+        assertThat(sent.get(2).get("status").asText()).isEqualTo("done");
+        assertThat(sent.get(3).get("message").asText()).isEqualTo("숙소 목록입니다");
+    }
+
+    @Test
+    @DisplayName("취소하면 처리 중인 턴을 인터럽트하고, 늦게 끝난 결과는 보내지 않음")
+    void 턴_취소() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(processChatMessageUseCase.execute(any(ChatRequest.class), any())).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new CancellationException("대화 턴 취소");
+            }
+            return ChatResponse.builder().success(true).message("늦은 답변").build();
+        });
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session, new TextMessage("{\"type\":\"message\",\"message\":\"파리 맛집\"}"));
+        started.await(1, TimeUnit.SECONDS);
+
+        // when
+        handler.handleTextMessage(session, new TextMessage("{\"type\":\"message\",\"message\":\"또 질문\"}"));
+        handler.handleTextMessage(session, new TextMessage("{\"type\":\"cancel\"}"));
+
+        // then
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(sent).extracting(event -> event.get("type").asText())
+                .containsExactly("session", "error", "cancelled");
+        verify(processChatMessageUseCase, times(1)).execute(any(ChatRequest.class), any());
+    }
+
+    @Test
+    @DisplayName("취소한 턴의 처리 스레드가 멈추기 전에는 다음 질문을 거절하고, 멈춘 뒤에는 받음")
+    void 취소_후_처리_스레드가_끝날_때까지_거절() throws Exception {
+        // given: 인터럽트를 무시하고 이어지는 모델 호출
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(processChatMessageUseCase.execute(any(ChatRequest.class), any())).thenAnswer(invocation -> {
+            started.countDown();
+            while (true) {
+                try {
+                    if (release.await(5, TimeUnit.SECONDS)) {
+                        break;
+                    }
+                } catch (InterruptedException ignored) {
+                    // 인터럽트를 무시
+                }
+            }
+            return ChatResponse.builder().success(true).message("답변").sessionId("session-1").build();
+        });
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session, new TextMessage("{\"type\":\"message\",\"message\":\"파리 맛집\"}"));
+        started.await(1, TimeUnit.SECONDS);
+
+        // when
+        handler.handleTextMessage(session, new TextMessage("{\"type\":\"cancel\"}"));
+        handler.handleTextMessage(session, new TextMessage("{\"type\":\"message\",\"message\":\"또 질문\"}"));
+        release.countDown();
+        verify(processChatMessageUseCase, times(1)).execute(any(ChatRequest.class), any());
+        waitUntil(() -> {
+            if (mockingDetails(processChatMessageUseCase).getInvocations().size() == 2) {
+                return true;
+            }
+            // 앞 턴이 끝나기 전에는 거절되므로 받아들여질 때까지 다시 보냄
+            handler.handleTextMessage(session, new TextMessage("{\"type\":\"message\",\"message\":\"다시 질문\"}"));
+            return false;
+        });
+        waitUntil(() -> sent.stream().anyMatch(event -> "answer".equals(event.get("type").asText())));
+
+        // then
+        assertThat(sent).extracting(event -> event.get("type").asText())
+                .startsWith("session", "cancelled", "error");
+        assertThat(sent.get(2).get("message").asText()).contains("취소하는 중");
+        verify(processChatMessageUseCase, times(2)).execute(any(ChatRequest.class), any());
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 진행 중인 턴을 중단")
+    void 연결_종료_시_취소() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(processChatMessageUseCase.execute(any(ChatRequest.class), any())).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return ChatResponse.builder().success(true).message("늦은 답변").build();
+        });
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session, new TextMessage("{\"type\":\"message\",\"message\":\"도쿄 관광지\"}"));
+        started.await(1, TimeUnit.SECONDS);
+
+        // when
+        handler.afterConnectionClosed(session, CloseStatus.GOING_AWAY);
+
+        // then
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(handler.activeConnections()).isZero();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건 대기 시간 초과");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
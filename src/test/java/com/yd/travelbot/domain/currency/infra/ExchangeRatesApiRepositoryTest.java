@@ -2,6 +2,13 @@ package com.yd.travelbot.domain.currency.infra;
 
 import com.yd.travelbot.domain.currency.domain.entity.Currency;
 import com.yd.travelbot.global.config.ExchangeRatesConfig;
+import com.yd.travelbot.global.config.LastKnownGoodConfig;
+import com.yd.travelbot.global.config.LookupCacheConfig;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +17,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.lenient;
@@ -31,7 +39,13 @@ class ExchangeRatesApiRepositoryTest {
         
         // Repository는 실제 URL을 사용하므로, 리플렉션이나 테스트용 생성자가 필요
         // 여기서는 기본 동작 검증에 집중
-        repository = new ExchangeRatesApiRepository(exchangeRatesConfig);
+        // 환율표는 매번 새로 조회하고, 마지막 정상 결과는 힙에만 보관
+        LookupCacheConfig lookupCacheConfig = new LookupCacheConfig();
+        lookupCacheConfig.setExchangeRateTtl(Duration.ZERO);
+        LastKnownGoodConfig lastKnownGoodConfig = new LastKnownGoodConfig();
+        lastKnownGoodConfig.setDirectory("");
+        repository = new ExchangeRatesApiRepository(exchangeRatesConfig, new OkHttpClient(),
+                lookupCacheConfig, lastKnownGoodConfig, new TravelMetrics(new SimpleMeterRegistry()));
     }
 
     @Test
@@ -51,18 +65,37 @@ class ExchangeRatesApiRepositoryTest {
     }
 
     @Test
-    @DisplayName("기본 환율 반환 - API 실패 시 기본값 사용")
-    void 기본_환율_반환() {
-        // given
-        // API 호출이 실패하는 경우 기본 환율 반환
-        // 실제 구현에서는 getDefaultRate 메서드가 호출됨
-
+    @DisplayName("환율 조회 실패 - 받은 적 있는 환율표가 없으면 만든 환율 대신 null 반환")
+    void 환율_조회_실패() {
         // when
+        // 환율 API 주소가 없어 조회가 실패함
         Currency result = repository.getExchangeRate("USD", "KRW");
 
         // then
-        // 기본 환율이 반환되거나 예외가 발생하지 않아야 함
-        assertThat(result).isNotNull();
+        assertThat(result).isNull();
     }
-}
 
+    @Test
+    @DisplayName("환율 조회 실패 - 마지막으로 받은 환율표를 받은 시각과 함께 사용")
+    void 마지막_환율표_사용() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            // given
+            server.enqueue(new MockResponse().setBody(
+                    "[{\"cur_unit\":\"USD\",\"deal_bas_r\":\"1,400\"}]"));
+            for (int i = 0; i <= 5; i++) {
+                server.enqueue(new MockResponse().setResponseCode(500));
+            }
+            when(exchangeRatesConfig.exchangeUrl()).thenReturn(server.url("/exchangeJSON").toString());
+            Currency fresh = repository.getExchangeRate("USD", "KRW");
+
+            // when
+            Currency stale = repository.getExchangeRate("USD", "KRW");
+
+            // then
+            assertThat(fresh.getStaleAsOf()).isNull();
+            assertThat(stale.getRate()).isEqualByComparingTo("1400");
+            assertThat(stale.getStaleAsOf()).isNotNull();
+            assertThat(server.getRequestCount()).isEqualTo(7);
+        }
+    }
+}
@@ -5,17 +5,23 @@ import com.yd.travelbot.domain.food.application.dto.FoodSearchRequest;
 import com.yd.travelbot.domain.food.domain.entity.Food;
 import com.yd.travelbot.domain.food.domain.repository.FoodRepository;
 import com.yd.travelbot.domain.food.domain.service.FoodDomainService;
+import com.yd.travelbot.global.config.RankingConfig;
+import com.yd.travelbot.global.ranking.SearchRanking;
+import com.yd.travelbot.global.resolver.CityLocation;
+import com.yd.travelbot.global.resolver.GeoapifyCityResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,6 +37,12 @@ class SearchFoodUseCaseTest {
     @Mock
     private FoodDomainService domainService;
 
+    @Spy
+    private SearchRanking searchRanking = new SearchRanking(new RankingConfig());
+
+    @Mock
+    private GeoapifyCityResolver cityResolver;
+
     @InjectMocks
     private SearchFoodUseCase useCase;
 
@@ -223,5 +235,71 @@ class SearchFoodUseCaseTest {
         // then
         assertThat(result).isEmpty();
     }
-}
 
+    @Test
+    @DisplayName("비동기 검색 - 저장소 future가 끝나면 같은 필터를 적용해 완료")
+    void 비동기_검색_성공() {
+        // given
+        FoodSearchRequest request = FoodSearchRequest.builder()
+                .city("서울")
+                .cuisine("한식")
+                .minRating(4.5)
+                .build();
+        CompletableFuture<List<Food>> pending = new CompletableFuture<>();
+
+        when(foodRepository.searchAsync("서울", "한식"))
+                .thenReturn(pending);
+        when(domainService.filterByRating(foods, 4.5))
+                .thenReturn(List.of(foods.get(0)));
+
+        // when
+        CompletableFuture<List<FoodResponse>> result = useCase.executeAsync(request);
+        pending.complete(foods);
+
+        // then
+        assertThat(result.join()).extracting(FoodResponse::getName).containsExactly("맛집 A");
+        verify(foodRepository, never()).search(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("순위 - 도시 중심과 가깝고 요청한 요리 종류인 음식점을 앞에 두고 상위 10개만 반환")
+    void 순위_상위_결과() {
+        // given
+        FoodSearchRequest request = FoodSearchRequest.builder()
+                .city("도쿄")
+                .cuisine("일식")
+                .build();
+        List<Food> candidates = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            candidates.add(Food.builder()
+                    .id("far-" + i)
+                    .name("먼 식당 " + i)
+                    .rating(4.0)
+                    .latitude(35.6812 + 0.1 + i * 0.001)
+                    .longitude(139.7671)
+                    .categories(List.of("catering.restaurant"))
+                    .build());
+        }
+        candidates.add(Food.builder()
+                .id("sushi")
+                .name("스시 가게")
+                .rating(4.0)
+                .latitude(35.6815)
+                .longitude(139.7670)
+                .categories(List.of("catering.restaurant.sushi"))
+                .build());
+
+        when(foodRepository.searchAsync("도쿄", "일식"))
+                .thenReturn(CompletableFuture.completedFuture(candidates));
+        when(cityResolver.findLocation("도쿄", null))
+                .thenReturn(CityLocation.of("Tokyo", 139.7671, 35.6812, "jp"));
+
+        // when
+        List<FoodResponse> result = useCase.executeAsync(request).join();
+
+        // then
+        assertThat(result).hasSize(10);
+        assertThat(result.get(0).getName()).isEqualTo("스시 가게");
+        assertThat(result.get(1).getName()).isEqualTo("먼 식당 0");
+    }
+}
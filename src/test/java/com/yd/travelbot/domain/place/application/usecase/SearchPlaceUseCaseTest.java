@@ -5,16 +5,35 @@ import com.yd.travelbot.domain.place.application.dto.PlaceSearchRequest;
 import com.yd.travelbot.domain.place.domain.entity.Place;
 import com.yd.travelbot.domain.place.domain.repository.PlaceRepository;
 import com.yd.travelbot.domain.place.domain.service.PlaceDomainService;
+import com.yd.travelbot.domain.place.infra.GeoapifyPlaceRepository;
+import com.yd.travelbot.global.config.GeoapifyConfig;
+import com.yd.travelbot.global.config.LastKnownGoodConfig;
+import com.yd.travelbot.global.config.LookupCacheConfig;
+import com.yd.travelbot.global.config.RankingConfig;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+import com.yd.travelbot.global.ranking.SearchRanking;
+import com.yd.travelbot.global.resolver.GeoapifyCityResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -30,6 +49,12 @@ class SearchPlaceUseCaseTest {
     @Mock
     private PlaceDomainService domainService;
 
+    @Spy
+    private SearchRanking searchRanking = new SearchRanking(new RankingConfig());
+
+    @Mock
+    private GeoapifyCityResolver cityResolver;
+
     @InjectMocks
     private SearchPlaceUseCase useCase;
 
@@ -225,5 +250,49 @@ class SearchPlaceUseCaseTest {
         // then
         assertThat(result).isEmpty();
     }
-}
 
+    @Test
+    @DisplayName("조회 취소 - 유스케이스 future를 취소하면 진행 중인 외부 API 호출도 취소")
+    void 조회_취소_외부_호출_취소() throws Exception {
+        // given
+        MockWebServer server = new MockWebServer();
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE));
+        server.start();
+        CountDownLatch cancelled = new CountDownLatch(1);
+        OkHttpClient client = new OkHttpClient.Builder()
+                .eventListener(new EventListener() {
+                    @Override
+                    public void canceled(Call call) {
+                        cancelled.countDown();
+                    }
+                })
+                .build();
+        GeoapifyConfig geoapifyConfig = new GeoapifyConfig();
+        geoapifyConfig.setApiKey("test-key");
+        geoapifyConfig.setBaseUrl(server.url("/").toString().replaceAll("/$", ""));
+        LastKnownGoodConfig lastKnownGoodConfig = new LastKnownGoodConfig();
+        lastKnownGoodConfig.setDirectory("");
+        when(cityResolver.resolveCoordinatesAsync("서울", "kr"))
+                .thenReturn(CompletableFuture.completedFuture(new Double[]{126.978, 37.5665}));
+        GeoapifyPlaceRepository repository = new GeoapifyPlaceRepository(geoapifyConfig, cityResolver, client,
+                new LookupCacheConfig(), lastKnownGoodConfig, new TravelMetrics(new SimpleMeterRegistry()));
+        SearchPlaceUseCase realUseCase = new SearchPlaceUseCase(repository, new PlaceDomainService(), searchRanking,
+                cityResolver);
+
+        try {
+            CompletableFuture<List<PlaceResponse>> result = realUseCase.executeAsync(
+                    PlaceSearchRequest.builder().city("서울").build());
+            assertThat(server.takeRequest(5, TimeUnit.SECONDS)).isNotNull();
+
+            // when
+            result.cancel(true);
+
+            // then
+            assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(client.dispatcher().runningCalls()).allMatch(Call::isCanceled);
+        } finally {
+            client.dispatcher().executorService().shutdownNow();
+            server.shutdown();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.yd.travelbot.domain.trip.application.usecase;
+
+import com.yd.travelbot.domain.accommodation.application.dto.AccommodationResponse;
+import com.yd.travelbot.domain.accommodation.application.dto.AccommodationSearchRequest;
+import com.yd.travelbot.domain.accommodation.application.usecase.SearchAccommodationUseCase;
+import com.yd.travelbot.domain.currency.application.dto.CurrencyConvertRequest;
+import com.yd.travelbot.domain.currency.application.dto.CurrencyResponse;
+import com.yd.travelbot.domain.currency.application.usecase.ConvertCurrencyUseCase;
+import com.yd.travelbot.domain.food.application.dto.FoodResponse;
+import com.yd.travelbot.domain.food.application.dto.FoodSearchRequest;
+import com.yd.travelbot.domain.food.application.usecase.SearchFoodUseCase;
+import com.yd.travelbot.domain.place.application.dto.PlaceResponse;
+import com.yd.travelbot.domain.place.application.dto.PlaceSearchRequest;
+import com.yd.travelbot.domain.place.application.usecase.SearchPlaceUseCase;
+import com.yd.travelbot.domain.trip.application.dto.TripPlanRequest;
+import com.yd.travelbot.domain.trip.application.dto.TripPlanResponse;
+import com.yd.travelbot.global.config.SearchTimeoutConfig;
+import com.yd.travelbot.global.resolver.GeoapifyCityResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlanTripUseCase 테스트")
+class PlanTripUseCaseTest {
+
+    @Mock
+    private SearchPlaceUseCase searchPlaceUseCase;
+
+    @Mock
+    private SearchFoodUseCase searchFoodUseCase;
+
+    @Mock
+    private SearchAccommodationUseCase searchAccommodationUseCase;
+
+    @Mock
+    private ConvertCurrencyUseCase convertCurrencyUseCase;
+
+    @Mock
+    private GeoapifyCityResolver cityResolver;
+
+    @Spy
+    private SearchTimeoutConfig searchTimeoutConfig = new SearchTimeoutConfig();
+
+    @InjectMocks
+    private PlanTripUseCase planTripUseCase;
+
+    @Test
+    @DisplayName("도시를 한 번 해석하고 네 조회 결과를 한 묶음으로 반환")
+    void 여행_계획_묶음() {
+        // given
+        LocalDate checkIn = LocalDate.now().plusDays(7);
+        when(cityResolver.resolveCoordinates("오사카", null)).thenReturn(new Double[]{135.5, 34.7});
+        when(searchPlaceUseCase.executeAsync(any(PlaceSearchRequest.class))).thenReturn(
+                CompletableFuture.completedFuture(List.of(PlaceResponse.builder().name("오사카성").build())));
+        when(searchFoodUseCase.executeAsync(any(FoodSearchRequest.class))).thenReturn(
+                CompletableFuture.completedFuture(List.of(FoodResponse.builder().name("타코야키").build())));
+        when(searchAccommodationUseCase.executeAsync(any(AccommodationSearchRequest.class))).thenReturn(
+                CompletableFuture.completedFuture(List.of(AccommodationResponse.builder().name("호텔 A").build())));
+        when(convertCurrencyUseCase.executeAsync(any(CurrencyConvertRequest.class))).thenReturn(
+                CompletableFuture.completedFuture(CurrencyResponse.builder()
+                        .fromCurrency("KRW").toCurrency("JPY").rate(new BigDecimal("0.11")).build()));
+
+        TripPlanRequest request = TripPlanRequest.builder()
+                .city("오사카")
+                .checkIn(checkIn)
+                .nights(2)
+                .localCurrency("jpy")
+                .build();
+
+        // when
+        TripPlanResponse plan = planTripUseCase.execute(request);
+
+        // then
+        assertThat(plan.getPlaces()).extracting(PlaceResponse::getName).containsExactly("오사카성");
+        assertThat(plan.getFoods()).extracting(FoodResponse::getName).containsExactly("타코야키");
+        assertThat(plan.getAccommodations()).extracting(AccommodationResponse::getName).containsExactly("호텔 A");
+        assertThat(plan.getCurrency().getToCurrency()).isEqualTo("JPY");
+        assertThat(plan.getCheckOut()).isEqualTo(checkIn.plusDays(2));
+        assertThat(plan.getIncomplete()).isEmpty();
+        verify(cityResolver, times(1)).resolveCoordinates(any(), any());
+
+        ArgumentCaptor<PlaceSearchRequest> placeRequest = ArgumentCaptor.forClass(PlaceSearchRequest.class);
+        verify(searchPlaceUseCase).executeAsync(placeRequest.capture());
+        assertThat(placeRequest.getValue().getLatitude()).isEqualTo(34.7);
+        assertThat(placeRequest.getValue().getLongitude()).isEqualTo(135.5);
+        ArgumentCaptor<CurrencyConvertRequest> currencyRequest = ArgumentCaptor.forClass(CurrencyConvertRequest.class);
+        verify(convertCurrencyUseCase).executeAsync(currencyRequest.capture());
+        assertThat(currencyRequest.getValue().getFromCurrency()).isEqualTo("KRW");
+        assertThat(currencyRequest.getValue().getToCurrency()).isEqualTo("JPY");
+    }
+
+    @Test
+    @DisplayName("시간 안에 끝나지 않은 조회는 취소하고 나머지만 반환")
+    void 시간_초과_항목_제외() {
+        // given
+        searchTimeoutConfig.setTripPlan(Duration.ofMillis(200));
+        CompletableFuture<List<AccommodationResponse>> slow = new CompletableFuture<>();
+        when(searchPlaceUseCase.executeAsync(any(PlaceSearchRequest.class))).thenReturn(
+                CompletableFuture.completedFuture(List.of(PlaceResponse.builder().name("남산타워").build())));
+        when(searchFoodUseCase.executeAsync(any(FoodSearchRequest.class))).thenReturn(
+                CompletableFuture.completedFuture(List.of()));
+        when(searchAccommodationUseCase.executeAsync(any(AccommodationSearchRequest.class))).thenReturn(slow);
+
+        // when
+        long start = System.nanoTime();
+        TripPlanResponse plan = planTripUseCase.execute(TripPlanRequest.builder().city("서울").build());
+        long elapsed = System.nanoTime() - start;
+
+        // then
+        assertThat(plan.getPlaces()).extracting(PlaceResponse::getName).containsExactly("남산타워");
+        assertThat(plan.getAccommodations()).isEmpty();
+        assertThat(plan.getCurrency()).isNull();
+        assertThat(plan.getIncomplete()).containsExactly("accommodations");
+        assertThat(slow.isCancelled()).isTrue();
+        assertThat(Duration.ofNanos(elapsed)).isLessThan(Duration.ofSeconds(2));
+        verifyNoInteractions(convertCurrencyUseCase);
+    }
+
+    @Test
+    @DisplayName("실패한 조회(요청 검증 실패 포함)는 incomplete에 남기고 나머지는 그대로 반환")
+    void 실패_항목_제외() {
+        // given
+        when(searchPlaceUseCase.executeAsync(any(PlaceSearchRequest.class))).thenReturn(
+                CompletableFuture.failedFuture(new RuntimeException("Places API 오류")));
+        when(searchFoodUseCase.executeAsync(any(FoodSearchRequest.class))).thenReturn(
+                CompletableFuture.completedFuture(List.of(FoodResponse.builder().name("국밥").build())));
+        when(searchAccommodationUseCase.executeAsync(any(AccommodationSearchRequest.class))).thenReturn(
+                CompletableFuture.completedFuture(List.of()));
+        when(convertCurrencyUseCase.executeAsync(any(CurrencyConvertRequest.class)))
+                .thenThrow(new IllegalArgumentException("유효하지 않은 통화 코드입니다."));
+
+        // when
+        TripPlanResponse plan = planTripUseCase.execute(TripPlanRequest.builder()
+                .city("부산")
+                .localCurrency("XYZ")
+                .build());
+
+        // then
+        assertThat(plan.getFoods()).extracting(FoodResponse::getName).containsExactly("국밥");
+        assertThat(plan.getPlaces()).isEmpty();
+        assertThat(plan.getLatitude()).isNull();
+        assertThat(plan.getIncomplete()).containsExactly("places", "currency");
+    }
+
+    @Test
+    @DisplayName("도시명이 없거나 숙박 일수가 범위를 벗어나면 조회 없이 예외")
+    void 요청_검증() {
+        // when & then
+        assertThatThrownBy(() -> planTripUseCase.execute(TripPlanRequest.builder().city(" ").build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> planTripUseCase.execute(TripPlanRequest.builder().city("서울").nights(0).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(cityResolver, searchPlaceUseCase, searchFoodUseCase, searchAccommodationUseCase);
+    }
+}
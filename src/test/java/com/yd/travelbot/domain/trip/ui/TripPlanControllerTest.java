@@ -0,0 +1,72 @@
+package com.yd.travelbot.domain.trip.ui;
+
+import com.yd.travelbot.domain.place.application.dto.PlaceResponse;
+import com.yd.travelbot.domain.trip.application.dto.TripPlanRequest;
+import com.yd.travelbot.domain.trip.application.dto.TripPlanResponse;
+import com.yd.travelbot.domain.trip.application.usecase.PlanTripUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TripPlanController.class)
+@DisplayName("TripPlanController 테스트")
+class TripPlanControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PlanTripUseCase planTripUseCase;
+
+    @Test
+    @DisplayName("정상 요청 - POST /api/trip-plan")
+    void 정상_요청_성공() throws Exception {
+        // given
+        TripPlanResponse plan = TripPlanResponse.builder()
+                .city("오사카")
+                .checkIn(LocalDate.of(2026, 11, 1))
+                .checkOut(LocalDate.of(2026, 11, 3))
+                .guests(2)
+                .places(List.of(PlaceResponse.builder().name("오사카성").build()))
+                .foods(List.of())
+                .accommodations(List.of())
+                .incomplete(List.of("accommodations"))
+                .build();
+        when(planTripUseCase.execute(any(TripPlanRequest.class))).thenReturn(plan);
+
+        // when & then
+        mockMvc.perform(post("/api/trip-plan")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"city\":\"오사카\",\"checkIn\":\"2026-11-01\",\"nights\":2,\"guests\":2}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.city").value("오사카"))
+            .andExpect(jsonPath("$.places[0].name").value("오사카성"))
+            .andExpect(jsonPath("$.incomplete[0]").value("accommodations"));
+    }
+
+    @Test
+    @DisplayName("잘못된 요청 - 400 응답")
+    void 잘못된_요청() throws Exception {
+        // given
+        when(planTripUseCase.execute(any(TripPlanRequest.class)))
+                .thenThrow(new IllegalArgumentException("도시명을 입력해 주세요."));
+
+        // when & then
+        mockMvc.perform(post("/api/trip-plan")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"city\":\"\"}"))
+            .andExpect(status().isBadRequest());
+    }
+}
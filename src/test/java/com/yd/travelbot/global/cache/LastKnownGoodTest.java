@@ -0,0 +1,221 @@
+package com.yd.travelbot.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.yd.travelbot.global.config.LastKnownGoodConfig;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("LastKnownGood 테스트")
+class LastKnownGoodTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-19T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TravelMetrics metrics = new TravelMetrics(registry);
+    private final MutableClock clock = new MutableClock(NOW);
+
+    @Test
+    @DisplayName("조회가 실패하면 마지막 정상 결과의 복사본을 받은 시각과 함께 반환")
+    void 실패_시_마지막_결과_반환() {
+        // given
+        LastKnownGood<List<String>> store = store(config(10));
+        List<String> fresh = List.of("해운대", "광안리");
+        store.fetch("부산", () -> CompletableFuture.completedFuture(fresh)).join();
+        clock.advance(Duration.ofHours(3));
+
+        // when
+        LastKnownGood.Served<List<String>> failed = store.fetch("부산",
+                () -> CompletableFuture.failedFuture(new IOException("503"))).join();
+        LastKnownGood.Served<List<String>> empty = store.fetch("부산",
+                () -> CompletableFuture.completedFuture(List.of())).join();
+
+        // then
+        assertThat(failed.value()).containsExactly("해운대", "광안리").isNotSameAs(fresh);
+        assertThat(failed.staleAsOf()).isEqualTo(NOW);
+        assertThat(empty.isStale()).isTrue();
+        assertThat(registry.get("travelbot.last_known_good").tags("source", "test", "result", "served").counter()
+                .count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("보관된 결과가 없으면 실패를 그대로 전달하고, maxAge보다 오래된 결과는 쓰지 않음")
+    void 보관_결과_없음() {
+        // given
+        LastKnownGood<List<String>> store = store(config(10));
+        store.fetch("제주", () -> CompletableFuture.completedFuture(List.of("성산일출봉"))).join();
+        clock.advance(Duration.ofDays(8));
+
+        // when
+        CompletableFuture<LastKnownGood.Served<List<String>>> expired = store.fetch("제주",
+                () -> CompletableFuture.failedFuture(new IOException("timeout")));
+        LastKnownGood.Served<List<String>> missing = store.fetch("서울",
+                () -> CompletableFuture.completedFuture(null)).join();
+
+        // then
+        assertThatThrownBy(expired::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(IOException.class);
+        assertThat(missing.value()).isNull();
+        assertThat(missing.isStale()).isFalse();
+    }
+
+    @Test
+    @DisplayName("serveAfter 안에 끝나지 않으면 보관된 결과를 먼저 반환하고, 조회가 끝나면 보관 결과를 갱신")
+    void 지연_시_먼저_반환() {
+        // given
+        LastKnownGoodConfig config = config(10);
+        config.setServeAfter(Duration.ofMillis(50));
+        LastKnownGood<List<String>> store = store(config);
+        store.put("도쿄", List.of("old"));
+        CompletableFuture<List<String>> pending = new CompletableFuture<>();
+
+        // when
+        LastKnownGood.Served<List<String>> early = store.fetch("도쿄", () -> pending).join();
+        pending.complete(List.of("new"));
+
+        // then
+        assertThat(early.value()).containsExactly("old");
+        assertThat(early.isStale()).isTrue();
+        assertThat(store.stale("도쿄").value()).containsExactly("new");
+        assertThat(registry.get("travelbot.last_known_good").tags("source", "test", "result", "early").counter()
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("힙에서 밀려난 결과는 디스크로 내보내고, 새 인스턴스에서도 받은 시각과 함께 복원")
+    void 디스크_내보내기_복원() {
+        // given
+        LastKnownGood<List<String>> store = store(config(1));
+        store.put("교토", new ArrayList<>(List.of("기요미즈데라")));
+        clock.advance(Duration.ofMinutes(10));
+        store.put("오사카", List.of("도톤보리"));
+
+        // when
+        LastKnownGood<List<String>> restarted = store(config(1));
+        LastKnownGood.Served<List<String>> restored = restarted.stale("교토");
+
+        // then
+        assertThat(store.residentSize()).isEqualTo(1);
+        assertThat(directory.resolve("test").toFile().list()).hasSize(1);
+        assertThat(restored.value()).containsExactly("기요미즈데라");
+        assertThat(restored.staleAsOf()).isEqualTo(NOW);
+        assertThat(restarted.stale("오사카")).isNull();
+    }
+
+    @Test
+    @DisplayName("디스크 쓰기는 호출한 스레드가 아닌 백그라운드에서 하고, 쓰는 동안에도 밀려난 결과를 반환")
+    void 백그라운드_내보내기() {
+        // given
+        List<Runnable> spills = new ArrayList<>();
+        LastKnownGood<List<String>> store = new LastKnownGood<>("test", new TypeReference<>() {}, config(1), metrics,
+                clock, spills::add);
+        store.put("교토", List.of("기요미즈데라"));
+
+        // when
+        store.put("오사카", List.of("도톤보리"));
+
+        // then
+        assertThat(spills).hasSize(1);
+        assertThat(directory.resolve("test").toFile().list()).isNull();
+        assertThat(store.stale("교토").value()).containsExactly("기요미즈데라");
+
+        spills.forEach(Runnable::run);
+        assertThat(directory.resolve("test").toFile().list()).hasSize(1);
+        assertThat(store(config(1)).stale("교토").value()).containsExactly("기요미즈데라");
+    }
+
+    @Test
+    @DisplayName("같은 키를 여러 스레드가 동시에 내보내도 온전한 결과 하나만 남음")
+    void 동시_내보내기() throws Exception {
+        // given: 같은 디렉터리를 쓰는 두 인스턴스
+        List<LastKnownGood<List<String>>> stores = List.of(store(config(1)), store(config(1)));
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+
+        // when
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < stores.size(); t++) {
+                LastKnownGood<List<String>> store = stores.get(t);
+                String value = "결과-" + t;
+                tasks.add(threads.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        store.put("교토", List.of(value, "기요미즈데라 " + i));
+                        store.put("오사카", List.of("도톤보리 " + i));
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+
+        // then
+        assertThat(directory.resolve("test").toFile().list()).hasSize(2).allMatch(f -> f.endsWith(LastKnownGood.SUFFIX));
+        assertThat(store(config(1)).stale("교토").value()).hasSize(2).element(1).asString().startsWith("기요미즈데라");
+    }
+
+    private LastKnownGoodConfig config(int maxResident) {
+        LastKnownGoodConfig config = new LastKnownGoodConfig();
+        config.setDirectory(directory.toString());
+        config.setMaxResidentEntries(maxResident);
+        return config;
+    }
+
+    private LastKnownGood<List<String>> store(LastKnownGoodConfig config) {
+        return new LastKnownGood<>("test", new TypeReference<>() {}, config, metrics, clock, Runnable::run);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
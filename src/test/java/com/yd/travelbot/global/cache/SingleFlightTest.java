@@ -0,0 +1,170 @@
+package com.yd.travelbot.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yd.travelbot.global.deadline.Cancellation;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.Scope;
+
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+    private static final ContextKey<String> CALLER = ContextKey.named("test.caller");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> flights = new SingleFlight<>("test", new TravelMetrics(registry));
+
+    @Test
+    @DisplayName("진행 중인 같은 키의 조회는 다시 호출하지 않고 결과를 함께 받음")
+    void 비동기_조회_공유() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        // when
+        CompletableFuture<String> first = flights.runAsync("서울", () -> {
+            calls.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<String> second = flights.runAsync("서울", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("다른 결과");
+        });
+        upstream.complete("서울 맛집");
+        CompletableFuture<String> afterwards = flights.runAsync("서울",
+                () -> CompletableFuture.completedFuture("새 조회"));
+
+        // then
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(first.join()).isEqualTo("서울 맛집");
+        assertThat(second.join()).isEqualTo("서울 맛집");
+        assertThat(afterwards.join()).isEqualTo("새 조회");
+        assertThat(registry.get("travelbot.cache.requests").tags("cache", "test", "result", "shared").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("한 호출자가 취소해도 공유 조회와 다른 호출자는 그대로 완료")
+    void 취소_격리() {
+        // given
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        CompletableFuture<String> first = flights.runAsync("부산", () -> upstream);
+        CompletableFuture<String> second = flights.runAsync("부산", () -> upstream);
+
+        // when
+        first.cancel(true);
+        upstream.complete("부산 맛집");
+
+        // then
+        assertThat(upstream.isCancelled()).isFalse();
+        assertThat(second.join()).isEqualTo("부산 맛집");
+    }
+
+    @Test
+    @DisplayName("기다리는 호출자가 모두 빠지면 공유 조회의 취소 범위를 취소")
+    void 모든_호출자_취소() {
+        // given
+        AtomicReference<Cancellation> shared = new AtomicReference<>();
+        Cancellation firstCaller = Cancellation.child();
+        CompletableFuture<String> first;
+        try (Scope ignored = firstCaller.makeCurrent()) {
+            first = flights.runAsync("오사카", () -> {
+                shared.set(Cancellation.current());
+                return new CompletableFuture<>();
+            });
+        }
+        CompletableFuture<String> second = flights.runAsync("오사카", CompletableFuture::new);
+
+        // when
+        firstCaller.cancel();
+        boolean cancelledWhileWaiting = shared.get().isCancelled();
+        second.cancel(true);
+
+        // then
+        assertThat(first).isCancelled();
+        assertThat(cancelledWhileWaiting).isFalse();
+        assertThat(shared.get().isCancelled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("뒤이은 단계는 각 호출자의 Context에서 실행")
+    void 호출자_Context_유지() {
+        // given
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        AtomicReference<String> seenByFirst = new AtomicReference<>();
+        AtomicReference<String> seenBySecond = new AtomicReference<>();
+        try (Scope ignored = Context.current().with(CALLER, "first").makeCurrent()) {
+            flights.runAsync("제주", () -> upstream).thenRun(() -> seenByFirst.set(Context.current().get(CALLER)));
+        }
+        try (Scope ignored = Context.current().with(CALLER, "second").makeCurrent()) {
+            flights.runAsync("제주", () -> upstream).thenRun(() -> seenBySecond.set(Context.current().get(CALLER)));
+        }
+
+        // when
+        upstream.complete("제주 맛집");
+
+        // then
+        assertThat(seenByFirst.get()).isEqualTo("first");
+        assertThat(seenBySecond.get()).isEqualTo("second");
+    }
+
+    @Test
+    @DisplayName("동기 조회도 동시에 들어온 같은 키는 loader를 한 번만 실행")
+    void 동기_조회_공유() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> flights.run("도쿄", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "Tokyo";
+            }));
+            started.await(1, TimeUnit.SECONDS);
+            Future<String> follower = executor.submit(() -> flights.run("도쿄", () -> {
+                calls.incrementAndGet();
+                return "다른 결과";
+            }));
+
+            // when
+            while (registry.find("travelbot.cache.requests").tags("result", "shared").counter() == null) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            // then
+            assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("Tokyo");
+            assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("Tokyo");
+            assertThat(calls.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.yd.travelbot.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.context.Scope;
+
+@DisplayName("TtlCache 테스트")
+class TtlCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TravelMetrics metrics = new TravelMetrics(registry);
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-10-19T00:00:00Z"));
+    private final TtlCache<String, String> cache = new TtlCache<>("test", Duration.ofHours(1), 2, metrics, clock);
+
+    @Test
+    @DisplayName("보관 시간 안에는 loader를 다시 호출하지 않고, 지나면 다시 읽음")
+    void 보관_시간_만료() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String first = cache.get("서울", () -> "v" + calls.incrementAndGet());
+        clock.advance(Duration.ofMinutes(59));
+        String second = cache.get("서울", () -> "v" + calls.incrementAndGet());
+        clock.advance(Duration.ofMinutes(2));
+        String third = cache.get("서울", () -> "v" + calls.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo("v1");
+        assertThat(second).isEqualTo("v1");
+        assertThat(third).isEqualTo("v2");
+        assertThat(registry.get("travelbot.cache.requests").tags("cache", "test", "result", "hit").counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("travelbot.cache.requests").tags("cache", "test", "result", "miss").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("loader가 null을 돌려주면 보관하지 않음")
+    void 실패_결과_미보관() {
+        // when
+        String failed = cache.get("부산", () -> null);
+        String loaded = cache.get("부산", () -> "v");
+
+        // then
+        assertThat(failed).isNull();
+        assertThat(loaded).isEqualTo("v");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("갱신 구간에서는 곧 만료될 항목을 다시 읽고, 실패하면 기존 값을 유지")
+    void 갱신_구간_미리_읽기() {
+        // given
+        cache.get("제주", () -> "old");
+        clock.advance(Duration.ofMinutes(40));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        String failedRefresh;
+        String refreshed;
+        try (Scope ignored = CacheRefresh.refreshing(Duration.ofMinutes(30), loads)) {
+            failedRefresh = cache.get("제주", () -> null);
+            refreshed = cache.get("제주", () -> "new");
+        }
+        String outside = cache.get("제주", () -> "unused");
+
+        // then
+        assertThat(failedRefresh).isEqualTo("old");
+        assertThat(refreshed).isEqualTo("new");
+        assertThat(outside).isEqualTo("new");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 오래 사용하지 않은 항목부터 제거")
+    void 최근_사용_순_제거() {
+        // given
+        cache.get("a", () -> "A");
+        cache.get("b", () -> "B");
+        cache.get("a", () -> "unused");
+
+        // when
+        cache.get("c", () -> "C");
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a", () -> "reloaded")).isEqualTo("A");
+        assertThat(cache.get("b", () -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    @DisplayName("비동기 조회도 완료된 결과만 보관하고, 보관된 값은 바로 완료된 future로 반환")
+    void 비동기_조회() {
+        // given
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        // when
+        CompletableFuture<String> first = cache.getAsync("도쿄", () -> pending);
+        boolean storedBeforeCompletion = cache.size() > 0;
+        pending.complete("v");
+        CompletableFuture<String> second = cache.getAsync("도쿄", () -> CompletableFuture.completedFuture("unused"));
+
+        // then
+        assertThat(storedBeforeCompletion).isFalse();
+        assertThat(first.join()).isEqualTo("v");
+        assertThat(second).isCompletedWithValue("v");
+        assertThat(cache.getAsync("오사카", () -> CompletableFuture.completedFuture(null)).join()).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("완료 전에 같은 키를 다시 읽으면 진행 중인 조회 결과를 함께 받음")
+    void 진행_중_조회_공유() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        // when
+        CompletableFuture<String> first = cache.getAsync("교토", () -> {
+            calls.incrementAndGet();
+            return pending;
+        });
+        CompletableFuture<String> second = cache.getAsync("교토", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("unused");
+        });
+        pending.complete("v");
+
+        // then
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(first.join()).isEqualTo("v");
+        assertThat(second.join()).isEqualTo("v");
+        assertThat(registry.get("travelbot.cache.requests").tags("cache", "test", "result", "shared").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
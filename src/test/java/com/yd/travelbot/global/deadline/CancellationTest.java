@@ -0,0 +1,67 @@
+package com.yd.travelbot.global.deadline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.context.Scope;
+
+@DisplayName("Cancellation 테스트")
+class CancellationTest {
+
+    @Test
+    @DisplayName("바깥 범위를 취소하면 안쪽 범위와 등록된 hook이 한 번씩 실행")
+    void 안쪽_범위_전파() {
+        // given
+        AtomicInteger cancelled = new AtomicInteger();
+        Cancellation turn = Cancellation.child();
+        Cancellation lookup;
+        try (Scope ignored = turn.makeCurrent()) {
+            lookup = Cancellation.child();
+        }
+        lookup.onCancel(cancelled::incrementAndGet);
+
+        // when
+        turn.cancel();
+        turn.cancel();
+
+        // then
+        assertThat(lookup.isCancelled()).isTrue();
+        assertThat(cancelled.get()).isEqualTo(1);
+        Runnable late = lookup.onCancel(cancelled::incrementAndGet);
+        late.run();
+        assertThat(cancelled.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("cancellable - 받은 future를 취소하면 조회를 시작한 범위가 취소되고, 끝난 조회는 범위만 닫음")
+    void cancellable_취소_전달() {
+        // given
+        CompletableFuture<Cancellation> started = new CompletableFuture<>();
+        CompletableFuture<String> pending = Cancellation.cancellable(() -> {
+            started.complete(Cancellation.current());
+            return new CompletableFuture<>();
+        });
+        Cancellation finishedScope = Cancellation.child();
+        CompletableFuture<String> finished;
+        try (Scope ignored = finishedScope.makeCurrent()) {
+            finished = Cancellation.cancellable(() -> CompletableFuture.completedFuture("서울"));
+        }
+
+        // when
+        pending.cancel(true);
+
+        // then
+        assertThat(started.join().isCancelled()).isTrue();
+        assertThat(finished.join()).isEqualTo("서울");
+        assertThat(finishedScope.isCancelled()).isFalse();
+        assertThatThrownBy(() -> Cancellation.cancellable(() -> {
+            throw new IllegalArgumentException("잘못된 요청");
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,104 @@
+package com.yd.travelbot.global.deadline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.context.Scope;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+@DisplayName("Deadline 테스트")
+class DeadlineTest {
+
+    private MockWebServer server;
+    private OkHttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        client = new OkHttpClient.Builder()
+                .readTimeout(Duration.ofSeconds(10))
+                .addInterceptor(new DeadlineInterceptor())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("안쪽에서 다시 시작해도 바깥 예산보다 길어지지 않고, 범위를 벗어나면 예산이 없어짐")
+    void 중첩_예산() {
+        // when
+        Duration inner;
+        Duration shorter;
+        try (Scope outer = Deadline.start(Duration.ofSeconds(1))) {
+            try (Scope ignored = Deadline.start(Duration.ofSeconds(30))) {
+                inner = Deadline.clamp(Duration.ofSeconds(30));
+            }
+            try (Scope ignored = Deadline.start(Duration.ofMillis(100))) {
+                shorter = Deadline.clamp(Duration.ofSeconds(30));
+            }
+        }
+
+        // then
+        assertThat(inner).isLessThanOrEqualTo(Duration.ofSeconds(1));
+        assertThat(shorter).isLessThanOrEqualTo(Duration.ofMillis(100));
+        assertThat(Deadline.current()).isNull();
+        assertThat(Deadline.clamp(Duration.ofSeconds(30))).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("예산이 지나면 check가 DeadlineExceededException을 던짐")
+    void 예산_초과_확인() {
+        try (Scope ignored = Deadline.start(Duration.ZERO)) {
+            assertThat(Deadline.current().isExpired()).isTrue();
+            assertThat(Deadline.clamp(Duration.ofSeconds(5))).isEqualTo(Duration.ZERO);
+            assertThatThrownBy(() -> Deadline.check("test"))
+                    .isInstanceOf(DeadlineExceededException.class)
+                    .satisfies(e -> assertThat(DeadlineExceededException.isCause(new RuntimeException(e))).isTrue());
+        }
+    }
+
+    @Test
+    @DisplayName("인터셉터가 읽기 타임아웃을 남은 예산으로 줄이고, 예산이 지났으면 요청을 보내지 않음")
+    void 인터셉터_타임아웃_제한() {
+        // given
+        server.enqueue(new MockResponse().setBody("늦은 응답").setHeadersDelay(3, TimeUnit.SECONDS));
+
+        // when
+        long start = System.nanoTime();
+        try (Scope ignored = Deadline.start(Duration.ofMillis(300))) {
+            assertThatThrownBy(() -> execute()).isInstanceOf(InterruptedIOException.class);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        try (Scope ignored = Deadline.start(Duration.ZERO)) {
+            assertThatThrownBy(() -> execute()).isInstanceOf(InterruptedIOException.class);
+        }
+
+        // then
+        assertThat(elapsedMillis).isLessThan(2000);
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    private void execute() throws IOException {
+        try (Response response = client.newCall(new Request.Builder().url(server.url("/places")).build()).execute()) {
+            response.body().string();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.yd.travelbot.global.external;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yd.travelbot.global.deadline.Cancellation;
+import com.yd.travelbot.global.deadline.Deadline;
+import com.yd.travelbot.global.tracing.CallContextInterceptor;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.Scope;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+
+@DisplayName("AsyncCalls 테스트")
+class AsyncCallsTest {
+
+    private static final ContextKey<String> SESSION = ContextKey.named("test.session");
+
+    private final AtomicReference<String> seenByInterceptor = new AtomicReference<>();
+    private MockWebServer server;
+    private OkHttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        client = new OkHttpClient.Builder()
+                .addInterceptor(new CallContextInterceptor())
+                .addInterceptor(chain -> {
+                    seenByInterceptor.set(Context.current().get(SESSION));
+                    return chain.proceed(chain.request());
+                })
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("호출 시점의 Context를 인터셉터와 뒤이은 단계에서 이어받음")
+    void Context_전파() {
+        // given
+        server.enqueue(new MockResponse().setBody("서울"));
+
+        // when
+        CompletableFuture<String> result;
+        try (Scope ignored = Context.current().with(SESSION, "session-1").makeCurrent()) {
+            result = AsyncCalls.call(client, request(), response -> response.body().string())
+                    .thenApply(body -> body + "|" + Context.current().get(SESSION));
+        }
+
+        // then
+        assertThat(result.join()).isEqualTo("서울|session-1");
+        assertThat(seenByInterceptor.get()).isEqualTo("session-1");
+    }
+
+    @Test
+    @DisplayName("전송 실패는 재시도하고, 응답 처리 중 실패는 재시도하지 않음")
+    void 전송_실패만_재시도() {
+        // given
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+        server.enqueue(new MockResponse().setBody("ok"));
+        server.enqueue(new MockResponse().setBody("깨진 응답"));
+
+        // when
+        String retried = AsyncCalls.retrying(() -> AsyncCalls.call(client, request(), response -> response.body().string()),
+                2, Duration.ofMillis(10), "test").join();
+        CompletableFuture<String> failed = AsyncCalls.retrying(() -> AsyncCalls.call(client, request(), response -> {
+            throw new IOException("파싱 실패");
+        }), 2, Duration.ofMillis(10), "test");
+
+        // then
+        assertThat(retried).isEqualTo("ok");
+        assertThatThrownBy(failed::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(UncheckedIOException.class);
+        assertThat(server.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("시간 예산이 지나면 진행 중인 호출을 끊고, 남은 예산이 backoff보다 짧으면 재시도하지 않음")
+    void 시간_예산_초과_중단() {
+        // given
+        server.enqueue(new MockResponse().setBody("늦은 응답").setHeadersDelay(2, TimeUnit.SECONDS));
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+        server.enqueue(new MockResponse().setBody("unused"));
+
+        // when
+        long start = System.nanoTime();
+        CompletableFuture<String> slow;
+        CompletableFuture<String> noRetry;
+        CompletableFuture<String> expired;
+        try (Scope ignored = Deadline.start(Duration.ofMillis(300))) {
+            slow = AsyncCalls.call(client, request(), response -> response.body().string());
+        }
+        Throwable slowError = catchThrowable(slow::join);
+        long slowMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        try (Scope ignored = Deadline.start(Duration.ofMillis(500))) {
+            noRetry = AsyncCalls.retrying(() -> AsyncCalls.call(client, request(), response -> response.body().string()),
+                    2, Duration.ofSeconds(1), "test");
+        }
+        try (Scope ignored = Deadline.start(Duration.ZERO)) {
+            expired = AsyncCalls.call(client, request(), response -> response.body().string());
+        }
+
+        // then
+        assertThat(slowError).hasCauseInstanceOf(InterruptedIOException.class);
+        assertThat(slowMillis).isLessThan(1500);
+        assertThatThrownBy(noRetry::join).hasCauseInstanceOf(IOException.class);
+        assertThatThrownBy(expired::join).hasCauseInstanceOf(InterruptedIOException.class);
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("취소 범위를 취소하면 이어 만든 future와 무관하게 진행 중인 호출을 끊고, 이미 취소된 범위에서는 보내지 않음")
+    void 취소_범위() throws Exception {
+        // given
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE));
+        Cancellation cancellation = Cancellation.child();
+        CompletableFuture<String> call;
+        try (Scope ignored = cancellation.makeCurrent()) {
+            call = AsyncCalls.call(client, request(), response -> response.body().string());
+        }
+        CompletableFuture<Integer> derived = call.thenApply(String::length);
+        server.takeRequest(1, TimeUnit.SECONDS);
+
+        // when
+        cancellation.cancel();
+        CompletableFuture<String> afterCancel;
+        try (Scope ignored = cancellation.makeCurrent()) {
+            afterCancel = AsyncCalls.call(client, request(), response -> response.body().string());
+        }
+
+        // then
+        assertThat(call).isCancelled();
+        assertThat(derived).isCompletedExceptionally();
+        assertThat(client.dispatcher().runningCalls()).allMatch(Call::isCanceled);
+        assertThatThrownBy(afterCancel::join).isInstanceOf(CancellationException.class);
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    private Request request() {
+        return new Request.Builder().url(server.url("/places")).get().build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.yd.travelbot.global.external.amadeus;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AmadeusResponseReader 테스트")
+class AmadeusResponseReaderTest {
+
+    @Test
+    @DisplayName("호텔 목록 - limit개의 hotelId만 읽고 중단")
+    void 호텔_ID_limit() throws Exception {
+        // given: limit 이후는 잘린 본문
+        String json = "{\"data\":[{\"chainCode\":\"AC\",\"hotelId\":\"H1\",\"geoCode\":{\"latitude\":1.0}},"
+                + "{\"hotelId\":\"H2\"},{\"hotelId\":";
+
+        // when
+        AmadeusPage<String> page = AmadeusResponseReader.readHotelIds(body(json), 2);
+
+        // then
+        assertThat(page.data()).containsExactly("H1", "H2");
+        assertThat(page.hasError()).isFalse();
+    }
+
+    @Test
+    @DisplayName("호텔 오퍼 - 호텔 정보와 첫 번째 오퍼 가격만 읽음")
+    void 호텔_오퍼_읽기() throws Exception {
+        // given
+        String json = "{\"data\":[{\"type\":\"hotel-offers\",\"available\":true,"
+                + "\"hotel\":{\"hotelId\":\"H1\",\"name\":\"Grand Hotel\",\"cityCode\":\"PAR\",\"rating\":\"4\","
+                + "\"address\":{\"lines\":[\"1 Rue\",\"2F\"],\"cityName\":\"PARIS\",\"countryCode\":\"FR\"}},"
+                + "\"offers\":[{\"price\":{\"currency\":\"EUR\",\"base\":\"180.00\",\"total\":\"200.50\"}},"
+                + "{\"price\":{\"currency\":\"EUR\",\"total\":\"999.00\"}}]}]}";
+
+        // when
+        AmadeusPage<AmadeusHotelOffer> page = AmadeusResponseReader.readHotelOffers(body(json), 5);
+
+        // then
+        assertThat(page.data()).hasSize(1);
+        AmadeusHotelOffer offer = page.data().get(0);
+        assertThat(offer.hotelId()).isEqualTo("H1");
+        assertThat(offer.name()).isEqualTo("Grand Hotel");
+        assertThat(offer.rating()).isEqualTo(4.0);
+        assertThat(offer.addressLine()).isEqualTo("1 Rue");
+        assertThat(offer.available()).isTrue();
+        assertThat(offer.hasOffer()).isTrue();
+        assertThat(offer.priceTotal()).isEqualTo(200.5);
+        assertThat(offer.priceBase()).isEqualTo(180.0);
+        assertThat(offer.priceCurrency()).isEqualTo("EUR");
+    }
+
+    @Test
+    @DisplayName("오류 응답 - errors[0]의 코드와 잘못된 호텔 ID 파라미터를 읽음")
+    void 오류_응답_읽기() throws Exception {
+        // given
+        String json = "{\"errors\":[{\"status\":400,\"code\":1257,\"title\":\"INVALID PROPERTY CODE\","
+                + "\"detail\":\"Invalid property code\",\"source\":{\"parameter\":\"hotelIds=H2,H3\"}}]}";
+
+        // when
+        AmadeusError error = AmadeusResponseReader.readError(body(json));
+
+        // then
+        assertThat(error).isNotNull();
+        assertThat(error.code()).isEqualTo("1257");
+        assertThat(error.detail()).isEqualTo("Invalid property code");
+        assertThat(error.invalidHotelIds()).containsExactly("H2", "H3");
+    }
+
+    @Test
+    @DisplayName("토큰 응답 - access_token 읽기")
+    void 토큰_읽기() throws Exception {
+        // given
+        String json = "{\"type\":\"amadeusOAuth2Token\",\"access_token\":\"abc123\",\"expires_in\":1799}";
+
+        // when & then
+        assertThat(AmadeusResponseReader.readAccessToken(body(json))).isEqualTo("abc123");
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
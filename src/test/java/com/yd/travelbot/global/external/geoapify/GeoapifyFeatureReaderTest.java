@@ -0,0 +1,102 @@
+package com.yd.travelbot.global.external.geoapify;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GeoapifyFeatureReader 테스트")
+class GeoapifyFeatureReaderTest {
+
+    @Test
+    @DisplayName("필요한 필드만 읽어 feature로 변환")
+    void 필드_읽기() throws Exception {
+        // given
+        String json = "{\"type\":\"FeatureCollection\",\"features\":[{\"type\":\"Feature\","
+                + "\"properties\":{\"place_id\":\"p1\",\"name\":\"경복궁\",\"address_line2\":\"서울 종로구\","
+                + "\"country_code\":\"kr\",\"rank\":{\"importance\":0.8},\"datasource\":{\"raw\":{\"stars\":5}}},"
+                + "\"geometry\":{\"type\":\"Point\",\"coordinates\":[126.97,37.57]}}]}";
+
+        // when
+        List<GeoapifyFeature> features = GeoapifyFeatureReader.read(body(json), 10, f -> true);
+
+        // then
+        assertThat(features).hasSize(1);
+        GeoapifyFeature feature = features.get(0);
+        assertThat(feature.placeId()).isEqualTo("p1");
+        assertThat(feature.name()).isEqualTo("경복궁");
+        assertThat(feature.address()).isEqualTo("서울 종로구");
+        assertThat(feature.longitude()).isEqualTo(126.97);
+        assertThat(feature.latitude()).isEqualTo(37.57);
+    }
+
+    @Test
+    @DisplayName("조건을 만족하는 feature가 limit개 모이면 남은 본문은 읽지 않음")
+    void limit_도달_시_중단() throws Exception {
+        // given: 두 번째 feature 이후는 잘린 본문
+        String json = "{\"features\":["
+                + "{\"properties\":{\"name\":\"A\"}},"
+                + "{\"properties\":{\"name\":\"B\"}},"
+                + "{\"properties\":{\"name\":";
+
+        // when
+        List<GeoapifyFeature> features = GeoapifyFeatureReader.read(body(json), 2, f -> true);
+
+        // then
+        assertThat(features).extracting(GeoapifyFeature::name).containsExactly("A", "B");
+    }
+
+    @Test
+    @DisplayName("필터에서 걸러진 feature와 properties가 없는 feature는 limit에 포함되지 않음")
+    void 필터_적용() throws Exception {
+        // given
+        String json = "{\"features\":["
+                + "{\"geometry\":{\"coordinates\":[1,2]}},"
+                + "{\"properties\":{\"name\":\"\"}},"
+                + "{\"properties\":{\"name\":\"A\"}},"
+                + "{\"properties\":{\"name\":\"B\"}}]}";
+
+        // when
+        List<GeoapifyFeature> features = GeoapifyFeatureReader.read(body(json), 1,
+                f -> f.name() != null && !f.name().isEmpty());
+
+        // then
+        assertThat(features).extracting(GeoapifyFeature::name).containsExactly("A");
+    }
+
+    @Test
+    @DisplayName("Point가 아닌 geometry는 좌표 없이 바인딩")
+    void 중첩_좌표_무시() throws Exception {
+        // given
+        String json = "{\"features\":[{\"properties\":{\"name\":\"공원\",\"rating\":\"4.5\"},"
+                + "\"geometry\":{\"type\":\"Polygon\",\"coordinates\":[[[1,2],[3,4],[1,2]]]}}]}";
+
+        // when
+        List<GeoapifyFeature> features = GeoapifyFeatureReader.read(body(json), 10, f -> true);
+
+        // then
+        assertThat(features).hasSize(1);
+        assertThat(features.get(0).rating()).isEqualTo(4.5);
+        assertThat(features.get(0).longitude()).isNull();
+        assertThat(features.get(0).latitude()).isNull();
+    }
+
+    @Test
+    @DisplayName("features가 없으면 빈 목록 반환")
+    void features_없음() throws Exception {
+        // when
+        List<GeoapifyFeature> features = GeoapifyFeatureReader.read(body("{\"error\":\"Bad Request\"}"), 10, f -> true);
+
+        // then
+        assertThat(features).isEmpty();
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
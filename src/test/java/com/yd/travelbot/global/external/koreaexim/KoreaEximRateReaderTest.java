@@ -0,0 +1,80 @@
+package com.yd.travelbot.global.external.koreaexim;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KoreaEximRateReader 테스트")
+class KoreaEximRateReaderTest {
+
+    @Test
+    @DisplayName("요청한 통화만 읽고 단위와 쉼표를 처리")
+    void 요청_통화_읽기() throws Exception {
+        // given
+        String json = "[{\"result\":1,\"cur_unit\":\"AED\",\"deal_bas_r\":\"372.5\"},"
+                + "{\"result\":1,\"cur_unit\":\"JPY(100)\",\"deal_bas_r\":\"912.34\"},"
+                + "{\"result\":1,\"cur_unit\":\"USD\",\"deal_bas_r\":\"1,368.5\"}]";
+
+        // when
+        KoreaEximRates rates = KoreaEximRateReader.read(body(json), Set.of("USD", "JPY"));
+
+        // then
+        assertThat(rates.array()).isTrue();
+        assertThat(rates.rates()).containsOnlyKeys("USD", "JPY");
+        assertThat(rates.get("USD").dealBasR()).isEqualByComparingTo("1368.5");
+        assertThat(rates.get("JPY").unit()).isEqualTo(100);
+        assertThat(rates.get("JPY").perUnitKrw()).isEqualByComparingTo(new BigDecimal("9.1234"));
+    }
+
+    @Test
+    @DisplayName("요청한 통화를 모두 찾으면 남은 본문은 읽지 않음")
+    void 모두_찾으면_중단() throws Exception {
+        // given: USD 이후는 잘린 본문
+        String json = "[{\"cur_unit\":\"USD\",\"deal_bas_r\":\"1,368.5\"},{\"cur_unit\":";
+
+        // when
+        KoreaEximRates rates = KoreaEximRateReader.read(body(json), Set.of("USD"));
+
+        // then
+        assertThat(rates.scanned()).isEqualTo(1);
+        assertThat(rates.get("USD")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("readAll은 환율표 전체를 읽음")
+    void 전체_읽기() throws Exception {
+        // given
+        String json = "[{\"cur_unit\":\"AED\",\"deal_bas_r\":\"372.5\"},"
+                + "{\"cur_unit\":\"JPY(100)\",\"deal_bas_r\":\"912.34\"},"
+                + "{\"cur_unit\":\"USD\",\"deal_bas_r\":\"1,368.5\"}]";
+
+        // when
+        KoreaEximRates rates = KoreaEximRateReader.readAll(body(json));
+
+        // then
+        assertThat(rates.scanned()).isEqualTo(3);
+        assertThat(rates.rates()).containsOnlyKeys("AED", "JPY", "USD");
+    }
+
+    @Test
+    @DisplayName("배열이 아닌 응답은 array=false")
+    void 배열_아님() throws Exception {
+        // when
+        KoreaEximRates rates = KoreaEximRateReader.read(body("{\"result\":4}"), Set.of("USD"));
+
+        // then
+        assertThat(rates.array()).isFalse();
+        assertThat(rates.isEmpty()).isTrue();
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
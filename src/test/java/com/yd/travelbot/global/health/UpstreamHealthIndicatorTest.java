@@ -0,0 +1,66 @@
+package com.yd.travelbot.global.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UpstreamHealthIndicator 테스트")
+class UpstreamHealthIndicatorTest {
+
+    @Mock
+    private UpstreamHealthProber prober;
+
+    @InjectMocks
+    private UpstreamHealthIndicator indicator;
+
+    @Test
+    @DisplayName("일부 API가 DOWN이면 DEGRADED와 API별 상태를 반환")
+    @SuppressWarnings("unchecked")
+    void 일부_장애_DEGRADED() {
+        // given
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        Map<String, UpstreamStatus> statuses = new LinkedHashMap<>();
+        statuses.put("amadeus", UpstreamStatus.down(now, 5000, "timeout"));
+        statuses.put("geoapify", UpstreamStatus.up(now, 120));
+        when(prober.statuses()).thenReturn(statuses);
+
+        // when
+        Health health = indicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(UpstreamHealthIndicator.DEGRADED);
+        Map<String, Object> amadeus = (Map<String, Object>) health.getDetails().get("amadeus");
+        assertThat(amadeus).containsEntry("state", "DOWN").containsEntry("error", "timeout");
+        Map<String, Object> geoapify = (Map<String, Object>) health.getDetails().get("geoapify");
+        assertThat(geoapify).containsEntry("state", "UP").containsEntry("latencyMs", 120L)
+                .doesNotContainKey("error");
+    }
+
+    @Test
+    @DisplayName("첫 점검 전에는 UNKNOWN, 모두 정상이면 UP")
+    void 점검_전_UNKNOWN_정상_UP() {
+        // given
+        Instant now = Instant.now();
+
+        // when & then
+        assertThat(UpstreamHealthIndicator.aggregate(Map.of(
+                "amadeus", UpstreamStatus.unknown(),
+                "gemini", UpstreamStatus.unknown()))).isEqualTo(Status.UNKNOWN);
+        assertThat(UpstreamHealthIndicator.aggregate(Map.of(
+                "amadeus", UpstreamStatus.up(now, 10),
+                "gemini", UpstreamStatus.up(now, 20)))).isEqualTo(Status.UP);
+    }
+}
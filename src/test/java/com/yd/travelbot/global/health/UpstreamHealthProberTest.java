@@ -0,0 +1,140 @@
+package com.yd.travelbot.global.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yd.travelbot.global.config.AmadeusConfig;
+import com.yd.travelbot.global.config.ExchangeRatesConfig;
+import com.yd.travelbot.global.config.GeoapifyConfig;
+import com.yd.travelbot.global.config.HealthCheckConfig;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+@DisplayName("UpstreamHealthProber 테스트")
+class UpstreamHealthProberTest {
+
+    private static final String GEOCODE_BODY = "{\"results\":[{\"lat\":37.56,\"lon\":126.97}]}";
+
+    private MockWebServer server;
+    private UpstreamHealthProber prober;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (prober != null) {
+            prober.shutdown();
+        }
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("점검 전에는 UNKNOWN, 점검 후에는 모든 외부 API가 UP")
+    void 모두_정상() {
+        // given
+        server.setDispatcher(responding(Map.of()));
+        prober = prober(Duration.ofSeconds(2));
+        assertThat(prober.statuses().values()).allMatch(s -> s.state() == UpstreamStatus.State.UNKNOWN);
+
+        // when
+        Map<String, UpstreamStatus> statuses = prober.probeAll();
+
+        // then
+        assertThat(statuses).containsOnlyKeys(UpstreamHealthProber.AMADEUS, UpstreamHealthProber.GEOAPIFY,
+                UpstreamHealthProber.KOREAEXIM, UpstreamHealthProber.GEMINI);
+        assertThat(statuses.values()).allMatch(s -> s.state() == UpstreamStatus.State.UP && s.checkedAt() != null);
+        assertThat(prober.statuses()).isEqualTo(statuses);
+    }
+
+    @Test
+    @DisplayName("실패 응답과 빈 지오코딩 결과는 해당 API만 DOWN")
+    void 일부_장애() {
+        // given
+        server.setDispatcher(responding(Map.of(
+                "/v1/security/oauth2/token", new MockResponse().setResponseCode(401),
+                "/v1/geocode/search", new MockResponse().setBody("{\"results\":[]}"))));
+        prober = prober(Duration.ofSeconds(2));
+
+        // when
+        Map<String, UpstreamStatus> statuses = prober.probeAll();
+
+        // then
+        assertThat(statuses.get(UpstreamHealthProber.AMADEUS).state()).isEqualTo(UpstreamStatus.State.DOWN);
+        assertThat(statuses.get(UpstreamHealthProber.AMADEUS).error()).isEqualTo("HTTP 401");
+        assertThat(statuses.get(UpstreamHealthProber.GEOAPIFY).state()).isEqualTo(UpstreamStatus.State.DOWN);
+        assertThat(statuses.get(UpstreamHealthProber.KOREAEXIM).state()).isEqualTo(UpstreamStatus.State.UP);
+        assertThat(statuses.get(UpstreamHealthProber.GEMINI).state()).isEqualTo(UpstreamStatus.State.UP);
+    }
+
+    @Test
+    @DisplayName("느린 API는 timeout으로 DOWN 처리되고 전체 점검은 병렬로 timeout 근처에서 끝남")
+    void 느린_API_시간_제한() {
+        // given
+        MockResponse slow = new MockResponse().setBody("{}").setHeadersDelay(5, TimeUnit.SECONDS);
+        server.setDispatcher(responding(Map.of(
+                "/v1/security/oauth2/token", slow,
+                "/site/program/financial/exchangeJSON", slow)));
+        prober = prober(Duration.ofMillis(300));
+
+        // when
+        long start = System.nanoTime();
+        Map<String, UpstreamStatus> statuses = prober.probeAll();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertThat(statuses.get(UpstreamHealthProber.AMADEUS).state()).isEqualTo(UpstreamStatus.State.DOWN);
+        assertThat(statuses.get(UpstreamHealthProber.AMADEUS).error()).isEqualTo("timeout");
+        assertThat(statuses.get(UpstreamHealthProber.KOREAEXIM).state()).isEqualTo(UpstreamStatus.State.DOWN);
+        assertThat(statuses.get(UpstreamHealthProber.GEOAPIFY).state()).isEqualTo(UpstreamStatus.State.UP);
+        // 느린 API 두 개를 순서대로 기다렸다면 600ms 이상
+        assertThat(elapsedMs).isLessThan(2000);
+    }
+
+    private UpstreamHealthProber prober(Duration timeout) {
+        String baseUrl = server.url("").toString().replaceAll("/$", "");
+        AmadeusConfig amadeus = new AmadeusConfig();
+        amadeus.setApiKey("key");
+        amadeus.setApiSecret("secret");
+        amadeus.setBaseUrl(baseUrl);
+        GeoapifyConfig geoapify = new GeoapifyConfig();
+        geoapify.setApiKey("key");
+        geoapify.setBaseUrl(baseUrl);
+        ExchangeRatesConfig exchangeRates = new ExchangeRatesConfig();
+        exchangeRates.setApiKey("key");
+        exchangeRates.setBaseUrl(baseUrl);
+        HealthCheckConfig healthCheck = new HealthCheckConfig();
+        healthCheck.setTimeout(timeout);
+        return new UpstreamHealthProber(amadeus, geoapify, exchangeRates, healthCheck, new OkHttpClient(),
+                "key", "gemini-2.5-flash", baseUrl + "/v1beta");
+    }
+
+    private static Dispatcher responding(Map<String, MockResponse> overrides) {
+        return new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getRequestUrl().encodedPath();
+                if (overrides.containsKey(path)) {
+                    return overrides.get(path);
+                }
+                return new MockResponse().setBody(path.equals("/v1/geocode/search") ? GEOCODE_BODY : "{}");
+            }
+        };
+    }
+}
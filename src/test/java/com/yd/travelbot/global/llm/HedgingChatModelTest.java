@@ -0,0 +1,199 @@
+package com.yd.travelbot.global.llm;
+
+import com.yd.travelbot.global.deadline.Deadline;
+import com.yd.travelbot.global.deadline.DeadlineExceededException;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import io.opentelemetry.context.Scope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@DisplayName("HedgingChatModel 테스트")
+class HedgingChatModelTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("기준 시간 안에 응답하면 헤지 요청을 보내지 않음")
+    void 빠른_응답_헤지_없음() {
+        // given
+        FakeModel primary = new FakeModel("primary", 0, null);
+        FakeModel hedge = new FakeModel("hedge", 0, null);
+        HedgingChatModel model = hedgingModel(primary, hedge, Duration.ofSeconds(1));
+
+        // when
+        String result = model.generate("질문");
+
+        // then
+        assertThat(result).isEqualTo("primary");
+        assertThat(hedge.calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("기준 시간을 넘기면 헤지 응답을 사용하고 주 요청은 취소")
+    void 느린_응답_헤지_사용() throws Exception {
+        // given
+        FakeModel primary = new FakeModel("primary", 5000, null);
+        FakeModel hedge = new FakeModel("hedge", 0, null);
+        HedgingChatModel model = hedgingModel(primary, hedge, Duration.ofMillis(50));
+
+        // when
+        String result = model.generate("질문");
+
+        // then
+        assertThat(result).isEqualTo("hedge");
+        assertThat(hedge.calls.get()).isEqualTo(1);
+        waitUntil(primary.interrupted::get);
+    }
+
+    @Test
+    @DisplayName("헤지 이후 한쪽이 실패해도 다른 쪽 응답을 사용")
+    void 한쪽_실패_다른쪽_사용() {
+        // given
+        FakeModel primary = new FakeModel("primary", 200, new IllegalStateException("upstream error"));
+        FakeModel hedge = new FakeModel("hedge", 400, null);
+        HedgingChatModel model = hedgingModel(primary, hedge, Duration.ofMillis(50));
+
+        // when
+        String result = model.generate("질문");
+
+        // then
+        assertThat(result).isEqualTo("hedge");
+    }
+
+    @Test
+    @DisplayName("헤지 전에 실패하면 원래 예외를 그대로 전달")
+    void 헤지_전_실패_예외_전달() {
+        // given
+        FakeModel primary = new FakeModel("primary", 0, new LlmOverloadedException(LlmPriority.CHAT, "queue full"));
+        FakeModel hedge = new FakeModel("hedge", 0, null);
+        HedgingChatModel model = hedgingModel(primary, hedge, Duration.ofSeconds(1));
+
+        // when & then
+        assertThatThrownBy(() -> model.generate("질문"))
+                .isInstanceOf(LlmOverloadedException.class);
+        assertThat(hedge.calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("샘플이 쌓이면 p95 기준으로 헤지 시간 결정")
+    void p95_기준_헤지_시간() {
+        // given
+        FakeModel primary = new FakeModel("primary", 0, null);
+        HedgingChatModel model = hedgingModel(primary, null, Duration.ofSeconds(30));
+
+        // when
+        for (int i = 0; i < HedgingChatModel.MIN_SAMPLES; i++) {
+            model.generate("질문");
+        }
+
+        // then: 샘플 응답이 모두 빠르므로 하한(minDelay)이 적용됨
+        assertThat(model.hedgeDelay()).isEqualTo(Duration.ofMillis(10));
+    }
+
+    @Test
+    @DisplayName("헤지에 밀려 취소된 주 호출도 응답 시간에 반영")
+    void 취소된_주_호출_응답_시간_기록() throws Exception {
+        // given
+        FakeModel primary = new FakeModel("primary", 5000, null);
+        FakeModel hedge = new FakeModel("hedge", 0, null);
+        Duration initialDelay = Duration.ofMillis(50);
+        HedgingChatModel model = hedgingModel(primary, hedge, initialDelay);
+
+        // when
+        for (int i = 0; i < HedgingChatModel.MIN_SAMPLES; i++) {
+            assertThat(model.generate("질문")).isEqualTo("hedge");
+        }
+        waitUntil(() -> primary.cancellations.get() == HedgingChatModel.MIN_SAMPLES);
+        waitUntil(() -> !model.hedgeDelay().equals(initialDelay));
+
+        // then: 빠른 헤지 응답만 기록되면 하한(10ms)까지 내려감
+        assertThat(model.hedgeDelay()).isGreaterThanOrEqualTo(initialDelay);
+    }
+
+    @Test
+    @DisplayName("요청 시간 예산이 지나면 기다리기를 멈추고 두 호출을 모두 취소")
+    void 시간_예산_초과_취소() throws Exception {
+        // given
+        FakeModel primary = new FakeModel("primary", 5000, null);
+        FakeModel hedge = new FakeModel("hedge", 5000, null);
+        HedgingChatModel model = hedgingModel(primary, hedge, Duration.ofMillis(50));
+
+        // when
+        Throwable thrown;
+        try (Scope ignored = Deadline.start(Duration.ofMillis(200))) {
+            thrown = catchThrowable(() -> model.generate("질문"));
+        }
+
+        // then
+        assertThat(thrown).isInstanceOf(DeadlineExceededException.class);
+        waitUntil(primary.interrupted::get);
+        waitUntil(hedge.interrupted::get);
+    }
+
+    private HedgingChatModel hedgingModel(ChatLanguageModel primary, ChatLanguageModel hedge, Duration initialDelay) {
+        return new HedgingChatModel(primary, hedge, executor, 100, 0.95, initialDelay, Duration.ofMillis(10));
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건 대기 시간 초과");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static class FakeModel implements ChatLanguageModel {
+        private final String answer;
+        private final long delayMillis;
+        private final RuntimeException failure;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicBoolean interrupted = new AtomicBoolean();
+        private final AtomicInteger cancellations = new AtomicInteger();
+
+        FakeModel(String answer, long delayMillis, RuntimeException failure) {
+            this.answer = answer;
+            this.delayMillis = delayMillis;
+            this.failure = failure;
+        }
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages) {
+            calls.incrementAndGet();
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                    cancellations.incrementAndGet();
+                    throw new IllegalStateException("cancelled");
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return Response.from(AiMessage.from(answer));
+        }
+    }
+}
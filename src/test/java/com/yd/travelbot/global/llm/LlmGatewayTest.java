@@ -0,0 +1,273 @@
+package com.yd.travelbot.global.llm;
+
+import com.yd.travelbot.global.deadline.Deadline;
+import com.yd.travelbot.global.deadline.DeadlineExceededException;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import io.opentelemetry.context.Scope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@DisplayName("LlmGateway 테스트")
+class LlmGatewayTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("여유가 있으면 바로 통과")
+    void 여유_있으면_통과() {
+        // given
+        BlockingModel model = new BlockingModel(null, null);
+        LlmGateway gateway = new LlmGateway(2, 2,
+                Duration.ofSeconds(1), Duration.ofSeconds(1));
+
+        // when
+        String result = gateway.wrap(model, LlmPriority.CHAT).generate("ping");
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(gateway.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열 포화 시 즉시 거절")
+    void 대기열_포화_즉시_거절() throws Exception {
+        // given: 동시 1개, 대기열 0
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingModel model = new BlockingModel(release, null);
+        LlmGateway gateway = new LlmGateway(1, 0,
+                Duration.ofSeconds(5), Duration.ofSeconds(5));
+        Future<String> first = executor.submit(() -> gateway.wrap(model, LlmPriority.CHAT).generate("first"));
+        waitUntil(() -> gateway.getInFlight() == 1);
+
+        // when & then
+        assertThatThrownBy(() -> gateway.wrap(model, LlmPriority.CHAT).generate("second"))
+                .isInstanceOf(LlmOverloadedException.class)
+                .hasMessageContaining(LlmOverloadedException.USER_MESSAGE);
+
+        release.countDown();
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("대기 시간 초과 시 거절")
+    void 대기_시간_초과_거절() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingModel model = new BlockingModel(release, null);
+        LlmGateway gateway = new LlmGateway(1, 4,
+                Duration.ofSeconds(5), Duration.ofMillis(50));
+        executor.submit(() -> gateway.wrap(model, LlmPriority.CHAT).generate("first"));
+        waitUntil(() -> gateway.getInFlight() == 1);
+
+        // when & then
+        assertThatThrownBy(() -> gateway.wrap(model, LlmPriority.BACKGROUND).generate("bg"))
+                .isInstanceOf(LlmOverloadedException.class);
+        assertThat(gateway.getQueueSize()).isZero();
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("CHAT 우선순위가 BACKGROUND보다 먼저 처리됨")
+    void 우선순위_순서() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+        BlockingModel model = new BlockingModel(release, order);
+        LlmGateway gateway = new LlmGateway(1, 4,
+                Duration.ofSeconds(5), Duration.ofSeconds(5));
+        Future<String> holder = executor.submit(() -> gateway.wrap(model, LlmPriority.CHAT).generate("holder"));
+        waitUntil(() -> gateway.getInFlight() == 1);
+
+        Future<String> background = executor.submit(() -> gateway.wrap(model, LlmPriority.BACKGROUND).generate("background"));
+        waitUntil(() -> gateway.getQueueSize() == 1);
+        Future<String> chat = executor.submit(() -> gateway.wrap(model, LlmPriority.CHAT).generate("chat"));
+        waitUntil(() -> gateway.getQueueSize() == 2);
+
+        // when
+        release.countDown();
+        holder.get(1, TimeUnit.SECONDS);
+        chat.get(1, TimeUnit.SECONDS);
+        background.get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(order).containsExactly("holder", "chat", "background");
+        assertThat(gateway.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("우선순위 상한으로 묶은 범위의 호출은 BACKGROUND로 대기")
+    void 우선순위_상한_적용() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+        BlockingModel model = new BlockingModel(release, order);
+        LlmGateway gateway = new LlmGateway(1, 4,
+                Duration.ofSeconds(5), Duration.ofSeconds(5));
+        ChatLanguageModel chatModel = gateway.wrap(model, LlmPriority.CHAT);
+        Future<String> holder = executor.submit(() -> chatModel.generate("holder"));
+        waitUntil(() -> gateway.getInFlight() == 1);
+
+        Future<String> batch = executor.submit(() -> {
+            try (Scope ignored = LlmCallContext.priority(LlmPriority.BACKGROUND)) {
+                return chatModel.generate("batch");
+            }
+        });
+        waitUntil(() -> gateway.getQueueSize() == 1);
+        Future<String> chat = executor.submit(() -> chatModel.generate("chat"));
+        waitUntil(() -> gateway.getQueueSize() == 2);
+
+        // when
+        release.countDown();
+        holder.get(1, TimeUnit.SECONDS);
+        chat.get(1, TimeUnit.SECONDS);
+        batch.get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(order).containsExactly("holder", "chat", "batch");
+    }
+
+    @Test
+    @DisplayName("대기열 포화 시 높은 우선순위 요청이 낮은 우선순위 대기자를 밀어냄")
+    void 낮은_우선순위_밀어내기() throws Exception {
+        // given: 동시 1개, 대기열 1
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingModel model = new BlockingModel(release, null);
+        LlmGateway gateway = new LlmGateway(1, 1,
+                Duration.ofSeconds(5), Duration.ofSeconds(5));
+        executor.submit(() -> gateway.wrap(model, LlmPriority.CHAT).generate("holder"));
+        waitUntil(() -> gateway.getInFlight() == 1);
+        Future<String> background = executor.submit(() -> gateway.wrap(model, LlmPriority.BACKGROUND).generate("background"));
+        waitUntil(() -> gateway.getQueueSize() == 1);
+
+        // when
+        Future<String> chat = executor.submit(() -> gateway.wrap(model, LlmPriority.CHAT).generate("chat"));
+
+        // then
+        assertThatThrownBy(() -> background.get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(LlmOverloadedException.class);
+        release.countDown();
+        assertThat(chat.get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("취소된(인터럽트된) 스레드의 호출은 시작하지 않고, 대기 중에 취소되면 대기열에서 빠짐")
+    void 취소된_호출_중단() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+        BlockingModel model = new BlockingModel(release, order);
+        LlmGateway gateway = new LlmGateway(1, 4,
+                Duration.ofSeconds(5), Duration.ofSeconds(5));
+        executor.submit(() -> gateway.wrap(model, LlmPriority.CHAT).generate("holder"));
+        waitUntil(() -> gateway.getInFlight() == 1);
+        Future<String> waiting = executor.submit(() -> gateway.wrap(model, LlmPriority.CHAT).generate("waiting"));
+        waitUntil(() -> gateway.getQueueSize() == 1);
+
+        // when
+        waiting.cancel(true);
+        waitUntil(() -> gateway.getQueueSize() == 0);
+        Thread.currentThread().interrupt();
+        Throwable cancelled;
+        try {
+            cancelled = catchThrowable(() -> gateway.wrap(model, LlmPriority.CHAT).generate("cancelled"));
+        } finally {
+            Thread.interrupted();
+        }
+        release.countDown();
+        waitUntil(() -> gateway.getInFlight() == 0);
+
+        // then
+        assertThat(cancelled).isInstanceOf(CancellationException.class);
+        assertThat(order).containsExactly("holder");
+    }
+
+    @Test
+    @DisplayName("요청 시간 예산이 대기 허용 시간보다 짧으면 예산까지만 기다리고, 지났으면 호출하지 않음")
+    void 시간_예산_초과_중단() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingModel model = new BlockingModel(release, null);
+        LlmGateway gateway = new LlmGateway(1, 4,
+                Duration.ofSeconds(5), Duration.ofSeconds(5));
+        executor.submit(() -> gateway.wrap(model, LlmPriority.CHAT).generate("first"));
+        waitUntil(() -> gateway.getInFlight() == 1);
+
+        // when
+        long start = System.nanoTime();
+        Throwable queued;
+        try (Scope ignored = Deadline.start(Duration.ofMillis(100))) {
+            queued = catchThrowable(() -> gateway.wrap(model, LlmPriority.CHAT).generate("queued"));
+        }
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Throwable expired;
+        try (Scope ignored = Deadline.start(Duration.ZERO)) {
+            expired = catchThrowable(() -> gateway.wrap(new BlockingModel(null, null), LlmPriority.CHAT).generate("x"));
+        }
+
+        // then
+        assertThat(queued).isInstanceOf(DeadlineExceededException.class);
+        assertThat(waitedMillis).isLessThan(2000);
+        assertThat(expired).isInstanceOf(DeadlineExceededException.class);
+        assertThat(gateway.getQueueSize()).isZero();
+        release.countDown();
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건 대기 시간 초과");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static class BlockingModel implements ChatLanguageModel {
+        private final CountDownLatch release;
+        private final List<String> order;
+
+        BlockingModel(CountDownLatch release, List<String> order) {
+            this.release = release;
+            this.order = order;
+        }
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages) {
+            String text = ((dev.langchain4j.data.message.UserMessage) messages.get(0)).singleText();
+            if (order != null) {
+                order.add(text);
+            }
+            if (release != null) {
+                try {
+                    release.await(2, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return Response.from(AiMessage.from("ok"));
+        }
+    }
+}
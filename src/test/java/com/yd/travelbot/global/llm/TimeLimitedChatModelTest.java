@@ -0,0 +1,138 @@
+package com.yd.travelbot.global.llm;
+
+import com.yd.travelbot.global.deadline.Deadline;
+import com.yd.travelbot.global.deadline.DeadlineExceededException;
+import com.yd.travelbot.global.exception.ApiException;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import io.opentelemetry.context.Scope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@DisplayName("TimeLimitedChatModel 테스트")
+class TimeLimitedChatModelTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("시간 상한 안에 응답하면 그대로 돌려줌")
+    void 빠른_응답_통과() {
+        // given
+        SlowModel delegate = new SlowModel(0);
+        TimeLimitedChatModel model = new TimeLimitedChatModel(delegate, Duration.ofSeconds(1), executor);
+
+        // when
+        String result = model.generate("질문");
+
+        // then
+        assertThat(result).isEqualTo("answer");
+    }
+
+    @Test
+    @DisplayName("모델별 시간 상한을 넘기면 호출을 취소하고 시간 초과로 실패")
+    void 모델_시간_상한_초과() throws Exception {
+        // given
+        SlowModel delegate = new SlowModel(5000);
+        TimeLimitedChatModel model = new TimeLimitedChatModel(delegate, Duration.ofMillis(100), executor);
+
+        // when
+        long start = System.nanoTime();
+        Throwable thrown = catchThrowable(() -> model.generate("질문"));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertThat(thrown).isInstanceOf(ApiException.class).isNotInstanceOf(DeadlineExceededException.class);
+        assertThat(elapsedMillis).isLessThan(2000);
+        waitUntil(delegate.interrupted::get);
+    }
+
+    @Test
+    @DisplayName("남은 시간 예산이 상한보다 짧으면 예산까지만 기다리고 예산 초과로 실패")
+    void 시간_예산_초과() throws Exception {
+        // given
+        SlowModel delegate = new SlowModel(5000);
+        TimeLimitedChatModel model = new TimeLimitedChatModel(delegate, Duration.ofSeconds(30), executor);
+
+        // when
+        long start = System.nanoTime();
+        Throwable thrown;
+        try (Scope ignored = Deadline.start(Duration.ofMillis(200))) {
+            thrown = catchThrowable(() -> model.generate("질문"));
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertThat(thrown).isInstanceOf(DeadlineExceededException.class);
+        assertThat(elapsedMillis).isLessThan(2000);
+        waitUntil(delegate.interrupted::get);
+    }
+
+    @Test
+    @DisplayName("예산이 이미 지났으면 호출을 시작하지 않음")
+    void 예산_만료_호출_안함() {
+        // given
+        SlowModel delegate = new SlowModel(0);
+        TimeLimitedChatModel model = new TimeLimitedChatModel(delegate, Duration.ofSeconds(30), executor);
+
+        // when
+        Throwable thrown;
+        try (Scope ignored = Deadline.start(Duration.ZERO)) {
+            thrown = catchThrowable(() -> model.generate("질문"));
+        }
+
+        // then
+        assertThat(thrown).isInstanceOf(DeadlineExceededException.class);
+        assertThat(delegate.called.get()).isFalse();
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건 대기 시간 초과");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static class SlowModel implements ChatLanguageModel {
+        private final long delayMillis;
+        private final AtomicBoolean called = new AtomicBoolean();
+        private final AtomicBoolean interrupted = new AtomicBoolean();
+
+        SlowModel(long delayMillis) {
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages) {
+            called.set(true);
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                    throw new IllegalStateException("cancelled");
+                }
+            }
+            return Response.from(AiMessage.from("answer"));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.yd.travelbot.global.llm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.context.Scope;
+
+@DisplayName("TokenUsageTracker 테스트")
+class TokenUsageTrackerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TravelMetrics metrics = new TravelMetrics(registry);
+    private final Clock clock = Clock.fixed(Instant.parse("2026-10-19T00:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("호출 지점과 세션은 Context에서 읽고, 안쪽 호출 지점이 우선")
+    void 호출_지점_세션_집계() {
+        // given
+        TokenUsageTracker tracker = new TokenUsageTracker(metrics, 0, 100, clock);
+        ChatLanguageModel model = tracker.tracked(new FixedUsageModel(120, 30), "main");
+
+        // when
+        try (Scope session = LlmCallContext.session("s-1");
+             Scope site = LlmCallContext.callSite("assistant")) {
+            model.generate("도쿄 호텔");
+            try (Scope inner = LlmCallContext.callSite("city-normalize")) {
+                model.generate("도쿄");
+            }
+        }
+        model.generate("ping");
+
+        // then
+        TokenUsageSummary usage = tracker.session("s-1");
+        assertThat(usage.inputTokens()).isEqualTo(240);
+        assertThat(usage.outputTokens()).isEqualTo(60);
+        assertThat(usage.calls()).isEqualTo(2);
+        assertThat(usage.tokensByCallSite()).containsEntry("assistant", 150L).containsEntry("city-normalize", 150L);
+        assertThat(tracker.callSites()).containsKeys("assistant", "city-normalize", LlmCallContext.UNKNOWN);
+        assertThat(registry.get("travelbot.llm.tokens")
+                .tag("call_site", "assistant").tag("tier", "main").tag("type", "input")
+                .counter().count()).isEqualTo(120.0);
+    }
+
+    @Test
+    @DisplayName("상위 세션은 누적 토큰 내림차순")
+    void 상위_세션_정렬() {
+        // given
+        TokenUsageTracker tracker = new TokenUsageTracker(metrics, 0, 100, clock);
+        tracker.record("assistant", "small", "main", 10, 5);
+        tracker.record("assistant", "large", "main", 900, 100);
+        tracker.record("assistant", "medium", "main", 300, 20);
+
+        // when
+        List<TokenUsageSummary> top = tracker.topSessions(2);
+
+        // then
+        assertThat(top).extracting(TokenUsageSummary::id).containsExactly("large", "medium");
+        assertThat(top.get(0).totalTokens()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("누적 토큰이 세션 한도에 도달하면 isOverBudget")
+    void 세션_한도_도달() {
+        // given
+        TokenUsageTracker tracker = new TokenUsageTracker(metrics, 1000, 10, clock);
+
+        // when
+        tracker.record("assistant", "a", "main", 600, 300);
+        boolean beforeLimit = tracker.isOverBudget("a");
+        tracker.record("assistant", "a", "main", 90, 10);
+
+        // then
+        assertThat(beforeLimit).isFalse();
+        assertThat(tracker.isOverBudget("a")).isTrue();
+        assertThat(tracker.isOverBudget("other")).isFalse();
+    }
+
+    @Test
+    @DisplayName("보관 세션 수를 넘으면 가장 오래 쓰지 않은 세션부터 제거")
+    void 보관_상한_초과_제거() {
+        // given
+        TokenUsageTracker tracker = new TokenUsageTracker(metrics, 0, 2, clock);
+        tracker.record("assistant", "a", "main", 1, 1);
+        tracker.record("assistant", "b", "main", 1, 1);
+        tracker.record("assistant", "a", "main", 1, 1);
+
+        // when
+        tracker.record("assistant", "c", "main", 1, 1);
+
+        // then
+        assertThat(tracker.session("b")).isNull();
+        assertThat(tracker.topSessions(10)).extracting(TokenUsageSummary::id).containsExactlyInAnyOrder("a", "c");
+    }
+
+    private static class FixedUsageModel implements ChatLanguageModel {
+        private final int input;
+        private final int output;
+
+        FixedUsageModel(int input, int output) {
+            this.input = input;
+            this.output = output;
+        }
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages) {
+            return Response.from(AiMessage.from("ok"), new TokenUsage(input, output));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.yd.travelbot.global.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import okhttp3.HttpUrl;
+
+@DisplayName("LogRedactor 테스트")
+class LogRedactorTest {
+
+    @Test
+    @DisplayName("URL의 API 키 쿼리 파라미터 값만 가림")
+    void URL_마스킹() {
+        // given
+        HttpUrl url = HttpUrl.get("https://api.geoapify.com/v2/places?categories=catering&apiKey=secret-123");
+        HttpUrl plain = HttpUrl.get("https://api.geoapify.com/v2/places?categories=catering");
+
+        // when
+        String redacted = LogRedactor.url(url);
+
+        // then
+        assertThat(redacted).doesNotContain("secret-123").contains("apiKey=***").contains("categories=catering");
+        assertThat(LogRedactor.url(plain)).isEqualTo(plain.toString());
+    }
+
+    @Test
+    @DisplayName("본문의 토큰과 Bearer 값을 가림")
+    void 본문_마스킹() {
+        // given
+        String body = "{\"access_token\":\"abc.def\",\"type\":\"amadeusOAuth2Token\"} Authorization: Bearer xyz789";
+
+        // when
+        String redacted = LogRedactor.text(body);
+
+        // then
+        assertThat(redacted).doesNotContain("abc.def").doesNotContain("xyz789")
+                .contains("\"access_token\":\"***\"").contains("amadeusOAuth2Token");
+    }
+
+    @Test
+    @DisplayName("긴 본문은 앞부분만 남기고 잘린 글자 수를 표시")
+    void 본문_자르기() {
+        // given
+        String body = "가".repeat(510);
+
+        // when
+        String snippet = LogRedactor.snippet(body);
+
+        // then
+        assertThat(snippet).startsWith("가".repeat(500)).endsWith("…(+10자)");
+        assertThat(LogRedactor.snippet(null)).isEmpty();
+    }
+}
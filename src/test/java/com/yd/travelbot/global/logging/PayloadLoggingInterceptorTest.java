@@ -0,0 +1,102 @@
+package com.yd.travelbot.global.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import com.yd.travelbot.global.config.PayloadLoggingConfig;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+@DisplayName("PayloadLoggingInterceptor 테스트")
+class PayloadLoggingInterceptorTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger("test.payload-logging");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private MockWebServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        appender.start();
+        logger.addAppender(appender);
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        logger.detachAppender(appender);
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("샘플로 고른 호출은 API 키를 가린 URL과 본문 앞부분을 키-값과 함께 남기고, 본문은 호출한 쪽이 그대로 읽음")
+    void 샘플_로그() throws Exception {
+        // given
+        server.enqueue(new MockResponse().setBody("{\"features\":[\"" + "해".repeat(20) + "\"]}"));
+        OkHttpClient client = client(1.0, 10);
+
+        // when
+        String body;
+        try (Response response = client.newCall(new Request.Builder()
+                .url(server.url("/v2/places?apiKey=secret-123")).build()).execute()) {
+            body = response.body().string();
+        }
+
+        // then
+        assertThat(body).contains("해".repeat(20));
+        assertThat(appender.list).hasSize(1);
+        ILoggingEvent event = appender.list.get(0);
+        assertThat(event.getLevel()).isEqualTo(Level.INFO);
+        assertThat(event.getFormattedMessage()).contains("[geoapify]").contains("apiKey=***")
+                .doesNotContain("secret-123").contains("…(+");
+        assertThat(event.getKeyValuePairs()).extracting(pair -> pair.key)
+                .containsExactly("upstream", "endpoint", "status", "elapsed_ms");
+        assertThat(event.getKeyValuePairs()).anySatisfy(pair -> {
+            assertThat(pair.key).isEqualTo("status");
+            assertThat(pair.value).isEqualTo("200");
+        });
+    }
+
+    @Test
+    @DisplayName("샘플 비율이 0이면 로그를 남기지 않음")
+    void 샘플_비율_0() throws Exception {
+        // given
+        server.enqueue(new MockResponse().setBody("{}"));
+        OkHttpClient client = client(0.0, 500);
+
+        // when
+        try (Response response = client.newCall(new Request.Builder()
+                .url(server.url("/v2/places?apiKey=secret-123")).build()).execute()) {
+            response.body().string();
+        }
+
+        // then
+        assertThat(appender.list).isEmpty();
+    }
+
+    private OkHttpClient client(double sampleRate, int maxBodyChars) {
+        PayloadLoggingConfig config = new PayloadLoggingConfig();
+        config.setSampleRate(sampleRate);
+        config.setMaxBodyChars(maxBodyChars);
+        PayloadLoggingInterceptor interceptor = new PayloadLoggingInterceptor(config,
+                Map.of("geoapify", server.url("/").toString()), logger);
+        return new OkHttpClient.Builder().addInterceptor(interceptor).build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.yd.travelbot.global.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("DistributedChatMemoryStore 테스트")
+class DistributedChatMemoryStoreTest {
+
+    private final LocalChatMemoryBackend backend = new LocalChatMemoryBackend();
+    private final DistributedChatMemoryStore nodeA = node();
+    private final DistributedChatMemoryStore nodeB = node();
+
+    @Test
+    @DisplayName("다른 노드가 이어 받은 턴도 최신 기록으로 대화를 이어감")
+    void 노드_간_대화_이어가기() {
+        // given
+        memory(nodeA).add(UserMessage.from("서울 맛집 알려줘"));
+        memory(nodeA).add(AiMessage.from("서울 맛집 목록입니다"));
+
+        // when
+        ChatMemory onB = memory(nodeB);
+        onB.add(UserMessage.from("부산은?"));
+
+        // then
+        assertThat(nodeA.getMessages("session-1")).containsExactly(
+                UserMessage.from("서울 맛집 알려줘"),
+                AiMessage.from("서울 맛집 목록입니다"),
+                UserMessage.from("부산은?"));
+    }
+
+    @Test
+    @DisplayName("같은 노드로 이어지는 대화는 원격 기록을 다시 읽지 않음")
+    void 가까운_캐시_사용() {
+        // given
+        ChatMemory memory = memory(nodeA);
+        memory.add(UserMessage.from("제주 관광지"));
+        int loadsBefore = backend.loads.get();
+
+        // when
+        memory.add(AiMessage.from("제주 관광지 목록입니다"));
+        List<ChatMessage> messages = nodeA.getMessages("session-1");
+
+        // then
+        assertThat(messages).hasSize(2);
+        assertThat(backend.loads.get()).isEqualTo(loadsBefore);
+    }
+
+    @Test
+    @DisplayName("두 노드가 같은 세션에 동시에 기록하면 나중 기록을 남김")
+    void 동시_기록_충돌() {
+        // given
+        nodeA.updateMessages("session-1", List.of(UserMessage.from("첫 질문")));
+        nodeB.getMessages("session-1");
+        nodeA.updateMessages("session-1", List.of(UserMessage.from("첫 질문"), AiMessage.from("A 응답")));
+
+        // when
+        nodeB.updateMessages("session-1", List.of(UserMessage.from("첫 질문"), AiMessage.from("B 응답")));
+
+        // then
+        assertThat(nodeA.getMessages("session-1")).containsExactly(UserMessage.from("첫 질문"), AiMessage.from("B 응답"));
+        assertThat(backend.version("session-1")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("삭제한 세션은 모든 노드에서 비어 있음")
+    void 세션_삭제() {
+        // given
+        nodeA.updateMessages("session-1", List.of(UserMessage.from("질문")));
+        nodeB.getMessages("session-1");
+
+        // when
+        nodeA.deleteMessages("session-1");
+
+        // then
+        assertThat(nodeB.getMessages("session-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제 후 다시 시작한 세션을 다른 노드가 지워진 기록으로 오인하지 않음")
+    void 삭제_후_재사용_세션() {
+        // given
+        nodeA.updateMessages("session-1", List.of(UserMessage.from("예전 질문")));
+        nodeB.getMessages("session-1");
+        nodeA.deleteMessages("session-1");
+
+        // when
+        nodeA.updateMessages("session-1", List.of(UserMessage.from("새 질문")));
+
+        // then
+        assertThat(nodeB.getMessages("session-1")).containsExactly(UserMessage.from("새 질문"));
+    }
+
+    private DistributedChatMemoryStore node() {
+        return new DistributedChatMemoryStore(backend, Duration.ofDays(7), 100,
+                new TravelMetrics(new SimpleMeterRegistry()));
+    }
+
+    private static ChatMemory memory(DistributedChatMemoryStore store) {
+        return MessageWindowChatMemory.builder()
+                .id("session-1")
+                .maxMessages(10)
+                .chatMemoryStore(store)
+                .build();
+    }
+}
@@ -0,0 +1,172 @@
+package com.yd.travelbot.global.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("FileChatMemoryStore 테스트")
+class FileChatMemoryStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private final TravelMetrics metrics = new TravelMetrics(new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("새 인스턴스(재시작)에서 첫 접근 때 로그를 재생해 대화를 복원")
+    void 재시작_후_복원() {
+        // given
+        FileChatMemoryStore store = store(100, 64);
+        ChatMemory memory = memory(store, "session-1", 4);
+        memory.add(SystemMessage.from("여행 도우미"));
+        memory.add(UserMessage.from("서울 맛집 알려줘"));
+        memory.add(AiMessage.from("서울 맛집 목록입니다"));
+        memory.add(UserMessage.from("부산은?"));
+        memory.add(AiMessage.from("부산 맛집 목록입니다"));
+
+        // when
+        FileChatMemoryStore restarted = store(100, 64);
+
+        // then
+        assertThat(restarted.getMessages("session-1")).containsExactly(
+                SystemMessage.from("여행 도우미"),
+                AiMessage.from("서울 맛집 목록입니다"),
+                UserMessage.from("부산은?"),
+                AiMessage.from("부산 맛집 목록입니다"));
+        assertThat(restarted.getMessages("session-2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("윈도 밖으로 밀려난 메시지는 구간 삭제로, 새 메시지는 추가로 기록")
+    void 변경분만_기록() {
+        // given
+        List<ChatMessage> previous = List.of(SystemMessage.from("s"), UserMessage.from("a"), AiMessage.from("b"));
+        List<ChatMessage> current = List.of(SystemMessage.from("s"), AiMessage.from("b"), UserMessage.from("c"));
+
+        // when
+        List<String> records = FileChatMemoryStore.diff(previous, current);
+
+        // then
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0)).isEqualTo("- 1 1");
+        assertThat(records.get(1)).startsWith("+ ");
+        assertThat(FileChatMemoryStore.diff(current, current)).isEmpty();
+        assertThat(FileChatMemoryStore.diff(current, List.of(UserMessage.from("x")))).hasSize(2)
+                .first().isEqualTo("- 0 3");
+    }
+
+    @Test
+    @DisplayName("레코드가 기준을 넘으면 현재 메시지만 남기도록 다시 씀")
+    void 로그_다시_쓰기() throws Exception {
+        // given
+        FileChatMemoryStore store = store(100, 5);
+        ChatMemory memory = memory(store, "session-1", 3);
+
+        // when
+        for (int i = 1; i <= 6; i++) {
+            memory.add(UserMessage.from("질문 " + i));
+        }
+
+        // then
+        List<String> lines = Files.readAllLines(store.file("session-1"), StandardCharsets.UTF_8);
+        assertThat(lines.size()).isLessThanOrEqualTo(5);
+        assertThat(store(100, 5).getMessages("session-1")).containsExactly(
+                UserMessage.from("질문 4"), UserMessage.from("질문 5"), UserMessage.from("질문 6"));
+    }
+
+    @Test
+    @DisplayName("힙에서 내려간 세션은 다음 접근 때 디스크에서 복원")
+    void 내려간_세션_복원() {
+        // given
+        FileChatMemoryStore store = store(1, 64);
+        store.updateMessages("a", List.of(UserMessage.from("a 질문")));
+        store.updateMessages("b", List.of(UserMessage.from("b 질문")));
+
+        // when
+        List<ChatMessage> restored = store.getMessages("a");
+
+        // then
+        assertThat(restored).containsExactly(UserMessage.from("a 질문"));
+    }
+
+    @Test
+    @DisplayName("마지막 레코드가 깨졌으면 읽을 수 있는 곳까지 복원하고 다음 기록 때 다시 씀")
+    void 손상된_로그_복원() throws Exception {
+        // given
+        FileChatMemoryStore store = store(100, 64);
+        store.updateMessages("session-1", List.of(UserMessage.from("첫 질문")));
+        Files.writeString(store.file("session-1"), "+ {\"type\":\"USER\",\"con", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+        FileChatMemoryStore restarted = store(100, 64);
+
+        // when
+        List<ChatMessage> restored = restarted.getMessages("session-1");
+        List<ChatMessage> next = new ArrayList<>(restored);
+        next.add(UserMessage.from("두 번째 질문"));
+        restarted.updateMessages("session-1", next);
+
+        // then
+        assertThat(restored).containsExactly(UserMessage.from("첫 질문"));
+        assertThat(Files.readAllLines(restarted.file("session-1"), StandardCharsets.UTF_8)).hasSize(1);
+        assertThat(store(100, 64).getMessages("session-1")).containsExactlyElementsOf(next);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 세션 로그와 삭제한 세션은 디스크에서 제거")
+    void 오래된_로그_삭제() throws Exception {
+        // given
+        FileChatMemoryStore store = store(100, 64);
+        store.updateMessages("old", List.of(UserMessage.from("예전 질문")));
+        store.updateMessages("recent", List.of(UserMessage.from("최근 질문")));
+        store.updateMessages("deleted", List.of(UserMessage.from("삭제할 질문")));
+        Instant now = Instant.parse("2026-10-19T00:00:00Z");
+        Files.setLastModifiedTime(store.file("old"), FileTime.from(now.minus(Duration.ofDays(8))));
+        Files.setLastModifiedTime(store.file("recent"), FileTime.from(now.minus(Duration.ofDays(1))));
+
+        // when
+        store.deleteMessages("deleted");
+        int purged = store.purgeOlderThan(Duration.ofDays(7), Clock.fixed(now, ZoneOffset.UTC));
+
+        // then
+        assertThat(purged).isEqualTo(1);
+        assertThat(store.file("old")).doesNotExist();
+        assertThat(store.file("deleted")).doesNotExist();
+        assertThat(store.file("recent")).exists();
+    }
+
+    private FileChatMemoryStore store(int maxResidentSessions, int compactionThreshold) {
+        return new FileChatMemoryStore(directory, maxResidentSessions, compactionThreshold, false, metrics);
+    }
+
+    private static ChatMemory memory(FileChatMemoryStore store, String id, int maxMessages) {
+        return MessageWindowChatMemory.builder()
+                .id(id)
+                .maxMessages(maxMessages)
+                .chatMemoryStore(store)
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.yd.travelbot.global.memory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 프로세스 내 ChatMemoryBackend (Redis 대신, 만료는 다루지 않음)
+ */
+class LocalChatMemoryBackend implements ChatMemoryBackend {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+    final AtomicInteger loads = new AtomicInteger();
+
+    @Override
+    public long version(String sessionId) {
+        Entry entry = entries.get(sessionId);
+        return entry != null ? entry.version() : 0;
+    }
+
+    @Override
+    public Entry load(String sessionId) {
+        loads.incrementAndGet();
+        return entries.get(sessionId);
+    }
+
+    @Override
+    public long store(String sessionId, long expectedVersion, String payload, Duration ttl) {
+        long[] stored = {-1};
+        entries.compute(sessionId, (id, current) -> {
+            long version = current != null ? current.version() : 0;
+            if (version != expectedVersion) {
+                return current;
+            }
+            stored[0] = versionSequence.incrementAndGet();
+            return new Entry(stored[0], payload);
+        });
+        return stored[0];
+    }
+
+    @Override
+    public void delete(String sessionId) {
+        entries.remove(sessionId);
+    }
+}
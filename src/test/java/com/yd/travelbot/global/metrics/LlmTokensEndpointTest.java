@@ -0,0 +1,48 @@
+package com.yd.travelbot.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yd.travelbot.global.config.LlmTokenConfig;
+import com.yd.travelbot.global.llm.LlmCallContext;
+import com.yd.travelbot.global.llm.TokenUsageSummary;
+import com.yd.travelbot.global.llm.TokenUsageTracker;
+
+import dev.langchain4j.model.output.TokenUsage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.context.Scope;
+
+@DisplayName("LlmTokensEndpoint 테스트")
+class LlmTokensEndpointTest {
+
+    private final TokenUsageTracker tracker = new TokenUsageTracker(new TravelMetrics(new SimpleMeterRegistry()),
+            new LlmTokenConfig());
+    private final LlmTokensEndpoint endpoint = new LlmTokensEndpoint(tracker);
+
+    @Test
+    @DisplayName("상위 세션은 세션 ID 대신 해시로 보여 주고, 해시로 세션 하나를 조회")
+    void 세션_ID_노출_안함() {
+        // given
+        try (Scope ignored = LlmCallContext.session("2f1c9a7e-session-secret")) {
+            tracker.record("main", new TokenUsage(100, 20));
+        }
+
+        // when
+        Map<String, Object> report = endpoint.report(null);
+        @SuppressWarnings("unchecked")
+        List<TokenUsageSummary> top = (List<TokenUsageSummary>) report.get("topSessions");
+        String hash = top.get(0).id();
+
+        // then
+        assertThat(hash).hasSize(12).isNotEqualTo("2f1c9a7e-session-secret");
+        assertThat(report.toString()).doesNotContain("2f1c9a7e-session-secret");
+        assertThat(endpoint.session(hash).totalTokens()).isEqualTo(120);
+        assertThat(endpoint.session(hash).id()).isEqualTo(hash);
+        assertThat(endpoint.session("2f1c9a7e-session-secret")).isNull();
+    }
+}
@@ -0,0 +1,105 @@
+package com.yd.travelbot.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UpstreamMetricsInterceptor 테스트")
+class UpstreamMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private MockWebServer server;
+    private OkHttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        String baseUrl = server.url("/").toString();
+        client = new OkHttpClient.Builder()
+                .addInterceptor(new UpstreamMetricsInterceptor(new TravelMetrics(registry),
+                        Map.of("geoapify", baseUrl)))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("기본 주소로 upstream 이름을 판별하고 상태 코드와 응답 크기를 기록")
+    void 상태_코드와_크기_기록() throws IOException {
+        // given
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("{\"features\":[]}"));
+
+        // when
+        try (Response response = client.newCall(get("/v2/places")).execute()) {
+            response.body().string();
+        }
+
+        // then
+        Timer timer = registry.find("travelbot.upstream.requests")
+                .tags("upstream", "geoapify", "endpoint", "/v2/places", "status", "200")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        DistributionSummary bytes = registry.find("travelbot.upstream.response.bytes").summary();
+        assertThat(bytes.totalAmount()).isEqualTo(15.0);
+    }
+
+    @Test
+    @DisplayName("Content-Length가 없으면 실제로 읽은 바이트 수를 본문을 닫을 때 기록")
+    void chunked_응답_크기_기록() throws IOException {
+        // given
+        server.enqueue(new MockResponse().setChunkedBody(new Buffer().writeUtf8("x".repeat(100)), 16));
+
+        // when
+        try (Response response = client.newCall(get("/v1/geocode/search")).execute()) {
+            assertThat(response.body().string()).hasSize(100);
+        }
+
+        // then
+        DistributionSummary bytes = registry.find("travelbot.upstream.response.bytes")
+                .tags("endpoint", "/v1/geocode/search")
+                .summary();
+        assertThat(bytes).isNotNull();
+        assertThat(bytes.count()).isEqualTo(1);
+        assertThat(bytes.totalAmount()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("오류 응답도 상태 코드 태그로 구분해 기록")
+    void 오류_상태_코드_기록() throws IOException {
+        // given
+        server.enqueue(new MockResponse().setResponseCode(503));
+
+        // when
+        try (Response response = client.newCall(get("/v2/places")).execute()) {
+            assertThat(response.code()).isEqualTo(503);
+        }
+
+        // then
+        assertThat(registry.find("travelbot.upstream.requests").tag("status", "503").timer().count())
+                .isEqualTo(1);
+    }
+
+    private Request get(String path) {
+        return new Request.Builder().url(server.url(path)).get().build();
+    }
+}
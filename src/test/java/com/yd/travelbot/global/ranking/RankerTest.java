@@ -0,0 +1,82 @@
+package com.yd.travelbot.global.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Ranker 테스트")
+class RankerTest {
+
+    private record Item(String name, double rating, double price) {
+    }
+
+    @Test
+    @DisplayName("가중치 합이 큰 순으로 상위 k개를 반환하고, 전체 정렬 결과의 앞부분과 같음")
+    void 상위_k개() {
+        // given
+        Random random = new Random(42);
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            items.add(new Item("item-" + i, random.nextDouble(), random.nextDouble()));
+        }
+        Ranker<Item> ranker = Ranker.<Item>builder()
+                .feature(0.7, Item::rating)
+                .feature(0.3, item -> 1 - item.price())
+                .build();
+
+        // when
+        List<Item> top = ranker.top(items, 10);
+
+        // then
+        List<Item> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparingDouble((Item item) -> 0.7 * item.rating() + 0.3 * (1 - item.price()))
+                .reversed());
+        assertThat(top).containsExactlyElementsOf(sorted.subList(0, 10));
+    }
+
+    @Test
+    @DisplayName("점수가 같으면 원래 순서를 유지하고, 후보가 k개보다 적으면 모두 반환")
+    void 동점_원래_순서() {
+        // given
+        List<Item> items = List.of(new Item("a", 0.5, 0), new Item("b", 0.9, 0), new Item("c", 0.5, 0),
+                new Item("d", 0.5, 0));
+        Ranker<Item> ranker = Ranker.<Item>builder().feature(1.0, Item::rating).build();
+
+        // when
+        List<Item> top = ranker.top(items, 3);
+        List<Item> all = ranker.top(items, 10);
+
+        // then
+        assertThat(top).extracting(Item::name).containsExactly("b", "a", "c");
+        assertThat(all).extracting(Item::name).containsExactly("b", "a", "c", "d");
+    }
+
+    @Test
+    @DisplayName("가중치가 0인 특성은 계산하지 않고, 특성이 없으면 원래 순서의 앞 k개")
+    void 가중치_0_특성_제외() {
+        // given
+        List<Item> items = List.of(new Item("a", 0.1, 0), new Item("b", 0.9, 0));
+        List<String> scored = Collections.synchronizedList(new ArrayList<>());
+        Ranker<Item> ranker = Ranker.<Item>builder()
+                .feature(0, item -> {
+                    scored.add(item.name());
+                    return item.rating();
+                })
+                .build();
+
+        // when
+        List<Item> top = ranker.top(items, 1);
+
+        // then
+        assertThat(top).extracting(Item::name).containsExactly("a");
+        assertThat(scored).isEmpty();
+        assertThat(ranker.top(List.of(), 5)).isEmpty();
+    }
+}
@@ -0,0 +1,95 @@
+package com.yd.travelbot.global.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RankingFeatures 테스트")
+class RankingFeaturesTest {
+
+    private record Spot(String name, Double latitude, Double longitude, BigDecimal price, List<String> categories) {
+    }
+
+    @Test
+    @DisplayName("거리 - 기준 좌표에서 가까울수록 높고 halfScoreKm에서 0.5, 좌표가 없으면 0")
+    void 거리_점수() {
+        // given
+        Spot center = new Spot("시청", 37.5665, 126.9780, null, null);
+        Spot gangnam = new Spot("강남역", 37.4979, 127.0276, null, null);
+        Spot unknown = new Spot("미상", null, null, null, null);
+        List<Spot> spots = List.of(center, gangnam, unknown);
+        double gangnamKm = RankingFeatures.distanceKm(37.5665, 126.9780, 37.4979, 127.0276);
+
+        // when
+        RankingFeature<Spot> feature = RankingFeatures.<Spot>distance(Spot::latitude, Spot::longitude,
+                37.5665, 126.9780, gangnamKm).prepare(spots);
+
+        // then
+        assertThat(gangnamKm).isCloseTo(8.8, within(0.3));
+        assertThat(feature.score(center)).isEqualTo(1.0);
+        assertThat(feature.score(gangnam)).isCloseTo(0.5, within(1e-9));
+        assertThat(feature.score(unknown)).isZero();
+    }
+
+    @Test
+    @DisplayName("거리 - 기준 좌표가 없으면 후보 좌표의 중앙값을 기준으로 사용")
+    void 거리_중앙값_기준() {
+        // given
+        List<Spot> spots = List.of(
+                new Spot("a", 35.0, 135.0, null, null),
+                new Spot("b", 35.01, 135.01, null, null),
+                new Spot("c", 36.0, 136.0, null, null));
+
+        // when
+        RankingFeature<Spot> feature = RankingFeatures.<Spot>distance(Spot::latitude, Spot::longitude,
+                null, null, 3.0).prepare(spots);
+
+        // then
+        assertThat(feature.score(spots.get(1))).isEqualTo(1.0);
+        assertThat(feature.score(spots.get(0))).isGreaterThan(feature.score(spots.get(2)));
+    }
+
+    @Test
+    @DisplayName("가격 - 후보 중 가장 싸면 1, 가장 비싸면 0, 가격이 없거나 0이면 NEUTRAL")
+    void 가격_점수() {
+        // given
+        Spot cheap = new Spot("cheap", null, null, new BigDecimal("100"), null);
+        Spot middle = new Spot("middle", null, null, new BigDecimal("150"), null);
+        Spot expensive = new Spot("expensive", null, null, new BigDecimal("200"), null);
+        Spot free = new Spot("free", null, null, BigDecimal.ZERO, null);
+
+        // when
+        RankingFeature<Spot> feature = RankingFeatures.lowerPrice(Spot::price)
+                .prepare(List.of(cheap, middle, expensive, free));
+
+        // then
+        assertThat(feature.score(cheap)).isEqualTo(1.0);
+        assertThat(feature.score(middle)).isEqualTo(0.5);
+        assertThat(feature.score(expensive)).isZero();
+        assertThat(feature.score(free)).isEqualTo(RankingFeature.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("카테고리 일치 - 한국어 요청어를 Geoapify 분류어로도 찾고, 요청어가 없으면 모두 0")
+    void 카테고리_일치() {
+        // given
+        Spot sushi = new Spot("스시 긴자", null, null, null, List.of("catering.restaurant.sushi"));
+        Spot cafe = new Spot("카페", null, null, null, List.of("catering.cafe"));
+
+        // when
+        RankingFeature<Spot> japanese = RankingFeatures.matches("일식", Spot::categories);
+        RankingFeature<Spot> byName = RankingFeatures.matches("긴자", spot -> List.of(spot.name()));
+        RankingFeature<Spot> none = RankingFeatures.matches(null, Spot::categories);
+
+        // then
+        assertThat(japanese.score(sushi)).isEqualTo(1.0);
+        assertThat(japanese.score(cafe)).isZero();
+        assertThat(byName.score(sushi)).isEqualTo(1.0);
+        assertThat(none.score(sushi)).isZero();
+    }
+}
@@ -1,12 +1,22 @@
 package com.yd.travelbot.global.resolver;
 
+import com.yd.travelbot.global.config.ChatMemoryConfig;
 import com.yd.travelbot.global.config.GeoapifyConfig;
+import com.yd.travelbot.global.config.LookupCacheConfig;
+import com.yd.travelbot.global.llm.LlmCallContext;
+import com.yd.travelbot.global.metrics.TravelMetrics;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.output.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.context.Scope;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +24,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.*;
@@ -35,9 +50,14 @@ class GeoapifyCityResolverTest {
         // lenient()를 사용하여 사용되지 않는 stubbing 허용
         lenient().when(geoapifyConfig.getApiKey()).thenReturn("test-api-key");
         
-        // GeoapifyCityResolver는 OkHttpClient를 직접 생성하므로 리플렉션으로 주입하거나
-        // 테스트용 생성자를 만들어야 하지만, 여기서는 기본 생성자 사용 후 설정 주입
-        resolver = new GeoapifyCityResolver(geoapifyConfig, chatModel);
+        TravelMetrics metrics = new TravelMetrics(new SimpleMeterRegistry());
+        resolver = new GeoapifyCityResolver(geoapifyConfig, chatModel, new OkHttpClient(),
+                new LookupCacheConfig(), metrics, new SessionLocationContext(new ChatMemoryConfig(), metrics));
+    }
+
+    @AfterEach
+    void tearDown() {
+        resolver.shutdown();
     }
 
     @Test
@@ -196,5 +216,62 @@ class GeoapifyCityResolverTest {
         // then
         assertThat(result).isNull();
     }
-}
 
+    @Test
+    @DisplayName("같은 세션에서 이미 해석한 도시는 국가 힌트가 달라도 정규화/지오코딩 없이 반환")
+    void 세션_도시_재사용() throws Exception {
+        // given
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody(
+                    "{\"results\":[{\"lat\":34.69,\"lon\":135.50,\"city\":\"Osaka\",\"country_code\":\"jp\"}]}"));
+            server.start();
+            when(geoapifyConfig.geocodeUrl()).thenReturn(server.url("/v1/geocode/search").toString());
+            when(chatModel.generate(any(SystemMessage.class), any(UserMessage.class)))
+                    .thenReturn(Response.from(AiMessage.from("Osaka")));
+
+            try (Scope ignored = LlmCallContext.session("session-1")) {
+                // when
+                CityLocation first = resolver.resolveLocation("오사카", null);
+                Double[] again = resolver.resolveCoordinates("오사카", "kr");
+                Double[] byName = resolver.resolveCoordinates("Osaka", null);
+
+                // then
+                assertThat(first.name()).isEqualTo("Osaka");
+                assertThat(first.countryCode()).isEqualTo("jp");
+                assertThat(again).containsExactly(135.50, 34.69);
+                assertThat(byName).containsExactly(135.50, 34.69);
+            }
+            verify(chatModel, times(1)).generate(any(ChatMessage.class), any(ChatMessage.class));
+            assertThat(server.getRequestCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("비동기 해석은 정규화(LLM)를 호출한 스레드에서 기다리지 않고 future로 돌려줌")
+    void 비동기_해석_호출_스레드_비차단() throws Exception {
+        // given
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody(
+                    "{\"results\":[{\"lat\":35.18,\"lon\":129.08,\"city\":\"Busan\",\"country_code\":\"kr\"}]}"));
+            server.start();
+            when(geoapifyConfig.geocodeUrl()).thenReturn(server.url("/v1/geocode/search").toString());
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicReference<String> normalizeThread = new AtomicReference<>();
+            when(chatModel.generate(any(SystemMessage.class), any(UserMessage.class))).thenAnswer(invocation -> {
+                normalizeThread.set(Thread.currentThread().getName());
+                release.await(5, TimeUnit.SECONDS);
+                return Response.from(AiMessage.from("Busan"));
+            });
+
+            // when
+            CompletableFuture<Double[]> coordinates = resolver.resolveCoordinatesAsync("부산", "kr");
+
+            // then
+            assertThat(coordinates).isNotDone();
+            release.countDown();
+            assertThat(coordinates.get(5, TimeUnit.SECONDS)).containsExactly(129.08, 35.18);
+            assertThat(normalizeThread.get()).startsWith("city-normalize-");
+            assertThat(server.takeRequest().getRequestUrl().queryParameter("text")).isEqualTo("Busan");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.yd.travelbot.global.resolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yd.travelbot.global.config.ChatMemoryConfig;
+import com.yd.travelbot.global.llm.LlmCallContext;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.context.Scope;
+
+@DisplayName("SessionLocationContext 테스트")
+class SessionLocationContextTest {
+
+    private final SessionLocationContext context =
+            new SessionLocationContext(new ChatMemoryConfig(), new TravelMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    @DisplayName("입력한 도시명과 표준 영문명 모두로 같은 세션에서 찾음")
+    void 입력명_표준명_조회() {
+        // given
+        try (Scope ignored = LlmCallContext.session("session-1")) {
+            context.remember("오사카", CityLocation.of("Osaka", 135.5, 34.7, "jp"));
+
+            // when
+            CityLocation byInput = context.find(" 오사카 ");
+            CityLocation byName = context.find("osaka");
+
+            // then
+            assertThat(byInput.coordinates()).containsExactly(135.5, 34.7);
+            assertThat(byName).isEqualTo(byInput);
+            assertThat(byName.countryCode()).isEqualTo("jp");
+        }
+    }
+
+    @Test
+    @DisplayName("좌표와 IATA 코드는 먼저 채운 쪽과 관계없이 합쳐서 보관")
+    void 좌표_IATA_합치기() {
+        // given
+        try (Scope ignored = LlmCallContext.session("session-1")) {
+            context.rememberIataCode("오사카", "OSA");
+
+            // when
+            context.remember("오사카", CityLocation.of("Osaka", 135.5, 34.7, "jp"));
+
+            // then
+            CityLocation location = context.find("Osaka");
+            assertThat(location.iataCode()).isEqualTo("OSA");
+            assertThat(location.hasCoordinates()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 세션이나 세션 밖의 호출에서는 보이지 않음")
+    void 세션_격리() {
+        // given
+        try (Scope ignored = LlmCallContext.session("session-1")) {
+            context.remember("파리", CityLocation.of("Paris", 2.35, 48.85, "fr"));
+        }
+
+        // when & then
+        try (Scope ignored = LlmCallContext.session("session-2")) {
+            assertThat(context.find("파리")).isNull();
+        }
+        assertThat(context.find("파리")).isNull();
+        context.remember("파리", CityLocation.of("Paris", 2.35, 48.85, "fr"));
+        try (Scope ignored = LlmCallContext.session("session-2")) {
+            assertThat(context.find("파리")).isNull();
+        }
+    }
+}
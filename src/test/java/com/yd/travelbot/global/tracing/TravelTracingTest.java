@@ -0,0 +1,147 @@
+package com.yd.travelbot.global.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.yd.travelbot.global.util.JsonUtil;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+
+@DisplayName("TravelTracing 테스트")
+class TravelTracingTest {
+
+    private SdkTracerProvider provider;
+
+    @AfterEach
+    void tearDown() {
+        TravelTracing.install(OpenTelemetry.noop().getTracer(TravelTracing.INSTRUMENTATION_NAME));
+        if (provider != null) {
+            provider.close();
+        }
+    }
+
+    @Test
+    @DisplayName("debug 루트 span 아래의 span이 시작 순서대로 중첩된 타이밍 트리로 모임")
+    void debug_타이밍_트리() {
+        // given
+        install(Sampler.alwaysOn(), null);
+
+        // when
+        Span root = TravelTracing.startRootSpan("POST /api/chat", SpanKind.SERVER, true);
+        try (Scope ignored = root.makeCurrent()) {
+            Span tool = TravelTracing.startSpan("tool searchFood");
+            try (Scope toolScope = tool.makeCurrent()) {
+                TravelTracing.startSpan("GET geoapify /v2/places", SpanKind.CLIENT).end();
+            } finally {
+                tool.end();
+            }
+            Span llm = TravelTracing.startSpan("chat gemini");
+            TravelTracing.fail(llm, new IllegalStateException("overloaded"));
+            llm.end();
+        } finally {
+            root.end();
+        }
+        TimingNode timings = TravelTracing.collectTimings(root);
+
+        // then
+        assertThat(timings.name()).isEqualTo("POST /api/chat");
+        assertThat(timings.offsetMs()).isZero();
+        assertThat(timings.children()).extracting(TimingNode::name)
+                .containsExactly("tool searchFood", "chat gemini");
+        assertThat(timings.children().get(0).children()).extracting(TimingNode::name)
+                .containsExactly("GET geoapify /v2/places");
+        assertThat(timings.children().get(1).error()).isTrue();
+        // 한 번 꺼낸 trace는 정리됨
+        assertThat(TravelTracing.collectTimings(root)).isNull();
+    }
+
+    @Test
+    @DisplayName("debug가 아닌 요청의 span은 보관하지 않음")
+    void debug_아니면_수집하지_않음() {
+        // given
+        install(Sampler.alwaysOn(), null);
+
+        // when
+        Span root = TravelTracing.startRootSpan("POST /api/chat", SpanKind.SERVER, false);
+        root.end();
+
+        // then
+        assertThat(TravelTracing.collectTimings(root)).isNull();
+    }
+
+    @Test
+    @DisplayName("샘플링 비율이 0이어도 debug 요청은 기록됨")
+    void debug_요청_항상_샘플링() {
+        // given
+        install(Sampler.parentBased(new DebugAwareSampler(Sampler.traceIdRatioBased(0.0))), null);
+
+        // when
+        Span normal = TravelTracing.startRootSpan("POST /api/chat", SpanKind.SERVER, false);
+        Span debug = TravelTracing.startRootSpan("POST /api/chat", SpanKind.SERVER, true);
+        normal.end();
+        debug.end();
+
+        // then
+        assertThat(normal.getSpanContext().isSampled()).isFalse();
+        assertThat(debug.getSpanContext().isSampled()).isTrue();
+        assertThat(TravelTracing.collectTimings(debug)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("파일 내보내기 - span 하나당 JSON 한 줄")
+    @SuppressWarnings("unchecked")
+    void 파일_내보내기(@TempDir Path dir) throws Exception {
+        // given
+        Path file = dir.resolve("traces.jsonl");
+        install(Sampler.alwaysOn(), new JsonLinesSpanExporter(file));
+
+        // when
+        Span root = TravelTracing.startRootSpan("POST /api/chat", SpanKind.SERVER, false);
+        try (Scope ignored = root.makeCurrent()) {
+            Span child = TravelTracing.startSpan("chat.turn");
+            child.setAttribute("travelbot.outcome", "success");
+            child.end();
+        } finally {
+            root.end();
+        }
+        provider.forceFlush().join(1, java.util.concurrent.TimeUnit.SECONDS);
+
+        // then
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(2);
+        Map<String, Object> child = JsonUtil.fromJson(lines.get(0), Map.class);
+        Map<String, Object> parent = JsonUtil.fromJson(lines.get(1), Map.class);
+        assertThat(child.get("name")).isEqualTo("chat.turn");
+        assertThat(child.get("parentSpanId")).isEqualTo(parent.get("spanId"));
+        assertThat(child.get("traceId")).isEqualTo(parent.get("traceId"));
+        assertThat((Map<String, Object>) child.get("attributes")).containsEntry("travelbot.outcome", "success");
+        assertThat(parent).doesNotContainKey("parentSpanId");
+    }
+
+    private void install(Sampler sampler, JsonLinesSpanExporter exporter) {
+        var builder = SdkTracerProvider.builder()
+                .setSampler(sampler)
+                .addSpanProcessor(TravelTracing.timings());
+        if (exporter != null) {
+            builder.addSpanProcessor(SimpleSpanProcessor.create(exporter));
+        }
+        provider = builder.build();
+        TravelTracing.install(provider.get(TravelTracing.INSTRUMENTATION_NAME));
+    }
+}
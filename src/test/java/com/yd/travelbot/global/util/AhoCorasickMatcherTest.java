@@ -0,0 +1,68 @@
+package com.yd.travelbot.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yd.travelbot.global.util.AhoCorasickMatcher.Boundary;
+
+@DisplayName("AhoCorasickMatcher 테스트")
+class AhoCorasickMatcherTest {
+
+    @Test
+    @DisplayName("겹치는 패턴을 한 번의 탐색으로 모두 찾음")
+    void 겹치는_패턴_모두_탐색() {
+        // given
+        AhoCorasickMatcher<String> matcher = AhoCorasickMatcher.<String>builder()
+                .add("he", "he")
+                .add("she", "she")
+                .add("his", "his")
+                .add("hers", "hers")
+                .build();
+
+        // when
+        List<String> found = new ArrayList<>();
+        matcher.scan("ushers", (start, end, payload) -> found.add(payload + "@" + start));
+
+        // then
+        assertThat(found).containsExactlyInAnyOrder("she@1", "he@2", "hers@2");
+    }
+
+    @Test
+    @DisplayName("대소문자 무시 및 한글 패턴 탐색")
+    void 대소문자_무시_한글() {
+        // given
+        AhoCorasickMatcher<String> matcher = AhoCorasickMatcher.<String>builder()
+                .add("Tokyo", "도쿄")
+                .add("제주", "제주")
+                .build();
+
+        // when
+        List<String> found = new ArrayList<>();
+        matcher.scan("TOKYO에서 제주도로", (start, end, payload) -> found.add(payload));
+
+        // then
+        assertThat(found).containsExactly("도쿄", "제주");
+    }
+
+    @Test
+    @DisplayName("단어 경계 조건 적용")
+    void 단어_경계() {
+        // given
+        AhoCorasickMatcher<String> matcher = AhoCorasickMatcher.<String>builder()
+                .add("la", "LA", Boundary.BOTH)
+                .add("hotel", "hotel", Boundary.START)
+                .build();
+
+        // when
+        List<String> found = new ArrayList<>();
+        matcher.scan("Las Vegas salad, LA 맛집, hotels, bighotel", (start, end, payload) -> found.add(payload + "@" + start));
+
+        // then
+        assertThat(found).containsExactly("LA@17", "hotel@24");
+    }
+}
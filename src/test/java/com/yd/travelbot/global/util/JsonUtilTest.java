@@ -164,5 +164,21 @@ class JsonUtilTest {
         // then
         assertThat(result).isEqualTo("{}");
     }
-}
 
+    @Test
+    @DisplayName("타입 바인딩 - 모르는 필드는 무시")
+    void 타입_바인딩_모르는_필드_무시() throws Exception {
+        // given
+        String json = "{\"name\":\"테스트\",\"age\":30,\"extra\":{\"nested\":[1,2,3]}}";
+
+        // when
+        Person result = JsonUtil.readerFor(Person.class).readValue(json);
+
+        // then
+        assertThat(result.name()).isEqualTo("테스트");
+        assertThat(result.age()).isEqualTo(30);
+    }
+
+    record Person(String name, int age) {
+    }
+}
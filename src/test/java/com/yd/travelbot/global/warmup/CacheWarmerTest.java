@@ -0,0 +1,126 @@
+package com.yd.travelbot.global.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yd.travelbot.global.cache.TtlCache;
+import com.yd.travelbot.global.config.WarmupConfig;
+import com.yd.travelbot.global.metrics.TravelMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("CacheWarmer 테스트")
+class CacheWarmerTest {
+
+    private final TravelMetrics metrics = new TravelMetrics(new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("대상 도시를 의도별 컴포넌트로 보내고, 실패한 대상은 건너뜀")
+    void 의도별_실행() {
+        // given
+        RecordingWarmable food = new RecordingWarmable("food", Duration.ofHours(2), metrics);
+        Warmable failing = new Warmable() {
+            @Override
+            public String intent() {
+                return "place";
+            }
+
+            @Override
+            public void warmUp(String city) {
+                throw new IllegalStateException("Geoapify 장애");
+            }
+        };
+        CacheWarmer warmer = new CacheWarmer(config(60,
+                target("서울", "place", "food"), target("부산", "food", "unknown")), List.of(food, failing));
+
+        // when
+        int loads = warmer.warmUp();
+
+        // then
+        assertThat(food.cities).containsExactly("서울", "부산");
+        assertThat(loads).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("외부 조회가 한도에 도달하면 남은 대상은 다음 실행으로 미루고, 이미 채운 항목은 한도에 포함되지 않음")
+    void 조회_한도() {
+        // given
+        RecordingWarmable food = new RecordingWarmable("food", Duration.ofHours(2), metrics);
+        CacheWarmer warmer = new CacheWarmer(config(2,
+                target("서울", "food"), target("부산", "food"), target("제주", "food")), List.of(food));
+
+        // when
+        int firstRun = warmer.warmUp();
+        int secondRun = warmer.warmUp();
+
+        // then
+        assertThat(firstRun).isEqualTo(2);
+        assertThat(secondRun).isEqualTo(1);
+        assertThat(food.cities).containsExactly("서울", "부산", "제주", "서울", "부산");
+    }
+
+    @Test
+    @DisplayName("한도가 매번 앞쪽 대상에서 소진돼도 다음 실행은 미룬 대상부터 시작해 뒤쪽 대상까지 채움")
+    void 미룬_대상부터_재개() {
+        // given
+        RecordingWarmable food = new RecordingWarmable("food", Duration.ofMinutes(10), metrics);
+        CacheWarmer warmer = new CacheWarmer(config(1,
+                target("서울", "food"), target("부산", "food"), target("제주", "food")), List.of(food));
+
+        // when
+        warmer.warmUp();
+        warmer.warmUp();
+        warmer.warmUp();
+        warmer.warmUp();
+
+        // then
+        assertThat(food.cities).containsExactly("서울", "부산", "제주", "서울");
+    }
+
+    private static WarmupConfig config(int maxLoadsPerRun, WarmupConfig.Target... targets) {
+        WarmupConfig config = new WarmupConfig();
+        config.setMaxLoadsPerRun(maxLoadsPerRun);
+        config.setInterval(Duration.ofMinutes(30));
+        config.setTargets(List.of(targets));
+        return config;
+    }
+
+    private static WarmupConfig.Target target(String city, String... intents) {
+        WarmupConfig.Target target = new WarmupConfig.Target();
+        target.setCity(city);
+        target.setIntents(List.of(intents));
+        return target;
+    }
+
+    /**
+     * 도시마다 캐시를 채우는 조회 컴포넌트 (ttl이 실행 간격보다 짧으면 매 실행 다시 조회)
+     */
+    private static final class RecordingWarmable implements Warmable {
+
+        private final String intent;
+        private final TtlCache<String, String> cache;
+        private final List<String> cities = new ArrayList<>();
+
+        private RecordingWarmable(String intent, Duration ttl, TravelMetrics metrics) {
+            this.intent = intent;
+            this.cache = new TtlCache<>(intent, ttl, 10, metrics);
+        }
+
+        @Override
+        public String intent() {
+            return intent;
+        }
+
+        @Override
+        public void warmUp(String city) {
+            cities.add(city);
+            cache.get(city, () -> city + " 결과");
+        }
+    }
+}